@@ -0,0 +1,88 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.TaskActivity;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns committed task changes into activity entries: one for a creation or deletion, and one
+ * per changed field for an update. The actor is the authenticated user of the request that
+ * made the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskActivityListener {
+
+    private final TaskActivityWriter writer;
+
+    @TransactionalEventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        TaskActivity template = new TaskActivity();
+        template.setTaskId(event.getTaskId());
+        template.setProjectId(event.getProjectId());
+        template.setAction(event.getChangeType());
+        template.setOccurredAt(LocalDateTime.now());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            template.setActorUsername(authentication.getName());
+            if (authentication.getPrincipal() instanceof UserDetailsImpl user) {
+                template.setActorId(user.getId());
+            }
+        }
+
+        List<TaskActivity> entries = toEntries(event, template);
+        if (!entries.isEmpty()) {
+            writer.append(entries);
+        }
+    }
+
+    /**
+     * Build the entries of a change
+     * @param template Entry holding the task, actor, action and time shared by all entries
+     */
+    static List<TaskActivity> toEntries(TaskChangedEvent event, TaskActivity template) {
+        List<TaskActivity> entries = new ArrayList<>();
+        if (event.getChangeType() == TaskChangeType.CREATED) {
+            entries.add(entry(template, null, null, title(event.getState())));
+        } else if (event.getChangeType() == TaskChangeType.DELETED) {
+            entries.add(entry(template, null, title(event.getPreviousState()), null));
+        } else if (event.getChanges() != null) {
+            Map<String, Object> before = event.getPreviousState();
+            event.getChanges().forEach((field, value) ->
+                    entries.add(entry(template, field, before != null ? before.get(field) : null, value)));
+        }
+        return entries;
+    }
+
+    private static TaskActivity entry(TaskActivity template, String field, Object oldValue, Object newValue) {
+        return new TaskActivity(null, null, template.getTaskId(), template.getProjectId(), template.getActorId(),
+                template.getActorUsername(), template.getAction(), field, text(oldValue), text(newValue),
+                template.getOccurredAt());
+    }
+
+    private static Object title(Map<String, Object> state) {
+        return state != null ? state.get("title") : null;
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        return text.length() > TaskActivity.MAX_VALUE_LENGTH ? text.substring(0, TaskActivity.MAX_VALUE_LENGTH) : text;
+    }
+}
@@ -0,0 +1,269 @@
+package com.taskmanagement.activity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.entity.TaskActivity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Writes task activity entries off the request path.
+ *
+ * Entries are buffered in memory and written with batched JDBC inserts every
+ * {@code flush-interval-ms}, or as soon as a full batch is waiting. Entries that cannot be
+ * written, because the database is unavailable or the buffer is full, are appended to JSON
+ * lines files in {@code spool-dir} instead; spooled files are inserted (one transaction per
+ * file) after the next successful flush and then deleted. Every entry gets a key when it is
+ * queued and inserts skip keys already present, so entries written again (a replayed file
+ * whose deletion failed, or a batch partly inserted before it was spooled) are not
+ * duplicated. Everything still buffered is flushed on shutdown, so only a crash of the JVM
+ * can lose entries, at most one flush interval's worth.
+ */
+@Component
+@Slf4j
+public class TaskActivityWriter {
+
+    static final String INSERT_SQL = "INSERT INTO task_activities (entry_key, task_id, project_id, actor_id, " +
+            "actor_username, action, field_name, old_value, new_value, occurred_at) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM task_activities WHERE entry_key = ?)";
+    private static final String SPOOL_SUFFIX = ".jsonl";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "activity-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong spoolSequence = new AtomicLong();
+    private final Object spoolLock = new Object();
+
+    private final Counter entriesWritten;
+    private final Counter entriesSpooled;
+
+    private BlockingQueue<TaskActivity> buffer;
+
+    @Value("${app.activity.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${app.activity.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.activity.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${app.activity.spool-dir:activity-spool}")
+    private String spoolDir;
+
+    public TaskActivityWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.entriesWritten = Counter.builder("task.activity.written")
+                .description("Task activity entries inserted into the database")
+                .register(meterRegistry);
+        this.entriesSpooled = Counter.builder("task.activity.spooled")
+                .description("Task activity entries written to the spool directory instead of the database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        Gauge.builder("task.activity.buffer.depth", buffer, BlockingQueue::size)
+                .description("Task activity entries waiting to be written")
+                .register(meterRegistry);
+        scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue entries for writing; spools them right away if the buffer is full
+     * @param entries Activity entries
+     */
+    public void append(List<TaskActivity> entries) {
+        List<TaskActivity> overflow = new ArrayList<>();
+        for (TaskActivity entry : entries) {
+            if (entry.getEntryKey() == null) {
+                entry.setEntryKey(UUID.randomUUID().toString());
+            }
+            if (!buffer.offer(entry)) {
+                overflow.add(entry);
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("Task activity buffer full; spooling {} entries", overflow.size());
+            spool(overflow);
+        }
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::scheduledFlush);
+        }
+    }
+
+    /**
+     * Write everything buffered, then any spooled files
+     * @return Number of entries inserted from the buffer
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        int written = 0;
+        List<TaskActivity> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                insert(batch);
+                written += batch.size();
+            } catch (DataAccessException e) {
+                log.warn("Could not write {} task activity entries; spooling them: {}", batch.size(), e.getMessage());
+                buffer.drainTo(batch);
+                spool(batch);
+                return written;
+            }
+            batch.clear();
+        }
+        replaySpool();
+        return written;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Task activity flush failed", e);
+        }
+    }
+
+    private void insert(List<TaskActivity> entries) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), TaskActivityWriter::bind);
+        // 0 for an entry already present; drivers may report success without a count
+        entriesWritten.increment(Arrays.stream(counts).flatMapToInt(Arrays::stream).filter(count -> count != 0).count());
+    }
+
+    private static void bind(PreparedStatement statement, TaskActivity entry) throws SQLException {
+        statement.setString(1, entry.getEntryKey());
+        statement.setLong(2, entry.getTaskId());
+        statement.setLong(3, entry.getProjectId());
+        statement.setObject(4, entry.getActorId(), Types.BIGINT);
+        statement.setObject(5, entry.getActorUsername(), Types.VARCHAR);
+        statement.setString(6, entry.getAction().name());
+        statement.setObject(7, entry.getField(), Types.VARCHAR);
+        statement.setObject(8, entry.getOldValue(), Types.VARCHAR);
+        statement.setObject(9, entry.getNewValue(), Types.VARCHAR);
+        statement.setTimestamp(10, Timestamp.valueOf(entry.getOccurredAt()));
+        statement.setString(11, entry.getEntryKey());
+    }
+
+    /**
+     * Append entries to a new spool file, written under a temporary name and renamed when
+     * complete so that a half-written file is never replayed
+     */
+    private void spool(List<TaskActivity> entries) {
+        synchronized (spoolLock) {
+            try {
+                Path dir = Files.createDirectories(Paths.get(spoolDir));
+                String name = String.format("activity-%d-%06d", System.currentTimeMillis(), spoolSequence.incrementAndGet());
+                Path temp = dir.resolve(name + ".tmp");
+                List<String> lines = new ArrayList<>(entries.size());
+                for (TaskActivity entry : entries) {
+                    lines.add(objectMapper.writeValueAsString(entry));
+                }
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, dir.resolve(name + SPOOL_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+                entriesSpooled.increment(entries.size());
+            } catch (IOException e) {
+                log.error("Could not spool {} task activity entries; they are lost", entries.size(), e);
+            }
+        }
+    }
+
+    private void replaySpool() {
+        Path dir = Paths.get(spoolDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SPOOL_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Could not list task activity spool {}: {}", dir, e.getMessage());
+            return;
+        }
+
+        for (Path file : files) {
+            try {
+                List<TaskActivity> entries = new ArrayList<>();
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (!line.isBlank()) {
+                        entries.add(objectMapper.readValue(line, TaskActivity.class));
+                    }
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int i = 0; i < entries.size(); i += batchSize) {
+                        insert(entries.subList(i, Math.min(entries.size(), i + batchSize)));
+                    }
+                });
+                Files.delete(file);
+                log.info("Replayed {} spooled task activity entries from {}", entries.size(), file.getFileName());
+            } catch (DataAccessException e) {
+                log.warn("Could not replay task activity spool {}: {}", file.getFileName(), e.getMessage());
+                return;
+            } catch (JsonProcessingException e) {
+                // Set aside so that one unreadable file does not hold up the others
+                log.error("Unreadable task activity spool {}; renamed to .failed", file.getFileName(), e);
+                moveQuietly(file, file.resolveSibling(file.getFileName() + ".failed"));
+            } catch (IOException e) {
+                log.error("Could not read task activity spool {}", file.getFileName(), e);
+                return;
+            }
+        }
+    }
+
+    private void moveQuietly(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Could not move {} to {}", source, target, e);
+        }
+    }
+}
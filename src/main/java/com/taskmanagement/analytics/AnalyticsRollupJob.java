@@ -0,0 +1,109 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.entity.TaskStatusTransition;
+import com.taskmanagement.repository.ProjectDailyDurationRepository;
+import com.taskmanagement.repository.ProjectDailyStatsRepository;
+import com.taskmanagement.repository.TaskStatusTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rolls the status transitions of each finished day up into per-project daily rows.
+ *
+ * A day is rolled up once it ended more than app.analytics.rollup-grace-minutes ago, so that
+ * transactions still open at midnight have committed. Every day is rolled up in a transaction
+ * of its own that replaces whatever was stored for it, which makes the job safe to rerun; if
+ * two nodes roll up the same day at once the loser's insert fails on the unique key and it
+ * leaves the day to the winner. Days without transitions store nothing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsRollupJob {
+
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectDailyStatsRepository dailyStatsRepository;
+    private final ProjectDailyDurationRepository dailyDurationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.analytics.rollup-grace-minutes:30}")
+    private long graceMinutes;
+
+    @Value("${app.analytics.rollup-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.analytics.rollup-cron:0 10 * * * *}")
+    public void rollUpFinishedDays() {
+        rollUpThrough(LocalDateTime.now().minusMinutes(graceMinutes).toLocalDate().minusDays(1));
+    }
+
+    /**
+     * Roll up every day after the last rolled-up day, up to and including the given day
+     * @param lastDay Last day to roll up
+     * @return Number of days rolled up
+     */
+    public int rollUpThrough(LocalDate lastDay) {
+        LocalDate latest = dailyStatsRepository.findLatestDay();
+        LocalDate day;
+        if (latest != null) {
+            day = latest.plusDays(1);
+        } else {
+            LocalDateTime earliest = transitionRepository.findEarliestTransitionedAt();
+            if (earliest == null) {
+                return 0;
+            }
+            day = earliest.toLocalDate();
+        }
+
+        int days = 0;
+        for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            LocalDate rollupDay = day;
+            try {
+                transactionTemplate.executeWithoutResult(status -> rollUp(rollupDay));
+                days++;
+            } catch (DataIntegrityViolationException e) {
+                log.info("Rollup of {} was written by another node", rollupDay);
+            }
+        }
+        if (days > 0) {
+            log.info("Rolled up project analytics through {} ({} days)", lastDay, days);
+        }
+        return days;
+    }
+
+    private void rollUp(LocalDate day) {
+        dailyStatsRepository.deleteByDay(day);
+        dailyDurationRepository.deleteByDay(day);
+
+        Map<Long, DailyRollup> rollups = new HashMap<>();
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime until = day.plusDays(1).atStartOfDay();
+        long afterId = 0;
+        List<TaskStatusTransition> batch;
+        do {
+            batch = transitionRepository.findInRange(from, until, afterId, PageRequest.of(0, batchSize));
+            for (TaskStatusTransition transition : batch) {
+                rollups.computeIfAbsent(transition.getProjectId(), id -> new DailyRollup()).add(transition);
+                afterId = transition.getId();
+            }
+        } while (batch.size() == batchSize);
+
+        rollups.forEach((projectId, rollup) -> {
+            dailyStatsRepository.save(rollup.toStats(projectId, day));
+            dailyDurationRepository.saveAll(rollup.toDurations(projectId, day));
+        });
+        dailyStatsRepository.flush();
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.entity.ProjectDailyDuration;
+import com.taskmanagement.entity.ProjectDailyStats;
+import com.taskmanagement.entity.TaskDurationMetric;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.TaskStatusTransition;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The status transitions of one project on one day, added up. Built either from raw
+ * transitions (by the rollup job, and for days not rolled up yet) or from the stored rollup
+ * rows, so both paths count the same way. Not thread-safe.
+ */
+@Getter
+public class DailyRollup {
+
+    private long created;
+    private long completed;
+    private long reopened;
+    private long cancelled;
+    private long deleted;
+    private long openDelta;
+    @Getter(AccessLevel.NONE)
+    private final Map<TaskDurationMetric, SortedMap<Integer, Long>> durations = new EnumMap<>(TaskDurationMetric.class);
+
+    /**
+     * Whether tasks in a status count towards the remaining work
+     * @param status Task status (null before creation and after deletion)
+     */
+    public static boolean isOpen(TaskStatus status) {
+        return status != null && status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    public void add(TaskStatusTransition transition) {
+        TaskStatus from = transition.getFromStatus();
+        TaskStatus to = transition.getToStatus();
+        if (from == null) {
+            created++;
+        }
+        if (to == null) {
+            deleted++;
+        } else if (to == TaskStatus.COMPLETED) {
+            completed++;
+        } else if (to == TaskStatus.CANCELLED) {
+            cancelled++;
+        }
+        if (from != null && !isOpen(from) && isOpen(to)) {
+            reopened++;
+        }
+        openDelta += (isOpen(to) ? 1 : 0) - (isOpen(from) ? 1 : 0);
+
+        if (transition.getLeadTimeMinutes() != null) {
+            addDuration(TaskDurationMetric.LEAD_TIME, DurationHistogram.bucketOf(transition.getLeadTimeMinutes()), 1);
+        }
+        if (transition.getCycleTimeMinutes() != null) {
+            addDuration(TaskDurationMetric.CYCLE_TIME, DurationHistogram.bucketOf(transition.getCycleTimeMinutes()), 1);
+        }
+    }
+
+    public void add(ProjectDailyStats stats) {
+        created += stats.getCreated();
+        completed += stats.getCompleted();
+        reopened += stats.getReopened();
+        cancelled += stats.getCancelled();
+        deleted += stats.getDeleted();
+        openDelta += stats.getOpenDelta();
+    }
+
+    public void add(ProjectDailyDuration duration) {
+        addDuration(duration.getMetric(), duration.getBucket(), duration.getCount());
+    }
+
+    public void addDuration(TaskDurationMetric metric, int bucket, long count) {
+        durations.computeIfAbsent(metric, m -> new TreeMap<>()).merge(bucket, count, Long::sum);
+    }
+
+    /**
+     * Get the duration histogram of a metric
+     * @return Task counts by bucket index (empty if no task was measured)
+     */
+    public SortedMap<Integer, Long> getDurations(TaskDurationMetric metric) {
+        return durations.getOrDefault(metric, new TreeMap<>());
+    }
+
+    public ProjectDailyStats toStats(Long projectId, LocalDate day) {
+        return new ProjectDailyStats(null, projectId, day, created, completed, reopened, cancelled, deleted, openDelta);
+    }
+
+    public List<ProjectDailyDuration> toDurations(Long projectId, LocalDate day) {
+        List<ProjectDailyDuration> rows = new ArrayList<>();
+        durations.forEach((metric, buckets) -> buckets.forEach((bucket, count) ->
+                rows.add(new ProjectDailyDuration(null, projectId, day, metric, bucket, count))));
+        return rows;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.analytics;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Logarithmic duration buckets: {@value #BUCKETS_PER_DOUBLING} buckets per doubling of the
+ * duration, so each bucket spans about 19% and a percentile read from the middle of its bucket
+ * is within about 10% of the exact value. A year fits in under 80 buckets, which keeps the
+ * daily histograms small enough to add up over any range of days.
+ */
+public final class DurationHistogram {
+
+    static final int BUCKETS_PER_DOUBLING = 4;
+
+    private DurationHistogram() {
+    }
+
+    /**
+     * Get the bucket of a duration
+     * @param minutes Duration in minutes (negative durations count as zero)
+     * @return Bucket index
+     */
+    public static int bucketOf(long minutes) {
+        double log2 = Math.log(Math.max(0, minutes) + 1.0) / Math.log(2);
+        return (int) Math.floor(log2 * BUCKETS_PER_DOUBLING);
+    }
+
+    /**
+     * Get the duration a bucket stands for: its geometric middle
+     * @param bucket Bucket index
+     * @return Duration in minutes
+     */
+    public static double minutesOf(int bucket) {
+        return Math.pow(2, (bucket + 0.5) / BUCKETS_PER_DOUBLING) - 1;
+    }
+
+    /**
+     * Get a percentile of a histogram by nearest rank
+     * @param buckets Task counts by bucket index
+     * @param percentile Percentile between 0 and 100
+     * @return Duration in minutes, or null for an empty histogram
+     */
+    public static Double percentile(SortedMap<Integer, Long> buckets, double percentile) {
+        long total = buckets.values().stream().mapToLong(Long::longValue).sum();
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : buckets.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return minutesOf(entry.getKey());
+            }
+        }
+        return minutesOf(buckets.lastKey());
+    }
+}
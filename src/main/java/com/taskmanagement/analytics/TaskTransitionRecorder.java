@@ -0,0 +1,94 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.TaskStatusTransition;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.repository.ProjectDailyDurationRepository;
+import com.taskmanagement.repository.ProjectDailyStatsRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusTransitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes the status transition log from task change events.
+ *
+ * Listens synchronously, so a transition is written in the transaction of the change itself
+ * and rolls back with it. Lead and cycle times are worked out here, once, when a task is
+ * completed, so the rollups only have to count.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTransitionRecorder {
+
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectDailyStatsRepository dailyStatsRepository;
+    private final ProjectDailyDurationRepository dailyDurationRepository;
+    private final TaskRepository taskRepository;
+
+    @EventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        if (event.getChangeType() == TaskChangeType.UPDATED && event.getPreviousState() == null) {
+            // Previous status unknown
+            return;
+        }
+        TaskStatus from = status(event.getPreviousState());
+        TaskStatus to = status(event.getState());
+        if (from == to) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatusTransition transition = new TaskStatusTransition();
+        transition.setTaskId(event.getTaskId());
+        transition.setProjectId(event.getProjectId());
+        transition.setFromStatus(from);
+        transition.setToStatus(to);
+        transition.setTransitionedAt(now);
+
+        if (to == TaskStatus.COMPLETED) {
+            // The task was just loaded by the change, so this is a persistence context hit
+            LocalDateTime createdAt = taskRepository.findById(event.getTaskId())
+                    .map(Task::getCreatedAt)
+                    .orElse(null);
+            if (createdAt != null) {
+                transition.setLeadTimeMinutes(Duration.between(createdAt, now).toMinutes());
+            }
+            LocalDateTime startedAt = transitionRepository.findFirstStartedAt(event.getTaskId());
+            if (startedAt != null) {
+                transition.setCycleTimeMinutes(Duration.between(startedAt, now).toMinutes());
+            }
+        }
+
+        transitionRepository.save(transition);
+    }
+
+    /**
+     * Drop the history and rollups of a deleted project
+     */
+    @EventListener
+    public void handleProjectChanged(ProjectChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        int transitions = transitionRepository.deleteByProjectId(event.getProjectId());
+        dailyStatsRepository.deleteByProjectId(event.getProjectId());
+        dailyDurationRepository.deleteByProjectId(event.getProjectId());
+        log.debug("Deleted {} status transitions of project {}", transitions, event.getProjectId());
+    }
+
+    private static TaskStatus status(Map<String, Object> state) {
+        Object status = state != null ? state.get("status") : null;
+        return status != null ? TaskStatus.valueOf(status.toString()) : null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskmanagement.archive;
+
+import com.taskmanagement.entity.TaskChange;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.projection.ArchivableTaskView;
+import com.taskmanagement.scheduling.ClusterJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves tasks that have been completed or cancelled for longer than
+ * {@code app.archive.closed-days} from the tasks table to archived_tasks.
+ *
+ * Tasks are archived in ID order, one batch per transaction: the batch is selected, copied
+ * with one INSERT ... SELECT and deleted with one DELETE that keeps any task whose version
+ * moved past its copy (an update racing with the job wins, and the task is picked up again
+ * by a later run once it is closed long enough). Archived tasks are tombstoned in the change
+ * log, so delta sync clients, list ETags and cached boards drop them; they are read-only.
+ * Each batch continues from the last ID of the previous one, so a run never rescans what
+ * it has already moved. The scheduled run happens on one node of the cluster.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiver {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskChangeRepository taskChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobLock clusterJobLock;
+
+    @Value("${app.archive.closed-days:180}")
+    private int closedDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveClosedTasks() {
+        clusterJobLock.runExclusively("task-archiver",
+                () -> archiveClosedBefore(LocalDateTime.now().minusDays(closedDays)));
+    }
+
+    /**
+     * Archive every task closed before a cutoff
+     * @param cutoff Closing time before which tasks are archived
+     * @return Number of tasks archived
+     */
+    public int archiveClosedBefore(LocalDateTime cutoff) {
+        long started = System.currentTimeMillis();
+        int archived = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            Batch batch = transactionTemplate.execute(status -> archiveBatch(cutoff, cursor));
+            if (batch == null || batch.selected == 0) {
+                break;
+            }
+            archived += batch.archived;
+            afterId = batch.lastId;
+            if (batch.selected < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} tasks closed before {} in {} ms", archived, cutoff,
+                    System.currentTimeMillis() - started);
+        }
+        return archived;
+    }
+
+    /**
+     * Drop the archived tasks of a deleted project (live tasks go by cascade)
+     */
+    @EventListener
+    public void handleProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted()) {
+            int removed = archivedTaskRepository.deleteByProjectId(event.getProjectId());
+            log.debug("Deleted {} archived tasks of project {}", removed, event.getProjectId());
+        }
+    }
+
+    private Batch archiveBatch(LocalDateTime cutoff, long afterId) {
+        List<ArchivableTaskView> tasks = taskRepository.findArchivableAfter(cutoff, afterId, PageRequest.of(0, batchSize));
+        if (tasks.isEmpty()) {
+            return new Batch(0, 0, afterId);
+        }
+        List<Long> ids = tasks.stream().map(ArchivableTaskView::getId).toList();
+
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        int deleted = taskRepository.deleteArchivedByIdIn(ids);
+        List<ArchivableTaskView> archived = tasks;
+        if (deleted < ids.size()) {
+            archivedTaskRepository.deleteStaleCopiesByIdIn(ids);
+            Set<Long> archivedIds = archivedTaskRepository.findIdsByIdIn(ids);
+            archived = tasks.stream().filter(task -> archivedIds.contains(task.getId())).toList();
+            log.debug("Skipped {} tasks changed while being archived", ids.size() - archived.size());
+        }
+
+        if (!archived.isEmpty()) {
+            taskChangeRepository.saveAll(archived.stream()
+                    .map(task -> new TaskChange(null, task.getId(), task.getProjectId(), task.getCreatedById(),
+                            task.getAssignedToId(), null, TaskChangeType.DELETED, null))
+                    .toList());
+            Set<Long> assigneeIds = archived.stream()
+                    .map(ArchivableTaskView::getAssignedToId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            eventPublisher.publishEvent(new TasksArchivedEvent(archived.stream()
+                    .map(task -> new TasksArchivedEvent.ArchivedTask(task.getId(), task.getProjectId(),
+                            task.getVersion(), state(task)))
+                    .toList(), assigneeIds));
+        }
+        // The cursor moves past skipped tasks too
+        return new Batch(ids.size(), archived.size(), ids.get(ids.size() - 1));
+    }
+
+    private static Map<String, Object> state(ArchivableTaskView task) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("status", task.getStatus().name());
+        state.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        state.put("dueDate", task.getDueDate());
+        state.put("assignedToId", task.getAssignedToId());
+        return state;
+    }
+
+    private static final class Batch {
+
+        private final int selected;
+        private final int archived;
+        private final long lastId;
+
+        private Batch(int selected, int archived, long lastId) {
+            this.selected = selected;
+            this.archived = archived;
+            this.lastId = lastId;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskmanagement.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,4 +35,27 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * Configure a dedicated thread pool for outgoing email
+     * Keeps slow SMTP retries from starving other async tasks; the number of emails waiting
+     * for a thread is published as email.queue.depth
+     */
+    @Bean(name = "emailExecutor")
+    public Executor emailExecutor(MeterRegistry meterRegistry) {
+        log.info("Creating Email Executor");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Email-");
+        executor.initialize();
+
+        Gauge.builder("email.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+
+        return executor;
+    }
 }
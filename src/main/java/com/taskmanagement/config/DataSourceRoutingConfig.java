@@ -0,0 +1,126 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.datasource.InMemoryRecentWriters;
+import com.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import com.taskmanagement.datasource.RecentWriters;
+import com.taskmanagement.datasource.RedisRecentWriters;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Source Routing Configuration
+ * Active when {@code app.datasource.replica-urls} lists read replicas: read-only transactions
+ * are routed to the replicas and everything else to the primary ({@code spring.datasource.*})
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica-urls")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    /**
+     * Primary connection pool, configured by {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Read-your-writes windows in Redis ({@code app.datasource.read-your-writes-store=redis}),
+     * seen by all nodes
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.read-your-writes-store", havingValue = "redis")
+    public RecentWriters redisRecentWriters(StringRedisTemplate redisTemplate) {
+        log.info("Keeping read-your-writes windows in Redis");
+        return new RedisRecentWriters(redisTemplate, new InMemoryRecentWriters());
+    }
+
+    /**
+     * Read-your-writes windows per node ({@code in-memory})
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.read-your-writes-store", havingValue = "in-memory",
+            matchIfMissing = true)
+    public RecentWriters inMemoryRecentWriters() {
+        log.info("Keeping read-your-writes windows in memory");
+        return new InMemoryRecentWriters();
+    }
+
+    /**
+     * Router between the primary and one pool per replica
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            RecentWriters recentWriters,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${app.datasource.replica-pool-size:10}") int poolSize,
+            @Value("${app.datasource.replica-lag-query}") String lagQuery,
+            @Value("${app.datasource.replica-max-lag-ms:2000}") long maxLagMs,
+            @Value("${app.datasource.replica-check-interval-ms:5000}") long checkIntervalMs,
+            @Value("${app.datasource.read-your-writes-ms:5000}") long readYourWritesMs) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // Replicas are started lazily so that one being down does not stop the application
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        log.info("Routing read-only transactions to {} replicas", replicas.size());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, lagQuery, maxLagMs, readYourWritesMs,
+                checkIntervalMs, recentWriters, meterRegistry);
+    }
+
+    /**
+     * Data source used by JPA and JDBC: connections are only fetched on the first statement,
+     * once the transaction's read-only flag is known
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Release the connection after each transaction instead of holding it for the session
+     * (the whole request with open-in-view), so every transaction is routed on its own
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
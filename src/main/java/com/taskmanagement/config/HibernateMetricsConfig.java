@@ -0,0 +1,25 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.metrics.SqlStatementInspector;
+import com.taskmanagement.metrics.SqlTimingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate Metrics Configuration
+ * Hooks the per-request SQL statement counting into Hibernate
+ * (see {@link com.taskmanagement.metrics.SqlStatementBudgetFilter})
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementMetricsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+}
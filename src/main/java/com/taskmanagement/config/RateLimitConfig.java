@@ -0,0 +1,40 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.ratelimit.InMemoryRateLimiter;
+import com.taskmanagement.ratelimit.RateLimiter;
+import com.taskmanagement.ratelimit.RedisRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Rate Limit Configuration
+ * Selects where token buckets live: Redis ({@code app.rate-limit.store=redis}, limits shared
+ * by all nodes) or memory ({@code in-memory}, limits per node)
+ */
+@Configuration
+@Slf4j
+public class RateLimitConfig {
+
+    /**
+     * Redis token buckets, falling back to local buckets while Redis is unreachable
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "redis")
+    public RateLimiter redisRateLimiter(StringRedisTemplate redisTemplate) {
+        log.info("Rate limiting with token buckets in Redis");
+        return new RedisRateLimiter(redisTemplate, new InMemoryRateLimiter());
+    }
+
+    /**
+     * In-memory token buckets
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "in-memory", matchIfMissing = true)
+    public RateLimiter inMemoryRateLimiter() {
+        log.info("Rate limiting with in-memory token buckets");
+        return new InMemoryRateLimiter();
+    }
+}
@@ -126,8 +126,10 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer)
                 );
 
+        // Statistics back the cache.gets/puts meters bound per cache name by the actuator
         RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfiguration)
+                .enableStatistics()
                 .build();
 
         log.info("RedisCacheManager configured successfully");
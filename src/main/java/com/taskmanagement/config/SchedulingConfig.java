@@ -0,0 +1,13 @@
+package com.taskmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables scheduled jobs such as the project analytics rollup
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,8 +4,11 @@ import com.taskmanagement.security.CustomUserDetailsService;
 import com.taskmanagement.security.JwtAuthenticationFilter;
 import com.taskmanagement.security.JwtAuthenticationEntryPoint;
 import com.taskmanagement.security.JwtAuthenticationFilter;
+import com.taskmanagement.security.BoundedPasswordEncoder;
+import com.taskmanagement.security.PasswordHashingExecutor;
 import com.taskmanagement.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -63,14 +66,20 @@ public class SecurityConfig {
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationEntryPoint unauthorizedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
 
     /**
      * Configure authentication provider with custom UserDetailsService and password encoder
+     * Passwords hashed with another work factor are rehashed through the UserDetailsService on login
      */
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
         return authProvider;
     }
@@ -104,7 +113,7 @@ public class SecurityConfig {
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(bcryptStrength, passwordHashingExecutor);
     }
 
     /**
@@ -140,6 +149,9 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/ws/**").permitAll()
 
+                        // Metrics carry per-user and per-endpoint series: admins (and scrape accounts) only
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // Protected endpoints - require authentication
                         .anyRequest().authenticated()
                 );
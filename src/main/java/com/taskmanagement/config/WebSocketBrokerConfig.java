@@ -0,0 +1,51 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.websocket.BatchingSubProtocolWebSocketHandler;
+import com.taskmanagement.websocket.OutboundBackpressureGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * WebSocket Message Broker Infrastructure
+ * Replaces {@code @EnableWebSocketMessageBroker} so the STOMP session handler can be
+ * customized; broker, endpoint and channel settings still come from the
+ * {@link org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer}
+ * beans such as {@link WebSocketConfig}.
+ *
+ * Outbound STOMP frames that queue up behind a busy socket are written as one WebSocket
+ * frame of up to {@code app.websocket.transport.batch-max-bytes}. Per-message compression
+ * (permessage-deflate) is negotiated by the servlet container for native WebSocket clients
+ * that request it.
+ */
+@Configuration
+@Slf4j
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final OutboundBackpressureGuard outboundBackpressureGuard;
+
+    @Value("${app.websocket.transport.batch-max-bytes:16384}")
+    private int batchMaxBytes;
+
+    public WebSocketBrokerConfig(OutboundBackpressureGuard outboundBackpressureGuard) {
+        this.outboundBackpressureGuard = outboundBackpressureGuard;
+    }
+
+    /**
+     * STOMP session handler with batching session decorators
+     */
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(
+            @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+            @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        log.info("Configuring STOMP session handler with frame batching up to {} bytes", batchMaxBytes);
+        return new BatchingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel,
+                batchMaxBytes, outboundBackpressureGuard);
+    }
+}
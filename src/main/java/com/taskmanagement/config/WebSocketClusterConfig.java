@@ -0,0 +1,67 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.websocket.cluster.ClusterBus;
+import com.taskmanagement.websocket.cluster.InMemoryClusterBus;
+import com.taskmanagement.websocket.cluster.InMemoryPubSub;
+import com.taskmanagement.websocket.cluster.RedisClusterBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * WebSocket Cluster Configuration
+ * Selects the transport that relays WebSocket messages between application instances:
+ * Redis pub/sub ({@code app.websocket.cluster.bus=redis}) or an in-memory stand-in
+ * ({@code in-memory}, single node)
+ */
+@Configuration
+@Slf4j
+public class WebSocketClusterConfig {
+
+    /**
+     * Listener container for relay channels on Redis
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.cluster.bus", havingValue = "redis")
+    public RedisMessageListenerContainer clusterListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * Redis pub/sub cluster bus
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.cluster.bus", havingValue = "redis")
+    public ClusterBus redisClusterBus(StringRedisTemplate redisTemplate,
+                                      RedisMessageListenerContainer clusterListenerContainer) {
+        log.info("Relaying WebSocket messages between nodes over Redis pub/sub");
+        return new RedisClusterBus(redisTemplate, clusterListenerContainer);
+    }
+
+    /**
+     * In-memory pub/sub server, unless one is shared in from outside the context
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "app.websocket.cluster.bus", havingValue = "in-memory", matchIfMissing = true)
+    public InMemoryPubSub inMemoryPubSub() {
+        return new InMemoryPubSub();
+    }
+
+    /**
+     * In-memory cluster bus
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.cluster.bus", havingValue = "in-memory", matchIfMissing = true)
+    public ClusterBus inMemoryClusterBus(InMemoryPubSub inMemoryPubSub) {
+        log.info("Relaying WebSocket messages through the in-memory cluster bus");
+        return new InMemoryClusterBus(inMemoryPubSub);
+    }
+}
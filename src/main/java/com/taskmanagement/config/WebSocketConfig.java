@@ -1,11 +1,18 @@
 package com.taskmanagement.config;
 
+import com.taskmanagement.websocket.OutboundBackpressureGuard;
+import com.taskmanagement.websocket.WebSocketAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -26,12 +33,34 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 /**
  * WebSocket Configuration
  * Enables real-time bidirectional communication for notifications
+ * (broker infrastructure is set up by {@link WebSocketBrokerConfig})
  */
 @Configuration
-@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketAuthChannelInterceptor authChannelInterceptor;
+    private final OutboundBackpressureGuard outboundBackpressureGuard;
+
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${app.websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
     /**
      * Configure message broker for handling messages
      */
@@ -62,4 +91,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS(); // Enable SockJS fallback options
     }
+
+    /**
+     * Authenticate STOMP CONNECT frames so user destinations can be resolved
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(authChannelInterceptor);
+    }
+
+    /**
+     * Bound the per-session send buffer and blocking time; sessions exceeding them are closed
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(outboundBackpressureGuard);
+    }
+
+    /**
+     * Send to clients from a bounded executor and apply the slow-consumer policy
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(outboundCorePoolSize);
+        executor.setMaxPoolSize(outboundMaxPoolSize);
+        executor.setQueueCapacity(outboundQueueCapacity);
+        executor.setThreadNamePrefix("ws-outbound-");
+        executor.setRejectedExecutionHandler(outboundBackpressureGuard);
+        outboundBackpressureGuard.monitor(executor);
+
+        registration.taskExecutor(executor);
+        registration.interceptors(outboundBackpressureGuard);
+    }
 }
@@ -0,0 +1,37 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.UserDashboardDTO;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the current user's dashboard
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Get the "my work" summary of the current user: assigned tasks by status, overdue and
+     * due this week, unread notifications and owned projects
+     * GET /api/dashboard
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UserDashboardDTO> getDashboard(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        log.debug("Fetching dashboard for user: {}", currentUser.getUsername());
+
+        return ResponseEntity.ok(dashboardService.getDashboard(currentUser.getId()));
+    }
+}
@@ -117,7 +117,7 @@ public class NotificationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        log.info("Fetching notifications for user: {}", currentUser.getUsername());
+        log.debug("Fetching notifications for user: {}", currentUser.getUsername());
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -138,7 +138,7 @@ public class NotificationController {
     public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(
             @AuthenticationPrincipal UserDetailsImpl currentUser) {
 
-        log.info("Fetching unread notifications for user: {}", currentUser.getUsername());
+        log.debug("Fetching unread notifications for user: {}", currentUser.getUsername());
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -160,7 +160,7 @@ public class NotificationController {
     public ResponseEntity<Long> getUnreadNotificationCount(
             @AuthenticationPrincipal UserDetailsImpl currentUser) {
 
-        log.info("Fetching unread notification count for user: {}", currentUser.getUsername());
+        log.debug("Fetching unread notification count for user: {}", currentUser.getUsername());
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -0,0 +1,76 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.BurndownDTO;
+import com.taskmanagement.dto.CycleTimeDTO;
+import com.taskmanagement.dto.ThroughputDTO;
+import com.taskmanagement.service.ProjectAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for project analytics charts. Ranges are given as ISO dates
+ * (from=2026-01-01&to=2026-03-31) and default to the last 90 days.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ProjectAnalyticsController {
+
+    private final ProjectAnalyticsService projectAnalyticsService;
+
+    /**
+     * Get open tasks remaining per day
+     * GET /api/projects/{projectId}/analytics/burndown?from=...&to=...
+     */
+    @GetMapping("/burndown")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BurndownDTO> getBurndown(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("Fetching burndown of project {} from {} to {}", projectId, from, to);
+
+        return ResponseEntity.ok(projectAnalyticsService.getBurndown(projectId, from, to));
+    }
+
+    /**
+     * Get tasks created and completed per week
+     * GET /api/projects/{projectId}/analytics/throughput?from=...&to=...
+     */
+    @GetMapping("/throughput")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ThroughputDTO> getThroughput(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("Fetching throughput of project {} from {} to {}", projectId, from, to);
+
+        return ResponseEntity.ok(projectAnalyticsService.getThroughput(projectId, from, to));
+    }
+
+    /**
+     * Get lead and cycle time percentiles of the tasks completed in a range
+     * GET /api/projects/{projectId}/analytics/cycle-time?from=...&to=...
+     */
+    @GetMapping("/cycle-time")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CycleTimeDTO> getCycleTimes(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("Fetching cycle times of project {} from {} to {}", projectId, from, to);
+
+        return ResponseEntity.ok(projectAnalyticsService.getCycleTimes(projectId, from, to));
+    }
+}
@@ -18,13 +18,20 @@ import java.util.List;
 import com.taskmanagement.dto.CreateProjectRequest;
 import com.taskmanagement.dto.MessageResponse;
 import com.taskmanagement.dto.ProjectDTO;
+import com.taskmanagement.dto.TaskBoardColumnPageDTO;
+import com.taskmanagement.dto.TaskBoardDTO;
 import com.taskmanagement.entity.Project;
 import com.taskmanagement.entity.ProjectStatus;
+import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.mapper.ProjectMapper;
 import com.taskmanagement.security.UserDetailsImpl;
 import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.ResourceVersionService;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.service.TaskCountService;
 import com.taskmanagement.service.UserService;
+import com.taskmanagement.util.ResourceVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,11 +39,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for project management endpoints
@@ -149,6 +161,9 @@ public class ProjectController {
                 .getId();
     private final UserService userService;
     private final ProjectMapper projectMapper;
+    private final ResourceVersionService resourceVersionService;
+    private final TaskCountService taskCountService;
+    private final TaskBoardService taskBoardService;
 
     /**
      * Create a new project
@@ -184,13 +199,20 @@ public class ProjectController {
      */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
-        log.info("Fetching project by ID: {}", id);
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id, WebRequest webRequest) {
+        log.debug("Fetching project by ID: {}", id);
+
+        ResourceVersion version = resourceVersionService.getProjectVersion(id)
+                .orElseThrow(() -> new RuntimeException("Project not found with ID: " + id));
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
 
         Project project = projectService.getProjectById(id)
                 .orElseThrow(() -> new RuntimeException("Project not found with ID: " + id));
 
-        return ResponseEntity.ok(projectMapper.toDTO(project));
+        return ResponseEntity.ok(projectMapper.toDTO(project,
+                taskCountService.getTaskCountsByProject(List.of(id)).getOrDefault(id, Map.of())));
     }
 
     /**
@@ -201,13 +223,18 @@ public class ProjectController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     public ResponseEntity<Page<ProjectDTO>> getAllProjects(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching all projects - page: {}, size: {}", page, size);
+        log.debug("Fetching all projects - page: {}, size: {}", page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<ProjectDTO> projects = projectService.getAllProjects(pageable)
-                .map(projectMapper::toDTO);
+        ResourceVersion version = resourceVersionService.getAllProjectsVersion().forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        Page<ProjectDTO> projects = toDTOsWithTaskCounts(projectService.getAllProjects(pageable));
 
         return ResponseEntity.ok(projects);
     }
@@ -221,16 +248,21 @@ public class ProjectController {
     public ResponseEntity<Page<ProjectDTO>> getMyProjects(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching projects for user: {}", currentUser.getUsername());
+        log.debug("Fetching projects for user: {}", currentUser.getUsername());
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        ResourceVersion version = resourceVersionService.getOwnedProjectsVersion(currentUser.getId()).forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
 
         User owner = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<ProjectDTO> projects = projectService.getProjectsByOwner(owner, pageable)
-                .map(projectMapper::toDTO);
+        Page<ProjectDTO> projects = toDTOsWithTaskCounts(projectService.getProjectsByOwner(owner, pageable));
 
         return ResponseEntity.ok(projects);
     }
@@ -244,17 +276,61 @@ public class ProjectController {
     public ResponseEntity<Page<ProjectDTO>> getProjectsByStatus(
             @PathVariable ProjectStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching projects by status: {}", status);
+        log.debug("Fetching projects by status: {}", status);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<ProjectDTO> projects = projectService.getProjectsByStatus(status, pageable)
-                .map(projectMapper::toDTO);
+        ResourceVersion version = resourceVersionService.getProjectsByStatusVersion(status).forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        Page<ProjectDTO> projects = toDTOsWithTaskCounts(projectService.getProjectsByStatus(status, pageable));
 
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Get the Kanban board of a project: every status column with its first cards and total.
+     * Cards are ordered by priority, then due date; a column's nextCursor loads more cards.
+     * GET /api/projects/{id}/board?size=20
+     */
+    @GetMapping("/{id}/board")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBoardDTO> getBoard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.debug("Fetching board of project: {}", id);
+
+        ResourceVersion version = resourceVersionService.getProjectTasksVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(taskBoardService.getBoard(id, size, version));
+    }
+
+    /**
+     * Get further cards of a board column
+     * GET /api/projects/{id}/board/{status}?cursor=...&size=20
+     */
+    @GetMapping("/{id}/board/{status}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBoardColumnPageDTO> getBoardColumn(
+            @PathVariable Long id,
+            @PathVariable TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Fetching board column {} of project: {}", status, id);
+
+        return ResponseEntity.ok(taskBoardService.getColumn(id, status, cursor, size));
+    }
+
     /**
      * Update project
      * PUT /api/projects/{id}
@@ -266,7 +342,8 @@ public class ProjectController {
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String description,
-            @RequestParam(required = false) ProjectStatus status) {
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Updating project: {} by user: {}", id, currentUser.getUsername());
 
@@ -275,9 +352,12 @@ public class ProjectController {
             throw new RuntimeException("You do not have permission to update this project");
         }
 
-        Project updatedProject = projectService.updateProject(id, name, description, status, null, null);
+        // If-Match is checked by the update itself, against the version it writes over (412 otherwise)
+        Project updatedProject = projectService.updateProject(id, name, description, status, null, null, ifMatch);
 
-        return ResponseEntity.ok(projectMapper.toDTO(updatedProject));
+        return ResponseEntity.ok()
+                .eTag(resourceVersionService.getProjectVersion(updatedProject).getETag())
+                .body(projectMapper.toDTO(updatedProject));
     }
 
     /**
@@ -301,4 +381,14 @@ public class ProjectController {
 
         return ResponseEntity.ok(new MessageResponse("Project deleted successfully!"));
     }
+
+    /**
+     * Map a page of projects with their task counts, fetched in one grouped query for the page
+     */
+    private Page<ProjectDTO> toDTOsWithTaskCounts(Page<Project> projects) {
+        Map<Long, Map<TaskStatus, Long>> taskCounts = taskCountService.getTaskCountsByProject(
+                projects.map(Project::getId).getContent());
+        return projects.map(project ->
+                projectMapper.toDTO(project, taskCounts.getOrDefault(project.getId(), Map.of())));
+    }
 }
@@ -0,0 +1,109 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.MessageResponse;
+import com.taskmanagement.dto.SavedFilterDTO;
+import com.taskmanagement.dto.SavedFilterRequest;
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.mapper.SavedFilterMapper;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.SavedFilterService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for saved task filters.
+ * Load a filter's result with GET /api/filters/{id}/tasks, then subscribe over STOMP to
+ * /user/queue/filters/{id} to receive ENTER, UPDATE and LEAVE deltas as tasks change.
+ */
+@RestController
+@RequestMapping("/api/filters")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SavedFilterController {
+
+    private final SavedFilterService savedFilterService;
+    private final SavedFilterMapper savedFilterMapper;
+    private final TaskMapper taskMapper;
+
+    /**
+     * Save a filter
+     * POST /api/filters
+     */
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SavedFilterDTO> createFilter(
+            @Valid @RequestBody SavedFilterRequest request,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+
+        log.debug("Saving filter {} for user: {}", request.getName(), currentUser.getUsername());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(savedFilterMapper.toDTO(savedFilterService.createFilter(currentUser.getId(), request)));
+    }
+
+    /**
+     * Get the current user's filters
+     * GET /api/filters
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<SavedFilterDTO>> getFilters(@AuthenticationPrincipal UserDetailsImpl currentUser) {
+        log.debug("Fetching saved filters of user: {}", currentUser.getUsername());
+
+        return ResponseEntity.ok(savedFilterService.getFilters(currentUser.getId()).stream()
+                .map(savedFilterMapper::toDTO)
+                .toList());
+    }
+
+    /**
+     * Get the tasks currently matching a filter
+     * GET /api/filters/{id}/tasks?page=0&size=50
+     */
+    @GetMapping("/{id}/tasks")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<TaskDTO>> getFilterTasks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+
+        log.debug("Fetching tasks of saved filter {} for user: {}", id, currentUser.getUsername());
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Page<TaskDTO> tasks = savedFilterService.getFilterTasks(id, currentUser.getId(), pageable)
+                .map(taskMapper::toDTO);
+
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Delete a filter
+     * DELETE /api/filters/{id}
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<MessageResponse> deleteFilter(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl currentUser) {
+
+        log.info("Deleting saved filter {} of user: {}", id, currentUser.getUsername());
+
+        savedFilterService.deleteFilter(id, currentUser.getId());
+        return ResponseEntity.ok(new MessageResponse("Filter deleted successfully"));
+    }
+}
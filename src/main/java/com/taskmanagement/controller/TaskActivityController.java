@@ -0,0 +1,54 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.TaskActivityPageDTO;
+import com.taskmanagement.service.TaskActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for task activity history
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class TaskActivityController {
+
+    private final TaskActivityService taskActivityService;
+
+    /**
+     * Get the activity of a task, newest first
+     * GET /api/tasks/{taskId}/activity?before=...&size=50
+     */
+    @GetMapping("/tasks/{taskId}/activity")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskActivityPageDTO> getTaskActivity(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+
+        log.debug("Fetching activity of task: {}", taskId);
+
+        return ResponseEntity.ok(taskActivityService.getTaskActivity(taskId, before, size));
+    }
+
+    /**
+     * Get the activity of all tasks of a project, newest first
+     * GET /api/projects/{projectId}/activity?before=...&size=50
+     */
+    @GetMapping("/projects/{projectId}/activity")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskActivityPageDTO> getProjectActivity(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int size) {
+
+        log.debug("Fetching activity of project: {}", projectId);
+
+        return ResponseEntity.ok(taskActivityService.getProjectActivity(projectId, before, size));
+    }
+}
@@ -17,14 +17,22 @@ import java.util.List;
 @RequestMapping("/api/tasks")
 import com.taskmanagement.dto.CreateTaskRequest;
 import com.taskmanagement.dto.MessageResponse;
+import com.taskmanagement.dto.TaskChangesDTO;
 import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskSearchResultDTO;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskPriority;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.filter.TaskFilter;
+import com.taskmanagement.util.ResourceVersion;
 import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.ResourceVersionService;
+import com.taskmanagement.service.TaskFilterService;
+import com.taskmanagement.service.TaskSearchService;
 import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.TaskSyncService;
 import com.taskmanagement.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,13 +41,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * REST controller for task management endpoints
@@ -158,6 +171,10 @@ public class TaskController {
                 .getId();
     private final UserService userService;
     private final TaskMapper taskMapper;
+    private final TaskSyncService taskSyncService;
+    private final ResourceVersionService resourceVersionService;
+    private final TaskSearchService taskSearchService;
+    private final TaskFilterService taskFilterService;
 
     /**
      * Create a new task
@@ -194,8 +211,14 @@ public class TaskController {
      */
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
-        log.info("Fetching task by ID: {}", id);
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        log.debug("Fetching task by ID: {}", id);
+
+        ResourceVersion version = resourceVersionService.getTaskVersion(id)
+                .orElseThrow(() -> new RuntimeException("Task not found with ID: " + id));
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
 
         Task task = taskService.getTaskById(id)
                 .orElseThrow(() -> new RuntimeException("Task not found with ID: " + id));
@@ -211,11 +234,17 @@ public class TaskController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     public ResponseEntity<Page<TaskDTO>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching all tasks - page: {}, size: {}", page, size);
+        log.debug("Fetching all tasks - page: {}, size: {}", page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        ResourceVersion version = resourceVersionService.getAllTasksVersion().forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
         Page<TaskDTO> tasks = taskService.getAllTasks(pageable)
                 .map(taskMapper::toDTO);
 
@@ -223,25 +252,64 @@ public class TaskController {
     }
 
     /**
-     * Get tasks by project
-     * GET /api/tasks/project/{projectId}
+     * Get tasks by project, optionally including archived tasks
+     * GET /api/tasks/project/{projectId}?includeArchived=true
      */
     @GetMapping("/project/{projectId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Page<TaskDTO>> getTasksByProject(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
 
-        log.info("Fetching tasks for project: {}", projectId);
+        log.debug("Fetching tasks for project: {}", projectId);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<TaskDTO> tasks = taskService.getTasksByProject(projectId, pageable)
-                .map(taskMapper::toDTO);
+        ResourceVersion version = resourceVersionService.getProjectTasksVersion(projectId).forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        Page<Task> projectTasks;
+        if (includeArchived) {
+            TaskFilter filter = new TaskFilter();
+            filter.setProjectId(projectId);
+            filter.setIncludeArchived(true);
+            projectTasks = taskFilterService.filterTasks(filter, pageable);
+        } else {
+            projectTasks = taskService.getTasksByProject(projectId, pageable);
+        }
+        Page<TaskDTO> tasks = projectTasks.map(taskMapper::toDTO);
 
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Search task titles and descriptions in the current user's projects (all projects for
+     * admins and managers), best match first; archived matches follow with includeArchived=true
+     * GET /api/tasks/search?q=login bug&projectId=1&limit=20&includeArchived=true
+     */
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskSearchResultDTO>> searchTasks(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        log.debug("Searching tasks for '{}' by user: {}", query, currentUser.getUsername());
+
+        boolean allProjects = currentUser.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")
+                        || authority.getAuthority().equals("ROLE_MANAGER"));
+
+        return ResponseEntity.ok(taskSearchService.searchTasks(
+                currentUser.getId(), allProjects, query, projectId, limit, includeArchived));
+    }
+
     /**
      * Get tasks assigned to current user
      * GET /api/tasks/my
@@ -251,14 +319,20 @@ public class TaskController {
     public ResponseEntity<Page<TaskDTO>> getMyTasks(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching tasks assigned to user: {}", currentUser.getUsername());
+        log.debug("Fetching tasks assigned to user: {}", currentUser.getUsername());
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        ResourceVersion version = resourceVersionService.getAssignedTasksVersion(currentUser.getId()).forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<TaskDTO> tasks = taskService.getTasksAssignedToUser(user, pageable)
                 .map(taskMapper::toDTO);
 
@@ -274,14 +348,20 @@ public class TaskController {
     public ResponseEntity<Page<TaskDTO>> getTasksCreatedByMe(
             @AuthenticationPrincipal UserDetailsImpl currentUser,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        log.debug("Fetching tasks created by user: {}", currentUser.getUsername());
 
-        log.info("Fetching tasks created by user: {}", currentUser.getUsername());
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        ResourceVersion version = resourceVersionService.getCreatedTasksVersion(currentUser.getId()).forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<TaskDTO> tasks = taskService.getTasksCreatedByUser(user, pageable)
                 .map(taskMapper::toDTO);
 
@@ -297,17 +377,106 @@ public class TaskController {
     public ResponseEntity<Page<TaskDTO>> getTasksByStatus(
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
 
-        log.info("Fetching tasks by status: {}", status);
+        log.debug("Fetching tasks by status: {}", status);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        ResourceVersion version = resourceVersionService.getAllTasksVersion().forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
         Page<TaskDTO> tasks = taskService.getTasksByStatus(status, pageable)
                 .map(taskMapper::toDTO);
 
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Filter tasks by any combination of project, statuses, priorities, assignee, creator,
+     * due-date range and text (case-insensitive, in title or description); archived tasks are
+     * included with includeArchived=true. Admins and managers filter all tasks, other users
+     * the tasks of their projects and the tasks they created or are assigned to.
+     * GET /api/tasks/filter?projectId=1&status=TODO&status=IN_PROGRESS&priority=HIGH&dueTo=2024-07-01T00:00:00&sort=dueDate,asc
+     */
+    @GetMapping("/filter")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<TaskDTO>> filterTasks(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(name = "status", required = false) Set<TaskStatus> statuses,
+            @RequestParam(name = "priority", required = false) Set<TaskPriority> priorities,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) Long createdById,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(name = "q", required = false) String text,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest webRequest) {
+
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(projectId);
+        if (statuses != null) {
+            filter.setStatuses(statuses);
+        }
+        if (priorities != null) {
+            filter.setPriorities(priorities);
+        }
+        filter.setAssigneeId(assigneeId);
+        filter.setUnassigned(unassigned);
+        filter.setCreatedById(createdById);
+        filter.setDueFrom(dueFrom);
+        filter.setDueTo(dueTo);
+        filter.setText(text);
+        filter.setIncludeArchived(includeArchived);
+
+        log.debug("Filtering tasks: {}", filter);
+
+        String[] sortParts = sort.split(",");
+        Sort.Direction direction = sortParts.length > 1 && sortParts[1].equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParts[0]));
+
+        // Any task change changes the version, so it is valid for every filter
+        ResourceVersion version = resourceVersionService.getAllTasksVersion().forPage(pageable);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+
+        boolean allProjects = currentUser.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")
+                        || authority.getAuthority().equals("ROLE_MANAGER"));
+        Page<TaskDTO> tasks = taskFilterService.filterTasks(filter, pageable, currentUser.getId(), allProjects)
+                .map(taskMapper::toDTO);
+
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Get tasks created, updated or deleted since a sync cursor
+     * GET /api/tasks/changes?since=0&limit=100
+     */
+    @GetMapping("/changes")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(
+            @AuthenticationPrincipal UserDetailsImpl currentUser,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.debug("Fetching task changes since {} for user: {}", since, currentUser.getUsername());
+
+        User user = userService.getUserById(currentUser.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        return ResponseEntity.ok(taskSyncService.getChangesSince(user, since, limit));
+    }
+
     /**
      * Assign task to a user
      * PUT /api/tasks/{id}/assign/{userId}
@@ -362,16 +531,20 @@ public class TaskController {
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String description,
             @RequestParam(required = false) TaskPriority priority,
-            @RequestParam(required = false) LocalDate dueDate) {
+            @RequestParam(required = false) LocalDate dueDate,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Updating task {} by {}", id, currentUser.getUsername());
 
         User updatedBy = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Task task = taskService.updateTask(id, title, description, priority, dueDate, updatedBy);
+        // If-Match is checked by the update itself, against the version it writes over (412 otherwise)
+        Task task = taskService.updateTask(id, title, description, priority, dueDate, updatedBy, ifMatch);
 
-        return ResponseEntity.ok(taskMapper.toDTO(task));
+        return ResponseEntity.ok()
+                .eTag(resourceVersionService.getTaskVersion(task).getETag())
+                .body(taskMapper.toDTO(task));
     }
 
     /**
@@ -37,7 +37,7 @@ public class UserController {
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<UserDTO> getCurrentUser(@AuthenticationPrincipal UserDetailsImpl currentUser) {
-        log.info("Fetching current user profile: {}", currentUser.getUsername());
+        log.debug("Fetching current user profile: {}", currentUser.getUsername());
 
         User user = userService.getUserById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -52,7 +52,7 @@ public class UserController {
     @GetMapping("/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<UserDTO> getUserById(@PathVariable Long id) {
-        log.info("Fetching user by ID: {}", id);
+        log.debug("Fetching user by ID: {}", id);
 
         User user = userService.getUserById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
@@ -71,7 +71,7 @@ public class UserController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "username") String sort) {
 
-        log.info("Fetching all users - page: {}, size: {}, sort: {}", page, size, sort);
+        log.debug("Fetching all users - page: {}, size: {}, sort: {}", page, size, sort);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
         Page<UserDTO> users = userService.getAllUsers(pageable)
@@ -0,0 +1,218 @@
+package com.taskmanagement.dashboard;
+
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.event.NotificationsExpiredEvent;
+import com.taskmanagement.event.OwnedProjectsChangedEvent;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.event.UnreadNotificationsChangedEvent;
+import com.taskmanagement.websocket.cluster.ClusterBus;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps materialized dashboards current from committed task, notification and project events.
+ *
+ * Events are only seen by the node that made the change, which adjusts its own dashboards in
+ * place and then tells the other nodes over the cluster bus to drop theirs for the affected
+ * users; they load them again on the next read. Users whose dashboards are adjusted in place
+ * are held in the store from before the commit until the adjustment, so a dashboard loaded
+ * in between (which may already count the change) is not stored and counted twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardUpdateListener {
+
+    static final String CHANNEL = "dashboard:evict";
+
+    private final UserDashboardStore store;
+    private final ClusterBus clusterBus;
+    private final ClusterMessageRelay clusterMessageRelay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        clusterBus.subscribe(CHANNEL, this::handleEviction);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void holdTaskChanged(TaskChangedEvent event) {
+        Set<Long> users = new HashSet<>();
+        if (assigneeId(event.getPreviousState()) != null) {
+            users.add(assigneeId(event.getPreviousState()));
+        }
+        if (assigneeId(event.getState()) != null) {
+            users.add(assigneeId(event.getState()));
+        }
+        holdUntilCompletion(users);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void holdUnreadNotificationsChanged(UnreadNotificationsChangedEvent event) {
+        holdUntilCompletion(Set.of(event.getUserId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void holdOwnedProjectsChanged(OwnedProjectsChangedEvent event) {
+        holdUntilCompletion(Set.of(event.getOwnerId()));
+    }
+
+    /**
+     * Move a changed task between the dashboards of its previous and current assignee
+     */
+    @TransactionalEventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        Map<String, Object> before = event.getPreviousState();
+        Map<String, Object> after = event.getState();
+
+        if (before == null && event.getChangeType() == TaskChangeType.UPDATED) {
+            // Previous state unknown: the assignee's dashboard cannot be adjusted
+            Long assigneeId = assigneeId(after);
+            if (assigneeId != null) {
+                store.evict(assigneeId);
+                publishEviction(Set.of(assigneeId));
+            }
+            return;
+        }
+        if (!affectsDashboard(before, after)) {
+            return;
+        }
+
+        Set<Long> users = new LinkedHashSet<>();
+        if (assigneeId(before) != null) {
+            store.addTasks(assigneeId(before), status(before), dueDate(before), -1);
+            users.add(assigneeId(before));
+        }
+        if (assigneeId(after) != null) {
+            store.addTasks(assigneeId(after), status(after), dueDate(after), 1);
+            users.add(assigneeId(after));
+        }
+        publishEviction(users);
+    }
+
+    @TransactionalEventListener
+    public void handleUnreadNotificationsChanged(UnreadNotificationsChangedEvent event) {
+        store.addUnreadNotifications(event.getUserId(), event.getDelta());
+        publishEviction(Set.of(event.getUserId()));
+    }
+
+    @TransactionalEventListener
+    public void handleOwnedProjectsChanged(OwnedProjectsChangedEvent event) {
+        store.addOwnedProjects(event.getOwnerId(), event.getDelta());
+        publishEviction(Set.of(event.getOwnerId()));
+    }
+
+    /**
+     * Drop the dashboards of the assignees of archived tasks; they count live tasks only
+     */
+    @TransactionalEventListener
+    public void handleTasksArchived(TasksArchivedEvent event) {
+        event.getAssigneeIds().forEach(store::evict);
+        publishEviction(event.getAssigneeIds());
+    }
+
+    /**
+     * Drop the dashboards of the assignees of a deleted project's tasks
+     */
+    @TransactionalEventListener
+    public void handleProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted()) {
+            event.getAssigneeIds().forEach(store::evict);
+            publishEviction(event.getAssigneeIds());
+        }
+    }
+
+    /**
+     * Drop the dashboards of users whose unread notifications expired; they are counted
+     * within the retention period only, so they load correctly again
+     */
+    @TransactionalEventListener
+    public void handleNotificationsExpired(NotificationsExpiredEvent event) {
+        event.getUserIds().forEach(store::evict);
+        publishEviction(event.getUserIds());
+    }
+
+    /**
+     * Drop dashboards changed on another node
+     */
+    void handleEviction(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0 || message.substring(0, separator).equals(clusterMessageRelay.getNodeId())) {
+            return;
+        }
+        for (String userId : message.substring(separator + 1).split(",")) {
+            store.evict(Long.valueOf(userId));
+        }
+    }
+
+    /**
+     * Hold users in the store until the current transaction completes; after commit listeners,
+     * which apply the change, run before completion
+     */
+    private void holdUntilCompletion(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userIds.forEach(store::hold);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                userIds.forEach(store::release);
+            }
+        });
+    }
+
+    private void publishEviction(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            clusterBus.publish(CHANNEL, clusterMessageRelay.getNodeId() + "|"
+                    + userIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.error("Failed to publish dashboard eviction for users {}: {}", userIds, e.getMessage());
+        }
+    }
+
+    /**
+     * Only the assignee, status and due date of a task are summarized
+     */
+    private static boolean affectsDashboard(Map<String, Object> before, Map<String, Object> after) {
+        if (before == null || after == null) {
+            return assigneeId(before) != null || assigneeId(after) != null;
+        }
+        return !Objects.equals(assigneeId(before), assigneeId(after))
+                || !Objects.equals(before.get("status"), after.get("status"))
+                || !Objects.equals(before.get("dueDate"), after.get("dueDate"));
+    }
+
+    private static Long assigneeId(Map<String, Object> state) {
+        return state != null ? (Long) state.get("assignedToId") : null;
+    }
+
+    private static TaskStatus status(Map<String, Object> state) {
+        return TaskStatus.valueOf((String) state.get("status"));
+    }
+
+    private static LocalDateTime dueDate(Map<String, Object> state) {
+        return (LocalDateTime) state.get("dueDate");
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskmanagement.dashboard;
+
+import com.taskmanagement.dto.UserDashboardDTO;
+import com.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Materialized summary of one user, adjusted in place as tasks and notifications change.
+ * Due dates of open assigned tasks are kept as a sorted multiset, so overdue and due-soon
+ * counts stay right as time passes without any write.
+ */
+public class UserDashboard {
+
+    private final long[] assignedByStatus = new long[TaskStatus.values().length];
+    private final TreeMap<LocalDateTime, Long> openDueDates = new TreeMap<>();
+    private long unreadNotifications;
+    private long ownedProjects;
+
+    public UserDashboard(long unreadNotifications, long ownedProjects) {
+        this.unreadNotifications = unreadNotifications;
+        this.ownedProjects = ownedProjects;
+    }
+
+    /**
+     * Add or remove assigned tasks
+     * @param status Task status
+     * @param dueDate Task due date (may be null)
+     * @param count Number of tasks to add (negative to remove)
+     */
+    public synchronized void addTasks(TaskStatus status, LocalDateTime dueDate, long count) {
+        assignedByStatus[status.ordinal()] += count;
+        if (dueDate != null && isOpen(status)) {
+            openDueDates.merge(dueDate, count, (current, delta) -> current + delta == 0 ? null : current + delta);
+        }
+    }
+
+    public synchronized void addUnreadNotifications(long count) {
+        unreadNotifications += count;
+    }
+
+    public synchronized void addOwnedProjects(long count) {
+        ownedProjects += count;
+    }
+
+    /**
+     * Take a snapshot of the summary
+     * @param now Current time; earlier due dates are overdue
+     * @param weekEnd End of the current week (exclusive)
+     * @return Summary as of now
+     */
+    public synchronized UserDashboardDTO toDTO(LocalDateTime now, LocalDateTime weekEnd) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        long open = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = Math.max(0, assignedByStatus[status.ordinal()]);
+            byStatus.put(status, count);
+            if (isOpen(status)) {
+                open += count;
+            }
+        }
+        return new UserDashboardDTO(byStatus, open,
+                sum(openDueDates.headMap(now, false)),
+                sum(openDueDates.subMap(now, true, weekEnd, false)),
+                Math.max(0, unreadNotifications), Math.max(0, ownedProjects), now);
+    }
+
+    static boolean isOpen(TaskStatus status) {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    private static long sum(Map<LocalDateTime, Long> counts) {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return Math.max(0, total);
+    }
+}
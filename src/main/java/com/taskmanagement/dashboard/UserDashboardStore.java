@@ -0,0 +1,147 @@
+package com.taskmanagement.dashboard;
+
+import com.taskmanagement.entity.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Node-local store of materialized user dashboards, bounded by least recent use.
+ *
+ * Every update for a user bumps a stamp (striped by user ID). A dashboard loaded from the
+ * database is only stored if its user's stamp did not move while it was loading, so a change
+ * committed during the load cannot be lost: it was either read by the load or forces the
+ * next read to load again. A user is also held from before a change commits until it has
+ * been applied in place; loads finishing meanwhile are not stored, as they may already
+ * include the change the adjustment is about to add.
+ */
+@Component
+public class UserDashboardStore {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+    private final int[] holds = new int[STRIPES];
+
+    @Value("${app.dashboard.cache-size:10000}")
+    private int cacheSize;
+
+    private final Map<Long, UserDashboard> dashboards = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserDashboard> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * Get the stored dashboard of a user
+     * @return Dashboard, or null if it has to be loaded
+     */
+    public UserDashboard get(Long userId) {
+        synchronized (dashboards) {
+            return dashboards.get(userId);
+        }
+    }
+
+    /**
+     * Get the update stamp of a user; read it before loading a dashboard
+     */
+    public long stamp(Long userId) {
+        return stamps.get(stripe(userId));
+    }
+
+    /**
+     * Store a loaded dashboard unless the user was updated since the stamp was read or is held
+     * @return true if stored
+     */
+    public boolean putIfUnchanged(Long userId, UserDashboard dashboard, long stamp) {
+        synchronized (dashboards) {
+            if (stamps.get(stripe(userId)) != stamp || holds[stripe(userId)] > 0) {
+                return false;
+            }
+            dashboards.put(userId, dashboard);
+            return true;
+        }
+    }
+
+    /**
+     * Add or remove assigned tasks of a user
+     */
+    public void addTasks(Long userId, TaskStatus status, LocalDateTime dueDate, long count) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            UserDashboard dashboard = dashboards.get(userId);
+            if (dashboard != null) {
+                dashboard.addTasks(status, dueDate, count);
+            }
+        }
+    }
+
+    public void addUnreadNotifications(Long userId, long count) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            UserDashboard dashboard = dashboards.get(userId);
+            if (dashboard != null) {
+                dashboard.addUnreadNotifications(count);
+            }
+        }
+    }
+
+    public void addOwnedProjects(Long userId, long count) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            UserDashboard dashboard = dashboards.get(userId);
+            if (dashboard != null) {
+                dashboard.addOwnedProjects(count);
+            }
+        }
+    }
+
+    /**
+     * Keep loaded dashboards of a user from being stored until {@link #release}; call it
+     * before committing a change that will be applied in place
+     */
+    public void hold(Long userId) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            holds[stripe(userId)]++;
+        }
+    }
+
+    /**
+     * End a {@link #hold} once the transaction completed and its changes were applied
+     */
+    public void release(Long userId) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            holds[stripe(userId)]--;
+        }
+    }
+
+    /**
+     * Drop the dashboard of a user; the next read loads it again
+     */
+    public void evict(Long userId) {
+        synchronized (dashboards) {
+            stamps.incrementAndGet(stripe(userId));
+            dashboards.remove(userId);
+        }
+    }
+
+    /**
+     * Number of stored dashboards
+     */
+    public int size() {
+        synchronized (dashboards) {
+            return dashboards.size();
+        }
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (STRIPES - 1));
+    }
+}
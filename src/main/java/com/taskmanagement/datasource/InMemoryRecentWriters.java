@@ -0,0 +1,38 @@
+package com.taskmanagement.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recent writers known to this node only: a user whose next request lands on another node
+ * may read from a replica that has not caught up
+ */
+public class InMemoryRecentWriters implements RecentWriters {
+
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordWrite(String user, long windowMs) {
+        deadlines.put(user, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs));
+    }
+
+    @Override
+    public boolean wroteRecently(String user) {
+        Long until = deadlines.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        deadlines.remove(user, until);
+        return false;
+    }
+
+    @Override
+    public void evictExpired() {
+        long now = System.nanoTime();
+        deadlines.values().removeIf(until -> until - now <= 0);
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanagement.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells whether write transactions that may still commit are open on the database.
+ *
+ * On PostgreSQL this looks at pg_stat_activity for sessions of the same database holding a
+ * transaction ID, i.e. transactions that have written something. The database role needs to
+ * see other sessions' activity (its own sessions, or pg_read_all_stats); sessions it cannot
+ * see are not reported. Other databases cannot be inspected.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenTransactionProbe {
+
+    private static final String OLDER_WRITERS_SQL = "SELECT EXISTS (SELECT 1 FROM pg_stat_activity " +
+            "WHERE datname = current_database() AND pid <> pg_backend_pid() " +
+            "AND backend_xid IS NOT NULL AND xact_start < statement_timestamp())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean supported;
+
+    @PostConstruct
+    public void init() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        supported = "PostgreSQL".equals(database);
+        if (!supported) {
+            log.info("Open transactions cannot be inspected on {}", database);
+        }
+    }
+
+    /**
+     * @return Whether open transactions can be inspected on this database
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Check for write transactions of other sessions that started before this statement and
+     * have not finished. Runs on the current transaction's connection, so it asks the database
+     * the transaction reads from; call it from a transaction on the primary.
+     * @return Whether such a transaction is open
+     */
+    public boolean hasWritersStartedBeforeNow() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(OLDER_WRITERS_SQL, Boolean.class));
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Read-only transactions started by the annotated method (or any method of the annotated
+ * class) read from the primary instead of a replica. Within a web request, the rest of the
+ * request reads from the primary as well.
+ *
+ * @see ReadWriteRoutingDataSource
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
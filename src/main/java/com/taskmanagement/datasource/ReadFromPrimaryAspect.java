@@ -0,0 +1,29 @@
+package com.taskmanagement.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link ReadFromPrimary}: the hint is held for the duration of the call, so it does
+ * not matter whether the call's transaction starts inside or outside this advice.
+ */
+@Aspect
+@Component
+public class ReadFromPrimaryAspect {
+
+    @Around("@within(com.taskmanagement.datasource.ReadFromPrimary) "
+            + "|| @annotation(com.taskmanagement.datasource.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReadWriteRoutingDataSource.pinRequestToPrimary();
+        boolean outermost = ReadWriteRoutingDataSource.beginPrimaryReads();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (outermost) {
+                ReadWriteRoutingDataSource.endPrimaryReads();
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.taskmanagement.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to read replicas and everything else to the primary.
+ *
+ * Replicas are taken round robin among those that passed the last health check with a
+ * replication lag within {@code maxLagMs}; the check runs the lag query on every replica
+ * every {@code checkIntervalMs} on a thread of its own. When no replica qualifies, reads
+ * go to the primary. After a user's read-write transaction commits, that user's reads stay
+ * on the primary for {@code readYourWritesMs}, so they see their own changes; the window is
+ * kept in {@link RecentWriters}, which decides whether other nodes see it. Reads made under
+ * {@link ReadFromPrimary}, and the rest of a web request that made one, also go to the primary.
+ * Connections outside transactions, such as lazy loads after a service returns, go to the
+ * primary.
+ *
+ * The transaction's read-only flag is only set after the transaction manager has asked for
+ * a connection, so this data source has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which fetches
+ * the connection on the first statement.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final String PRIMARY_REQUEST_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".PRIMARY";
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final long readYourWritesMs;
+    private final long checkIntervalMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final RecentWriters recentWriters;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    /**
+     * @param primary Primary data source
+     * @param replicas Replica data sources by name
+     * @param lagQuery Query returning a replica's replication lag in milliseconds
+     * @param maxLagMs Largest lag at which a replica still serves reads
+     * @param readYourWritesMs How long a user's reads stay on the primary after their write
+     * @param checkIntervalMs Time between health checks (0 for no scheduled checks)
+     * @param recentWriters Where the read-your-writes windows are kept
+     * @param meterRegistry Registry for the routing metrics
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, String lagQuery,
+                                      long maxLagMs, long readYourWritesMs, long checkIntervalMs,
+                                      RecentWriters recentWriters, MeterRegistry meterRegistry) {
+        this.recentWriters = recentWriters;
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.readYourWritesMs = readYourWritesMs;
+        this.checkIntervalMs = checkIntervalMs;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.add(new Replica(name, dataSource));
+            targets.put(name, dataSource);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.replicaReads = Counter.builder("datasource.reads")
+                .description("Read-only transactions by the kind of database that served them")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("datasource.reads")
+                .description("Read-only transactions by the kind of database that served them")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replicas.available", this, source -> source.availableReplicas().size())
+                .description("Replicas that are healthy and within the lag limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check the replicas once, then keep checking them in the background
+     */
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+        if (checkIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::checkReplicas, checkIntervalMs, checkIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop the health checks and close the replica pools (the primary is managed by its owner)
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    /**
+     * Send this thread's read-only transactions to the primary until {@link #endPrimaryReads()}
+     * @return Whether this call set the hint (false when it was already set)
+     */
+    public static boolean beginPrimaryReads() {
+        if (PRIMARY_READS.get() != null) {
+            return false;
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Clear the hint set by {@link #beginPrimaryReads()}
+     */
+    public static void endPrimaryReads() {
+        PRIMARY_READS.remove();
+    }
+
+    /**
+     * Send the remaining read-only transactions of the current web request (if any) to the
+     * primary, so that what the request reads is never older than what it read from the primary
+     * before, such as the version behind its ETag
+     */
+    public static void pinRequestToPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(PRIMARY_REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recentWriters.recordWrite(user, readYourWritesMs);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+
+        if (primaryReadsRequested() || user != null && recentWriters.wroteRecently(user)) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        List<Replica> available = availableReplicas();
+        if (available.isEmpty()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size())).name;
+    }
+
+    /**
+     * Run the lag query on every replica and record which ones can serve reads
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.isAvailable(maxLagMs);
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet result = statement.executeQuery(lagQuery)) {
+                    replica.lagMs = result.next() ? Math.max(0, result.getLong(1)) : 0;
+                }
+                replica.healthy = true;
+            } catch (SQLException e) {
+                replica.healthy = false;
+                if (wasAvailable) {
+                    log.warn("Replica {} failed its health check: {}", replica.name, e.getMessage());
+                }
+            }
+            if (wasAvailable != replica.isAvailable(maxLagMs)) {
+                log.info("Replica {} is {} (healthy: {}, lag: {} ms)", replica.name,
+                        replica.isAvailable(maxLagMs) ? "now serving reads" : "no longer serving reads",
+                        replica.healthy, replica.lagMs);
+            }
+        }
+
+        // Forget writers whose window has passed
+        recentWriters.evictExpired();
+    }
+
+    private List<Replica> availableReplicas() {
+        List<Replica> available = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isAvailable(maxLagMs)) {
+                available.add(replica);
+            }
+        }
+        return available;
+    }
+
+    private static boolean primaryReadsRequested() {
+        if (PRIMARY_READS.get() != null) {
+            return true;
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null
+                && request.getAttribute(PRIMARY_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMs;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long maxLagMs) {
+            return healthy && lagMs <= maxLagMs;
+        }
+    }
+}
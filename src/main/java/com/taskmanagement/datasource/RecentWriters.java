@@ -0,0 +1,27 @@
+package com.taskmanagement.datasource;
+
+/**
+ * Users who committed a write recently, whose reads must not go to a replica that may not
+ * have it yet
+ */
+public interface RecentWriters {
+
+    /**
+     * Record that a user's write committed
+     * @param user Username
+     * @param windowMs How long the user's reads stay on the primary
+     */
+    void recordWrite(String user, long windowMs);
+
+    /**
+     * @param user Username
+     * @return Whether the user's read-your-writes window is still open
+     */
+    boolean wroteRecently(String user);
+
+    /**
+     * Forget writers whose window has passed (entries that expire by themselves need nothing)
+     */
+    default void evictExpired() {
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Recent writers held in Redis, so a user's reads stay on the primary whichever node serves
+ * them. Each write sets a key that Redis expires at the end of the window (no node clocks
+ * involved). The writing node also remembers the writer locally: its own requests skip the
+ * Redis lookup, and while Redis is unreachable reads fall back to the per-node window.
+ */
+@Slf4j
+public class RedisRecentWriters implements RecentWriters {
+
+    private static final String KEY_PREFIX = "read-your-writes:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RecentWriters local;
+
+    public RedisRecentWriters(StringRedisTemplate redisTemplate, RecentWriters local) {
+        this.redisTemplate = redisTemplate;
+        this.local = local;
+    }
+
+    @Override
+    public void recordWrite(String user, long windowMs) {
+        local.recordWrite(user, windowMs);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + user, "1", Duration.ofMillis(windowMs));
+        } catch (Exception e) {
+            log.warn("Failed to record write by {} in Redis, other nodes may read from replicas: {}",
+                    user, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean wroteRecently(String user) {
+        if (local.wroteRecently(user)) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + user));
+        } catch (Exception e) {
+            log.warn("Redis read-your-writes check failed, using this node's writers: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void evictExpired() {
+        local.evictExpired();
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the burndown of a project: open tasks remaining at the end of each day
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDTO {
+
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<BurndownPointDTO> days;
+}
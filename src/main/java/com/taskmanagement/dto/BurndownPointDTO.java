@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day of a burndown. Remaining counts open (not completed or cancelled) tasks;
+ * created and completed count the day's transitions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDTO {
+
+    private LocalDate day;
+    private long remaining;
+    private long created;
+    private long completed;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the lead and cycle time percentiles of the tasks a project completed in a range of days
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeDTO {
+
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private DurationPercentilesDTO leadTime;
+    private DurationPercentilesDTO cycleTime;
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for duration percentiles in hours, accurate to about 10%. The percentiles are null
+ * when no task was measured.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationPercentilesDTO {
+
+    private long count;
+    private Double p50Hours;
+    private Double p85Hours;
+    private Double p95Hours;
+}
@@ -1,6 +1,7 @@
 package com.taskmanagement.dto;
 
 import com.taskmanagement.entity.ProjectStatus;
+import com.taskmanagement.entity.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,7 @@ import java.util.Set;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * DTO for Project entity
@@ -34,6 +36,8 @@ public class ProjectDTO {
     private LocalDate endDate;
     private Long ownerId;
     private String ownerUsername;
+    private Long taskCount;
+    private Map<TaskStatus, Long> taskCountsByStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,21 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Project change pushed on the project topic: changed fields plus the project version
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeltaDTO {
+
+    private Long projectId;
+    private Long version;
+    private boolean deleted;
+    private Map<String, Object> changes;
+}
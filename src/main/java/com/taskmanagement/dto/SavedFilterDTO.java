@@ -0,0 +1,31 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * DTO for a saved task filter. Live results are pushed on /user/queue/filters/{id}
+ * as {@link SavedFilterDeltaDTO}s.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterDTO {
+
+    private Long id;
+    private String name;
+    private Long projectId;
+    private Set<TaskStatus> statuses;
+    private Set<TaskPriority> priorities;
+    private Long assigneeId;
+    private boolean unassigned;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Change to the result of a saved filter, pushed to its subscribers.
+ * ENTER carries every field of a task that now matches (clients upsert it), UPDATE the
+ * changed fields of a task that still matches, LEAVE none: the task no longer matches or
+ * was deleted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterDeltaDTO {
+
+    private Long filterId;
+    private SavedFilterDeltaType type;
+    private Long taskId;
+    private Long projectId;
+    private Long version;
+    private Map<String, Object> fields;
+}
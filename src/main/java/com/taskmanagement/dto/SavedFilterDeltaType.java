@@ -0,0 +1,10 @@
+package com.taskmanagement.dto;
+
+/**
+ * Enum representing how a task change affects the result of a saved filter
+ */
+public enum SavedFilterDeltaType {
+    ENTER,
+    UPDATE,
+    LEAVE
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DTO for saving a task filter; unset criteria do not restrict the result
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterRequest {
+
+    @NotBlank(message = "Filter name is required")
+    @Size(max = 100, message = "Filter name must not exceed 100 characters")
+    private String name;
+
+    private Long projectId;
+    private Set<TaskStatus> statuses = new HashSet<>();
+    private Set<TaskPriority> priorities = new HashSet<>();
+    private Long assigneeId;
+    private boolean unassigned;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+}
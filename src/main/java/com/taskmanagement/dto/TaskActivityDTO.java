@@ -0,0 +1,29 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one task activity entry. Field, old and new values are set for updates; a creation
+ * carries the title as its new value and a deletion as its old value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivityDTO {
+
+    private Long id;
+    private Long taskId;
+    private Long projectId;
+    private Long actorId;
+    private String actorUsername;
+    private TaskChangeType action;
+    private String field;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime occurredAt;
+}
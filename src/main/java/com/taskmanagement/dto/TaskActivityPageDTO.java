@@ -0,0 +1,20 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of task activity, newest first.
+ * Clients pass {@code nextCursor} back as {@code before} for the next page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivityPageDTO {
+
+    private List<TaskActivityDTO> entries;
+    private Long nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a task shown as a card on a project board
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardCardDTO {
+
+    private Long id;
+    private String title;
+    private TaskPriority priority;
+    private LocalDateTime dueDate;
+    private Long assigneeId;
+    private String assigneeName;
+    private Long version;
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one status column of a project board: the first cards and the column total.
+ * nextCursor loads the following cards and is null when the column is complete.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumnDTO {
+
+    private TaskStatus status;
+    private long total;
+    private List<TaskBoardCardDTO> cards;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for further cards of a board column, read after a cursor
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumnPageDTO {
+
+    private TaskStatus status;
+    private List<TaskBoardCardDTO> cards;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a project board: one column per task status, in status order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDTO {
+
+    private Long projectId;
+    private List<TaskBoardColumnDTO> columns;
+}
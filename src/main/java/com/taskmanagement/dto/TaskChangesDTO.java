@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of task changes returned by delta sync.
+ * Clients pass {@code cursor} back as {@code since} on the next call.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+
+    private List<TaskDTO> tasks;
+    private List<TaskTombstoneDTO> deleted;
+    private long cursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Task change pushed on the project task topic.
+ * Carries only the fields that changed (all fields for CREATED, none for DELETED) and the
+ * task version after the change, so clients can patch their copy without a REST round trip
+ * and ignore deltas older than what they already hold.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeltaDTO {
+
+    private Long taskId;
+    private Long projectId;
+    private TaskChangeType changeType;
+    private Long version;
+    private Map<String, Object> changes;
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a task found by text search, with its relevance score (higher is better)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+
+    private TaskDTO task;
+    private float score;
+}
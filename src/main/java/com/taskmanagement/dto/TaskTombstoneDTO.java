@@ -0,0 +1,20 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a deleted task returned by delta sync
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstoneDTO {
+
+    private Long taskId;
+    private Long projectId;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the weekly throughput of a project; weeks start on Monday
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputDTO {
+
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<ThroughputWeekDTO> weeks;
+}
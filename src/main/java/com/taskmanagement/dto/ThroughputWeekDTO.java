@@ -0,0 +1,20 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the tasks a project created and completed in one week
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputWeekDTO {
+
+    private LocalDate weekStart;
+    private long created;
+    private long completed;
+}
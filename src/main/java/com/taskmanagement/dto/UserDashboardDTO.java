@@ -0,0 +1,27 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for the "my work" summary of a user. Overdue and due-this-week counts cover open
+ * (not completed or cancelled) assigned tasks; the week ends on Sunday night.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDashboardDTO {
+
+    private Map<TaskStatus, Long> assignedTasksByStatus;
+    private long openAssignedTasks;
+    private long overdueTasks;
+    private long dueThisWeekTasks;
+    private long unreadNotifications;
+    private long ownedProjects;
+    private LocalDateTime asOf;
+}
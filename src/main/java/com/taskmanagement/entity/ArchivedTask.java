@@ -0,0 +1,88 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a completed or cancelled task moved out of the tasks table by
+ * TaskArchiver. Rows are copied verbatim, keeping the task's ID and version, and are
+ * read-only from then on.
+ *
+ * Attributes are named as on {@link Task} so filter queries compile against either table.
+ * The associations have no foreign key constraints: archived rows are removed with their
+ * project by an event listener rather than by cascade.
+ */
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_archived_tasks_assigned_to_status", columnList = "assigned_to, status"),
+        @Index(name = "idx_archived_tasks_created_by", columnList = "created_by")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 20)
+    private TaskPriority priority;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User createdBy;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_to", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User assignedTo;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "estimated_hours")
+    private Integer estimatedHours;
+
+    @Column(name = "actual_hours")
+    private Integer actualHours;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Copy into a detached task for mapping to the same DTOs as live tasks
+     */
+    public Task toTask() {
+        return new Task(id, title, description, status, priority, project, createdBy, assignedTo, dueDate,
+                estimatedHours, actualHours, createdAt, updatedAt, version, completedAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entity representing one histogram bucket of the lead or cycle times of the tasks a project
+ * completed on one day. Buckets are logarithmic (see DurationHistogram), so percentiles
+ * over any range of days can be computed by adding the buckets up.
+ */
+@Entity
+@Table(name = "project_daily_durations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_daily_durations",
+                columnNames = {"project_id", "stat_date", "metric", "bucket"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDailyDuration {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private TaskDurationMetric metric;
+
+    @Column(name = "bucket", nullable = false)
+    private int bucket;
+
+    @Column(name = "task_count", nullable = false)
+    private long count;
+}
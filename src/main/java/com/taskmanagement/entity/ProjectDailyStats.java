@@ -0,0 +1,56 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Entity representing the status transitions of one project on one day, rolled up from
+ * {@link TaskStatusTransition} once the day is over
+ */
+@Entity
+@Table(name = "project_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_project_daily_stats", columnNames = {"project_id", "stat_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "created_count", nullable = false)
+    private long created;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completed;
+
+    /**
+     * Transitions out of COMPLETED or CANCELLED back to an open status
+     */
+    @Column(name = "reopened_count", nullable = false)
+    private long reopened;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelled;
+
+    @Column(name = "deleted_count", nullable = false)
+    private long deleted;
+
+    /**
+     * Change in the number of open tasks over the day
+     */
+    @Column(name = "open_delta", nullable = false)
+    private long openDelta;
+}
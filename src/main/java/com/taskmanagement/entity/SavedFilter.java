@@ -0,0 +1,69 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Entity representing a task filter saved by a user, which clients can subscribe to for
+ * live results. Stores plain IDs so that a filter survives the deletion of the project or
+ * assignee it names (it then simply matches nothing).
+ */
+@Entity
+@Table(name = "saved_filters", indexes = @Index(name = "idx_saved_filters_owner", columnList = "owner_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @NotBlank(message = "Filter name is required")
+    @Size(max = 100, message = "Filter name must not exceed 100 characters")
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "saved_filter_statuses", joinColumns = @JoinColumn(name = "filter_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Set<TaskStatus> statuses = new HashSet<>();
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "saved_filter_priorities", joinColumns = @JoinColumn(name = "filter_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false, length = 20)
+    private Set<TaskPriority> priorities = new HashSet<>();
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "unassigned", nullable = false)
+    private boolean unassigned;
+
+    @Column(name = "due_from")
+    private LocalDateTime dueFrom;
+
+    @Column(name = "due_to")
+    private LocalDateTime dueTo;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
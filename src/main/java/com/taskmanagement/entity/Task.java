@@ -15,7 +15,12 @@ import java.time.LocalDateTime;
  * Entity representing a task within a project
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+        @Index(name = "idx_tasks_assigned_to_status", columnList = "assigned_to, status"),
+        @Index(name = "idx_tasks_created_by", columnList = "created_by"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -71,6 +76,10 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
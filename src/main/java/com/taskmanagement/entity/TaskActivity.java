@@ -0,0 +1,73 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one entry of the task activity log: the creation or deletion of a
+ * task, or the change of one of its fields. Entries are append-only and are written in
+ * batches by TaskActivityWriter rather than through the entity manager. IDs follow write
+ * order, which is not the order of occurrence for entries replayed from the spool, so the
+ * history endpoints page on (occurred_at, id).
+ */
+@Entity
+@Table(name = "task_activities", indexes = {
+        @Index(name = "idx_task_activities_task", columnList = "task_id, occurred_at, id"),
+        @Index(name = "idx_task_activities_project", columnList = "project_id, occurred_at, id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_task_activities_entry_key", columnNames = "entry_key"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskActivity {
+
+    public static final int MAX_VALUE_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Key generated when the entry is queued, so writing it again (from a spool file that was
+     * already inserted) is a no-op; null for entries written before keys were introduced
+     */
+    @Column(name = "entry_key", length = 36)
+    private String entryKey;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    /**
+     * The authenticated user who made the change (null for changes made outside a request)
+     */
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "actor_username", length = 50)
+    private String actorUsername;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 20)
+    private TaskChangeType action;
+
+    /**
+     * The changed field for UPDATED entries
+     */
+    @Column(name = "field_name", length = 50)
+    private String field;
+
+    @Column(name = "old_value", length = MAX_VALUE_LENGTH)
+    private String oldValue;
+
+    @Column(name = "new_value", length = MAX_VALUE_LENGTH)
+    private String newValue;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one entry of the task change log used for delta sync.
+ * Stores plain IDs rather than associations so that entries outlive deleted tasks
+ * and can be served as tombstones.
+ */
+@Entity
+@Table(name = "task_changes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "created_by_id")
+    private Long createdById;
+
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+
+    @Column(name = "previous_assigned_to_id")
+    private Long previousAssignedToId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private TaskChangeType changeType;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public TaskChange(Task task, TaskChangeType changeType, Long previousAssignedToId) {
+        this.taskId = task.getId();
+        this.projectId = task.getProject().getId();
+        this.createdById = task.getCreatedBy() != null ? task.getCreatedBy().getId() : null;
+        this.assignedToId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        this.previousAssignedToId = previousAssignedToId;
+        this.changeType = changeType;
+    }
+}
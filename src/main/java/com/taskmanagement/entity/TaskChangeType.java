@@ -0,0 +1,10 @@
+package com.taskmanagement.entity;
+
+/**
+ * Enum representing the kind of change recorded in the task change log
+ */
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.entity;
+
+/**
+ * Enum representing the durations measured for completed tasks: lead time runs from creation
+ * and cycle time from first entering IN_PROGRESS
+ */
+public enum TaskDurationMetric {
+    LEAD_TIME,
+    CYCLE_TIME
+}
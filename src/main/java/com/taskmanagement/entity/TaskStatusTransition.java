@@ -0,0 +1,59 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one status change of a task, the source of project analytics.
+ * A null fromStatus marks the creation of the task and a null toStatus its deletion.
+ * Stores plain IDs like {@link TaskChange} so that history outlives deleted tasks.
+ */
+@Entity
+@Table(name = "task_status_transitions", indexes = {
+        @Index(name = "idx_transitions_project_time", columnList = "project_id, transitioned_at"),
+        @Index(name = "idx_transitions_task", columnList = "task_id"),
+        @Index(name = "idx_transitions_time", columnList = "transitioned_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private TaskStatus toStatus;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+
+    /**
+     * Minutes from creation to completion, set on transitions to COMPLETED
+     */
+    @Column(name = "lead_time_minutes")
+    private Long leadTimeMinutes;
+
+    /**
+     * Minutes from first entering IN_PROGRESS to completion, set on transitions to COMPLETED
+     * of tasks that were ever in progress
+     */
+    @Column(name = "cycle_time_minutes")
+    private Long cycleTimeMinutes;
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Application event published when notifications past the retention period have been removed
+ */
+@Data
+@AllArgsConstructor
+public class NotificationsExpiredEvent {
+
+    /**
+     * Users who had unread notifications among those removed
+     */
+    private Set<Long> userIds;
+}
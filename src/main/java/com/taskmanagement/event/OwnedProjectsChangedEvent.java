@@ -0,0 +1,20 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event published when a project is created or deleted, changing the number of
+ * projects its owner has
+ */
+@Data
+@AllArgsConstructor
+public class OwnedProjectsChangedEvent {
+
+    private Long ownerId;
+
+    /**
+     * Change in the number of owned projects
+     */
+    private long delta;
+}
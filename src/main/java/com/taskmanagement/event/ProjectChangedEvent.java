@@ -0,0 +1,34 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application event published when a project is updated or deleted
+ */
+@Data
+@AllArgsConstructor
+public class ProjectChangedEvent {
+
+    private Long projectId;
+
+    /**
+     * Project version after the change
+     */
+    private Long version;
+
+    private boolean deleted;
+
+    /**
+     * Changed fields and their new values
+     */
+    private Map<String, Object> changes;
+
+    /**
+     * Users assigned to tasks of a deleted project (empty for updates)
+     */
+    private Set<Long> assigneeIds;
+}
@@ -0,0 +1,15 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event published when a saved filter is deleted, so every node can end the
+ * live subscriptions to it once the deletion is committed
+ */
+@Data
+@AllArgsConstructor
+public class SavedFilterDeletedEvent {
+
+    private Long filterId;
+}
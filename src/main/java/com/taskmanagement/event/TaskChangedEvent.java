@@ -0,0 +1,41 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.entity.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Application event published for every recorded task change.
+ * Listeners that push to clients should use {@code @TransactionalEventListener}
+ * so nothing is sent for a change that is rolled back.
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangedEvent {
+
+    private Long taskId;
+    private Long projectId;
+    private TaskChangeType changeType;
+
+    /**
+     * Task version after the change
+     */
+    private Long version;
+
+    /**
+     * Changed fields and their new values
+     */
+    private Map<String, Object> changes;
+
+    /**
+     * All fields before the change (null for CREATED, or when not known)
+     */
+    private Map<String, Object> previousState;
+
+    /**
+     * All fields after the change (null for DELETED)
+     */
+    private Map<String, Object> state;
+}
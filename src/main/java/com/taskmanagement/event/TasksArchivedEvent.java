@@ -0,0 +1,46 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application event published for each batch of tasks moved to the archive.
+ * The tasks leave the change log as DELETED tombstones but no task change events are
+ * published for them, so listeners that keep state about live tasks need this event instead.
+ */
+@Data
+@AllArgsConstructor
+public class TasksArchivedEvent {
+
+    private List<ArchivedTask> tasks;
+
+    /**
+     * Users the archived tasks were assigned to
+     */
+    private Set<Long> assigneeIds;
+
+    public List<Long> getTaskIds() {
+        return tasks.stream().map(ArchivedTask::getTaskId).toList();
+    }
+
+    /**
+     * A task as it was archived
+     */
+    @Data
+    @AllArgsConstructor
+    public static class ArchivedTask {
+
+        private Long taskId;
+        private Long projectId;
+        private Long version;
+
+        /**
+         * Status, priority, due date and assignee, named as in {@link TaskChangedEvent#getState()}
+         */
+        private Map<String, Object> state;
+    }
+}
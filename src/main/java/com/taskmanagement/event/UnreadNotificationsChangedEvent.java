@@ -0,0 +1,19 @@
+package com.taskmanagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event published when the number of unread notifications of a user changes
+ */
+@Data
+@AllArgsConstructor
+public class UnreadNotificationsChangedEvent {
+
+    private Long userId;
+
+    /**
+     * Change in the number of unread notifications (negative when notifications were read or deleted)
+     */
+    private long delta;
+}
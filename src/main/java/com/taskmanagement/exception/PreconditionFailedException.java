@@ -0,0 +1,12 @@
+package com.taskmanagement.exception;
+
+/**
+ * Exception thrown when a conditional write no longer matches the current version
+ * of the resource (If-Match)
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
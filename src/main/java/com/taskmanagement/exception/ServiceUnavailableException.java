@@ -0,0 +1,11 @@
+package com.taskmanagement.exception;
+
+/**
+ * Exception thrown when a request is shed because the server is at capacity
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
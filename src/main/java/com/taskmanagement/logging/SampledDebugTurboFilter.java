@@ -0,0 +1,70 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that lets a random 1-in-N sample of DEBUG/TRACE events from hot loggers
+ * through while their level is INFO or higher, so production keeps a trickle of detail from the
+ * request path without paying for every event.
+ *
+ * Turbo filters run before the event is created, so a rejected event costs a level comparison
+ * and a random draw. Loggers whose level already enables the event are left alone, as are
+ * {@code isDebugEnabled()} probes (which therefore stay false for sampled loggers).
+ *
+ * Configured in logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="com.taskmanagement.logging.SampledDebugTurboFilter"&gt;
+ *     &lt;loggers&gt;com.taskmanagement.service,com.taskmanagement.websocket&lt;/loggers&gt;
+ *     &lt;sampleRate&gt;100&lt;/sampleRate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SampledDebugTurboFilter extends TurboFilter {
+
+    private List<String> loggers = List.of();
+    private int sampleRate = 100;
+
+    /**
+     * @param loggers Comma separated logger name prefixes to sample
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    /**
+     * @param sampleRate One in this many events is logged; 0 or less disables sampling
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                              Object[] params, Throwable t) {
+        if (!isStarted() || format == null || sampleRate <= 0 || level.toInt() > Level.DEBUG_INT
+                || logger.getEffectiveLevel().toInt() <= level.toInt() || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,8 +2,13 @@ package com.taskmanagement.mapper;
 
 import com.taskmanagement.dto.ProjectDTO;
 import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.TaskStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Mapper for Project entity and DTO conversions
  */
@@ -29,4 +34,37 @@ public class ProjectMapper {
 
         return dto;
     }
+
+    /**
+     * Map a project together with its task counts (see {@link com.taskmanagement.service.TaskCountService})
+     * @param taskCounts Task count per status; statuses without tasks may be absent
+     */
+    public ProjectDTO toDTO(Project project, Map<TaskStatus, Long> taskCounts) {
+        ProjectDTO dto = toDTO(project);
+        if (dto == null) {
+            return null;
+        }
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, taskCounts.getOrDefault(status, 0L));
+        }
+        dto.setTaskCountsByStatus(byStatus);
+        dto.setTaskCount(byStatus.values().stream().mapToLong(Long::longValue).sum());
+
+        return dto;
+    }
+
+    /**
+     * Snapshot the client-visible fields of a project for delta computation
+     */
+    public Map<String, Object> toDeltaFields(Project project) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", project.getName());
+        fields.put("description", project.getDescription());
+        fields.put("status", project.getStatus() != null ? project.getStatus().name() : null);
+        fields.put("startDate", project.getStartDate());
+        fields.put("endDate", project.getEndDate());
+        return fields;
+    }
 }
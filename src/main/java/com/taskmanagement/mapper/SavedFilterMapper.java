@@ -0,0 +1,33 @@
+package com.taskmanagement.mapper;
+
+import com.taskmanagement.dto.SavedFilterDTO;
+import com.taskmanagement.entity.SavedFilter;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Mapper for SavedFilter entity and DTO conversions
+ */
+@Component
+public class SavedFilterMapper {
+
+    public SavedFilterDTO toDTO(SavedFilter filter) {
+        if (filter == null) {
+            return null;
+        }
+
+        SavedFilterDTO dto = new SavedFilterDTO();
+        dto.setId(filter.getId());
+        dto.setName(filter.getName());
+        dto.setProjectId(filter.getProjectId());
+        dto.setStatuses(Set.copyOf(filter.getStatuses()));
+        dto.setPriorities(Set.copyOf(filter.getPriorities()));
+        dto.setAssigneeId(filter.getAssigneeId());
+        dto.setUnassigned(filter.isUnassigned());
+        dto.setDueFrom(filter.getDueFrom());
+        dto.setDueTo(filter.getDueTo());
+        dto.setCreatedAt(filter.getCreatedAt());
+        return dto;
+    }
+}
@@ -4,6 +4,9 @@ import com.taskmanagement.dto.TaskDTO;
 import com.taskmanagement.entity.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Mapper for Task entity and DTO conversions
  */
@@ -37,4 +40,22 @@ public class TaskMapper {
 
         return dto;
     }
+
+    /**
+     * Snapshot the client-visible fields of a task for delta computation.
+     * Enums are stored by name so snapshots serialize the same way in every encoding.
+     */
+    public Map<String, Object> toDeltaFields(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("status", task.getStatus() != null ? task.getStatus().name() : null);
+        fields.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        fields.put("dueDate", task.getDueDate());
+        fields.put("assignedToId", task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
+        fields.put("estimatedHours", task.getEstimatedHours());
+        fields.put("actualHours", task.getActualHours());
+        fields.put("completedAt", task.getCompletedAt());
+        return fields;
+    }
 }
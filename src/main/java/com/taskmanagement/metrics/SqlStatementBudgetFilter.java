@@ -0,0 +1,114 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL Statement Budget Filter
+ * Counts the SQL statements each HTTP request executes and records them per endpoint as
+ * http.sql.statements (count) and http.sql.time (JDBC time). Requests over the statement
+ * budget are logged with any statement repeated often enough to look like an N+1 lazy load.
+ * With app.sql.budget.expose-header (dev and test) the numbers are also returned in the
+ * X-SQL-Statement-Count and X-SQL-Time-Ms response headers. The WebSocket/SockJS endpoint
+ * is not tracked.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql.budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${app.sql.budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Value("${app.sql.budget.expose-header:false}")
+    private boolean exposeHeader;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/ws/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        // Headers have to be set before the body is written, so the body is held back in dev
+        ContentCachingResponseWrapper cachingResponse = exposeHeader
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementStats.start();
+        SqlStatementStats stats;
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            stats = SqlStatementStats.stop();
+        }
+
+        record(request, stats);
+
+        if (cachingResponse != null) {
+            cachingResponse.setHeader(COUNT_HEADER, String.valueOf(stats.getCount()));
+            cachingResponse.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getNanos())));
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getCount() == 0) {
+            return;
+        }
+
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.sql.statements")
+                .description("SQL statements executed per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getCount());
+        Timer.builder("http.sql.time")
+                .description("JDBC execution time per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getCount() > maxStatements) {
+            log.warn("{} {} executed {} SQL statements in {} ms (budget {})", method, uri,
+                    stats.getCount(), TimeUnit.NANOSECONDS.toMillis(stats.getNanos()), maxStatements);
+            stats.getRepeatedStatements(repeatThreshold).forEach((sql, executions) ->
+                    log.warn("Possible N+1 on {} {}: {} executions of: {}", method, uri, executions, sql));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanagement.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL statements executed on the current thread while tracking is active
+ *
+ * Filled by {@link SqlStatementInspector} (statement text) and {@link SqlTimingSessionListener}
+ * (JDBC execution time). {@link SqlStatementBudgetFilter} tracks each HTTP request; tests can
+ * track any block of code. Nothing is recorded on threads that are not being tracked.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int count;
+    private long nanos;
+    private long executionStartedAt;
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * Start tracking statements on the current thread, replacing any tracking in progress
+     * @return The statistics being filled
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop tracking statements on the current thread
+     * @return The collected statistics, or null if the thread was not being tracked
+     */
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared(String sql) {
+        count++;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void executionFinished() {
+        if (executionStartedAt != 0) {
+            nanos += System.nanoTime() - executionStartedAt;
+            executionStartedAt = 0;
+        }
+    }
+
+    /**
+     * @return Number of statements prepared
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return Time spent executing statements, in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Statements prepared at least {@code threshold} times, the usual signature of an N+1 lazy load
+     * @param threshold Minimum number of executions
+     * @return SQL text to number of executions
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return executions.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
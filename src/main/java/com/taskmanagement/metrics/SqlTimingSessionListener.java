@@ -0,0 +1,37 @@
+package com.taskmanagement.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate session listener that adds JDBC execution time to the statistics of a tracked
+ * thread (see {@link SqlStatementStats})
+ * Instantiated by Hibernate for every session, hence the public no-arg constructor.
+ */
+public class SqlTimingSessionListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.executionStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.executionFinished();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
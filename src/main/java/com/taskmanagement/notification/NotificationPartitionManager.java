@@ -0,0 +1,232 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.event.NotificationsExpiredEvent;
+import com.taskmanagement.repository.NotificationRepository;
+import com.taskmanagement.scheduling.ClusterJobLock;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the notifications table partitioned by month of created_at and applies the
+ * retention period.
+ *
+ * On PostgreSQL the plain table created by Hibernate is converted once, at startup, into a
+ * table range-partitioned on created_at, with one partition per month (notifications_pYYYYMM)
+ * and a default partition that stays empty as long as months are created ahead. Every day
+ * the next {@code app.notifications.premake-months} months are created, and months older
+ * than {@code app.notifications.retention-months} are dropped whole instead of deleted row
+ * by row. Other databases (H2 in tests) keep the plain table and have expired rows deleted.
+ *
+ * Every transaction that converts the table or creates or drops partitions first takes a
+ * transaction-level advisory lock, so nodes starting or running maintenance together apply
+ * the changes one after the other, each seeing what the previous one did. The daily
+ * maintenance itself runs on one node.
+ *
+ * Notification queries are bounded below by {@link #getRetentionHorizon()}, so expired
+ * notifications disappear at the same moment whether or not the retention run has happened
+ * yet. The bound is for that consistency, not for partition pruning: once the expired
+ * months are dropped there is nothing left below it to skip.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPartitionManager {
+
+    static final String TABLE = "notifications";
+    static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('" + TABLE + "_partitions'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterJobLock clusterJobLock;
+
+    @Value("${app.notifications.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.notifications.premake-months:3}")
+    private int premakeMonths;
+
+    private boolean partitioned;
+
+    /**
+     * Partition the table on PostgreSQL, once the schema has been created or updated
+     */
+    @PostConstruct
+    public void init() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        partitioned = "PostgreSQL".equals(database);
+        if (!partitioned) {
+            log.info("Notifications are not partitioned on {}; expired rows are deleted", database);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // Checked under the lock: another node may have converted the table meanwhile
+            jdbcTemplate.execute(PARTITION_LOCK_SQL);
+            if (!isTablePartitioned()) {
+                convertTable();
+            }
+            createPartitions();
+        });
+    }
+
+    /**
+     * Create the partitions of the coming months and drop or delete expired notifications
+     */
+    @Scheduled(cron = "${app.notifications.partition-cron:0 15 0 * * *}")
+    public void maintain() {
+        clusterJobLock.runExclusively("notification-partitions", () -> {
+            if (partitioned) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute(PARTITION_LOCK_SQL);
+                    createPartitions();
+                });
+            }
+            applyRetention();
+        });
+    }
+
+    /**
+     * Remove every notification created before the retention horizon. Users who had unread
+     * notifications among them are reported, since counts loaded before the horizon moved
+     * still include those.
+     */
+    public void applyRetention() {
+        LocalDateTime horizon = getRetentionHorizon();
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> unreadUserIds = notificationRepository.findUserIdsWithUnreadBefore(horizon);
+
+            int dropped = 0;
+            if (partitioned) {
+                jdbcTemplate.execute(PARTITION_LOCK_SQL);
+                for (String partition : findPartitions()) {
+                    YearMonth month = monthOf(partition);
+                    if (month != null && !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(horizon)) {
+                        jdbcTemplate.execute("DROP TABLE " + partition);
+                        dropped++;
+                    }
+                }
+            }
+            // Rows left in the default partition, or the whole table when not partitioned
+            int deleted = notificationRepository.deleteCreatedBefore(horizon);
+
+            if (!unreadUserIds.isEmpty()) {
+                eventPublisher.publishEvent(new NotificationsExpiredEvent(unreadUserIds));
+            }
+            if (dropped > 0 || deleted > 0) {
+                log.info("Notification retention before {}: dropped {} partitions, deleted {} rows",
+                        horizon, dropped, deleted);
+            }
+        });
+    }
+
+    /**
+     * Creation time before which notifications have expired: the start of the month
+     * {@code app.notifications.retention-months} months before the current one
+     */
+    public LocalDateTime getRetentionHorizon() {
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static String createPartitionSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    /**
+     * Month of a monthly partition
+     * @return Month, or null for the default partition and unrelated tables
+     */
+    static YearMonth monthOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean isTablePartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass('" + TABLE + "')",
+                Integer.class);
+        return count != null && count > 0;
+    }
+
+    private List<String> findPartitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = to_regclass('" + TABLE + "')", String.class);
+    }
+
+    private void createPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            jdbcTemplate.execute(createPartitionSql(current.plusMonths(i)));
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+    }
+
+    /**
+     * Replace the plain table with a partitioned one holding the same rows. The primary key
+     * has to include the partition column, and the ID comes from a sequence of its own
+     * because the old identity sequence goes with the old table.
+     */
+    private void convertTable() {
+        log.info("Converting table {} to monthly partitions", TABLE);
+        String legacy = TABLE + "_unpartitioned";
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + TABLE + "_partitioned_id_seq");
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) "
+                + "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN id SET DEFAULT nextval('" + TABLE
+                + "_partitioned_id_seq')");
+        jdbcTemplate.execute("ALTER SEQUENCE " + TABLE + "_partitioned_id_seq OWNED BY " + TABLE + ".id");
+
+        // Partitions for the months already in use, then the rows
+        LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + legacy, LocalDateTime.class);
+        if (oldest != null) {
+            for (YearMonth month = YearMonth.from(oldest); month.isBefore(YearMonth.now()); month = month.plusMonths(1)) {
+                jdbcTemplate.execute(createPartitionSql(month));
+            }
+        }
+        createPartitions();
+        int copied = jdbcTemplate.update("INSERT INTO " + TABLE + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("SELECT setval('" + TABLE + "_partitioned_id_seq', COALESCE((SELECT MAX(id) FROM "
+                + TABLE + "), 0) + 1, false)");
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TABLE + "_pkey PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) "
+                + "REFERENCES users (id)");
+        jdbcTemplate.execute("CREATE INDEX idx_notifications_user_created ON " + TABLE + " (user_id, created_at)");
+        log.info("Moved {} notifications into monthly partitions", copied);
+    }
+}
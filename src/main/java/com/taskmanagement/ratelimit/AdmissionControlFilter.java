@@ -0,0 +1,206 @@
+package com.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.exception.ErrorResponse;
+import com.taskmanagement.security.JwtUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Admission Control Filter
+ * Rejects auth and write requests before they reach Spring Security, BCrypt or the database:
+ * - 503 when the node already has the maximum number of requests of the endpoint class in
+ *   flight (load shedding; login/signup are capped at the CPU count since BCrypt is CPU bound)
+ * - 429 when the caller's token bucket for the endpoint class is empty. Login and signup are
+ *   limited per client IP, and login also per username (read from the request body) so that
+ *   guessing one account's password from many addresses is throttled too; writes per user
+ *   (taken from a valid bearer token) or per IP.
+ * Both responses carry Retry-After. Rejections are counted as http.admission.rejected.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    /**
+     * Login bodies are a username and a password; anything longer is not parsed for the username
+     */
+    private static final int MAX_LOGIN_BODY_BYTES = 4096;
+
+    private final RateLimiter rateLimiter;
+    private final JwtUtils jwtUtils;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.auth.capacity:10}")
+    private long authCapacity;
+
+    @Value("${app.rate-limit.auth.refill-per-second:0.5}")
+    private double authRefillPerSecond;
+
+    @Value("${app.rate-limit.auth.max-concurrent:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int authMaxConcurrent;
+
+    @Value("${app.rate-limit.write.capacity:60}")
+    private long writeCapacity;
+
+    @Value("${app.rate-limit.write.refill-per-second:10}")
+    private double writeRefillPerSecond;
+
+    @Value("${app.rate-limit.write.max-concurrent:50}")
+    private int writeMaxConcurrent;
+
+    private final Map<EndpointClass, RateLimitPolicy> policies = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, ConcurrencyLimiter> concurrencyLimiters = new EnumMap<>(EndpointClass.class);
+
+    @PostConstruct
+    public void init() {
+        policies.put(EndpointClass.AUTH, new RateLimitPolicy(authCapacity, authRefillPerSecond));
+        policies.put(EndpointClass.WRITE, new RateLimitPolicy(writeCapacity, writeRefillPerSecond));
+        concurrencyLimiters.put(EndpointClass.AUTH, new ConcurrencyLimiter(authMaxConcurrent));
+        concurrencyLimiters.put(EndpointClass.WRITE, new ConcurrencyLimiter(writeMaxConcurrent));
+
+        concurrencyLimiters.forEach((endpointClass, limiter) ->
+                Gauge.builder("http.admission.in.flight", limiter, ConcurrencyLimiter::getInFlight)
+                        .description("Admission-controlled requests in flight")
+                        .tag("class", tagOf(endpointClass))
+                        .register(meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || EndpointClass.of(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+
+        // Shed first: a shed request should not spend a token or a Redis round trip
+        ConcurrencyLimiter concurrencyLimiter = concurrencyLimiters.get(endpointClass);
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(request, response, endpointClass, HttpStatus.SERVICE_UNAVAILABLE, 1000,
+                    "Server is busy, please retry shortly");
+            return;
+        }
+
+        try {
+            String key = tagOf(endpointClass) + ":" + clientKey(request, endpointClass);
+            RateLimitResult result = rateLimiter.tryConsume(key, policies.get(endpointClass));
+            if (result.isAllowed() && isLogin(request)) {
+                PrefetchedBodyRequest prefetched = new PrefetchedBodyRequest(request, MAX_LOGIN_BODY_BYTES);
+                request = prefetched;
+                String username = loginUsername(prefetched.getPrefetched());
+                if (username != null) {
+                    key = tagOf(endpointClass) + ":login:" + username;
+                    RateLimitResult userResult = rateLimiter.tryConsume(key, policies.get(endpointClass));
+                    if (!userResult.isAllowed() || userResult.getRemaining() < result.getRemaining()) {
+                        result = userResult;
+                    }
+                }
+            }
+            if (!result.isAllowed()) {
+                log.debug("Rate limit exceeded for {}", key);
+                reject(request, response, endpointClass, HttpStatus.TOO_MANY_REQUESTS,
+                        result.getRetryAfterMillis(), "Too many requests, please retry later");
+                return;
+            }
+            response.setHeader(REMAINING_HEADER, String.valueOf(result.getRemaining()));
+
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+
+    /**
+     * Identify the caller: the user of a valid bearer token for writes, otherwise the client IP
+     * (as resolved by the container, so behind a proxy set server.forward-headers-strategy)
+     */
+    private String clientKey(HttpServletRequest request, EndpointClass endpointClass) {
+        if (endpointClass == EndpointClass.WRITE) {
+            String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
+                String jwt = header.substring(7);
+                if (jwtUtils.validateJwtToken(jwt)) {
+                    return "user:" + jwtUtils.getUsernameFromJwtToken(jwt);
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isLogin(HttpServletRequest request) {
+        return request.getRequestURI().endsWith("/login");
+    }
+
+    /**
+     * Read the username of a login request body, normalized the way bucket keys compare
+     * @param body JSON login request, possibly truncated
+     * @return Trimmed, lower-case username, or null if the body has none
+     */
+    private String loginUsername(byte[] body) {
+        try {
+            String username = objectMapper.readTree(body).path("username").asText("").trim();
+            return username.isEmpty() ? null : username.toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // Malformed or oversized body: the IP bucket still applies and validation rejects it
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, EndpointClass endpointClass,
+                        HttpStatus status, long retryAfterMillis, String message) throws IOException {
+        Counter.builder("http.admission.rejected")
+                .description("Requests rejected by rate limiting (429) or load shedding (503)")
+                .tag("class", tagOf(endpointClass))
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), status.getReasonPhrase(),
+                message, request.getRequestURI());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static String tagOf(EndpointClass endpointClass) {
+        return endpointClass.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanagement.ratelimit;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of requests of one endpoint class in flight on this node.
+ * Acquisition never waits: a request that finds no free permit is shed immediately rather
+ * than queued behind work the node is already struggling to finish.
+ */
+public class ConcurrencyLimiter {
+
+    private final int limit;
+    private final Semaphore permits;
+
+    public ConcurrencyLimiter(int limit) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    /**
+     * Take a permit if one is free
+     * @return true if the request may proceed (it must then call {@link #release()})
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return limit - permits.availablePermits();
+    }
+}
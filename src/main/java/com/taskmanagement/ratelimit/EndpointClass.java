@@ -0,0 +1,42 @@
+package com.taskmanagement.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Groups of endpoints that share a rate limit and a concurrency limit
+ */
+public enum EndpointClass {
+
+    /**
+     * Login and signup: unauthenticated and CPU bound (BCrypt)
+     */
+    AUTH,
+
+    /**
+     * Mutating API calls (POST, PUT, PATCH, DELETE), each of which writes to the database
+     */
+    WRITE;
+
+    private static final String API_PREFIX = "/api/";
+    private static final String AUTH_PREFIX = "/api/auth/";
+
+    /**
+     * Classify a request
+     * @param request HTTP request
+     * @return Endpoint class, or null if the request is not subject to admission control
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.startsWith(AUTH_PREFIX)) {
+            return "POST".equals(method) && (path.endsWith("/login") || path.endsWith("/signup")) ? AUTH : null;
+        }
+        if (path.startsWith(API_PREFIX)) {
+            return switch (method) {
+                case "POST", "PUT", "PATCH", "DELETE" -> WRITE;
+                default -> null;
+            };
+        }
+        return null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets held in memory: limits apply per node.
+ * Buckets refill lazily when touched. Every few thousand calls, buckets that have been idle
+ * long enough to be full again are dropped, so one-off keys (e.g. scanning IPs) do not
+ * accumulate.
+ */
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private static final int SWEEP_INTERVAL = 4096;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        if (calls.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sweep(now);
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(policy, now)).tryConsume(policy, now);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    void sweep(long now) {
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+        private long idleAfterNanos;
+
+        Bucket(RateLimitPolicy policy, long now) {
+            this.tokens = policy.getCapacity();
+            this.refilledAt = now;
+        }
+
+        synchronized RateLimitResult tryConsume(RateLimitPolicy policy, long now) {
+            tokens = Math.min(policy.getCapacity(), tokens + (now - refilledAt) / 1e9 * policy.getRefillPerSecond());
+            refilledAt = now;
+            idleAfterNanos = policy.getFullRefillMillis() * 1_000_000;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new RateLimitResult(true, (long) tokens, 0);
+            }
+            long retryAfterMillis = (long) Math.ceil((1 - tokens) * 1000 / policy.getRefillPerSecond());
+            return new RateLimitResult(false, 0, retryAfterMillis);
+        }
+
+        synchronized boolean isIdle(long now) {
+            return now - refilledAt > idleAfterNanos;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskmanagement.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request whose body has been partly read ahead by a filter. The prefetched bytes are replayed
+ * before the rest of the original stream, so the body reaches the controller unchanged.
+ */
+class PrefetchedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] prefetched;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    /**
+     * Read up to {@code maxBytes} of the request body ahead
+     * @param request HTTP request
+     * @param maxBytes Maximum number of bytes to read ahead
+     */
+    PrefetchedBodyRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+        this.prefetched = request.getInputStream().readNBytes(maxBytes);
+    }
+
+    /**
+     * Get the bytes read ahead
+     * @return The whole body, or its first {@code maxBytes} bytes if it is longer
+     */
+    byte[] getPrefetched() {
+        return prefetched;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (reader != null) {
+            throw new IllegalStateException("getReader() has already been called for this request");
+        }
+        if (inputStream == null) {
+            inputStream = new ReplayInputStream(
+                    new SequenceInputStream(new ByteArrayInputStream(prefetched), super.getInputStream()));
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (inputStream != null) {
+            throw new IllegalStateException("getInputStream() has already been called for this request");
+        }
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(
+                    new SequenceInputStream(new ByteArrayInputStream(prefetched), super.getInputStream()), charset));
+        }
+        return reader;
+    }
+
+    private static class ReplayInputStream extends ServletInputStream {
+
+        private final InputStream delegate;
+        private boolean finished;
+
+        ReplayInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = delegate.read(buffer, offset, length);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking reads are not supported");
+        }
+    }
+}
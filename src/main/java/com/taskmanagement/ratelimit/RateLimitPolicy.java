@@ -0,0 +1,24 @@
+package com.taskmanagement.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Token bucket parameters: a bucket holds up to capacity tokens (the allowed burst) and
+ * regains refillPerSecond tokens per second (the sustained rate); each request takes one
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitPolicy {
+
+    private final long capacity;
+    private final double refillPerSecond;
+
+    /**
+     * Time for an empty bucket to fill up again, after which its state can be forgotten
+     * @return Refill time in milliseconds
+     */
+    public long getFullRefillMillis() {
+        return (long) Math.ceil(capacity * 1000 / refillPerSecond);
+    }
+}
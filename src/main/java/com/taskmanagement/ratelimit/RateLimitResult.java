@@ -0,0 +1,24 @@
+package com.taskmanagement.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of taking a token from a bucket
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitResult {
+
+    private final boolean allowed;
+
+    /**
+     * Whole tokens left in the bucket
+     */
+    private final long remaining;
+
+    /**
+     * Time until a token is available again (0 when allowed)
+     */
+    private final long retryAfterMillis;
+}
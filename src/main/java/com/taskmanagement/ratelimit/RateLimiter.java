@@ -0,0 +1,15 @@
+package com.taskmanagement.ratelimit;
+
+/**
+ * Token bucket rate limiter keyed by an arbitrary string (user, IP, endpoint class)
+ */
+public interface RateLimiter {
+
+    /**
+     * Take one token from the bucket for a key, creating a full bucket on first use
+     * @param key Bucket key
+     * @param policy Capacity and refill rate of the bucket
+     * @return Whether the request is allowed, and when to retry if not
+     */
+    RateLimitResult tryConsume(String key, RateLimitPolicy policy);
+}
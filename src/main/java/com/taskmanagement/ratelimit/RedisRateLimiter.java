@@ -0,0 +1,74 @@
+package com.taskmanagement.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Token buckets held in Redis: limits apply across all nodes.
+ * Each check is one atomic Lua script call that refills, takes a token and stores the bucket
+ * as a hash that expires once it would be full again. The Redis server clock is used so node
+ * clock skew does not matter. If Redis is unavailable the check falls back to per-node
+ * buckets rather than rejecting or waving through all traffic.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // KEYS[1] bucket; ARGV[1] capacity, ARGV[2] tokens per second, ARGV[3] expiry in ms
+    // Returns {allowed (0/1), whole tokens remaining, retry after ms}
+    private static final RedisScript<List> TOKEN_BUCKET = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return {allowed, math.floor(tokens), retry}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimitPolicy policy) {
+        try {
+            List<?> reply = redisTemplate.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + key),
+                    String.valueOf(policy.getCapacity()),
+                    String.valueOf(policy.getRefillPerSecond()),
+                    String.valueOf(policy.getFullRefillMillis() + 1000));
+            if (reply != null && reply.size() == 3) {
+                return new RateLimitResult(toLong(reply.get(0)) == 1, toLong(reply.get(1)), toLong(reply.get(2)));
+            }
+            log.warn("Unexpected rate limit script reply for {}: {}", key, reply);
+        } catch (Exception e) {
+            log.warn("Redis rate limit check failed, using local buckets: {}", e.getMessage());
+        }
+        return fallback.tryConsume(key, policy);
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+}
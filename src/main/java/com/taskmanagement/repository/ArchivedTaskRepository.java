@@ -0,0 +1,99 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.repository.projection.TaskVersionView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository interface for ArchivedTask entity
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Find an archived task with project, creator and assignee initialized
+     * @param id the task ID
+     * @return Archived task if found
+     */
+    @EntityGraph(attributePaths = {"project", "createdBy", "assignedTo"})
+    Optional<ArchivedTask> findWithAssociationsById(Long id);
+
+    /**
+     * Find the version of an archived task and of its project
+     * @param id the task ID
+     * @return Task and project versions if the task is archived
+     */
+    @Query("SELECT a.id AS id, a.version AS version, a.updatedAt AS updatedAt, " +
+            "p.version AS projectVersion, p.updatedAt AS projectUpdatedAt " +
+            "FROM ArchivedTask a JOIN a.project p WHERE a.id = :id")
+    Optional<TaskVersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * Copy tasks into the archive with a single INSERT ... SELECT
+     * @param ids the task IDs
+     * @param archivedAt the archival time
+     * @return Number of rows copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks (id, title, description, status, priority, project_id, created_by, " +
+            "assigned_to, due_date, estimated_hours, actual_hours, created_at, updated_at, version, completed_at, " +
+            "archived_at) " +
+            "SELECT id, title, description, status, priority, project_id, created_by, assigned_to, due_date, " +
+            "estimated_hours, actual_hours, created_at, updated_at, version, completed_at, :archivedAt " +
+            "FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Find archived tasks whose title or description contains a text, newest first
+     * @param text lower-case LIKE pattern
+     * @param pageable page size
+     * @return List of archived tasks with associations initialized
+     */
+    @Query("SELECT a FROM ArchivedTask a JOIN FETCH a.project JOIN FETCH a.createdBy LEFT JOIN FETCH a.assignedTo " +
+            "WHERE LOWER(a.title) LIKE :text ESCAPE '\\' OR LOWER(a.description) LIKE :text ESCAPE '\\' " +
+            "ORDER BY a.id DESC")
+    List<ArchivedTask> findByText(@Param("text") String text, Pageable pageable);
+
+    /**
+     * Find archived tasks of some projects whose title or description contains a text, newest first
+     * @param text lower-case LIKE pattern
+     * @param projectIds the project IDs
+     * @param pageable page size
+     * @return List of archived tasks with associations initialized
+     */
+    @Query("SELECT a FROM ArchivedTask a JOIN FETCH a.project JOIN FETCH a.createdBy LEFT JOIN FETCH a.assignedTo " +
+            "WHERE a.project.id IN :projectIds " +
+            "AND (LOWER(a.title) LIKE :text ESCAPE '\\' OR LOWER(a.description) LIKE :text ESCAPE '\\') " +
+            "ORDER BY a.id DESC")
+    List<ArchivedTask> findByTextInProjects(@Param("text") String text,
+                                            @Param("projectIds") Collection<Long> projectIds,
+                                            Pageable pageable);
+
+    /**
+     * Delete archive copies of tasks that are still live, because they changed while being archived
+     * @param ids the task IDs
+     * @return Number of copies deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.id IN :ids AND EXISTS (SELECT t.id FROM Task t WHERE t.id = a.id)")
+    int deleteStaleCopiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.id IN :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -10,7 +10,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Repository interface for Notification entity
@@ -71,4 +73,58 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * @param isRead read status
      */
     void deleteByUserAndIsRead(User user, Boolean isRead);
+
+    /**
+     * Count unread notifications for a user by ID, without loading the user
+     * @param userId the user ID
+     * @return number of unread notifications
+     */
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    /**
+     * Find the notifications of a user created since a time, newest first
+     * @param user the user
+     * @param since the earliest creation time
+     * @param pageable pagination information
+     * @return Page of notifications for the user
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.createdAt >= :since ORDER BY n.createdAt DESC")
+    Page<Notification> findByUserSince(@Param("user") User user, @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    /**
+     * Find the unread notifications of a user created since a time
+     * @param user the user
+     * @param since the earliest creation time
+     * @return List of unread notifications
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.isRead = false AND n.createdAt >= :since")
+    List<Notification> findUnreadByUserSince(@Param("user") User user, @Param("since") LocalDateTime since);
+
+    /**
+     * Count the unread notifications of a user by ID created since a time, without loading the user
+     * @param userId the user ID
+     * @param since the earliest creation time
+     * @return number of unread notifications
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false " +
+            "AND n.createdAt >= :since")
+    long countUnreadByUserIdSince(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+    /**
+     * Find the users with unread notifications created before a time
+     * @param before the creation time bound (exclusive)
+     * @return User IDs
+     */
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.isRead = false AND n.createdAt < :before")
+    Set<Long> findUserIdsWithUnreadBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Delete the notifications created before a time
+     * @param before the creation time bound (exclusive)
+     * @return number of notifications deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
 }
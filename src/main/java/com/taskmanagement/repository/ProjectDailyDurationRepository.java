@@ -0,0 +1,28 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ProjectDailyDuration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for ProjectDailyDuration entity
+ */
+@Repository
+public interface ProjectDailyDurationRepository extends JpaRepository<ProjectDailyDuration, Long> {
+
+    List<ProjectDailyDuration> findByProjectIdAndDayBetween(Long projectId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailyDuration d WHERE d.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailyDuration d WHERE d.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
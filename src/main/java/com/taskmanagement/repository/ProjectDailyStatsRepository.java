@@ -0,0 +1,46 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ProjectDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for ProjectDailyStats entity
+ */
+@Repository
+public interface ProjectDailyStatsRepository extends JpaRepository<ProjectDailyStats, Long> {
+
+    /**
+     * Find the last day that has been rolled up
+     * @return Latest rolled-up day, or null if nothing has been rolled up yet
+     */
+    @Query("SELECT MAX(s.day) FROM ProjectDailyStats s")
+    LocalDate findLatestDay();
+
+    List<ProjectDailyStats> findByProjectIdAndDayBetween(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Sum the change in the number of open tasks of a project over a range of rolled-up days
+     * @param projectId the project ID
+     * @param from the first day (inclusive)
+     * @param to the last day (inclusive)
+     * @return Open tasks added minus open tasks removed
+     */
+    @Query("SELECT COALESCE(SUM(s.openDelta), 0) FROM ProjectDailyStats s " +
+            "WHERE s.projectId = :projectId AND s.day >= :from AND s.day <= :to")
+    long sumOpenDelta(@Param("projectId") Long projectId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailyStats s WHERE s.day = :day")
+    int deleteByDay(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailyStats s WHERE s.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -3,12 +3,17 @@ package com.taskmanagement.repository;
 import com.taskmanagement.entity.Project;
 import com.taskmanagement.entity.ProjectStatus;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.projection.VersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Project entity
@@ -16,6 +21,15 @@ import java.util.List;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    /**
+     * Find a page of projects with their owners in the same query
+     * @param pageable pagination information
+     * @return Page of projects
+     */
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    Page<Project> findAll(Pageable pageable);
+
     /**
      * Find all projects by owner
      * @param owner the project owner
@@ -30,6 +44,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @param pageable pagination information
      * @return Page of projects with the given status
      */
+    @EntityGraph(attributePaths = "owner")
     Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
 
     /**
@@ -47,4 +62,52 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      * @return List of projects owned by the user
      */
     List<Project> findByOwner(User owner);
+
+    /**
+     * Find the version of a project without loading the entity
+     * @param id the project ID
+     * @return Optional containing the version and update time if the project exists
+     */
+    @Query("SELECT p.version AS version, p.updatedAt AS lastModified FROM Project p WHERE p.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * Find the aggregate version of all projects
+     * @return Project count and newest update time
+     */
+    @Query("SELECT COUNT(p) AS version, MAX(p.updatedAt) AS lastModified FROM Project p")
+    VersionView findCollectionVersion();
+
+    /**
+     * Find the aggregate version of the projects owned by a user
+     * @param ownerId the owner ID
+     * @return Project count and newest update time
+     */
+    @Query("SELECT COUNT(p) AS version, MAX(p.updatedAt) AS lastModified FROM Project p WHERE p.owner.id = :ownerId")
+    VersionView findCollectionVersionByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Find the aggregate version of the projects with a status
+     * @param status the project status
+     * @return Project count and newest update time
+     */
+    @Query("SELECT COUNT(p) AS version, MAX(p.updatedAt) AS lastModified FROM Project p WHERE p.status = :status")
+    VersionView findCollectionVersionByStatus(@Param("status") ProjectStatus status);
+
+    /**
+     * Find the IDs of the projects a user is a member of: projects the user owns, or in which
+     * the user created a task or is assigned one
+     * @param userId the user ID
+     * @return Project IDs
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.owner.id = :userId OR EXISTS (SELECT t.id FROM Task t " +
+            "WHERE t.project = p AND (t.createdBy.id = :userId OR t.assignedTo.id = :userId))")
+    List<Long> findMemberProjectIds(@Param("userId") Long userId);
+
+    /**
+     * Count the projects owned by a user
+     * @param ownerId the owner's user ID
+     * @return number of owned projects
+     */
+    long countByOwnerId(Long ownerId);
 }
@@ -0,0 +1,37 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.SavedFilter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for SavedFilter entity
+ */
+@Repository
+public interface SavedFilterRepository extends JpaRepository<SavedFilter, Long> {
+
+    /**
+     * Find the filters saved by a user
+     * @param ownerId the user ID
+     * @return List of the user's filters, oldest first
+     */
+    List<SavedFilter> findByOwnerIdOrderByIdAsc(Long ownerId);
+
+    /**
+     * Count the filters saved by a user
+     * @param ownerId the user ID
+     * @return Number of the user's filters
+     */
+    long countByOwnerId(Long ownerId);
+
+    /**
+     * Find a filter saved by a user
+     * @param id the filter ID
+     * @param ownerId the user ID
+     * @return Optional containing the filter if it exists and belongs to the user
+     */
+    Optional<SavedFilter> findByIdAndOwnerId(Long id, Long ownerId);
+}
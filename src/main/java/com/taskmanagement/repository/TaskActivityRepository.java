@@ -0,0 +1,66 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskActivity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for TaskActivity entity. Entries are inserted by
+ * TaskActivityWriter; this repository only reads them.
+ *
+ * History is ordered by occurrence, then ID. A cursor is the ID of the last entry of the
+ * previous page; the entries before it are those that occurred earlier, or at the same time
+ * with a lower ID.
+ */
+@Repository
+public interface TaskActivityRepository extends JpaRepository<TaskActivity, Long> {
+
+    /**
+     * Find the latest activity of a task
+     * @param taskId the task ID
+     * @param pageable page size
+     * @return List of activity entries, newest first
+     */
+    List<TaskActivity> findByTaskIdOrderByOccurredAtDescIdDesc(Long taskId, Pageable pageable);
+
+    /**
+     * Find the activity of a task before a cursor, newest first
+     * @param taskId the task ID
+     * @param before the cursor (exclusive)
+     * @param pageable page size
+     * @return List of activity entries, newest first
+     */
+    @Query("SELECT a FROM TaskActivity a WHERE a.taskId = :taskId " +
+            "AND (a.occurredAt < (SELECT c.occurredAt FROM TaskActivity c WHERE c.id = :before) " +
+            "OR a.occurredAt = (SELECT c.occurredAt FROM TaskActivity c WHERE c.id = :before) AND a.id < :before) " +
+            "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<TaskActivity> findTaskActivityBefore(@Param("taskId") Long taskId, @Param("before") Long before,
+                                              Pageable pageable);
+
+    /**
+     * Find the latest activity of all tasks of a project
+     * @param projectId the project ID
+     * @param pageable page size
+     * @return List of activity entries, newest first
+     */
+    List<TaskActivity> findByProjectIdOrderByOccurredAtDescIdDesc(Long projectId, Pageable pageable);
+
+    /**
+     * Find the activity of all tasks of a project before a cursor, newest first
+     * @param projectId the project ID
+     * @param before the cursor (exclusive)
+     * @param pageable page size
+     * @return List of activity entries, newest first
+     */
+    @Query("SELECT a FROM TaskActivity a WHERE a.projectId = :projectId " +
+            "AND (a.occurredAt < (SELECT c.occurredAt FROM TaskActivity c WHERE c.id = :before) " +
+            "OR a.occurredAt = (SELECT c.occurredAt FROM TaskActivity c WHERE c.id = :before) AND a.id < :before) " +
+            "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<TaskActivity> findProjectActivityBefore(@Param("projectId") Long projectId, @Param("before") Long before,
+                                                 Pageable pageable);
+}
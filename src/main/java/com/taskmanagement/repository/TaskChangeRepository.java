@@ -0,0 +1,79 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskChange;
+import com.taskmanagement.repository.projection.VersionView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for TaskChange entity
+ */
+@Repository
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    /**
+     * Find change log entries after a cursor, regardless of visibility
+     * @param since the cursor (exclusive)
+     * @param pageable pagination information
+     * @return List of change log entries in ID order
+     */
+    List<TaskChange> findByIdGreaterThanOrderByIdAsc(Long since, Pageable pageable);
+
+    /**
+     * Find change log entries in a cursor range that are visible to a user.
+     * A change is visible if the user created the task, is or was its assignee,
+     * or owns the project the task belongs to.
+     * @param since the cursor (exclusive)
+     * @param until the upper bound (inclusive)
+     * @param userId the user ID
+     * @param pageable pagination information
+     * @return List of visible change log entries in ID order
+     */
+    @Query("SELECT c FROM TaskChange c WHERE c.id > :since AND c.id <= :until " +
+            "AND (c.createdById = :userId OR c.assignedToId = :userId OR c.previousAssignedToId = :userId " +
+            "OR c.projectId IN (SELECT p.id FROM Project p WHERE p.owner.id = :userId)) " +
+            "ORDER BY c.id ASC")
+    List<TaskChange> findVisibleChanges(@Param("since") Long since,
+                                        @Param("until") Long until,
+                                        @Param("userId") Long userId,
+                                        Pageable pageable);
+
+    /**
+     * Find the latest change to any task
+     * @return Highest change ID and newest change time
+     */
+    @Query("SELECT MAX(c.id) AS version, MAX(c.changedAt) AS lastModified FROM TaskChange c")
+    VersionView findLatestVersion();
+
+    /**
+     * Find the latest change to the tasks of a project
+     * @param projectId the project ID
+     * @return Highest change ID and newest change time
+     */
+    @Query("SELECT MAX(c.id) AS version, MAX(c.changedAt) AS lastModified FROM TaskChange c " +
+            "WHERE c.projectId = :projectId")
+    VersionView findLatestVersionByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find the latest change to the tasks a user is or was assigned to
+     * @param userId the user ID
+     * @return Highest change ID and newest change time
+     */
+    @Query("SELECT MAX(c.id) AS version, MAX(c.changedAt) AS lastModified FROM TaskChange c " +
+            "WHERE c.assignedToId = :userId OR c.previousAssignedToId = :userId")
+    VersionView findLatestVersionByAssigneeId(@Param("userId") Long userId);
+
+    /**
+     * Find the latest change to the tasks created by a user
+     * @param userId the user ID
+     * @return Highest change ID and newest change time
+     */
+    @Query("SELECT MAX(c.id) AS version, MAX(c.changedAt) AS lastModified FROM TaskChange c " +
+            "WHERE c.createdById = :userId")
+    VersionView findLatestVersionByCreatedById(@Param("userId") Long userId);
+}
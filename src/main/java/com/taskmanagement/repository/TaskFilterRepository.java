@@ -0,0 +1,20 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.filter.TaskFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Custom repository fragment for filtering tasks by any combination of criteria
+ */
+public interface TaskFilterRepository {
+
+    /**
+     * Find the tasks matching a filter, with project, creator and assignee initialized
+     * @param filter the filter criteria
+     * @param pageable pagination information
+     * @return Page of matching tasks
+     */
+    Page<Task> findByFilter(TaskFilter filter, Pageable pageable);
+}
@@ -0,0 +1,89 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.filter.TaskFilter;
+import com.taskmanagement.repository.filter.TaskFilterQuery;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of {@link TaskFilterRepository} using JPQL compiled by {@link TaskFilterQuery}
+ */
+public class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+    private static final String FETCH_GRAPH = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Task> findByFilter(TaskFilter filter, Pageable pageable) {
+        TaskFilterQuery query = TaskFilterQuery.of(filter, pageable.getSort());
+        if (filter.isIncludeArchived()) {
+            return findIncludingArchived(query, pageable);
+        }
+
+        TypedQuery<Task> select = select(query, Task.class);
+        if (pageable.isPaged()) {
+            select.setFirstResult((int) pageable.getOffset());
+            select.setMaxResults(pageable.getPageSize());
+        }
+        List<Task> tasks = select.getResultList();
+
+        // The count is skipped when the page itself shows the total
+        return PageableExecutionUtils.getPage(tasks, pageable, () -> count(query, Task.class));
+    }
+
+    /**
+     * Both tables are read up to the end of the page and merged in the query's order, so the
+     * cost grows with the page offset; the service caps how deep such pages may go
+     */
+    private Page<Task> findIncludingArchived(TaskFilterQuery query, Pageable pageable) {
+        TypedQuery<Task> select = select(query, Task.class);
+        TypedQuery<ArchivedTask> selectArchived = select(query, ArchivedTask.class);
+        if (pageable.isPaged()) {
+            int window = (int) pageable.getOffset() + pageable.getPageSize();
+            select.setMaxResults(window);
+            selectArchived.setMaxResults(window);
+        }
+
+        List<Task> merged = new ArrayList<>(select.getResultList());
+        selectArchived.getResultList().forEach(archived -> merged.add(archived.toTask()));
+        merged.sort(TaskFilterQuery.comparator(pageable.getSort()));
+
+        List<Task> tasks = merged;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), merged.size());
+            tasks = merged.subList(from, Math.min(from + pageable.getPageSize(), merged.size()));
+        }
+        return PageableExecutionUtils.getPage(tasks, pageable,
+                () -> count(query, Task.class) + count(query, ArchivedTask.class));
+    }
+
+    private <T> TypedQuery<T> select(TaskFilterQuery query, Class<T> entity) {
+        // A fetch graph joins the associations the DTO needs and leaves everything else
+        // (such as the eagerly mapped user roles) unloaded, as @EntityGraph does elsewhere
+        EntityGraph<T> graph = entityManager.createEntityGraph(entity);
+        graph.addAttributeNodes("project", "createdBy", "assignedTo");
+
+        TypedQuery<T> select = entityManager.createQuery(query.getSelectQuery(entity.getSimpleName()), entity);
+        select.setHint(FETCH_GRAPH, graph);
+        query.getParameters().forEach(select::setParameter);
+        return select;
+    }
+
+    private long count(TaskFilterQuery query, Class<?> entity) {
+        TypedQuery<Long> count = entityManager.createQuery(query.getCountQuery(entity.getSimpleName()), Long.class);
+        query.getParameters().forEach(count::setParameter);
+        return count.getSingleResult();
+    }
+}
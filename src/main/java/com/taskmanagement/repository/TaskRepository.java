@@ -4,21 +4,50 @@ import com.taskmanagement.entity.Project;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.projection.ArchivableTaskView;
+import com.taskmanagement.repository.projection.AssignedTaskCountView;
+import com.taskmanagement.repository.projection.ProjectTaskCountView;
+import com.taskmanagement.repository.projection.TaskBoardCardView;
+import com.taskmanagement.repository.projection.TaskSearchView;
+import com.taskmanagement.repository.projection.TaskVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Task entity
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository {
+
+    /**
+     * Priority as a number for board ordering (CRITICAL highest)
+     */
+    String PRIORITY_RANK = "CASE t.priority WHEN com.taskmanagement.entity.TaskPriority.CRITICAL THEN 4 " +
+            "WHEN com.taskmanagement.entity.TaskPriority.HIGH THEN 3 " +
+            "WHEN com.taskmanagement.entity.TaskPriority.MEDIUM THEN 2 ELSE 1 END";
+
+    /**
+     * Board card order within a column: priority (highest first), due date (none last), ID.
+     * Missing due dates are ordered explicitly; NULLS LAST is not rendered inside window functions.
+     */
+    String BOARD_ORDER = PRIORITY_RANK + " DESC, CASE WHEN t.dueDate IS NULL THEN 1 ELSE 0 END, t.dueDate, t.id";
+
+    /**
+     * Board card columns, for queries over Task t LEFT JOIN t.assignedTo a
+     */
+    String BOARD_CARD_COLUMNS = "t.id AS id, t.title AS title, t.status AS status, t.priority AS priority, " +
+            PRIORITY_RANK + " AS priorityRank, t.dueDate AS dueDate, a.id AS assignedToId, " +
+            "a.fullName AS assignedToName, t.version AS version";
 
     /**
      * Find all tasks in a project
@@ -85,6 +114,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     long countByProjectAndStatus(Project project, TaskStatus status);
 
+    /**
+     * Count the tasks of a project in any of a set of statuses
+     * @param projectId the project ID
+     * @param statuses the task statuses
+     * @return number of tasks matching the criteria
+     */
+    long countByProjectIdAndStatusIn(Long projectId, Collection<TaskStatus> statuses);
+
     /**
      * Find tasks due before a certain date
      * @param dueDate the due date
@@ -93,4 +130,166 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE t.dueDate < :dueDate AND t.status = :status")
     List<Task> findTasksDueBefore(@Param("dueDate") LocalDateTime dueDate, @Param("status") TaskStatus status);
+
+    /**
+     * Find tasks by IDs with project, creator and assignee fetched in the same query
+     * @param ids the task IDs
+     * @return List of tasks with associations initialized
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.project JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignedTo " +
+            "WHERE t.id IN :ids")
+    List<Task> findWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the version columns of a task without loading the entity
+     * @param id the task ID
+     * @return Optional containing the task version if found
+     */
+    @Query("SELECT t.id AS id, t.version AS version, t.updatedAt AS updatedAt, " +
+            "p.version AS projectVersion, p.updatedAt AS projectUpdatedAt " +
+            "FROM Task t JOIN t.project p WHERE t.id = :id")
+    Optional<TaskVersionView> findVersionById(@Param("id") Long id);
+
+    /**
+     * Set the status of a task with a single-column UPDATE that bumps its version,
+     * without rewriting (or version-checking) the rest of the row
+     * @param id the task ID
+     * @param status the new status
+     * @param updatedAt the modification time
+     * @param completedAt the completion time when the new status is COMPLETED, otherwise null.
+     *                    A task that is already completed keeps its original completion time.
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1, " +
+            "t.completedAt = CASE WHEN :completedAt IS NULL THEN NULL " +
+            "WHEN t.status = com.taskmanagement.entity.TaskStatus.COMPLETED " +
+            "THEN COALESCE(t.completedAt, :completedAt) ELSE :completedAt END " +
+            "WHERE t.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") TaskStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt,
+                     @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Set the assignee of a task with a targeted UPDATE that bumps its version.
+     * A TODO task moves to IN_PROGRESS in the same statement.
+     * @param id the task ID
+     * @param assignee the new assignee
+     * @param updatedAt the modification time
+     * @return Number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignedTo = :assignee, " +
+            "t.status = CASE WHEN t.status = com.taskmanagement.entity.TaskStatus.TODO " +
+            "THEN com.taskmanagement.entity.TaskStatus.IN_PROGRESS ELSE t.status END, " +
+            "t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id = :id")
+    int updateAssignee(@Param("id") Long id, @Param("assignee") User assignee,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Count the tasks of several projects per status in one grouped query, without loading task rows
+     * @param projectIds the project IDs
+     * @return One row per project and status that has tasks
+     */
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.project.id IN :projectIds GROUP BY t.project.id, t.status")
+    List<ProjectTaskCountView> countByProjectIdsGroupByStatus(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * Get the searchable text of the tasks after an ID, in ID order, without loading entities
+     * @param afterId the last task ID already read (0 to start)
+     * @param pageable the page size
+     * @return Up to one page of task text
+     */
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.version AS version, t.title AS title, " +
+            "t.description AS description FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchView> findSearchViewsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Get the searchable text of a task without loading the entity
+     * @param id the task ID
+     * @return Optional containing the task text if found
+     */
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.version AS version, t.title AS title, " +
+            "t.description AS description FROM Task t WHERE t.id = :id")
+    Optional<TaskSearchView> findSearchViewById(@Param("id") Long id);
+
+    /**
+     * Get the first cards of every status column of a project with the column totals, in one
+     * windowed query instead of a page and a count query per status
+     * @param projectId the project ID
+     * @param limit the maximum number of cards per column
+     * @return Up to limit cards per status, in board order within each status
+     */
+    @Query("SELECT c.id AS id, c.title AS title, c.status AS status, c.priority AS priority, " +
+            "c.priorityRank AS priorityRank, c.dueDate AS dueDate, c.assignedToId AS assignedToId, " +
+            "c.assignedToName AS assignedToName, c.version AS version, c.columnTotal AS columnTotal " +
+            "FROM (SELECT " + BOARD_CARD_COLUMNS + ", " +
+            "ROW_NUMBER() OVER (PARTITION BY t.status ORDER BY " + BOARD_ORDER + ") AS position, " +
+            "COUNT(*) OVER (PARTITION BY t.status) AS columnTotal " +
+            "FROM Task t LEFT JOIN t.assignedTo a WHERE t.project.id = :projectId) c " +
+            "WHERE c.position <= :limit ORDER BY c.status, c.position")
+    List<TaskBoardCardView> findBoardHeads(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    /**
+     * Get the cards of a board column after a keyset cursor
+     * @param projectId the project ID
+     * @param status the column status
+     * @param afterRank priority rank of the last card already read
+     * @param afterDueDate due date of the last card already read (null if it has none)
+     * @param afterId ID of the last card already read
+     * @param pageable the page size
+     * @return Up to one page of cards in board order
+     */
+    @Query("SELECT " + BOARD_CARD_COLUMNS + " FROM Task t LEFT JOIN t.assignedTo a " +
+            "WHERE t.project.id = :projectId AND t.status = :status AND (" + PRIORITY_RANK + " < :afterRank " +
+            "OR (" + PRIORITY_RANK + " = :afterRank AND (" +
+            "(:afterDueDate IS NOT NULL AND (t.dueDate > :afterDueDate OR t.dueDate IS NULL " +
+            "OR (t.dueDate = :afterDueDate AND t.id > :afterId))) " +
+            "OR (:afterDueDate IS NULL AND t.dueDate IS NULL AND t.id > :afterId)))) " +
+            "ORDER BY " + BOARD_ORDER)
+    List<TaskBoardCardView> findBoardColumnAfter(@Param("projectId") Long projectId,
+                                                 @Param("status") TaskStatus status,
+                                                 @Param("afterRank") int afterRank,
+                                                 @Param("afterDueDate") LocalDateTime afterDueDate,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * Count the tasks assigned to a user per status and due date, without loading task rows
+     * @param userId the assignee's user ID
+     * @return One row per status and due date that has tasks
+     */
+    @Query("SELECT t.status AS status, t.dueDate AS dueDate, COUNT(t) AS count FROM Task t " +
+            "WHERE t.assignedTo.id = :userId GROUP BY t.status, t.dueDate")
+    List<AssignedTaskCountView> countAssignedByStatusAndDueDate(@Param("userId") Long userId);
+
+    /**
+     * Find completed or cancelled tasks closed before a cutoff, in ID order after a cursor.
+     * Tasks completed before completedAt was recorded count as closed at their last update.
+     * @param cutoff the closing time before which tasks are archived
+     * @param afterId the cursor (exclusive)
+     * @param pageable batch size
+     * @return Up to one batch of tasks due for archival
+     */
+    @Query("SELECT t.id AS id, t.version AS version, t.status AS status, t.priority AS priority, " +
+            "t.dueDate AS dueDate, t.project.id AS projectId, t.createdBy.id AS createdById, " +
+            "t.assignedTo.id AS assignedToId FROM Task t " +
+            "WHERE t.status IN (com.taskmanagement.entity.TaskStatus.COMPLETED, " +
+            "com.taskmanagement.entity.TaskStatus.CANCELLED) " +
+            "AND COALESCE(t.completedAt, t.updatedAt) < :cutoff AND t.id > :afterId ORDER BY t.id")
+    List<ArchivableTaskView> findArchivableAfter(@Param("cutoff") LocalDateTime cutoff,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * Delete tasks that have been copied to the archive and not changed since: a task updated
+     * after it was copied has a newer version than its archived copy and is kept
+     * @param ids the task IDs
+     * @return Number of tasks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND EXISTS " +
+            "(SELECT a.id FROM ArchivedTask a WHERE a.id = t.id AND a.version = t.version)")
+    int deleteArchivedByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,87 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskStatusTransition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for TaskStatusTransition entity
+ */
+@Repository
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, Long> {
+
+    /**
+     * 1 for a status counted as open, 0 otherwise; the JPQL counterpart of DailyRollup.isOpen
+     */
+    String OPEN_TO = "CASE WHEN t.toStatus IN (com.taskmanagement.entity.TaskStatus.TODO, " +
+            "com.taskmanagement.entity.TaskStatus.IN_PROGRESS, com.taskmanagement.entity.TaskStatus.IN_REVIEW) " +
+            "THEN 1 ELSE 0 END";
+    String OPEN_FROM = "CASE WHEN t.fromStatus IN (com.taskmanagement.entity.TaskStatus.TODO, " +
+            "com.taskmanagement.entity.TaskStatus.IN_PROGRESS, com.taskmanagement.entity.TaskStatus.IN_REVIEW) " +
+            "THEN 1 ELSE 0 END";
+
+    /**
+     * Find when a task first entered IN_PROGRESS
+     * @param taskId the task ID
+     * @return Earliest transition time to IN_PROGRESS, or null if the task was never in progress
+     */
+    @Query("SELECT MIN(t.transitionedAt) FROM TaskStatusTransition t " +
+            "WHERE t.taskId = :taskId AND t.toStatus = com.taskmanagement.entity.TaskStatus.IN_PROGRESS")
+    LocalDateTime findFirstStartedAt(@Param("taskId") Long taskId);
+
+    /**
+     * Find the oldest transition time
+     * @return Oldest transition time, or null if there are no transitions
+     */
+    @Query("SELECT MIN(t.transitionedAt) FROM TaskStatusTransition t")
+    LocalDateTime findEarliestTransitionedAt();
+
+    /**
+     * Find the transitions of all projects in a time range, one page at a time
+     * @param from the start of the range (inclusive)
+     * @param until the end of the range (exclusive)
+     * @param afterId the ID of the last transition of the previous page (exclusive)
+     * @param pageable page size
+     * @return List of transitions in ID order
+     */
+    @Query("SELECT t FROM TaskStatusTransition t WHERE t.transitionedAt >= :from AND t.transitionedAt < :until " +
+            "AND t.id > :afterId ORDER BY t.id ASC")
+    List<TaskStatusTransition> findInRange(@Param("from") LocalDateTime from,
+                                           @Param("until") LocalDateTime until,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    /**
+     * Find the transitions of a project in a time range
+     * @param projectId the project ID
+     * @param from the start of the range (inclusive)
+     * @param until the end of the range (exclusive)
+     * @return List of transitions in time order
+     */
+    @Query("SELECT t FROM TaskStatusTransition t WHERE t.projectId = :projectId " +
+            "AND t.transitionedAt >= :from AND t.transitionedAt < :until ORDER BY t.transitionedAt, t.id")
+    List<TaskStatusTransition> findByProjectIdInRange(@Param("projectId") Long projectId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("until") LocalDateTime until);
+
+    /**
+     * Sum the change in the number of open tasks of a project since a point in time
+     * @param projectId the project ID
+     * @param from the start of the range (inclusive)
+     * @return Open tasks added minus open tasks removed
+     */
+    @Query("SELECT COALESCE(SUM(" + OPEN_TO + " - " + OPEN_FROM + "), 0) FROM TaskStatusTransition t " +
+            "WHERE t.projectId = :projectId AND t.transitionedAt >= :from")
+    long sumOpenDeltaSince(@Param("projectId") Long projectId, @Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM TaskStatusTransition t WHERE t.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.repository.filter;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Criteria for filtering tasks; unset (null or empty) criteria do not restrict the result
+ */
+@Data
+@NoArgsConstructor
+public class TaskFilter {
+
+    private Long projectId;
+    private Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+    private Set<TaskPriority> priorities = EnumSet.noneOf(TaskPriority.class);
+    private Long assigneeId;
+    private boolean unassigned;
+    private Long createdById;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+    private String text;
+    private boolean includeArchived;
+
+    /**
+     * When set, only tasks in {@link #visibleProjectIds} or created by or assigned to this user
+     * match; set by the service from the caller, not from request criteria
+     */
+    private Long visibleToUserId;
+    private Collection<Long> visibleProjectIds;
+}
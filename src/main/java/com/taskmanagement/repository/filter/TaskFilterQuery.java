@@ -0,0 +1,203 @@
+package com.taskmanagement.repository.filter;
+
+import com.taskmanagement.entity.Task;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles a {@link TaskFilter} into a JPQL query.
+ *
+ * Conditions are always emitted in the same order and values are always bound as parameters,
+ * so every filter with the same set of criteria and sort (its shape) yields the same query
+ * string. Hibernate caches the translated plan per query string, and with IN-list padding
+ * enabled status and priority sets of similar size share one SQL statement, so repeated
+ * shapes skip parsing and translation and reuse the database's prepared statement plans.
+ * Columns are compared directly (no functions) so the task indexes apply; only the text
+ * condition scans, on rows the other conditions have already narrowed down.
+ * The archive mirrors the task attributes, so the same query also runs against ArchivedTask.
+ */
+public final class TaskFilterQuery {
+
+    /**
+     * Properties a filtered page may be sorted by
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "id", "title", "status", "priority", "dueDate", "createdAt", "updatedAt");
+
+    private final String where;
+    private final String orderBy;
+    private final Map<String, Object> parameters;
+
+    private TaskFilterQuery(String where, String orderBy, Map<String, Object> parameters) {
+        this.where = where;
+        this.orderBy = orderBy;
+        this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Compile a filter
+     * @param filter Filter criteria
+     * @param sort Sort order; properties must be in {@link #SORTABLE_PROPERTIES}
+     * @return Compiled query
+     */
+    public static TaskFilterQuery of(TaskFilter filter, Sort sort) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (filter.getVisibleToUserId() != null) {
+            if (filter.getVisibleProjectIds() != null && !filter.getVisibleProjectIds().isEmpty()) {
+                conditions.add("(t.project.id IN :visibleProjectIds"
+                        + " OR t.createdBy.id = :visibleToUserId OR t.assignedTo.id = :visibleToUserId)");
+                parameters.put("visibleProjectIds", filter.getVisibleProjectIds());
+            } else {
+                conditions.add("(t.createdBy.id = :visibleToUserId OR t.assignedTo.id = :visibleToUserId)");
+            }
+            parameters.put("visibleToUserId", filter.getVisibleToUserId());
+        }
+        if (filter.getProjectId() != null) {
+            conditions.add("t.project.id = :projectId");
+            parameters.put("projectId", filter.getProjectId());
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            conditions.add("t.status IN :statuses");
+            parameters.put("statuses", filter.getStatuses());
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            conditions.add("t.priority IN :priorities");
+            parameters.put("priorities", filter.getPriorities());
+        }
+        if (filter.isUnassigned()) {
+            conditions.add("t.assignedTo IS NULL");
+        } else if (filter.getAssigneeId() != null) {
+            conditions.add("t.assignedTo.id = :assigneeId");
+            parameters.put("assigneeId", filter.getAssigneeId());
+        }
+        if (filter.getCreatedById() != null) {
+            conditions.add("t.createdBy.id = :createdById");
+            parameters.put("createdById", filter.getCreatedById());
+        }
+        if (filter.getDueFrom() != null) {
+            conditions.add("t.dueDate >= :dueFrom");
+            parameters.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            conditions.add("t.dueDate < :dueTo");
+            parameters.put("dueTo", filter.getDueTo());
+        }
+        if (filter.getText() != null && !filter.getText().isBlank()) {
+            conditions.add("(LOWER(t.title) LIKE :text ESCAPE '\\' OR LOWER(t.description) LIKE :text ESCAPE '\\')");
+            parameters.put("text", "%" + escapeLike(filter.getText().trim().toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return new TaskFilterQuery(where, orderBy(sort), parameters);
+    }
+
+    /**
+     * Query for one page of matching tasks
+     */
+    public String getSelectQuery() {
+        return getSelectQuery("Task");
+    }
+
+    /**
+     * Query for one page of matching rows of an entity with the task attributes
+     * @param entity Task or ArchivedTask
+     */
+    public String getSelectQuery(String entity) {
+        return "SELECT t FROM " + entity + " t" + where + orderBy;
+    }
+
+    /**
+     * Query counting all matching tasks
+     */
+    public String getCountQuery() {
+        return getCountQuery("Task");
+    }
+
+    /**
+     * Query counting all matching rows of an entity with the task attributes
+     * @param entity Task or ArchivedTask
+     */
+    public String getCountQuery(String entity) {
+        return "SELECT COUNT(t) FROM " + entity + " t" + where;
+    }
+
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Compare loaded tasks in the order of {@link #getSelectQuery()}, for merging the results of
+     * several queries. Nulls sort as the greatest value (last ascending, first descending) and
+     * enums by name, as PostgreSQL orders them.
+     * @param sort Sort order; properties must be in {@link #SORTABLE_PROPERTIES}
+     * @return Comparator including the id tie-breaker
+     */
+    public static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> comparator = null;
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort tasks by: " + order.getProperty());
+            }
+            byId |= order.getProperty().equals("id");
+            Comparator<Task> next = propertyComparator(order.getProperty());
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Task> idDescending = Comparator.comparing(Task::getId, Comparator.reverseOrder());
+        if (comparator == null) {
+            return idDescending;
+        }
+        return byId ? comparator : comparator.thenComparing(idDescending);
+    }
+
+    private static Comparator<Task> propertyComparator(String property) {
+        return switch (property) {
+            case "id" -> Comparator.comparing(Task::getId);
+            case "title" -> Comparator.comparing(Task::getTitle, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "status" -> Comparator.comparing(task -> task.getStatus() == null ? null : task.getStatus().name(),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case "priority" -> Comparator.comparing(
+                    task -> task.getPriority() == null ? null : task.getPriority().name(),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case "dueDate" -> Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "createdAt" -> Comparator.comparing(Task::getCreatedAt,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case "updatedAt" -> Comparator.comparing(Task::getUpdatedAt,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("Cannot sort tasks by: " + property);
+        };
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort tasks by: " + order.getProperty());
+            }
+            orders.add("t." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // Unique tie-breaker keeps pages stable
+        if (orders.stream().noneMatch(order -> order.startsWith("t.id "))) {
+            orders.add("t.id DESC");
+        }
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    /**
+     * Escape the LIKE wildcards in a text, for patterns used with ESCAPE '\\'
+     */
+    public static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a task due for archival: the IDs its change log tombstone needs, and the
+ * fields live listeners (saved filters) match on
+ */
+public interface ArchivableTaskView {
+
+    Long getId();
+
+    Long getVersion();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    LocalDateTime getDueDate();
+
+    Long getProjectId();
+
+    Long getCreatedById();
+
+    Long getAssignedToId();
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the number of tasks assigned to a user with a status and due date
+ */
+public interface AssignedTaskCountView {
+
+    TaskStatus getStatus();
+
+    LocalDateTime getDueDate();
+
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.TaskStatus;
+
+/**
+ * Projection of the number of tasks with a status in a project
+ */
+public interface ProjectTaskCountView {
+
+    Long getProjectId();
+
+    TaskStatus getStatus();
+
+    Long getCount();
+}
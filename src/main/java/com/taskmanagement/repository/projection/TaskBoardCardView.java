@@ -0,0 +1,35 @@
+package com.taskmanagement.repository.projection;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a task as a card on a project board
+ */
+public interface TaskBoardCardView {
+
+    Long getId();
+
+    String getTitle();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Integer getPriorityRank();
+
+    LocalDateTime getDueDate();
+
+    Long getAssignedToId();
+
+    String getAssignedToName();
+
+    Long getVersion();
+
+    /**
+     * Number of tasks in the card's column (board heads only)
+     */
+    Long getColumnTotal();
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.repository.projection;
+
+/**
+ * Projection of the searchable text of a task
+ */
+public interface TaskSearchView {
+
+    Long getId();
+
+    Long getProjectId();
+
+    Long getVersion();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns that determine a task's representation version
+ */
+public interface TaskVersionView {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getProjectVersion();
+
+    LocalDateTime getProjectUpdatedAt();
+}
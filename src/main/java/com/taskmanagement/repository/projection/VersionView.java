@@ -0,0 +1,16 @@
+package com.taskmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a version plus last modification time.
+ * For single entities {@code version} is the optimistic lock column; for collections
+ * it is a change counter (or row count where no counter exists) and
+ * {@code lastModified} the newest modification in the collection.
+ */
+public interface VersionView {
+
+    Long getVersion();
+
+    LocalDateTime getLastModified();
+}
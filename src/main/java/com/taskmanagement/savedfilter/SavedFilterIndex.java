@@ -0,0 +1,223 @@
+package com.taskmanagement.savedfilter;
+
+import com.taskmanagement.dto.SavedFilterDeltaType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Predicate index over the saved filters subscribed to on this node.
+ *
+ * A task change only needs to be checked against filters it can possibly match, so filters
+ * are bucketed by their most selective equality criterion: the project, else the assignee;
+ * only filters with neither are checked for every change. Each filter is evaluated against
+ * the task before and after the change, which tells whether the task entered, left or
+ * changed within the result without keeping the result itself.
+ *
+ * A filter is registered once however many STOMP subscriptions (sessions, tabs) follow it,
+ * and dropped with the last one.
+ */
+@Component
+public class SavedFilterIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Long> filtersBySubscription = new HashMap<>();
+    private final Map<Long, Set<Entry>> byProject = new HashMap<>();
+    private final Map<Long, Set<Entry>> byAssignee = new HashMap<>();
+    private final Set<Entry> unindexed = new HashSet<>();
+
+    /**
+     * Register a subscription to a filter
+     * @param subscriptionKey Unique key of the STOMP subscription
+     * @param filterId Saved filter ID
+     * @param userId Owner of the filter, who receives its deltas
+     * @param predicate Compiled filter
+     */
+    public void subscribe(String subscriptionKey, Long filterId, Long userId, SavedFilterPredicate predicate) {
+        lock.writeLock().lock();
+        try {
+            unsubscribe(subscriptionKey);
+            Entry entry = entries.computeIfAbsent(filterId, id -> {
+                Entry created = new Entry(id, userId, predicate);
+                bucket(created).add(created);
+                return created;
+            });
+            entry.subscriptions.add(subscriptionKey);
+            filtersBySubscription.put(subscriptionKey, filterId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a subscription
+     * @param subscriptionKey Unique key of the STOMP subscription
+     */
+    public void unsubscribe(String subscriptionKey) {
+        lock.writeLock().lock();
+        try {
+            Long filterId = filtersBySubscription.remove(subscriptionKey);
+            Entry entry = filterId != null ? entries.get(filterId) : null;
+            if (entry != null) {
+                entry.subscriptions.remove(subscriptionKey);
+                if (entry.subscriptions.isEmpty()) {
+                    remove(entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every subscription of a session
+     * @param sessionId WebSocket session ID; subscription keys start with it
+     */
+    public void unsubscribeSession(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            String prefix = sessionId + "/";
+            List<String> keys = filtersBySubscription.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .toList();
+            keys.forEach(this::unsubscribe);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a filter and all of its subscriptions (the filter was deleted)
+     */
+    public void removeFilter(Long filterId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(filterId);
+            if (entry != null) {
+                entry.subscriptions.forEach(filtersBySubscription::remove);
+                remove(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the subscribed filters whose result a task change affects
+     * @param projectId Project of the task
+     * @param before Task fields before the change (null if the task did not exist or is unknown)
+     * @param after Task fields after the change (null if the task was deleted)
+     * @return Affected filters with the kind of delta; ENTER also stands for a possible
+     * update when the previous state is unknown
+     */
+    public List<Match> match(Long projectId, Map<String, Object> before, Map<String, Object> after) {
+        lock.readLock().lock();
+        try {
+            Set<Entry> candidates = new LinkedHashSet<>(byProject.getOrDefault(projectId, Set.of()));
+            addAssigneeCandidates(candidates, before);
+            addAssigneeCandidates(candidates, after);
+            candidates.addAll(unindexed);
+
+            List<Match> matches = new ArrayList<>();
+            for (Entry entry : candidates) {
+                boolean matchedBefore = entry.predicate.matches(projectId, before);
+                boolean matchesAfter = entry.predicate.matches(projectId, after);
+                if (matchesAfter) {
+                    matches.add(new Match(entry.filterId, entry.userId,
+                            matchedBefore ? SavedFilterDeltaType.UPDATE : SavedFilterDeltaType.ENTER));
+                } else if (matchedBefore) {
+                    matches.add(new Match(entry.filterId, entry.userId, SavedFilterDeltaType.LEAVE));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of filters with at least one subscription
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addAssigneeCandidates(Set<Entry> candidates, Map<String, Object> state) {
+        Object assigneeId = state != null ? state.get("assignedToId") : null;
+        if (assigneeId != null) {
+            candidates.addAll(byAssignee.getOrDefault((Long) assigneeId, Set.of()));
+        }
+    }
+
+    private Set<Entry> bucket(Entry entry) {
+        if (entry.predicate.getProjectId() != null) {
+            return byProject.computeIfAbsent(entry.predicate.getProjectId(), id -> new HashSet<>());
+        }
+        if (entry.predicate.getAssigneeId() != null) {
+            return byAssignee.computeIfAbsent(entry.predicate.getAssigneeId(), id -> new HashSet<>());
+        }
+        return unindexed;
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.filterId);
+        Long projectId = entry.predicate.getProjectId();
+        Long assigneeId = entry.predicate.getAssigneeId();
+        if (projectId != null) {
+            removeFromBucket(byProject, projectId, entry);
+        } else if (assigneeId != null) {
+            removeFromBucket(byAssignee, assigneeId, entry);
+        } else {
+            unindexed.remove(entry);
+        }
+    }
+
+    private static void removeFromBucket(Map<Long, Set<Entry>> buckets, Long key, Entry entry) {
+        Set<Entry> bucket = buckets.get(key);
+        if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Subscribed filter affected by a task change
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Match {
+
+        private final Long filterId;
+        private final Long userId;
+        private final SavedFilterDeltaType type;
+    }
+
+    private static final class Entry {
+
+        private final Long filterId;
+        private final Long userId;
+        private final SavedFilterPredicate predicate;
+        private final Set<String> subscriptions = new HashSet<>();
+
+        Entry(Long filterId, Long userId, SavedFilterPredicate predicate) {
+            this.filterId = filterId;
+            this.userId = userId;
+            this.predicate = predicate;
+        }
+    }
+}
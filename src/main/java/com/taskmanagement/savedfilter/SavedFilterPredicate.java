@@ -0,0 +1,86 @@
+package com.taskmanagement.savedfilter;
+
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A saved filter compiled for evaluation against task snapshots as produced by
+ * {@link com.taskmanagement.mapper.TaskMapper#toDeltaFields}, with the same semantics as the
+ * filter query: every set criterion must hold, due dates from inclusive to exclusive
+ */
+public final class SavedFilterPredicate {
+
+    private final Long projectId;
+    private final Set<String> statuses;
+    private final Set<String> priorities;
+    private final Long assigneeId;
+    private final boolean unassigned;
+    private final LocalDateTime dueFrom;
+    private final LocalDateTime dueTo;
+
+    private SavedFilterPredicate(SavedFilter filter) {
+        this.projectId = filter.getProjectId();
+        this.statuses = filter.getStatuses().stream().map(TaskStatus::name).collect(Collectors.toUnmodifiableSet());
+        this.priorities = filter.getPriorities().stream().map(TaskPriority::name).collect(Collectors.toUnmodifiableSet());
+        this.assigneeId = filter.getAssigneeId();
+        this.unassigned = filter.isUnassigned();
+        this.dueFrom = filter.getDueFrom();
+        this.dueTo = filter.getDueTo();
+    }
+
+    public static SavedFilterPredicate of(SavedFilter filter) {
+        return new SavedFilterPredicate(filter);
+    }
+
+    /**
+     * Evaluate the filter
+     * @param taskProjectId Project of the task
+     * @param state Task fields (null for a task that does not exist)
+     * @return true if the task matches
+     */
+    public boolean matches(Long taskProjectId, Map<String, Object> state) {
+        if (state == null) {
+            return false;
+        }
+        if (projectId != null && !projectId.equals(taskProjectId)) {
+            return false;
+        }
+        if (!statuses.isEmpty() && !statuses.contains(state.get("status"))) {
+            return false;
+        }
+        if (!priorities.isEmpty() && !priorities.contains(state.get("priority"))) {
+            return false;
+        }
+        Object assignedToId = state.get("assignedToId");
+        if (unassigned ? assignedToId != null : assigneeId != null && !assigneeId.equals(assignedToId)) {
+            return false;
+        }
+        if (dueFrom != null || dueTo != null) {
+            LocalDateTime dueDate = (LocalDateTime) state.get("dueDate");
+            return dueDate != null
+                    && (dueFrom == null || !dueDate.isBefore(dueFrom))
+                    && (dueTo == null || dueDate.isBefore(dueTo));
+        }
+        return true;
+    }
+
+    /**
+     * Project the filter is limited to, if any
+     */
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * Assignee the filter is limited to, if any
+     */
+    public Long getAssigneeId() {
+        return unassigned ? null : assigneeId;
+    }
+}
@@ -0,0 +1,229 @@
+package com.taskmanagement.savedfilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.SavedFilterDeltaDTO;
+import com.taskmanagement.dto.SavedFilterDeltaType;
+import com.taskmanagement.event.SavedFilterDeletedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.SavedFilterRepository;
+import com.taskmanagement.websocket.WebSocketNotificationService;
+import com.taskmanagement.websocket.cluster.ClusterBus;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps saved filter results live for WebSocket subscribers.
+ *
+ * A client subscribes to /user/queue/filters/{id} for one of its own filters (after loading
+ * the current result from GET /api/filters/{id}/tasks); the filter is then added to the
+ * {@link SavedFilterIndex}. Every committed task change is matched against the index and the
+ * affected filters' owners receive ENTER, UPDATE or LEAVE deltas. Subscriptions to unknown
+ * or foreign filters are ignored.
+ *
+ * Task change events are only seen by the node that made the change, which matches them
+ * against its own subscriptions and relays them over the cluster bus; every other node
+ * matches them against the subscriptions it holds and delivers the deltas to its own
+ * sessions only. Deleted filters are dropped from every node the same way, after commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SavedFilterSubscriptionListener {
+
+    static final String TASK_CHANGES_CHANNEL = "saved-filters:task-changes";
+    static final String DELETIONS_CHANNEL = "saved-filters:deleted";
+
+    private static final String USER_DESTINATION_PREFIX = "/user/queue/filters/";
+
+    private final SavedFilterIndex savedFilterIndex;
+    private final SavedFilterRepository savedFilterRepository;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final ClusterBus clusterBus;
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        clusterBus.subscribe(TASK_CHANGES_CHANNEL, this::handleRemoteTaskChange);
+        clusterBus.subscribe(DELETIONS_CHANNEL, this::handleRemoteDeletion);
+    }
+
+    /**
+     * Register subscriptions to saved filter destinations
+     */
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = headerAccessor.getDestination();
+        Principal user = event.getUser();
+        if (destination == null || !destination.startsWith(USER_DESTINATION_PREFIX) || user == null
+                || headerAccessor.getSessionId() == null || headerAccessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long filterId;
+        Long userId;
+        try {
+            filterId = Long.valueOf(destination.substring(USER_DESTINATION_PREFIX.length()));
+            userId = Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring subscription to {} by {}", destination, user.getName());
+            return;
+        }
+
+        savedFilterRepository.findByIdAndOwnerId(filterId, userId).ifPresentOrElse(
+                filter -> {
+                    savedFilterIndex.subscribe(subscriptionKey(headerAccessor.getSessionId(),
+                            headerAccessor.getSubscriptionId()), filterId, userId, SavedFilterPredicate.of(filter));
+                    log.debug("User {} subscribed to saved filter {}", userId, filterId);
+                },
+                () -> log.debug("User {} cannot subscribe to saved filter {}", userId, filterId));
+    }
+
+    /**
+     * Remove a subscription
+     */
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (headerAccessor.getSessionId() != null && headerAccessor.getSubscriptionId() != null) {
+            savedFilterIndex.unsubscribe(subscriptionKey(headerAccessor.getSessionId(),
+                    headerAccessor.getSubscriptionId()));
+        }
+    }
+
+    /**
+     * Remove the subscriptions of a closed session
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        savedFilterIndex.unsubscribeSession(event.getSessionId());
+    }
+
+    /**
+     * Push the effect of a committed task change to the affected filters on this node, and
+     * relay it to the other nodes
+     */
+    @TransactionalEventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        relay(new SavedFilterTaskChange(clusterMessageRelay.getNodeId(),
+                event.getTaskId(), event.getProjectId(), event.getVersion(),
+                event.getChanges(), event.getPreviousState(), event.getState()));
+    }
+
+    /**
+     * Archived tasks leave the filters they matched, like deleted ones
+     */
+    @TransactionalEventListener
+    public void handleTasksArchived(TasksArchivedEvent event) {
+        for (TasksArchivedEvent.ArchivedTask task : event.getTasks()) {
+            relay(new SavedFilterTaskChange(clusterMessageRelay.getNodeId(), task.getTaskId(),
+                    task.getProjectId(), task.getVersion(), Map.of(), task.getState(), null));
+        }
+    }
+
+    /**
+     * End the subscriptions to a deleted filter on this node and the others
+     */
+    @TransactionalEventListener
+    public void handleFilterDeleted(SavedFilterDeletedEvent event) {
+        savedFilterIndex.removeFilter(event.getFilterId());
+        try {
+            clusterBus.publish(DELETIONS_CHANNEL, clusterMessageRelay.getNodeId() + "|" + event.getFilterId());
+        } catch (Exception e) {
+            log.error("Failed to publish deletion of saved filter {}: {}", event.getFilterId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Match a task change made on another node
+     */
+    void handleRemoteTaskChange(String message) {
+        try {
+            SavedFilterTaskChange change = objectMapper.readValue(message, SavedFilterTaskChange.class);
+            if (clusterMessageRelay.getNodeId().equals(change.getOrigin())) {
+                return;
+            }
+            restoreTypes(change.getChanges());
+            restoreTypes(change.getPreviousState());
+            restoreTypes(change.getState());
+            pushDeltas(change);
+        } catch (Exception e) {
+            log.error("Failed to match relayed task change against saved filters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop a filter deleted on another node
+     */
+    void handleRemoteDeletion(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0 || message.substring(0, separator).equals(clusterMessageRelay.getNodeId())) {
+            return;
+        }
+        savedFilterIndex.removeFilter(Long.valueOf(message.substring(separator + 1)));
+    }
+
+    private void relay(SavedFilterTaskChange change) {
+        try {
+            clusterBus.publish(TASK_CHANGES_CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            log.error("Failed to relay change of task {} to saved filters: {}", change.getTaskId(), e.getMessage());
+        }
+        pushDeltas(change);
+    }
+
+    private void pushDeltas(SavedFilterTaskChange change) {
+        if (savedFilterIndex.size() == 0) {
+            return;
+        }
+
+        List<SavedFilterIndex.Match> matches = savedFilterIndex.match(
+                change.getProjectId(), change.getPreviousState(), change.getState());
+        for (SavedFilterIndex.Match match : matches) {
+            Map<String, Object> fields = switch (match.getType()) {
+                case ENTER -> change.getState();
+                case UPDATE -> change.getChanges();
+                case LEAVE -> Map.of();
+            };
+            if (match.getType() == SavedFilterDeltaType.UPDATE && (fields == null || fields.isEmpty())) {
+                continue;
+            }
+            webSocketNotificationService.sendSavedFilterDelta(match.getUserId(), new SavedFilterDeltaDTO(
+                    match.getFilterId(), match.getType(), change.getTaskId(), change.getProjectId(),
+                    change.getVersion(), fields));
+        }
+    }
+
+    /**
+     * Give relayed task fields the types {@link SavedFilterPredicate} compares against:
+     * JSON turns IDs into Integers and timestamps into strings
+     */
+    private static void restoreTypes(Map<String, Object> fields) {
+        if (fields == null) {
+            return;
+        }
+        fields.computeIfPresent("assignedToId", (key, value) -> ((Number) value).longValue());
+        fields.computeIfPresent("dueDate", (key, value) -> LocalDateTime.parse((String) value));
+        fields.computeIfPresent("completedAt", (key, value) -> LocalDateTime.parse((String) value));
+    }
+
+    private static String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + "/" + subscriptionId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.savedfilter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Committed task change relayed between nodes, so each node can match it against the saved
+ * filters subscribed to on that node
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedFilterTaskChange {
+
+    /**
+     * ID of the node where the change was made (it has already matched it)
+     */
+    private String origin;
+
+    private Long taskId;
+
+    private Long projectId;
+
+    private Long version;
+
+    private Map<String, Object> changes;
+
+    private Map<String, Object> previousState;
+
+    private Map<String, Object> state;
+}
@@ -0,0 +1,80 @@
+package com.taskmanagement.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs scheduled jobs on one node of the cluster at a time.
+ *
+ * On PostgreSQL a running job holds a session-level advisory lock, keyed by the job name, on
+ * a connection of its own; a node that cannot take the lock skips its run, since another
+ * node is doing the work. The lock goes with the connection if the node dies. Other
+ * databases (H2 in tests) only serve one node, and jobs only exclude each other in the JVM.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterJobLock {
+
+    /**
+     * First key of the two-key advisory lock form, so job locks cannot collide with other users
+     */
+    static final int LOCK_NAMESPACE = 0x4a4f42;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Run a job unless it is already running on this or another node
+     * @param job Job name, the same on every node
+     * @param task Work to do
+     * @return true if the job ran
+     */
+    public boolean runExclusively(String job, Runnable task) {
+        if (!running.add(job)) {
+            log.info("Skipping job {}: already running", job);
+            return false;
+        }
+        try {
+            Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                    task.run();
+                    return true;
+                }
+                if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?, ?)", job)) {
+                    log.info("Skipping job {}: running on another node", job);
+                    return false;
+                }
+                try {
+                    task.run();
+                    return true;
+                } finally {
+                    advisoryLock(connection, "SELECT pg_advisory_unlock(?, ?)", job);
+                }
+            });
+            return Boolean.TRUE.equals(ran);
+        } finally {
+            running.remove(job);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, String job) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, job.hashCode());
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
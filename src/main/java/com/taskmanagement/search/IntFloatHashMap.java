@@ -0,0 +1,106 @@
+package com.taskmanagement.search;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative int keys to float values, used to accumulate
+ * per-document scores during a query without boxing
+ */
+final class IntFloatHashMap {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private float[] values;
+    private int size;
+
+    IntFloatHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        values = new float[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Store a value, keeping the larger one if the key is already present
+     */
+    void putMax(int key, float value) {
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            values[slot] = Math.max(values[slot], value);
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * @return The value for a key, or NaN if absent
+     */
+    float get(int key) {
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : Float.NaN;
+    }
+
+    boolean containsKey(int key) {
+        return keys[slot(key)] == key;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Add the values of another map to the values of the keys present in both
+     */
+    void addAll(IntFloatHashMap other) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                float value = other.get(keys[i]);
+                if (!Float.isNaN(value)) {
+                    values[i] += value;
+                }
+            }
+        }
+    }
+
+    void forEach(IntFloatConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int slot(int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9) >>> 1 & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new float[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface IntFloatConsumer {
+        void accept(int key, float value);
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanagement.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits task text into index terms: lower-cased runs of letters and digits, between
+ * {@value #MIN_TERM_LENGTH} and {@value #MAX_TERM_LENGTH} characters, without common
+ * English stop words
+ */
+public final class SearchTokenizer {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "with");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * Tokenize text
+     * @param text Text to tokenize (may be null)
+     * @return Distinct terms in order of first occurrence
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Get the overlapping three-character substrings of a term
+     * @param term Index term
+     * @return Trigrams (empty for terms shorter than three characters)
+     */
+    public static List<String> trigrams(String term) {
+        List<String> trigrams = new ArrayList<>(Math.max(0, term.length() - 2));
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            trigrams.add(term.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static void addTerm(Set<String> terms, String word) {
+        if (word.length() < MIN_TERM_LENGTH) {
+            return;
+        }
+        String term = word.toLowerCase(Locale.ROOT);
+        if (term.length() > MAX_TERM_LENGTH) {
+            term = term.substring(0, MAX_TERM_LENGTH);
+        }
+        if (!STOP_WORDS.contains(term)) {
+            terms.add(term);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskmanagement.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A task matching a search query, with its relevance score
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSearchHit {
+
+    private final long taskId;
+    private final long projectId;
+    private final float score;
+}
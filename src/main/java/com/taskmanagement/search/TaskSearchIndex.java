@@ -0,0 +1,558 @@
+package com.taskmanagement.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ *
+ * Each indexed version of a task is a document with an int ID; each term maps to the sorted
+ * IDs of the documents containing it, with the low bit marking a title occurrence. Updating a
+ * task appends a new document and marks the old one deleted; deleted documents are dropped
+ * and IDs renumbered once they make up a quarter of the index. Until then, terms left with
+ * only deleted documents are skipped by query expansion, and term frequencies count live
+ * documents only.
+ *
+ * Query terms must all match (AND). A query term matches index terms exactly, as a prefix,
+ * as a substring (found through a trigram dictionary of index terms) and, for longer terms
+ * without an exact match, approximately (trigram similarity), in decreasing weight. Scores add
+ * up the best match of every query term, weighted by inverse document frequency and doubled
+ * for title matches. Reads run in parallel; writes are serialized.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final float EXACT_WEIGHT = 1.0f;
+    private static final float PREFIX_WEIGHT = 0.8f;
+    private static final float SUBSTRING_WEIGHT = 0.6f;
+    private static final float FUZZY_WEIGHT = 0.5f;
+    private static final float TITLE_BOOST = 2.0f;
+    private static final double FUZZY_MIN_SIMILARITY = 0.45;
+    private static final int MAX_EXPANSIONS = 50;
+    private static final int COMPACT_MIN_DELETED = 1024;
+
+    private static final Comparator<TaskSearchHit> RANKING = Comparator.comparingDouble(TaskSearchHit::getScore)
+            .thenComparingLong(TaskSearchHit::getTaskId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, List<String>> trigramTerms = new HashMap<>();
+    private final Map<Long, Integer> documentsByTask = new HashMap<>();
+
+    private long[] taskIds = new long[1024];
+    private long[] projectIds = new long[1024];
+    private long[] versions = new long[1024];
+    private BitSet deleted = new BitSet();
+    private int documentCount;
+    private int deletedCount;
+    /** Changes whenever documents are deleted or renumbered, invalidating cached live counts */
+    private int deletionEpoch;
+
+    /**
+     * Add or replace the indexed text of a task
+     * @param taskId Task ID
+     * @param projectId Project the task belongs to
+     * @param version Task version; a version not newer than the indexed one is ignored
+     * @param title Task title
+     * @param description Task description (may be null)
+     * @return true if the index changed
+     */
+    public boolean index(long taskId, long projectId, long version, String title, String description) {
+        Map<String, Boolean> documentTerms = new LinkedHashMap<>();
+        SearchTokenizer.tokenize(description).forEach(term -> documentTerms.put(term, false));
+        SearchTokenizer.tokenize(title).forEach(term -> documentTerms.put(term, true));
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = documentsByTask.get(taskId);
+            if (existing != null) {
+                if (versions[existing] >= version) {
+                    return false;
+                }
+                markDeleted(existing);
+            }
+
+            int document = documentCount++;
+            ensureCapacity(documentCount);
+            taskIds[document] = taskId;
+            projectIds[document] = projectId;
+            versions[document] = version;
+            documentsByTask.put(taskId, document);
+
+            documentTerms.forEach((term, inTitle) -> terms.computeIfAbsent(term, this::newTerm)
+                    .add(document << 1 | (inTitle ? 1 : 0)));
+
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a task from the index
+     * @param taskId Task ID
+     * @return true if the task was indexed
+     */
+    public boolean remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = documentsByTask.remove(taskId);
+            if (existing == null) {
+                return false;
+            }
+            markDeleted(existing);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every task of a project from the index
+     * @param projectId Project ID
+     * @return Number of tasks removed
+     */
+    public int removeProject(long projectId) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            for (int document = 0; document < documentCount; document++) {
+                if (projectIds[document] == projectId && !deleted.get(document)) {
+                    documentsByTask.remove(taskIds[document]);
+                    markDeleted(document);
+                    removed++;
+                }
+            }
+            compactIfNeeded();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether a task is indexed
+     */
+    public boolean contains(long taskId) {
+        lock.readLock().lock();
+        try {
+            return documentsByTask.containsKey(taskId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed tasks
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct index terms
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the best matching tasks
+     * @param query Search text
+     * @param projectFilter Projects whose tasks may be returned
+     * @param limit Maximum number of hits
+     * @return Hits by descending score, newer tasks first on equal scores
+     */
+    public List<TaskSearchHit> search(String query, LongPredicate projectFilter, int limit) {
+        Set<String> queryTerms = SearchTokenizer.tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<List<Match>> matchesPerTerm = new ArrayList<>(queryTerms.size());
+            for (String queryTerm : queryTerms) {
+                List<Match> matches = expand(queryTerm);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                matchesPerTerm.add(matches);
+            }
+            // Most selective term first keeps the candidate set small
+            matchesPerTerm.sort(Comparator.comparingLong(TaskSearchIndex::documentFrequency));
+
+            if (matchesPerTerm.size() == 1 && matchesPerTerm.get(0).size() == 1) {
+                // One index term: its postings are the scores, no accumulation needed
+                return topHits(matchesPerTerm.get(0).get(0), projectFilter, limit);
+            }
+
+            IntFloatHashMap scores = null;
+            for (List<Match> matches : matchesPerTerm) {
+                scores = scoreTerm(matches, scores, projectFilter);
+                if (scores.size() == 0) {
+                    return List.of();
+                }
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collect the index terms a query term matches, with their weights
+     */
+    private List<Match> expand(String queryTerm) {
+        Map<String, Float> weights = new LinkedHashMap<>();
+
+        Postings exact = terms.get(queryTerm);
+        if (exact != null && live(exact) == 0) {
+            exact = null;
+        }
+        if (exact != null) {
+            weights.put(queryTerm, EXACT_WEIGHT);
+        }
+
+        NavigableMap<String, Postings> prefixed = terms.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false);
+        int expansions = 0;
+        for (Map.Entry<String, Postings> entry : prefixed.entrySet()) {
+            // Terms of deleted documents only must not use up the expansions
+            if (live(entry.getValue()) == 0) {
+                continue;
+            }
+            if (expansions++ == MAX_EXPANSIONS) {
+                break;
+            }
+            weights.putIfAbsent(entry.getKey(), PREFIX_WEIGHT);
+        }
+
+        List<String> queryTrigrams = SearchTokenizer.trigrams(queryTerm);
+        if (!queryTrigrams.isEmpty()) {
+            Map<String, Integer> shared = sharedTrigrams(queryTrigrams);
+            List<Map.Entry<String, Float>> approximate = new ArrayList<>();
+            boolean fuzzy = exact == null && queryTerm.length() >= 4;
+            shared.forEach((term, count) -> {
+                if (weights.containsKey(term)) {
+                    return;
+                }
+                float weight = 0;
+                if (count == queryTrigrams.size() && term.contains(queryTerm)) {
+                    weight = SUBSTRING_WEIGHT;
+                } else if (fuzzy) {
+                    double similarity = similarity(queryTerm, queryTrigrams.size(), term, count);
+                    if (similarity >= FUZZY_MIN_SIMILARITY) {
+                        weight = (float) (FUZZY_WEIGHT * similarity);
+                    }
+                }
+                if (weight > 0 && live(terms.get(term)) > 0) {
+                    approximate.add(Map.entry(term, weight));
+                }
+            });
+            approximate.sort(Map.Entry.<String, Float>comparingByValue().reversed());
+            approximate.stream().limit(MAX_EXPANSIONS).forEach(entry -> weights.put(entry.getKey(), entry.getValue()));
+        }
+
+        int liveDocuments = Math.max(1, documentsByTask.size());
+        List<Match> matches = new ArrayList<>(weights.size());
+        weights.forEach((term, weight) -> {
+            Postings postings = terms.get(term);
+            float idf = (float) Math.log(1 + (double) liveDocuments / live(postings));
+            matches.add(new Match(postings, weight * idf));
+        });
+        return matches;
+    }
+
+    /**
+     * Jaccard similarity of the trigram sets of two terms padded with two leading blanks and
+     * one trailing blank, so matching word starts and ends count: the three padded trigrams
+     * are compared directly, the inner ones come from the shared trigram count
+     */
+    private static double similarity(String queryTerm, int queryTrigrams, String term, int shared) {
+        int padded = shared
+                + (queryTerm.charAt(0) == term.charAt(0) ? 1 : 0)
+                + (queryTerm.regionMatches(0, term, 0, 2) ? 1 : 0)
+                + (queryTerm.regionMatches(queryTerm.length() - 2, term, term.length() - 2, 2) ? 1 : 0);
+        int termTrigrams = term.length() - 2;
+        return (double) padded / (queryTrigrams + 3 + termTrigrams + 3 - padded);
+    }
+
+    private Map<String, Integer> sharedTrigrams(List<String> queryTrigrams) {
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : new LinkedHashSet<>(queryTrigrams)) {
+            List<String> containing = trigramTerms.get(trigram);
+            if (containing != null) {
+                containing.forEach(term -> shared.merge(term, 1, Integer::sum));
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Score the documents matching one query term. The first term's matches become the
+     * candidates; later terms only keep (and add to) candidates they also match.
+     */
+    private IntFloatHashMap scoreTerm(List<Match> matches, IntFloatHashMap candidates, LongPredicate projectFilter) {
+        IntFloatHashMap termScores = new IntFloatHashMap(candidates != null
+                ? candidates.size() : (int) Math.min(documentFrequency(matches), 1 << 16));
+        for (Match match : matches) {
+            Postings postings = match.postings;
+            if (candidates == null || postings.size <= candidates.size() * 4) {
+                for (int i = 0; i < postings.size; i++) {
+                    int entry = postings.entries[i];
+                    int document = entry >>> 1;
+                    if (candidates != null ? candidates.containsKey(document)
+                            : !deleted.get(document) && projectFilter.test(projectIds[document])) {
+                        termScores.putMax(document, score(match, entry));
+                    }
+                }
+            } else {
+                // Few candidates against a long postings list: look each one up
+                candidates.forEach((document, score) -> {
+                    int entry = postings.find(document);
+                    if (entry >= 0) {
+                        termScores.putMax(document, score(match, entry));
+                    }
+                });
+            }
+        }
+        if (candidates != null) {
+            termScores.addAll(candidates);
+        }
+        return termScores;
+    }
+
+    private List<TaskSearchHit> topHits(IntFloatHashMap scores, int limit) {
+        PriorityQueue<TaskSearchHit> top = new PriorityQueue<>(limit + 1, RANKING);
+        scores.forEach((document, score) -> offer(top, document, score, limit));
+        return sorted(top);
+    }
+
+    private List<TaskSearchHit> topHits(Match match, LongPredicate projectFilter, int limit) {
+        PriorityQueue<TaskSearchHit> top = new PriorityQueue<>(limit + 1, RANKING);
+        Postings postings = match.postings;
+        // Newest first, so documents tying with the current top entries are skipped cheaply
+        for (int i = postings.size - 1; i >= 0; i--) {
+            int entry = postings.entries[i];
+            int document = entry >>> 1;
+            if (!deleted.get(document) && projectFilter.test(projectIds[document])) {
+                offer(top, document, score(match, entry), limit);
+            }
+        }
+        return sorted(top);
+    }
+
+    private void offer(PriorityQueue<TaskSearchHit> top, int document, float score, int limit) {
+        if (top.size() < limit || score > top.peek().getScore()
+                || score == top.peek().getScore() && taskIds[document] > top.peek().getTaskId()) {
+            top.add(new TaskSearchHit(taskIds[document], projectIds[document], score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+    }
+
+    private static List<TaskSearchHit> sorted(PriorityQueue<TaskSearchHit> top) {
+        List<TaskSearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANKING.reversed());
+        return hits;
+    }
+
+    private static float score(Match match, int entry) {
+        return (entry & 1) == 1 ? match.weight * TITLE_BOOST : match.weight;
+    }
+
+    /**
+     * Number of live documents containing a term
+     */
+    private int live(Postings postings) {
+        return postings.live(deleted, deletionEpoch);
+    }
+
+    private static long documentFrequency(List<Match> matches) {
+        long frequency = 0;
+        for (Match match : matches) {
+            frequency += match.postings.size;
+        }
+        return frequency;
+    }
+
+    private Postings newTerm(String term) {
+        for (String trigram : new LinkedHashSet<>(SearchTokenizer.trigrams(term))) {
+            trigramTerms.computeIfAbsent(trigram, t -> new ArrayList<>()).add(term);
+        }
+        return new Postings();
+    }
+
+    private void markDeleted(int document) {
+        deleted.set(document);
+        deletedCount++;
+        deletionEpoch++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > taskIds.length) {
+            int newLength = Math.max(capacity, taskIds.length * 2);
+            taskIds = Arrays.copyOf(taskIds, newLength);
+            projectIds = Arrays.copyOf(projectIds, newLength);
+            versions = Arrays.copyOf(versions, newLength);
+        }
+    }
+
+    /**
+     * Drop deleted documents and renumber the rest, keeping their order
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACT_MIN_DELETED || deletedCount * 4 < documentCount) {
+            return;
+        }
+
+        int[] renumbered = new int[documentCount];
+        int live = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+            } else {
+                renumbered[document] = live;
+                taskIds[live] = taskIds[document];
+                projectIds[live] = projectIds[document];
+                versions[live] = versions[document];
+                documentsByTask.put(taskIds[live], live);
+                live++;
+            }
+        }
+
+        Iterator<Map.Entry<String, Postings>> iterator = terms.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Postings> entry = iterator.next();
+            if (entry.getValue().renumber(renumbered) == 0) {
+                // Read the key first: removal may reuse the entry for its successor
+                String term = entry.getKey();
+                iterator.remove();
+                for (String trigram : new LinkedHashSet<>(SearchTokenizer.trigrams(term))) {
+                    List<String> containing = trigramTerms.get(trigram);
+                    containing.remove(term);
+                    if (containing.isEmpty()) {
+                        trigramTerms.remove(trigram);
+                    }
+                }
+            }
+        }
+
+        documentCount = live;
+        deletedCount = 0;
+        deletionEpoch++;
+        deleted = new BitSet();
+    }
+
+    /**
+     * Sorted document entries of one term ({@code document << 1 | inTitle})
+     */
+    private static final class Postings {
+
+        private int[] entries = new int[4];
+        private int size;
+        /**
+         * Deletion epoch (high half) and number of entries of deleted documents (low half) as
+         * last counted; one field so concurrent readers never see a count from another epoch.
+         * Added entries are live, so only a new epoch invalidates the count.
+         */
+        private volatile long deadEntries;
+
+        void add(int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        /**
+         * @return The entry of a document, or -1 if the term does not occur in it
+         */
+        int find(int document) {
+            int index = Arrays.binarySearch(entries, 0, size, document << 1);
+            if (index >= 0) {
+                return entries[index];
+            }
+            int next = -index - 1;
+            return next < size && entries[next] >>> 1 == document ? entries[next] : -1;
+        }
+
+        /**
+         * @return Number of entries of documents that are not deleted
+         */
+        int live(BitSet deleted, int epoch) {
+            long counted = deadEntries;
+            if ((int) (counted >>> 32) != epoch) {
+                int dead = 0;
+                for (int i = 0; i < size; i++) {
+                    if (deleted.get(entries[i] >>> 1)) {
+                        dead++;
+                    }
+                }
+                counted = (long) epoch << 32 | dead;
+                deadEntries = counted;
+            }
+            return size - (int) counted;
+        }
+
+        /**
+         * Apply new document numbers, dropping deleted documents
+         * @return Remaining number of entries
+         */
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[entries[i] >>> 1];
+                if (document >= 0) {
+                    entries[kept++] = document << 1 | (entries[i] & 1);
+                }
+            }
+            size = kept;
+            if (kept < entries.length / 4) {
+                entries = Arrays.copyOf(entries, Math.max(4, kept));
+            }
+            return kept;
+        }
+    }
+
+    private static final class Match {
+
+        private final Postings postings;
+        private final float weight;
+
+        Match(Postings postings, float weight) {
+            this.postings = postings;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanagement.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Change to the search index relayed between nodes, so every node's in-memory index follows
+ * task changes made on any node
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchIndexUpdate {
+
+    public enum Type {
+        /** Index (or re-index) one task with its current text */
+        INDEX,
+        /** Remove tasks (deleted or archived) */
+        REMOVE,
+        /** Remove every task of a deleted project */
+        REMOVE_PROJECT
+    }
+
+    /**
+     * ID of the node where the change was made (it has already applied it)
+     */
+    private String origin;
+
+    private Type type;
+
+    private Long taskId;
+
+    private Long projectId;
+
+    private Long version;
+
+    private String title;
+
+    private String description;
+
+    /**
+     * Tasks to remove (REMOVE)
+     */
+    private List<Long> taskIds;
+
+    static TaskSearchIndexUpdate index(String origin, long taskId, long projectId, long version,
+                                       String title, String description) {
+        return new TaskSearchIndexUpdate(origin, Type.INDEX, taskId, projectId, version, title, description, null);
+    }
+
+    static TaskSearchIndexUpdate remove(String origin, List<Long> taskIds) {
+        return new TaskSearchIndexUpdate(origin, Type.REMOVE, null, null, null, null, null, taskIds);
+    }
+
+    static TaskSearchIndexUpdate removeProject(String origin, long projectId) {
+        return new TaskSearchIndexUpdate(origin, Type.REMOVE_PROJECT, null, projectId, null, null, null, null);
+    }
+}
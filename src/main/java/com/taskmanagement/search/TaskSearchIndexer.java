@@ -0,0 +1,241 @@
+package com.taskmanagement.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.projection.TaskSearchView;
+import com.taskmanagement.websocket.cluster.ClusterBus;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Task Search Indexer
+ * Fills the {@link TaskSearchIndex} from the database once the application is ready, then
+ * keeps it current from committed task and project change events. Events arriving while the
+ * initial load runs win over rows the load reads: newer versions replace older ones, and
+ * tasks deleted meanwhile are not re-added. A load that fails (database unavailable) is
+ * resumed after a backoff that doubles up to {@code app.search.load-retry.max-backoff-ms};
+ * search answers 503 until the load completes.
+ *
+ * Change events are only seen by the node that made the change, which applies them to its own
+ * index and relays the resulting index updates (with the task text) over the cluster bus; every
+ * other node applies them to its index the same way. Search results are loaded from the
+ * database, so a task removed on one node and briefly still indexed on another is not returned.
+ */
+@Component
+@Slf4j
+public class TaskSearchIndexer {
+
+    static final String INDEX_UPDATES_CHANNEL = "search:index-updates";
+
+    private static final Set<String> TEXT_FIELDS = Set.of("title", "description");
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskRepository taskRepository;
+    private final ClusterBus clusterBus;
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final ObjectMapper objectMapper;
+    private final Set<Long> deletedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+    private volatile boolean ready;
+    /** ID of the last task the initial load indexed; only the loading thread touches it */
+    private long loadedThroughId;
+
+    @Value("${app.search.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    @Value("${app.search.load-retry.initial-backoff-ms:1000}")
+    private long initialRetryBackoffMs;
+
+    @Value("${app.search.load-retry.max-backoff-ms:60000}")
+    private long maxRetryBackoffMs;
+
+    public TaskSearchIndexer(TaskSearchIndex taskSearchIndex, TaskRepository taskRepository,
+                             ClusterBus clusterBus, ClusterMessageRelay clusterMessageRelay,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskRepository = taskRepository;
+        this.clusterBus = clusterBus;
+        this.clusterMessageRelay = clusterMessageRelay;
+        this.objectMapper = objectMapper;
+        Gauge.builder("search.index.tasks", taskSearchIndex, TaskSearchIndex::size)
+                .description("Tasks in the search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Listen for index updates relayed by the other nodes, also while the initial load runs
+     * (rows it reads afterwards do not replace newer relayed versions or undo removals)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        clusterBus.subscribe(INDEX_UPDATES_CHANNEL, this::handleRemoteUpdate);
+    }
+
+    /**
+     * Load every task into the index, in ID order and one batch at a time, retrying from the
+     * last loaded task until the load succeeds
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long started = System.currentTimeMillis();
+        loading = true;
+        try {
+            long backoffMs = initialRetryBackoffMs;
+            for (int attempt = 1; !ready; attempt++) {
+                try {
+                    loadRemaining();
+                    ready = true;
+                } catch (Exception e) {
+                    log.error("Failed to load the search index (attempt {}), retrying in {} ms: {}",
+                            attempt, backoffMs, e.getMessage(), e);
+                    Thread.sleep(backoffMs);
+                    backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+                }
+            }
+            log.info("Search index loaded with {} tasks and {} terms in {} ms", taskSearchIndex.size(),
+                    taskSearchIndex.termCount(), System.currentTimeMillis() - started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Search index load interrupted");
+        } finally {
+            loading = false;
+            deletedDuringLoad.clear();
+        }
+    }
+
+    /**
+     * Index the tasks after the last one loaded, so a retried load resumes where it failed
+     */
+    private void loadRemaining() {
+        List<TaskSearchView> batch;
+        do {
+            batch = taskRepository.findSearchViewsAfter(loadedThroughId, PageRequest.of(0, loadBatchSize));
+            for (TaskSearchView task : batch) {
+                taskSearchIndex.index(task.getId(), task.getProjectId(), task.getVersion(),
+                        task.getTitle(), task.getDescription());
+                // Checked after indexing so a delete racing with this row cannot be undone
+                if (deletedDuringLoad.contains(task.getId())) {
+                    taskSearchIndex.remove(task.getId());
+                }
+                loadedThroughId = task.getId();
+            }
+        } while (batch.size() == loadBatchSize);
+    }
+
+    /**
+     * Apply a committed task change
+     */
+    @TransactionalEventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        Map<String, Object> changes = event.getChanges();
+        String origin = clusterMessageRelay.getNodeId();
+        switch (event.getChangeType()) {
+            case DELETED -> relay(TaskSearchIndexUpdate.remove(origin, List.of(event.getTaskId())));
+            // A new task's changes hold all of its fields
+            case CREATED -> relay(TaskSearchIndexUpdate.index(origin, event.getTaskId(), event.getProjectId(),
+                    event.getVersion(), (String) changes.get("title"), (String) changes.get("description")));
+            case UPDATED -> {
+                if (changes.keySet().stream().noneMatch(TEXT_FIELDS::contains)) {
+                    return;
+                }
+                // Only the changed field is in the changes; both are needed to re-tokenize
+                Map<String, Object> state = event.getState();
+                if (state != null) {
+                    relay(TaskSearchIndexUpdate.index(origin, event.getTaskId(), event.getProjectId(),
+                            event.getVersion(), (String) state.get("title"), (String) state.get("description")));
+                } else {
+                    taskRepository.findSearchViewById(event.getTaskId()).ifPresent(task ->
+                            relay(TaskSearchIndexUpdate.index(origin, task.getId(), task.getProjectId(),
+                                    task.getVersion(), task.getTitle(), task.getDescription())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the tasks of a deleted project (they are removed by cascade, without task events)
+     */
+    @TransactionalEventListener
+    public void handleProjectChanged(ProjectChangedEvent event) {
+        if (event.isDeleted()) {
+            relay(TaskSearchIndexUpdate.removeProject(clusterMessageRelay.getNodeId(), event.getProjectId()));
+        }
+    }
+
+    /**
+     * Drop archived tasks; the index covers live tasks only
+     */
+    @TransactionalEventListener
+    public void handleTasksArchived(TasksArchivedEvent event) {
+        relay(TaskSearchIndexUpdate.remove(clusterMessageRelay.getNodeId(), event.getTaskIds()));
+    }
+
+    /**
+     * Apply an index update made on another node
+     */
+    void handleRemoteUpdate(String message) {
+        try {
+            TaskSearchIndexUpdate update = objectMapper.readValue(message, TaskSearchIndexUpdate.class);
+            if (!clusterMessageRelay.getNodeId().equals(update.getOrigin())) {
+                apply(update);
+            }
+        } catch (Exception e) {
+            log.error("Failed to apply relayed search index update: {}", e.getMessage());
+        }
+    }
+
+    private void relay(TaskSearchIndexUpdate update) {
+        apply(update);
+        try {
+            clusterBus.publish(INDEX_UPDATES_CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (Exception e) {
+            log.error("Failed to relay {} search index update: {}", update.getType(), e.getMessage());
+        }
+    }
+
+    private void apply(TaskSearchIndexUpdate update) {
+        switch (update.getType()) {
+            case INDEX -> taskSearchIndex.index(update.getTaskId(), update.getProjectId(), update.getVersion(),
+                    update.getTitle(), update.getDescription());
+            case REMOVE -> {
+                for (Long taskId : update.getTaskIds()) {
+                    if (loading) {
+                        deletedDuringLoad.add(taskId);
+                    }
+                    taskSearchIndex.remove(taskId);
+                }
+            }
+            case REMOVE_PROJECT -> {
+                int removed = taskSearchIndex.removeProject(update.getProjectId());
+                log.debug("Removed {} tasks of deleted project {} from the search index",
+                        removed, update.getProjectId());
+            }
+        }
+    }
+
+    /**
+     * Whether the initial load has completed
+     */
+    public boolean isReady() {
+        return ready;
+    }
+}
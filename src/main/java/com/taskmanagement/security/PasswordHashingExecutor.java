@@ -0,0 +1,125 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Password Hashing Executor
+ * Runs BCrypt work on a fixed pool sized to the CPU count, so a burst of logins can occupy
+ * at most that many cores and request threads serving the rest of the API keep CPU time.
+ * Callers wait for the result; work that finds the queue full, or is not done within the
+ * timeout, fails with {@link ServiceUnavailableException} (503) instead of piling up.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    private ThreadPoolExecutor executor;
+
+    @Value("${app.security.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int threads;
+
+    @Value("${app.security.password-hashing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.security.password-hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time password hashing work waited for a hashing thread")
+                .register(meterRegistry);
+        this.rejectedQueueFull = Counter.builder("password.hashing.rejected")
+                .description("Password hashing work rejected")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("password.hashing.rejected")
+                .description("Password hashing work rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "PasswordHash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing work waiting for a thread")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor started with {} threads", threads);
+    }
+
+    /**
+     * Run hashing work on the pool and wait for its result
+     * @param work Hashing work
+     * @return Result of the work
+     * @throws ServiceUnavailableException if the queue is full or the result takes longer than the timeout
+     */
+    public <T> T execute(Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return work.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw new ServiceUnavailableException("Too many password checks in progress, please retry shortly");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Work that has not started yet is skipped once cancelled
+            future.cancel(false);
+            rejectedTimeout.increment();
+            throw new ServiceUnavailableException("Password check timed out, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a password check");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
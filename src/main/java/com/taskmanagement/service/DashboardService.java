@@ -0,0 +1,17 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.UserDashboardDTO;
+
+/**
+ * Dashboard Service Interface
+ * Serves the "my work" summary of a user in one call
+ */
+public interface DashboardService {
+
+    /**
+     * Get the summary of a user
+     * @param userId User ID
+     * @return Assigned task counts, due date counts, unread notifications and owned projects
+     */
+    UserDashboardDTO getDashboard(Long userId);
+}
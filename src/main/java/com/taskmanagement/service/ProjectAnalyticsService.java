@@ -0,0 +1,42 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.BurndownDTO;
+import com.taskmanagement.dto.CycleTimeDTO;
+import com.taskmanagement.dto.ThroughputDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Project Analytics Service Interface
+ * Charts computed from the task status transition log. Ranges are inclusive days; a missing
+ * end defaults to today and a missing start to a default window before the end.
+ */
+public interface ProjectAnalyticsService {
+
+    /**
+     * Get the open tasks remaining at the end of each day
+     * @param projectId Project ID
+     * @param from First day (optional)
+     * @param to Last day (optional, at most today)
+     * @return One point per day
+     */
+    BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get the tasks created and completed per week
+     * @param projectId Project ID
+     * @param from First day (optional, moved back to the Monday of its week)
+     * @param to Last day (optional, at most today)
+     * @return One entry per week
+     */
+    ThroughputDTO getThroughput(Long projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get lead and cycle time percentiles (50th, 85th, 95th) of the tasks completed in a range
+     * @param projectId Project ID
+     * @param from First day (optional)
+     * @param to Last day (optional, at most today)
+     * @return Percentiles in hours
+     */
+    CycleTimeDTO getCycleTimes(Long projectId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,91 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.ProjectStatus;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.util.ResourceVersion;
+
+import java.util.Optional;
+
+/**
+ * Resource Version Service Interface
+ * Computes ETag/Last-Modified validators for task and project representations
+ * without loading the entities themselves
+ */
+public interface ResourceVersionService {
+
+    /**
+     * Get the version of a single task
+     * @param taskId Task ID
+     * @return Task version if the task exists
+     */
+    Optional<ResourceVersion> getTaskVersion(Long taskId);
+
+    /**
+     * Get the version of an already loaded task
+     * @param task Task entity
+     * @return Task version
+     */
+    ResourceVersion getTaskVersion(Task task);
+
+    /**
+     * Get the version of a single project
+     * @param projectId Project ID
+     * @return Project version if the project exists
+     */
+    Optional<ResourceVersion> getProjectVersion(Long projectId);
+
+    /**
+     * Get the version of an already loaded project
+     * @param project Project entity
+     * @return Project version
+     */
+    ResourceVersion getProjectVersion(Project project);
+
+    /**
+     * Get the version of the collection of all tasks
+     * @return Collection version
+     */
+    ResourceVersion getAllTasksVersion();
+
+    /**
+     * Get the version of the tasks of a project
+     * @param projectId Project ID
+     * @return Collection version
+     */
+    ResourceVersion getProjectTasksVersion(Long projectId);
+
+    /**
+     * Get the version of the tasks assigned to a user
+     * @param userId User ID
+     * @return Collection version
+     */
+    ResourceVersion getAssignedTasksVersion(Long userId);
+
+    /**
+     * Get the version of the tasks created by a user
+     * @param userId User ID
+     * @return Collection version
+     */
+    ResourceVersion getCreatedTasksVersion(Long userId);
+
+    /**
+     * Get the version of the collection of all projects
+     * @return Collection version
+     */
+    ResourceVersion getAllProjectsVersion();
+
+    /**
+     * Get the version of the projects owned by a user
+     * @param ownerId Owner ID
+     * @return Collection version
+     */
+    ResourceVersion getOwnedProjectsVersion(Long ownerId);
+
+    /**
+     * Get the version of the projects with a status
+     * @param status Project status
+     * @return Collection version
+     */
+    ResourceVersion getProjectsByStatusVersion(ProjectStatus status);
+}
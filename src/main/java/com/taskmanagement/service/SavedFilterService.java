@@ -0,0 +1,42 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.SavedFilterRequest;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Service interface for task filters saved by users
+ */
+public interface SavedFilterService {
+
+    /**
+     * Save a filter
+     * @param userId Owner
+     * @param request Filter name and criteria
+     * @return Saved filter
+     */
+    SavedFilter createFilter(Long userId, SavedFilterRequest request);
+
+    /**
+     * Get the filters of a user
+     */
+    List<SavedFilter> getFilters(Long userId);
+
+    /**
+     * Get the current result of a filter; later changes are pushed to its subscribers
+     * @param filterId Filter ID
+     * @param userId Owner
+     * @param pageable Page and sort
+     * @return Page of matching tasks
+     */
+    Page<Task> getFilterTasks(Long filterId, Long userId, Pageable pageable);
+
+    /**
+     * Delete a filter and end its subscriptions
+     */
+    void deleteFilter(Long filterId, Long userId);
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskActivityPageDTO;
+
+/**
+ * Task Activity Service Interface
+ * Reads the append-only log of who changed what on tasks. Entries are written shortly after
+ * the change commits, in batches, and are kept after the task is deleted.
+ */
+public interface TaskActivityService {
+
+    /**
+     * Get the activity of a task, newest first
+     * @param taskId Task ID
+     * @param before Cursor from the previous page (null for the first page)
+     * @param size Page size
+     * @return Page of activity entries
+     */
+    TaskActivityPageDTO getTaskActivity(Long taskId, Long before, int size);
+
+    /**
+     * Get the activity of all tasks of a project, newest first
+     * @param projectId Project ID
+     * @param before Cursor from the previous page (null for the first page)
+     * @param size Page size
+     * @return Page of activity entries
+     */
+    TaskActivityPageDTO getProjectActivity(Long projectId, Long before, int size);
+}
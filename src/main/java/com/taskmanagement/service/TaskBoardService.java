@@ -0,0 +1,32 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskBoardColumnPageDTO;
+import com.taskmanagement.dto.TaskBoardDTO;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.util.ResourceVersion;
+
+/**
+ * Task Board Service Interface
+ * Serves the Kanban board of a project: all status columns in one round trip
+ */
+public interface TaskBoardService {
+
+    /**
+     * Get the board of a project
+     * @param projectId Project ID
+     * @param columnSize Cards per column
+     * @param version Current version of the project's tasks, used as the cache key
+     * @return Board with every status column, its first cards and its total
+     */
+    TaskBoardDTO getBoard(Long projectId, int columnSize, ResourceVersion version);
+
+    /**
+     * Get further cards of a board column
+     * @param projectId Project ID
+     * @param status Column status
+     * @param cursor Cursor from the board or a previous page (null to start at the top)
+     * @param size Cards to return
+     * @return Cards after the cursor
+     */
+    TaskBoardColumnPageDTO getColumn(Long projectId, TaskStatus status, String cursor, int size);
+}
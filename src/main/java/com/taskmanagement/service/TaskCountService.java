@@ -0,0 +1,20 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.TaskStatus;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Task Count Service Interface
+ * Counts project tasks with aggregate queries instead of initializing task collections
+ */
+public interface TaskCountService {
+
+    /**
+     * Get the number of tasks per status for each project
+     * @param projectIds Project IDs, typically one page of projects
+     * @return Project ID to task count per status; projects without tasks are absent
+     */
+    Map<Long, Map<TaskStatus, Long>> getTaskCountsByProject(Collection<Long> projectIds);
+}
@@ -0,0 +1,34 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.filter.TaskFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for filtering tasks by several criteria at once
+ */
+public interface TaskFilterService {
+
+    /**
+     * Find the tasks matching every given criterion
+     * @param filter Filter criteria
+     * @param pageable Page and sort (by id, title, status, priority, dueDate, createdAt or updatedAt)
+     * @return Page of matching tasks, with project, creator and assignee initialized
+     */
+    Page<Task> filterTasks(TaskFilter filter, Pageable pageable);
+
+    /**
+     * Find the tasks matching every given criterion among those a user can see: all tasks
+     * for admins and managers, otherwise tasks in the user's projects and tasks the user
+     * created or is assigned to
+     * @param filter Filter criteria
+     * @param pageable Page and sort (by id, title, status, priority, dueDate, createdAt or updatedAt)
+     * @param userId Calling user
+     * @param allProjects Whether the user can see every project (admins and managers)
+     * @return Page of matching tasks, with project, creator and assignee initialized
+     * @throws com.taskmanagement.exception.UnauthorizedException if the filter names a project
+     *         the user is not a member of
+     */
+    Page<Task> filterTasks(TaskFilter filter, Pageable pageable, Long userId, boolean allProjects);
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskSearchResultDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for full-text task search
+ */
+public interface TaskSearchService {
+
+    /**
+     * Search task titles and descriptions
+     * @param userId Searching user; results are limited to projects the user is a member of
+     * @param allProjects Whether the user may search every project (admins and managers)
+     * @param query Search text; every word must match, exactly, as a prefix, inside a longer word or approximately
+     * @param projectId Project to search in (null for all accessible projects)
+     * @param limit Maximum number of results
+     * @param includeArchived Whether to fill up the results with archived tasks containing every query word
+     * @return Matching tasks, best match first, then archived matches (score 0) newest first
+     */
+    List<TaskSearchResultDTO> searchTasks(Long userId, boolean allProjects, String query, Long projectId, int limit,
+                                          boolean includeArchived);
+}
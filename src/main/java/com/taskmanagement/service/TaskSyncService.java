@@ -0,0 +1,50 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskChangesDTO;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.User;
+
+import java.util.Map;
+
+/**
+ * Task Sync Service Interface
+ * Records task changes and serves incremental "changed since cursor" reads
+ */
+public interface TaskSyncService {
+
+    /**
+     * Record a change to a task in the change log.
+     * Must be called inside the transaction that modifies the task.
+     * @param task Task that changed
+     * @param changeType Kind of change
+     */
+    void recordChange(Task task, TaskChangeType changeType);
+
+    /**
+     * Record a change to a task whose assignee was replaced
+     * @param task Task that changed
+     * @param changeType Kind of change
+     * @param previousAssigneeId ID of the assignee before the change (optional)
+     */
+    void recordChange(Task task, TaskChangeType changeType, Long previousAssigneeId);
+
+    /**
+     * Record a change to a task, publishing only the fields that differ from a prior snapshot
+     * @param task Task that changed
+     * @param changeType Kind of change
+     * @param previousAssigneeId ID of the assignee before the change (optional)
+     * @param previousFields Delta fields of the task before the change (null to publish all fields)
+     */
+    void recordChange(Task task, TaskChangeType changeType, Long previousAssigneeId,
+                      Map<String, Object> previousFields);
+
+    /**
+     * Get tasks created, updated or deleted since a cursor, scoped to the user
+     * @param user Requesting user
+     * @param since Cursor returned by the previous call (0 for a full sync)
+     * @param limit Maximum number of changes to return
+     * @return Changed tasks, tombstones and the next cursor
+     */
+    TaskChangesDTO getChangesSince(User user, long since, int limit);
+}
@@ -1,6 +1,8 @@
 package com.taskmanagement.service.impl;
 
 import com.taskmanagement.service.CacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -12,6 +14,10 @@ import java.util.concurrent.TimeUnit;
 /**
  * Cache Service Implementation
  * Handles Redis caching operations for user sessions, projects, and tasks
+ *
+ * Reads are counted as {@code cache.service.gets} (result=hit|miss) and timed as
+ * {@code cache.service.latency}, both tagged with the cache name: the key prefix before the
+ * first ':' (e.g. "project" for "project:42")
  */
 @Service
 @RequiredArgsConstructor
@@ -19,17 +25,21 @@ import java.util.concurrent.TimeUnit;
 public class CacheServiceImpl implements CacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Store value in cache
      */
     @Override
     public void put(String key, Object value) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             redisTemplate.opsForValue().set(key, value);
             log.debug("Cached value for key: {}", key);
         } catch (Exception e) {
             log.error("Error caching value for key: {}", key, e);
+        } finally {
+            stop(sample, key, "put");
         }
     }
 
@@ -38,11 +48,14 @@ public class CacheServiceImpl implements CacheService {
      */
     @Override
     public void put(String key, Object value, long timeout, TimeUnit unit) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             redisTemplate.opsForValue().set(key, value, timeout, unit);
             log.debug("Cached value for key: {} with expiration: {} {}", key, timeout, unit);
         } catch (Exception e) {
             log.error("Error caching value with expiration for key: {}", key, e);
+        } finally {
+            stop(sample, key, "put");
         }
     }
 
@@ -51,13 +64,17 @@ public class CacheServiceImpl implements CacheService {
      */
     @Override
     public Object get(String key) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object value = null;
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            value = redisTemplate.opsForValue().get(key);
             log.debug("Retrieved cached value for key: {}", key);
             return value;
         } catch (Exception e) {
             log.error("Error retrieving cached value for key: {}", key, e);
             return null;
+        } finally {
+            recordGet(sample, key, value != null);
         }
     }
 
@@ -67,16 +84,21 @@ public class CacheServiceImpl implements CacheService {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(String key, Class<T> type) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean hit = false;
         try {
             Object value = redisTemplate.opsForValue().get(key);
             if (value != null && type.isInstance(value)) {
                 log.debug("Retrieved cached value for key: {} of type: {}", key, type.getSimpleName());
+                hit = true;
                 return (T) value;
             }
             return null;
         } catch (Exception e) {
             log.error("Error retrieving cached value for key: {} with type: {}", key, type.getSimpleName(), e);
             return null;
+        } finally {
+            recordGet(sample, key, hit);
         }
     }
 
@@ -151,4 +173,19 @@ public class CacheServiceImpl implements CacheService {
             log.error("Error setting expiration for key: {}", key, e);
         }
     }
+
+    private void recordGet(Timer.Sample sample, String key, boolean hit) {
+        String cache = cacheName(key);
+        meterRegistry.counter("cache.service.gets", "cache", cache, "result", hit ? "hit" : "miss").increment();
+        stop(sample, key, "get");
+    }
+
+    private void stop(Timer.Sample sample, String key, String operation) {
+        sample.stop(meterRegistry.timer("cache.service.latency", "cache", cacheName(key), "operation", operation));
+    }
+
+    private String cacheName(String key) {
+        int separator = key.indexOf(':');
+        return separator > 0 ? key.substring(0, separator) : "default";
+    }
 }
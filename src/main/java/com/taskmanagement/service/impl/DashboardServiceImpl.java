@@ -0,0 +1,68 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dashboard.UserDashboard;
+import com.taskmanagement.dashboard.UserDashboardStore;
+import com.taskmanagement.dto.UserDashboardDTO;
+import com.taskmanagement.notification.NotificationPartitionManager;
+import com.taskmanagement.repository.NotificationRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.projection.AssignedTaskCountView;
+import com.taskmanagement.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Dashboard Service Implementation
+ *
+ * A user's summary is loaded with three aggregate queries on first use and then kept in
+ * memory, adjusted by {@link com.taskmanagement.dashboard.DashboardUpdateListener} as tasks,
+ * notifications and projects change. Reads of a stored summary run no SQL, so the method
+ * is deliberately not transactional.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private final UserDashboardStore store;
+    private final TaskRepository taskRepository;
+    private final NotificationRepository notificationRepository;
+    private final ProjectRepository projectRepository;
+    private final NotificationPartitionManager partitionManager;
+
+    /**
+     * Get the summary of a user, loading it if it is not stored
+     */
+    @Override
+    public UserDashboardDTO getDashboard(Long userId) {
+        UserDashboard dashboard = store.get(userId);
+        if (dashboard == null) {
+            long stamp = store.stamp(userId);
+            dashboard = load(userId);
+            if (!store.putIfUnchanged(userId, dashboard, stamp)) {
+                log.debug("Dashboard of user {} changed while loading; not stored", userId);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime weekEnd = now.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+        return dashboard.toDTO(now, weekEnd);
+    }
+
+    private UserDashboard load(Long userId) {
+        log.debug("Loading dashboard of user {}", userId);
+        UserDashboard dashboard = new UserDashboard(
+                notificationRepository.countUnreadByUserIdSince(userId, partitionManager.getRetentionHorizon()),
+                projectRepository.countByOwnerId(userId));
+        for (AssignedTaskCountView row : taskRepository.countAssignedByStatusAndDueDate(userId)) {
+            dashboard.addTasks(row.getStatus(), row.getDueDate(), row.getCount());
+        }
+        return dashboard;
+    }
+}
@@ -3,6 +3,7 @@ package com.taskmanagement.service.impl;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.service.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.MailException;
@@ -13,7 +14,7 @@ import org.springframework.stereotype.Service;
 
 /**
  * Email Service Implementation
- * Handles sending emails asynchronously with retry logic
+ * Handles sending emails asynchronously (on the emailExecutor pool) with retry logic
  */
 @Service
 @RequiredArgsConstructor
@@ -21,12 +22,13 @@ import org.springframework.stereotype.Service;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Send welcome email to newly registered user
      */
     @Override
-    @Async
+    @Async("emailExecutor")
     public void sendWelcomeEmail(User user) {
         log.info("Sending welcome email to: {}", user.getEmail());
 
@@ -54,7 +56,7 @@ public class EmailServiceImpl implements EmailService {
      * Send task assignment notification email
      */
     @Override
-    @Async
+    @Async("emailExecutor")
     public void sendTaskAssignmentEmail(Task task, User assignee) {
         log.info("Sending task assignment email to: {}", assignee.getEmail());
 
@@ -87,7 +89,7 @@ public class EmailServiceImpl implements EmailService {
      * Send task update notification email
      */
     @Override
-    @Async
+    @Async("emailExecutor")
     public void sendTaskUpdateEmail(Task task, User recipient, String updateMessage) {
         log.info("Sending task update email to: {}", recipient.getEmail());
 
@@ -118,7 +120,7 @@ public class EmailServiceImpl implements EmailService {
      * Send generic email
      */
     @Override
-    @Async
+    @Async("emailExecutor")
     public void sendEmail(String recipient, String subject, String body) {
         log.info("Sending email to: {}", recipient);
         sendEmailWithRetry(recipient, subject, body);
@@ -162,5 +164,7 @@ public class EmailServiceImpl implements EmailService {
                 }
             }
         }
+
+        meterRegistry.counter("email.sent", "outcome", sent ? "success" : "failure").increment();
     }
 }
@@ -4,12 +4,15 @@ import com.taskmanagement.dto.NotificationDTO;
 import com.taskmanagement.entity.Notification;
 import com.taskmanagement.entity.NotificationType;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.event.UnreadNotificationsChangedEvent;
 import com.taskmanagement.mapper.NotificationMapper;
+import com.taskmanagement.notification.NotificationPartitionManager;
 import com.taskmanagement.repository.NotificationRepository;
 import com.taskmanagement.service.NotificationService;
 import com.taskmanagement.websocket.WebSocketNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,7 +22,8 @@ import java.util.List;
 
 /**
  * Notification Service Implementation
- * Handles notification creation, retrieval, and management
+ * Handles notification creation, retrieval, and management. Reads only see notifications
+ * within the retention period, which also limits them to the recent monthly partitions.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +33,8 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final WebSocketNotificationService webSocketNotificationService;
     private final NotificationMapper notificationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationPartitionManager partitionManager;
 
     /**
      * Create a notification
@@ -46,6 +52,7 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setRead(false);
 
         Notification savedNotification = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new UnreadNotificationsChangedEvent(user.getId(), 1));
         log.info("Notification created successfully with ID: {}", savedNotification.getId());
 
         // Send real-time notification via WebSocket
@@ -66,7 +73,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional(readOnly = true)
     public Page<Notification> getUserNotifications(User user, Pageable pageable) {
         log.debug("Fetching notifications for user: {}", user.getUsername());
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        return notificationRepository.findByUserSince(user, partitionManager.getRetentionHorizon(), pageable);
     }
 
     /**
@@ -76,7 +83,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional(readOnly = true)
     public List<Notification> getUnreadNotifications(User user) {
         log.debug("Fetching unread notifications for user: {}", user.getUsername());
-        return notificationRepository.findByUserAndIsReadFalse(user);
+        return notificationRepository.findUnreadByUserSince(user, partitionManager.getRetentionHorizon());
     }
 
     /**
@@ -86,7 +93,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional(readOnly = true)
     public long getUnreadNotificationCount(User user) {
         log.debug("Counting unread notifications for user: {}", user.getUsername());
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        return notificationRepository.countUnreadByUserIdSince(user.getId(), partitionManager.getRetentionHorizon());
     }
 
     /**
@@ -110,8 +117,12 @@ public class NotificationServiceImpl implements NotificationService {
             throw new RuntimeException("You do not have permission to update this notification");
         }
 
+        boolean wasUnread = !notification.isRead();
         notification.setRead(true);
         Notification updatedNotification = notificationRepository.save(notification);
+        if (wasUnread) {
+            eventPublisher.publishEvent(new UnreadNotificationsChangedEvent(user.getId(), -1));
+        }
         log.info("Notification {} marked as read successfully", notificationId);
 
         return updatedNotification;
@@ -125,10 +136,14 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAllAsRead(User user) {
         log.info("Marking all notifications as read for user: {}", user.getUsername());
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserAndIsReadFalse(user);
+        List<Notification> unreadNotifications = notificationRepository.findUnreadByUserSince(
+                user, partitionManager.getRetentionHorizon());
 
         unreadNotifications.forEach(notification -> notification.setRead(true));
         notificationRepository.saveAll(unreadNotifications);
+        if (!unreadNotifications.isEmpty()) {
+            eventPublisher.publishEvent(new UnreadNotificationsChangedEvent(user.getId(), -unreadNotifications.size()));
+        }
 
         log.info("Marked {} notifications as read for user: {}",
                 unreadNotifications.size(), user.getUsername());
@@ -156,6 +171,9 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notificationRepository.deleteById(notificationId);
+        if (!notification.isRead()) {
+            eventPublisher.publishEvent(new UnreadNotificationsChangedEvent(user.getId(), -1));
+        }
         log.info("Notification deleted successfully: {}", notificationId);
     }
 
@@ -0,0 +1,221 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.analytics.DailyRollup;
+import com.taskmanagement.analytics.DurationHistogram;
+import com.taskmanagement.dto.BurndownDTO;
+import com.taskmanagement.dto.BurndownPointDTO;
+import com.taskmanagement.dto.CycleTimeDTO;
+import com.taskmanagement.dto.DurationPercentilesDTO;
+import com.taskmanagement.dto.ThroughputDTO;
+import com.taskmanagement.dto.ThroughputWeekDTO;
+import com.taskmanagement.entity.TaskDurationMetric;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.TaskStatusTransition;
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.repository.ProjectDailyDurationRepository;
+import com.taskmanagement.repository.ProjectDailyStatsRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusTransitionRepository;
+import com.taskmanagement.service.ProjectAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Project Analytics Service Implementation
+ *
+ * Days up to the last one rolled up by {@link com.taskmanagement.analytics.AnalyticsRollupJob}
+ * are read from the daily rollup tables, one row per project and day; later days (normally
+ * only today and yesterday) are added up from the raw transitions the same way the job does.
+ * A year of history is therefore a few hundred small rows whatever the number of tasks.
+ *
+ * The burndown is anchored on the current number of open tasks and walked backwards through
+ * the daily changes, so it is exact today even for tasks older than the transition log.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectAnalyticsServiceImpl implements ProjectAnalyticsService {
+
+    private static final List<TaskStatus> OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(DailyRollup::isOpen)
+            .toList();
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskStatusTransitionRepository transitionRepository;
+    private final ProjectDailyStatsRepository dailyStatsRepository;
+    private final ProjectDailyDurationRepository dailyDurationRepository;
+
+    @Value("${app.analytics.default-range-days:90}")
+    private int defaultRangeDays;
+
+    @Value("${app.analytics.max-range-days:731}")
+    private int maxRangeDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate end = resolveEnd(to, today);
+        LocalDate start = resolveStart(from, end);
+        checkProject(projectId);
+
+        LocalDate latestRolledUp = dailyStatsRepository.findLatestDay();
+        SortedMap<LocalDate, DailyRollup> days = loadDays(projectId, start, end, latestRolledUp, false);
+
+        // Open tasks at the end of the range: open now, less what opened since
+        long remaining = taskRepository.countByProjectIdAndStatusIn(projectId, OPEN_STATUSES);
+        if (end.isBefore(today)) {
+            remaining -= openDeltaSince(projectId, end.plusDays(1), latestRolledUp);
+        }
+
+        List<BurndownPointDTO> points = new ArrayList<>();
+        for (LocalDate day = end; !day.isBefore(start); day = day.minusDays(1)) {
+            DailyRollup rollup = days.getOrDefault(day, new DailyRollup());
+            points.add(new BurndownPointDTO(day, remaining, rollup.getCreated(), rollup.getCompleted()));
+            remaining -= rollup.getOpenDelta();
+        }
+        Collections.reverse(points);
+
+        return new BurndownDTO(projectId, start, end, points);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ThroughputDTO getThroughput(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate end = resolveEnd(to, LocalDate.now());
+        LocalDate start = resolveStart(from, end).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        checkProject(projectId);
+
+        SortedMap<LocalDate, DailyRollup> days =
+                loadDays(projectId, start, end, dailyStatsRepository.findLatestDay(), false);
+
+        List<ThroughputWeekDTO> weeks = new ArrayList<>();
+        for (LocalDate weekStart = start; !weekStart.isAfter(end); weekStart = weekStart.plusWeeks(1)) {
+            long created = 0;
+            long completed = 0;
+            for (DailyRollup rollup : days.subMap(weekStart, weekStart.plusWeeks(1)).values()) {
+                created += rollup.getCreated();
+                completed += rollup.getCompleted();
+            }
+            weeks.add(new ThroughputWeekDTO(weekStart, created, completed));
+        }
+
+        return new ThroughputDTO(projectId, start, end, weeks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CycleTimeDTO getCycleTimes(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate end = resolveEnd(to, LocalDate.now());
+        LocalDate start = resolveStart(from, end);
+        checkProject(projectId);
+
+        SortedMap<LocalDate, DailyRollup> days =
+                loadDays(projectId, start, end, dailyStatsRepository.findLatestDay(), true);
+
+        DailyRollup total = new DailyRollup();
+        for (DailyRollup rollup : days.values()) {
+            for (TaskDurationMetric metric : TaskDurationMetric.values()) {
+                rollup.getDurations(metric).forEach((bucket, count) -> total.addDuration(metric, bucket, count));
+            }
+        }
+
+        return new CycleTimeDTO(projectId, start, end,
+                percentiles(total.getDurations(TaskDurationMetric.LEAD_TIME)),
+                percentiles(total.getDurations(TaskDurationMetric.CYCLE_TIME)));
+    }
+
+    /**
+     * Load the days of a project in a range, from the rollups where available
+     * @param latestRolledUp Last rolled-up day (null if none)
+     * @param withDurations Whether the duration histograms are needed
+     */
+    private SortedMap<LocalDate, DailyRollup> loadDays(Long projectId, LocalDate from, LocalDate to,
+                                                       LocalDate latestRolledUp, boolean withDurations) {
+        SortedMap<LocalDate, DailyRollup> days = new TreeMap<>();
+
+        LocalDate liveFrom = from;
+        if (latestRolledUp != null && !latestRolledUp.isBefore(from)) {
+            LocalDate rolledUpTo = latestRolledUp.isBefore(to) ? latestRolledUp : to;
+            dailyStatsRepository.findByProjectIdAndDayBetween(projectId, from, rolledUpTo)
+                    .forEach(stats -> days.computeIfAbsent(stats.getDay(), d -> new DailyRollup()).add(stats));
+            if (withDurations) {
+                dailyDurationRepository.findByProjectIdAndDayBetween(projectId, from, rolledUpTo)
+                        .forEach(duration -> days.computeIfAbsent(duration.getDay(), d -> new DailyRollup()).add(duration));
+            }
+            liveFrom = latestRolledUp.plusDays(1);
+        }
+
+        if (!liveFrom.isAfter(to)) {
+            List<TaskStatusTransition> transitions = transitionRepository.findByProjectIdInRange(
+                    projectId, liveFrom.atStartOfDay(), to.plusDays(1).atStartOfDay());
+            for (TaskStatusTransition transition : transitions) {
+                days.computeIfAbsent(transition.getTransitionedAt().toLocalDate(), d -> new DailyRollup())
+                        .add(transition);
+            }
+            log.debug("Added up {} live transitions of project {} from {}", transitions.size(), projectId, liveFrom);
+        }
+        return days;
+    }
+
+    /**
+     * Change in the number of open tasks of a project from the start of a day until now
+     */
+    private long openDeltaSince(Long projectId, LocalDate from, LocalDate latestRolledUp) {
+        if (latestRolledUp == null || latestRolledUp.isBefore(from)) {
+            return transitionRepository.sumOpenDeltaSince(projectId, from.atStartOfDay());
+        }
+        return dailyStatsRepository.sumOpenDelta(projectId, from, latestRolledUp)
+                + transitionRepository.sumOpenDeltaSince(projectId, latestRolledUp.plusDays(1).atStartOfDay());
+    }
+
+    private DurationPercentilesDTO percentiles(SortedMap<Integer, Long> buckets) {
+        long count = buckets.values().stream().mapToLong(Long::longValue).sum();
+        return new DurationPercentilesDTO(count,
+                hours(DurationHistogram.percentile(buckets, 50)),
+                hours(DurationHistogram.percentile(buckets, 85)),
+                hours(DurationHistogram.percentile(buckets, 95)));
+    }
+
+    private Double hours(Double minutes) {
+        return minutes != null ? Math.round(minutes / 6.0) / 10.0 : null;
+    }
+
+    private LocalDate resolveEnd(LocalDate to, LocalDate today) {
+        return to == null || to.isAfter(today) ? today : to;
+    }
+
+    private LocalDate resolveStart(LocalDate from, LocalDate end) {
+        LocalDate start = from != null ? from : end.minusDays(defaultRangeDays - 1L);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("Range start " + start + " is after its end " + end);
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new BadRequestException("Range may cover at most " + maxRangeDays + " days");
+        }
+        return start;
+    }
+
+    private void checkProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+    }
+}
@@ -2,19 +2,34 @@ package com.taskmanagement.service.impl;
 
 import com.taskmanagement.entity.Project;
 import com.taskmanagement.entity.ProjectStatus;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChangeType;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.event.OwnedProjectsChangedEvent;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.exception.PreconditionFailedException;
+import com.taskmanagement.mapper.ProjectMapper;
 import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.ResourceVersionService;
+import com.taskmanagement.service.TaskSyncService;
+import com.taskmanagement.util.FieldChanges;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Project Service Implementation
@@ -26,6 +41,11 @@ import java.util.Optional;
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskSyncService taskSyncService;
+    private final ResourceVersionService resourceVersionService;
+    private final ProjectMapper projectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new project
@@ -52,6 +72,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         Project savedProject = projectRepository.save(project);
         log.info("Project created successfully with ID: {}", savedProject.getId());
+        eventPublisher.publishEvent(new OwnedProjectsChangedEvent(owner.getId(), 1));
 
         return savedProject;
     }
@@ -97,12 +118,14 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     /**
-     * Update project
+     * Update project. A conditional update (If-Match) fails with 412 when the project is no
+     * longer at the version the client read, including when another writer commits between
+     * the check and the versioned write.
      */
     @Override
     @Transactional
     public Project updateProject(Long projectId, String name, String description,
-                                ProjectStatus status, LocalDate startDate, LocalDate endDate) {
+                                ProjectStatus status, LocalDate startDate, LocalDate endDate, String ifMatch) {
         log.info("Updating project: {}", projectId);
 
         Project project = projectRepository.findById(projectId)
@@ -110,6 +133,10 @@ public class ProjectServiceImpl implements ProjectService {
                     log.error("Project not found with ID: {}", projectId);
                     return new RuntimeException("Project not found with ID: " + projectId);
                 });
+        if (ifMatch != null && !resourceVersionService.getProjectVersion(project).matches(ifMatch)) {
+            throw new PreconditionFailedException("Project " + projectId + " has been modified since it was read");
+        }
+        Map<String, Object> previousFields = projectMapper.toDeltaFields(project);
 
         // Update fields if provided
         if (name != null && !name.isEmpty()) {
@@ -139,7 +166,17 @@ public class ProjectServiceImpl implements ProjectService {
             throw new IllegalArgumentException("End date cannot be before start date");
         }
 
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject;
+        try {
+            updatedProject = projectRepository.saveAndFlush(project);
+        } catch (OptimisticLockingFailureException e) {
+            if (ifMatch != null) {
+                throw new PreconditionFailedException("Project " + projectId + " was modified concurrently");
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(new ProjectChangedEvent(updatedProject.getId(), updatedProject.getVersion(),
+                false, FieldChanges.between(previousFields, projectMapper.toDeltaFields(updatedProject)), Set.of()));
         log.info("Project updated successfully: {}", updatedProject.getId());
 
         return updatedProject;
@@ -153,12 +190,24 @@ public class ProjectServiceImpl implements ProjectService {
     public void deleteProject(Long projectId) {
         log.info("Deleting project: {}", projectId);
 
-        if (!projectRepository.existsById(projectId)) {
-            log.error("Project not found with ID: {}", projectId);
-            throw new RuntimeException("Project not found with ID: " + projectId);
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> {
+                    log.error("Project not found with ID: {}", projectId);
+                    return new RuntimeException("Project not found with ID: " + projectId);
+                });
+
+        // Tasks are removed by cascade; leave tombstones so synced clients drop them too
+        Set<Long> assigneeIds = new HashSet<>();
+        for (Task task : taskRepository.findByProject(project)) {
+            taskSyncService.recordChange(task, TaskChangeType.DELETED);
+            if (task.getAssignedTo() != null) {
+                assigneeIds.add(task.getAssignedTo().getId());
+            }
         }
 
         projectRepository.deleteById(projectId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, project.getVersion(), true, Map.of(), assigneeIds));
+        eventPublisher.publishEvent(new OwnedProjectsChangedEvent(project.getOwner().getId(), -1));
         log.info("Project deleted successfully: {}", projectId);
     }
 
@@ -0,0 +1,190 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.datasource.ReadFromPrimary;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.ProjectStatus;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.projection.VersionView;
+import com.taskmanagement.service.ResourceVersionService;
+import com.taskmanagement.util.DateUtil;
+import com.taskmanagement.util.ResourceVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Resource Version Service Implementation
+ *
+ * Single tasks and projects are versioned by their optimistic lock column. Task collections
+ * are versioned by the highest task change log ID in scope, which every task write bumps
+ * in the same transaction. Task representations embed the project name, so task versions
+ * also fold in the project version. Project representations carry task counts, so project
+ * versions fold in the latest task change of the project (collections: of any project).
+ * Archived tasks keep the version they had when they were archived.
+ *
+ * Versions are read from the primary even where replicas serve reads: a replica that lags
+ * would hand out old ETags and answer 304 for changes it has not seen yet. The request then
+ * reads its body from the primary too, so the body is never older than its ETag.
+ */
+@Service
+@ReadFromPrimary
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskChangeRepository taskChangeRepository;
+
+    /**
+     * Get task version by ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTaskVersion(Long taskId) {
+        return taskRepository.findVersionById(taskId)
+                .or(() -> archivedTaskRepository.findVersionById(taskId))
+                .map(view -> taskVersion(view.getId(), view.getVersion(), view.getUpdatedAt(),
+                        view.getProjectVersion(), view.getProjectUpdatedAt()));
+    }
+
+    /**
+     * Get version of a loaded task
+     */
+    @Override
+    public ResourceVersion getTaskVersion(Task task) {
+        Project project = task.getProject();
+        return taskVersion(task.getId(), task.getVersion(), task.getUpdatedAt(),
+                project.getVersion(), project.getUpdatedAt());
+    }
+
+    /**
+     * Get project version by ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getProjectVersion(Long projectId) {
+        return projectRepository.findVersionById(projectId)
+                .map(view -> projectVersion(projectId, view.getVersion(), view.getLastModified(),
+                        taskChangeRepository.findLatestVersionByProjectId(projectId)));
+    }
+
+    /**
+     * Get version of a loaded project
+     */
+    @Override
+    public ResourceVersion getProjectVersion(Project project) {
+        return projectVersion(project.getId(), project.getVersion(), project.getUpdatedAt(),
+                taskChangeRepository.findLatestVersionByProjectId(project.getId()));
+    }
+
+    /**
+     * Get version of all tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllTasksVersion() {
+        return collectionVersion("tasks", taskChangeRepository.findLatestVersion(),
+                projectRepository.findCollectionVersion());
+    }
+
+    /**
+     * Get version of the tasks of a project
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getProjectTasksVersion(Long projectId) {
+        Optional<VersionView> project = projectRepository.findVersionById(projectId);
+        VersionView tasks = taskChangeRepository.findLatestVersionByProjectId(projectId);
+        LocalDateTime projectUpdatedAt = project.map(VersionView::getLastModified).orElse(null);
+        return ResourceVersion.of(
+                Math.max(DateUtil.toEpochMilli(tasks.getLastModified()), DateUtil.toEpochMilli(projectUpdatedAt)),
+                "project-tasks", projectId, tasks.getVersion(), project.map(VersionView::getVersion).orElse(null));
+    }
+
+    /**
+     * Get version of the tasks assigned to a user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAssignedTasksVersion(Long userId) {
+        return collectionVersion("assigned-tasks:" + userId,
+                taskChangeRepository.findLatestVersionByAssigneeId(userId),
+                projectRepository.findCollectionVersion());
+    }
+
+    /**
+     * Get version of the tasks created by a user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getCreatedTasksVersion(Long userId) {
+        return collectionVersion("created-tasks:" + userId,
+                taskChangeRepository.findLatestVersionByCreatedById(userId),
+                projectRepository.findCollectionVersion());
+    }
+
+    /**
+     * Get version of all projects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllProjectsVersion() {
+        return collectionVersion("projects", projectRepository.findCollectionVersion(),
+                taskChangeRepository.findLatestVersion());
+    }
+
+    /**
+     * Get version of the projects owned by a user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getOwnedProjectsVersion(Long ownerId) {
+        return collectionVersion("owned-projects:" + ownerId,
+                projectRepository.findCollectionVersionByOwnerId(ownerId),
+                taskChangeRepository.findLatestVersion());
+    }
+
+    /**
+     * Get version of the projects with a status
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getProjectsByStatusVersion(ProjectStatus status) {
+        return collectionVersion("projects:" + status,
+                projectRepository.findCollectionVersionByStatus(status),
+                taskChangeRepository.findLatestVersion());
+    }
+
+    private ResourceVersion taskVersion(Long taskId, Long version, LocalDateTime updatedAt,
+                                        Long projectVersion, LocalDateTime projectUpdatedAt) {
+        long lastModified = Math.max(DateUtil.toEpochMilli(updatedAt), DateUtil.toEpochMilli(projectUpdatedAt));
+        return ResourceVersion.of(lastModified, "task", taskId, version, projectVersion);
+    }
+
+    private ResourceVersion projectVersion(Long projectId, Long version, LocalDateTime updatedAt, VersionView tasks) {
+        long lastModified = Math.max(DateUtil.toEpochMilli(updatedAt), DateUtil.toEpochMilli(tasks.getLastModified()));
+        return ResourceVersion.of(lastModified, "project", projectId, version, tasks.getVersion());
+    }
+
+    private ResourceVersion collectionVersion(String name, VersionView... views) {
+        Object[] parts = new Object[views.length * 2 + 1];
+        long lastModified = -1;
+        parts[0] = name;
+        for (int i = 0; i < views.length; i++) {
+            parts[i * 2 + 1] = views[i].getVersion();
+            parts[i * 2 + 2] = views[i].getLastModified();
+            lastModified = Math.max(lastModified, DateUtil.toEpochMilli(views[i].getLastModified()));
+        }
+        return ResourceVersion.of(lastModified, parts);
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.SavedFilterRequest;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.event.SavedFilterDeletedEvent;
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.repository.SavedFilterRepository;
+import com.taskmanagement.repository.filter.TaskFilter;
+import com.taskmanagement.service.SavedFilterService;
+import com.taskmanagement.service.TaskFilterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Saved Filter Service Implementation
+ * Results are read with the task filter query; live updates come from
+ * {@link com.taskmanagement.savedfilter.SavedFilterSubscriptionListener}
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavedFilterServiceImpl implements SavedFilterService {
+
+    private final SavedFilterRepository savedFilterRepository;
+    private final TaskFilterService taskFilterService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.saved-filters.max-per-user:50}")
+    private int maxFiltersPerUser;
+
+    /**
+     * Save a filter
+     */
+    @Override
+    @Transactional
+    public SavedFilter createFilter(Long userId, SavedFilterRequest request) {
+        if (request.getDueFrom() != null && request.getDueTo() != null
+                && !request.getDueFrom().isBefore(request.getDueTo())) {
+            throw new BadRequestException("dueFrom must be before dueTo");
+        }
+        if (request.isUnassigned() && request.getAssigneeId() != null) {
+            throw new BadRequestException("unassigned and assigneeId cannot be combined");
+        }
+        if (savedFilterRepository.countByOwnerId(userId) >= maxFiltersPerUser) {
+            throw new BadRequestException("A user can save at most " + maxFiltersPerUser + " filters");
+        }
+
+        SavedFilter filter = new SavedFilter();
+        filter.setOwnerId(userId);
+        filter.setName(request.getName());
+        filter.setProjectId(request.getProjectId());
+        if (request.getStatuses() != null) {
+            filter.setStatuses(new HashSet<>(request.getStatuses()));
+        }
+        if (request.getPriorities() != null) {
+            filter.setPriorities(new HashSet<>(request.getPriorities()));
+        }
+        filter.setAssigneeId(request.getAssigneeId());
+        filter.setUnassigned(request.isUnassigned());
+        filter.setDueFrom(request.getDueFrom());
+        filter.setDueTo(request.getDueTo());
+
+        SavedFilter saved = savedFilterRepository.save(filter);
+        log.info("User {} saved filter {} ({})", userId, saved.getId(), saved.getName());
+        return saved;
+    }
+
+    /**
+     * Get the filters of a user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedFilter> getFilters(Long userId) {
+        return savedFilterRepository.findByOwnerIdOrderByIdAsc(userId);
+    }
+
+    /**
+     * Get the current result of a filter
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> getFilterTasks(Long filterId, Long userId, Pageable pageable) {
+        SavedFilter filter = getOwnFilter(filterId, userId);
+
+        TaskFilter taskFilter = new TaskFilter();
+        taskFilter.setProjectId(filter.getProjectId());
+        taskFilter.getStatuses().addAll(filter.getStatuses());
+        taskFilter.getPriorities().addAll(filter.getPriorities());
+        taskFilter.setAssigneeId(filter.getAssigneeId());
+        taskFilter.setUnassigned(filter.isUnassigned());
+        taskFilter.setDueFrom(filter.getDueFrom());
+        taskFilter.setDueTo(filter.getDueTo());
+
+        return taskFilterService.filterTasks(taskFilter, pageable);
+    }
+
+    /**
+     * Delete a filter and end its subscriptions
+     */
+    @Override
+    @Transactional
+    public void deleteFilter(Long filterId, Long userId) {
+        savedFilterRepository.delete(getOwnFilter(filterId, userId));
+        // Subscriptions on every node end once the deletion is committed
+        eventPublisher.publishEvent(new SavedFilterDeletedEvent(filterId));
+        log.info("User {} deleted saved filter {}", userId, filterId);
+    }
+
+    private SavedFilter getOwnFilter(Long filterId, Long userId) {
+        return savedFilterRepository.findByIdAndOwnerId(filterId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Saved filter", "id", filterId));
+    }
+}
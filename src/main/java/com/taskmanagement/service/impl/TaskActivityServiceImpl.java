@@ -0,0 +1,74 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.TaskActivityDTO;
+import com.taskmanagement.dto.TaskActivityPageDTO;
+import com.taskmanagement.entity.TaskActivity;
+import com.taskmanagement.repository.TaskActivityRepository;
+import com.taskmanagement.service.TaskActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Task Activity Service Implementation
+ *
+ * Pages are read by keyset on (occurred_at, id) over the (task_id, occurred_at, id) and
+ * (project_id, occurred_at, id) indexes, so every page costs the same however deep into the
+ * history it is, and entries replayed from the spool late still appear where they occurred.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskActivityServiceImpl implements TaskActivityService {
+
+    private final TaskActivityRepository taskActivityRepository;
+
+    @Value("${app.activity.max-page-size:100}")
+    private int maxPageSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskActivityPageDTO getTaskActivity(Long taskId, Long before, int size) {
+        int limit = clamp(size);
+        log.debug("Fetching activity of task {} before {}", taskId, before);
+        Pageable page = Pageable.ofSize(limit + 1);
+        return toPage(before != null
+                ? taskActivityRepository.findTaskActivityBefore(taskId, before, page)
+                : taskActivityRepository.findByTaskIdOrderByOccurredAtDescIdDesc(taskId, page), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskActivityPageDTO getProjectActivity(Long projectId, Long before, int size) {
+        int limit = clamp(size);
+        log.debug("Fetching activity of project {} before {}", projectId, before);
+        Pageable page = Pageable.ofSize(limit + 1);
+        return toPage(before != null
+                ? taskActivityRepository.findProjectActivityBefore(projectId, before, page)
+                : taskActivityRepository.findByProjectIdOrderByOccurredAtDescIdDesc(projectId, page), limit);
+    }
+
+    private TaskActivityPageDTO toPage(List<TaskActivity> entries, int limit) {
+        Long nextCursor = null;
+        if (entries.size() > limit) {
+            entries = entries.subList(0, limit);
+            nextCursor = entries.get(limit - 1).getId();
+        }
+        return new TaskActivityPageDTO(entries.stream().map(this::toDTO).toList(), nextCursor);
+    }
+
+    private TaskActivityDTO toDTO(TaskActivity entry) {
+        return new TaskActivityDTO(entry.getId(), entry.getTaskId(), entry.getProjectId(), entry.getActorId(),
+                entry.getActorUsername(), entry.getAction(), entry.getField(), entry.getOldValue(),
+                entry.getNewValue(), entry.getOccurredAt());
+    }
+
+    private int clamp(int size) {
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.TaskBoardCardDTO;
+import com.taskmanagement.dto.TaskBoardColumnDTO;
+import com.taskmanagement.dto.TaskBoardColumnPageDTO;
+import com.taskmanagement.dto.TaskBoardDTO;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.projection.TaskBoardCardView;
+import com.taskmanagement.service.TaskBoardService;
+import com.taskmanagement.util.TaskBoardCursor;
+import com.taskmanagement.util.ResourceVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task Board Service Implementation
+ *
+ * The board is read with one windowed query that returns the first cards and the total of
+ * every status column. Built boards are cached per project and column size together with
+ * the version they were built at; every task write bumps the project's task version, so a
+ * cached board is reused exactly as long as no task of the project changed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBoardServiceImpl implements TaskBoardService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.board.max-column-size:100}")
+    private int maxColumnSize;
+
+    @Value("${app.board.cache-size:500}")
+    private int cacheSize;
+
+    private final Map<String, CachedBoard> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedBoard> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * Get the board of a project, from the cache while the project's tasks are unchanged
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardDTO getBoard(Long projectId, int columnSize, ResourceVersion version) {
+        int limit = clamp(columnSize);
+        String key = projectId + ":" + limit;
+
+        synchronized (cache) {
+            CachedBoard cached = cache.get(key);
+            if (cached != null && cached.eTag.equals(version.getETag())) {
+                return cached.board;
+            }
+        }
+
+        List<TaskBoardCardView> heads = taskRepository.findBoardHeads(projectId, limit);
+        if (heads.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+
+        Map<TaskStatus, List<TaskBoardCardView>> cardsByStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskBoardCardView card : heads) {
+            cardsByStatus.computeIfAbsent(card.getStatus(), status -> new ArrayList<>()).add(card);
+        }
+
+        List<TaskBoardColumnDTO> columns = new ArrayList<>(TaskStatus.values().length);
+        for (TaskStatus status : TaskStatus.values()) {
+            List<TaskBoardCardView> cards = cardsByStatus.getOrDefault(status, List.of());
+            long total = cards.isEmpty() ? 0 : cards.get(0).getColumnTotal();
+            String nextCursor = total > cards.size() ? TaskBoardCursor.after(cards.get(cards.size() - 1)).encode() : null;
+            columns.add(new TaskBoardColumnDTO(status, total, toCards(cards), nextCursor));
+        }
+        TaskBoardDTO board = new TaskBoardDTO(projectId, columns);
+
+        synchronized (cache) {
+            cache.put(key, new CachedBoard(version.getETag(), board));
+        }
+        log.debug("Built board of project {} with {} cards", projectId, heads.size());
+        return board;
+    }
+
+    /**
+     * Get further cards of a board column
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardColumnPageDTO getColumn(Long projectId, TaskStatus status, String cursor, int size) {
+        TaskBoardCursor after = TaskBoardCursor.decode(cursor);
+        int limit = clamp(size);
+
+        // Read one card more than requested to know whether the column goes on
+        List<TaskBoardCardView> cards = taskRepository.findBoardColumnAfter(projectId, status,
+                after.getPriorityRank(), after.getDueDate(), after.getId(), Pageable.ofSize(limit + 1));
+        if (cards.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project", "id", projectId);
+        }
+
+        String nextCursor = null;
+        if (cards.size() > limit) {
+            cards = cards.subList(0, limit);
+            nextCursor = TaskBoardCursor.after(cards.get(limit - 1)).encode();
+        }
+        return new TaskBoardColumnPageDTO(status, toCards(cards), nextCursor);
+    }
+
+    private int clamp(int size) {
+        return Math.max(1, Math.min(size, maxColumnSize));
+    }
+
+    private List<TaskBoardCardDTO> toCards(List<TaskBoardCardView> views) {
+        List<TaskBoardCardDTO> cards = new ArrayList<>(views.size());
+        for (TaskBoardCardView view : views) {
+            cards.add(new TaskBoardCardDTO(view.getId(), view.getTitle(), view.getPriority(), view.getDueDate(),
+                    view.getAssignedToId(), view.getAssignedToName(), view.getVersion()));
+        }
+        return cards;
+    }
+
+    private static final class CachedBoard {
+
+        private final String eTag;
+        private final TaskBoardDTO board;
+
+        CachedBoard(String eTag, TaskBoardDTO board) {
+            this.eTag = eTag;
+            this.board = board;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Task Count Service Implementation
+ * One grouped query per page of projects; task rows are never loaded
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCountServiceImpl implements TaskCountService {
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Get task counts per status for a page of projects
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<TaskStatus, Long>> getTaskCountsByProject(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<TaskStatus, Long>> counts = new HashMap<>();
+        taskRepository.countByProjectIdsGroupByStatus(projectIds).forEach(row ->
+                counts.computeIfAbsent(row.getProjectId(), id -> new EnumMap<>(TaskStatus.class))
+                        .put(row.getStatus(), row.getCount()));
+        return counts;
+    }
+}
@@ -0,0 +1,90 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.filter.TaskFilter;
+import com.taskmanagement.repository.filter.TaskFilterQuery;
+import com.taskmanagement.service.TaskFilterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Task Filter Service Implementation
+ * Validates the filter and runs it as a single query (plus a count when needed)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskFilterServiceImpl implements TaskFilterService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${app.task-filter.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.task-filter.max-archived-window:1000}")
+    private int maxArchivedWindow;
+
+    /**
+     * Filter tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> filterTasks(TaskFilter filter, Pageable pageable) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null
+                && !filter.getDueFrom().isBefore(filter.getDueTo())) {
+            throw new BadRequestException("dueFrom must be before dueTo");
+        }
+        if (filter.isUnassigned() && filter.getAssigneeId() != null) {
+            throw new BadRequestException("unassigned and assigneeId cannot be combined");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!TaskFilterQuery.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("Cannot sort tasks by: " + order.getProperty());
+            }
+        }
+
+        if (pageable.getPageSize() > maxPageSize) {
+            pageable = PageRequest.of(pageable.getPageNumber(), maxPageSize, pageable.getSort());
+        }
+        // Pages including archived tasks are merged in memory from both tables
+        if (filter.isIncludeArchived() && pageable.isPaged()
+                && pageable.getOffset() + pageable.getPageSize() > maxArchivedWindow) {
+            throw new BadRequestException("Pages including archived tasks cannot go beyond the first "
+                    + maxArchivedWindow + " tasks; narrow the filter instead");
+        }
+
+        log.debug("Filtering tasks with {}", filter);
+        return taskRepository.findByFilter(filter, pageable);
+    }
+
+    /**
+     * Filter the tasks a user can see
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> filterTasks(TaskFilter filter, Pageable pageable, Long userId, boolean allProjects) {
+        if (!allProjects) {
+            List<Long> memberProjects = projectRepository.findMemberProjectIds(userId);
+            if (filter.getProjectId() != null && !memberProjects.contains(filter.getProjectId())) {
+                throw new UnauthorizedException("Not a member of project with ID: " + filter.getProjectId());
+            }
+            filter.setVisibleToUserId(userId);
+            filter.setVisibleProjectIds(memberProjects);
+        }
+        return filterTasks(filter, pageable);
+    }
+}
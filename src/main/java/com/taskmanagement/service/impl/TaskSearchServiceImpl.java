@@ -0,0 +1,142 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.dto.TaskSearchResultDTO;
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.exception.ServiceUnavailableException;
+import com.taskmanagement.exception.UnauthorizedException;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.filter.TaskFilterQuery;
+import com.taskmanagement.search.SearchTokenizer;
+import com.taskmanagement.search.TaskSearchHit;
+import com.taskmanagement.search.TaskSearchIndex;
+import com.taskmanagement.search.TaskSearchIndexer;
+import com.taskmanagement.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Task Search Service Implementation
+ * Ranks matches in the in-memory index, then loads only the returned page of tasks.
+ * Archived tasks are not indexed; when asked for, they are matched in the database after
+ * the indexed results, on the longest query word and then on every word.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskSearchIndexer taskSearchIndexer;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskMapper taskMapper;
+
+    @Value("${app.search.max-results:100}")
+    private int maxResults;
+
+    /**
+     * Search tasks in the projects the user can see
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSearchResultDTO> searchTasks(Long userId, boolean allProjects, String query,
+                                                 Long projectId, int limit, boolean includeArchived) {
+        if (!taskSearchIndexer.isReady()) {
+            throw new ServiceUnavailableException("Search index is being built, please retry shortly");
+        }
+
+        LongPredicate projectFilter;
+        // Projects to search the archive in (null for all)
+        Collection<Long> archiveProjects;
+        if (allProjects) {
+            projectFilter = projectId != null ? id -> id == projectId : id -> true;
+            archiveProjects = projectId != null ? List.of(projectId) : null;
+        } else {
+            Set<Long> memberProjects = new HashSet<>(projectRepository.findMemberProjectIds(userId));
+            if (projectId != null) {
+                if (!memberProjects.contains(projectId)) {
+                    throw new UnauthorizedException("Not a member of project with ID: " + projectId);
+                }
+                projectFilter = id -> id == projectId;
+                archiveProjects = List.of(projectId);
+            } else if (memberProjects.isEmpty()) {
+                return List.of();
+            } else {
+                // Tested for every matching document: primitive lookup, no boxing
+                long[] projectIds = memberProjects.stream().mapToLong(Long::longValue).sorted().toArray();
+                projectFilter = id -> Arrays.binarySearch(projectIds, id) >= 0;
+                archiveProjects = memberProjects;
+            }
+        }
+
+        int maxHits = Math.max(1, Math.min(limit, maxResults));
+        List<TaskSearchHit> hits = taskSearchIndex.search(query, projectFilter, maxHits);
+        log.debug("Search for '{}' by user {} matched {} tasks", query, userId, hits.size());
+
+        List<TaskSearchResultDTO> results = new ArrayList<>(hits.size());
+        if (!hits.isEmpty()) {
+            Map<Long, Task> tasks = taskRepository.findWithAssociationsByIdIn(
+                            hits.stream().map(TaskSearchHit::getTaskId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            // Keep the ranking; tasks deleted since they were indexed are skipped
+            for (TaskSearchHit hit : hits) {
+                Task task = tasks.get(hit.getTaskId());
+                if (task != null) {
+                    results.add(new TaskSearchResultDTO(taskMapper.toDTO(task), hit.getScore()));
+                }
+            }
+        }
+
+        if (includeArchived && results.size() < maxHits) {
+            searchArchive(query, archiveProjects, maxHits - results.size()).forEach(task ->
+                    results.add(new TaskSearchResultDTO(taskMapper.toDTO(task.toTask()), 0f)));
+        }
+        return results;
+    }
+
+    private List<ArchivedTask> searchArchive(String query, Collection<Long> projectIds, int limit) {
+        Set<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String longest = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        String pattern = "%" + TaskFilterQuery.escapeLike(longest) + "%";
+        List<ArchivedTask> candidates = projectIds == null
+                ? archivedTaskRepository.findByText(pattern, PageRequest.of(0, maxResults))
+                : archivedTaskRepository.findByTextInProjects(pattern, projectIds, PageRequest.of(0, maxResults));
+
+        return candidates.stream()
+                .filter(task -> {
+                    String text = (task.getTitle() + " " + Objects.toString(task.getDescription(), ""))
+                            .toLowerCase(Locale.ROOT);
+                    return terms.stream().allMatch(text::contains);
+                })
+                .limit(limit)
+                .toList();
+    }
+}
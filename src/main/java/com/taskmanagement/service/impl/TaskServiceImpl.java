@@ -1,27 +1,45 @@
 package com.taskmanagement.service.impl;
 
+import com.taskmanagement.entity.ArchivedTask;
 import com.taskmanagement.entity.Project;
 import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChangeType;
 import com.taskmanagement.entity.TaskPriority;
 import com.taskmanagement.entity.TaskStatus;
 import com.taskmanagement.entity.User;
+import com.taskmanagement.exception.PreconditionFailedException;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.ArchivedTaskRepository;
 import com.taskmanagement.repository.ProjectRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ResourceVersionService;
 import com.taskmanagement.service.TaskService;
+import com.taskmanagement.service.TaskSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * Task Service Implementation
  * Handles CRUD operations for tasks with comprehensive business logic validation
+ *
+ * Status and assignee changes are applied with targeted single-column UPDATEs, so they
+ * never overwrite concurrent edits to other columns. Full detail updates go through the
+ * versioned entity and are retried from a fresh read when another writer got there first.
  */
 @Service
 @RequiredArgsConstructor
@@ -29,10 +47,21 @@ import java.util.Optional;
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TaskSyncService taskSyncService;
+    private final ResourceVersionService resourceVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskMapper taskMapper;
     // NotificationService will be injected later when we create it
 
+    @Value("${app.tasks.conflict-retry.max-attempts:10}")
+    private int maxConflictAttempts;
+
+    @Value("${app.tasks.conflict-retry.backoff-ms:5}")
+    private long conflictBackoffMs;
+
     /**
      * Create a new task with validation
      */
@@ -67,6 +96,7 @@ public class TaskServiceImpl implements TaskService {
         task.setDueDate(dueDate);
 
         Task savedTask = taskRepository.save(task);
+        taskSyncService.recordChange(savedTask, TaskChangeType.CREATED);
         log.info("Task created successfully with ID: {}", savedTask.getId());
 
         return savedTask;
@@ -101,14 +131,13 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("You do not have permission to assign this task");
         }
 
-        task.setAssignedTo(assignee);
-
-        // Update status to IN_PROGRESS if it was TODO
-        if (task.getStatus() == TaskStatus.TODO) {
-            task.setStatus(TaskStatus.IN_PROGRESS);
-        }
+        Long previousAssigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        Map<String, Object> previousFields = taskMapper.toDeltaFields(task);
 
-        Task updatedTask = taskRepository.save(task);
+        // Set assignee (and move TODO to IN_PROGRESS) without rewriting the rest of the row
+        taskRepository.updateAssignee(taskId, assignee, LocalDateTime.now());
+        Task updatedTask = reloadTask(taskId);
+        taskSyncService.recordChange(updatedTask, TaskChangeType.UPDATED, previousAssigneeId, previousFields);
         log.info("Task {} assigned to user {} successfully", taskId, assignee.getUsername());
 
         // TODO: Create notification for assignee (will be implemented with NotificationService)
@@ -140,8 +169,11 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("You do not have permission to update this task");
         }
 
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
+        Map<String, Object> previousFields = taskMapper.toDeltaFields(task);
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.updateStatus(taskId, status, now, status == TaskStatus.COMPLETED ? now : null);
+        Task updatedTask = reloadTask(taskId);
+        taskSyncService.recordChange(updatedTask, TaskChangeType.UPDATED, null, previousFields);
         log.info("Task {} status updated to {} successfully", taskId, status);
 
         // TODO: Create notification for task creator and project owner
@@ -154,14 +186,34 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Update task details
+     * Update task details, retrying on version conflicts. Each attempt applies only the fields
+     * given in the request to a fresh read, so a retry keeps what the other writer changed.
+     * A conditional update (If-Match)
+     * is never retried: it fails with 412 when the task is no longer at the version the
+     * client read, including when another writer commits between the check and the write.
      */
     @Override
-    @Transactional
     public Task updateTask(Long taskId, String title, String description,
-                          TaskPriority priority, LocalDate dueDate, User updatedBy) {
+                          TaskPriority priority, LocalDate dueDate, User updatedBy, String ifMatch) {
         log.info("Updating task: {}", taskId);
 
+        if (ifMatch != null) {
+            try {
+                return transactionTemplate.execute(tx ->
+                        applyTaskUpdate(taskId, title, description, priority, dueDate, updatedBy, ifMatch));
+            } catch (OptimisticLockingFailureException e) {
+                throw new PreconditionFailedException("Task " + taskId + " was modified concurrently");
+            }
+        }
+        return retryOnConflict(taskId, () -> transactionTemplate.execute(tx ->
+                applyTaskUpdate(taskId, title, description, priority, dueDate, updatedBy, null)));
+    }
+
+    /**
+     * Apply task detail changes to a freshly read task; runs once per attempt
+     */
+    private Task applyTaskUpdate(Long taskId, String title, String description,
+                                 TaskPriority priority, LocalDate dueDate, User updatedBy, String ifMatch) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.error("Task not found with ID: {}", taskId);
@@ -175,6 +227,13 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("You do not have permission to update this task");
         }
 
+        // The versioned write below fails if the task changes after this check
+        if (ifMatch != null && !resourceVersionService.getTaskVersion(task).matches(ifMatch)) {
+            throw new PreconditionFailedException("Task " + taskId + " has been modified since it was read");
+        }
+
+        Map<String, Object> previousFields = taskMapper.toDeltaFields(task);
+
         // Update fields if provided
         if (title != null && !title.isEmpty()) {
             task.setTitle(title);
@@ -192,20 +251,60 @@ public class TaskServiceImpl implements TaskService {
             task.setDueDate(dueDate);
         }
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskSyncService.recordChange(updatedTask, TaskChangeType.UPDATED, null, previousFields);
         log.info("Task updated successfully: {}", updatedTask.getId());
 
         return updatedTask;
     }
 
     /**
-     * Get task by ID
+     * Run an update, re-running it with jittered exponential backoff while it loses
+     * optimistic lock races
+     */
+    private Task retryOnConflict(Long taskId, Supplier<Task> update) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxConflictAttempts) {
+                    log.error("Task {} update still conflicting after {} attempts", taskId, attempt);
+                    throw e;
+                }
+                log.debug("Version conflict updating task {} (attempt {}), retrying", taskId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        long maxDelay = conflictBackoffMs << Math.min(attempt, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying task update", e);
+        }
+    }
+
+    /**
+     * Re-read a task after a targeted UPDATE cleared the persistence context
+     */
+    private Task reloadTask(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new RuntimeException("Task not found with ID: " + taskId));
+    }
+
+    /**
+     * Get task by ID, reading through to the archive for tasks no longer in the tasks table.
+     * Archived tasks come back detached and are read-only.
      */
     @Override
     @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long taskId) {
         log.debug("Fetching task by ID: {}", taskId);
-        return taskRepository.findById(taskId);
+        return taskRepository.findById(taskId)
+                .or(() -> archivedTaskRepository.findWithAssociationsById(taskId).map(ArchivedTask::toTask));
     }
 
     /**
@@ -283,6 +382,7 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("You do not have permission to delete this task");
         }
 
+        taskSyncService.recordChange(task, TaskChangeType.DELETED);
         taskRepository.deleteById(taskId);
         log.info("Task deleted successfully: {}", taskId);
     }
@@ -0,0 +1,188 @@
+package com.taskmanagement.service.impl;
+
+import com.taskmanagement.datasource.OpenTransactionProbe;
+import com.taskmanagement.datasource.ReadFromPrimary;
+import com.taskmanagement.dto.TaskChangesDTO;
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.dto.TaskTombstoneDTO;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChange;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.TaskSyncService;
+import com.taskmanagement.util.FieldChanges;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task Sync Service Implementation
+ *
+ * Change log IDs are allocated when a row is inserted but become visible only when the
+ * writing transaction commits, so a reader can see ID n+1 before ID n. The cursor is
+ * therefore only advanced over a contiguous run of IDs. A gap means the transaction that
+ * took the missing ID is still open or rolled back; it is skipped once no write transaction
+ * that started before the change log was read is still open (the missing ID then either
+ * committed, and is read with the changes, or never will). That check needs PostgreSQL, so
+ * changes are read from the primary. On other databases a gap is skipped once the entry
+ * after it is older than the commit grace period, which is measured from insert time: a
+ * transaction that stays open longer than the grace period after taking its ID can have its
+ * change skipped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncServiceImpl implements TaskSyncService {
+
+    private final TaskChangeRepository taskChangeRepository;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OpenTransactionProbe openTransactionProbe;
+
+    @Value("${app.sync.commit-grace-ms:5000}")
+    private long commitGraceMs;
+
+    @Value("${app.sync.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Record a change to a task
+     */
+    @Override
+    @Transactional
+    public void recordChange(Task task, TaskChangeType changeType) {
+        recordChange(task, changeType, null);
+    }
+
+    /**
+     * Record a change to a task with its previous assignee
+     */
+    @Override
+    @Transactional
+    public void recordChange(Task task, TaskChangeType changeType, Long previousAssigneeId) {
+        recordChange(task, changeType, previousAssigneeId, null);
+    }
+
+    /**
+     * Record a change to a task with the fields it had before the change
+     */
+    @Override
+    @Transactional
+    public void recordChange(Task task, TaskChangeType changeType, Long previousAssigneeId,
+                             Map<String, Object> previousFields) {
+        log.debug("Recording {} change for task {}", changeType, task.getId());
+        TaskChange change = taskChangeRepository.save(new TaskChange(task, changeType, previousAssigneeId));
+
+        Map<String, Object> state = taskMapper.toDeltaFields(task);
+        boolean deleted = changeType == TaskChangeType.DELETED;
+        Map<String, Object> changes = deleted ? Map.of() : FieldChanges.between(previousFields, state);
+        eventPublisher.publishEvent(new TaskChangedEvent(change.getTaskId(), change.getProjectId(),
+                changeType, task.getVersion(), changes,
+                deleted ? state : previousFields, deleted ? null : state));
+    }
+
+    /**
+     * Get task changes since a cursor
+     */
+    @Override
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChangesSince(User user, long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        long cursor = Math.max(0, since);
+        log.debug("Fetching task changes for user {} since cursor {}", user.getUsername(), cursor);
+
+        // Find how far the cursor can safely advance before looking at visibility
+        List<TaskChange> window = taskChangeRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor, PageRequest.of(0, maxPageSize));
+        long watermark = resolveWatermark(cursor, window, settledBefore());
+        boolean windowTruncated = window.size() == maxPageSize
+                && watermark == window.get(window.size() - 1).getId();
+
+        if (watermark == cursor) {
+            return new TaskChangesDTO(List.of(), List.of(), cursor, false);
+        }
+
+        List<TaskChange> visible = taskChangeRepository.findVisibleChanges(
+                cursor, watermark, user.getId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = windowTruncated;
+        long nextCursor = watermark;
+        if (visible.size() > pageSize) {
+            visible = visible.subList(0, pageSize);
+            nextCursor = visible.get(pageSize - 1).getId();
+            hasMore = true;
+        }
+
+        // Keep only the latest change per task; a delete supersedes earlier changes
+        Map<Long, TaskChange> latestByTask = new LinkedHashMap<>();
+        for (TaskChange change : visible) {
+            latestByTask.remove(change.getTaskId());
+            latestByTask.put(change.getTaskId(), change);
+        }
+
+        List<Long> changedTaskIds = new ArrayList<>();
+        List<TaskTombstoneDTO> deleted = new ArrayList<>();
+        for (TaskChange change : latestByTask.values()) {
+            if (change.getChangeType() == TaskChangeType.DELETED) {
+                deleted.add(new TaskTombstoneDTO(change.getTaskId(), change.getProjectId(), change.getChangedAt()));
+            } else {
+                changedTaskIds.add(change.getTaskId());
+            }
+        }
+
+        List<TaskDTO> tasks = changedTaskIds.isEmpty()
+                ? List.of()
+                : taskRepository.findWithAssociationsByIdIn(changedTaskIds).stream()
+                        .map(taskMapper::toDTO)
+                        .toList();
+
+        return new TaskChangesDTO(tasks, deleted, nextCursor, hasMore);
+    }
+
+    /**
+     * Find the instant before which change log entries are settled, i.e. gaps before them can
+     * be skipped. Called after the window has been read.
+     */
+    private LocalDateTime settledBefore() {
+        if (!openTransactionProbe.isSupported()) {
+            return LocalDateTime.now().minusNanos(commitGraceMs * 1_000_000);
+        }
+        return openTransactionProbe.hasWritersStartedBeforeNow() ? LocalDateTime.MIN : LocalDateTime.MAX;
+    }
+
+    /**
+     * Advance the cursor over the change log window as far as no in-flight
+     * transaction can still commit an entry below it.
+     * @param cursor Current cursor
+     * @param window Change log entries after the cursor, in ID order
+     * @param settledBefore Entries created before this instant are considered settled
+     * @return Highest ID the cursor may advance to
+     */
+    static long resolveWatermark(long cursor, List<TaskChange> window, LocalDateTime settledBefore) {
+        long watermark = cursor;
+        for (TaskChange change : window) {
+            boolean gap = change.getId() != watermark + 1;
+            if (gap && change.getChangedAt().isAfter(settledBefore)) {
+                break;
+            }
+            watermark = change.getId();
+        }
+        return watermark;
+    }
+}
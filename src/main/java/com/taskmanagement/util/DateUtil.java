@@ -1,6 +1,7 @@
 package com.taskmanagement.util;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 
@@ -44,6 +45,11 @@ public class DateUtil {
         return dateTime.plusHours(hours);
     }
 
+    public static long toEpochMilli(LocalDateTime dateTime) {
+        if (dateTime == null) return -1;
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     private DateUtil() {
         // Private constructor to prevent instantiation
     }
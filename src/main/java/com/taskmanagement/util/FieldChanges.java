@@ -0,0 +1,33 @@
+package com.taskmanagement.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Helpers for computing field-level deltas between two snapshots of an entity
+ */
+public final class FieldChanges {
+
+    private FieldChanges() {
+    }
+
+    /**
+     * Get the fields whose value differs between two snapshots
+     * @param before Field values before the change (null when the entity is new)
+     * @param after Field values after the change
+     * @return Changed fields with their new values, in snapshot order
+     */
+    public static Map<String, Object> between(Map<String, Object> before, Map<String, Object> after) {
+        if (before == null) {
+            return after;
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            if (!Objects.equals(before.get(field), value)) {
+                changes.put(field, value);
+            }
+        });
+        return changes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.util;
+
+import lombok.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Strong validator for a resource representation: an ETag plus a Last-Modified timestamp.
+ * Built from cheap version columns so that conditional requests can be answered
+ * before the entity is loaded, mapped or serialized.
+ */
+@Value
+public class ResourceVersion {
+
+    String eTag;
+    long lastModified;
+
+    /**
+     * Build a version from the parts that identify a representation
+     * @param lastModified Last modification time in epoch millis (-1 if unknown)
+     * @param parts Values that change whenever the representation changes
+     * @return Resource version with a quoted strong ETag
+     */
+    public static ResourceVersion of(long lastModified, Object... parts) {
+        StringJoiner joiner = new StringJoiner(":");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        String hash = DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("\"" + hash + "\"", lastModified);
+    }
+
+    /**
+     * Evaluate an If-Match header against this version, using strong comparison
+     * @param ifMatch If-Match header value: "*" or a comma-separated list of ETags
+     * @return Whether the header matches this version
+     */
+    public boolean matches(String ifMatch) {
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Derive the version of one page of a collection
+     * @param pageable Page being served
+     * @return Resource version that differs per page, size and sort
+     */
+    public ResourceVersion forPage(Pageable pageable) {
+        return of(lastModified, eTag, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanagement.util;
+
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.repository.projection.TaskBoardCardView;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a board column: the sort key of the last card read (priority rank,
+ * due date, ID). Exchanged with clients as an opaque URL-safe string.
+ */
+@Value
+public class TaskBoardCursor {
+
+    /**
+     * Position before the first card of a column
+     */
+    public static final TaskBoardCursor START = new TaskBoardCursor(Integer.MAX_VALUE, null, 0L);
+
+    int priorityRank;
+    LocalDateTime dueDate;
+    Long id;
+
+    /**
+     * Get the cursor after a card
+     */
+    public static TaskBoardCursor after(TaskBoardCardView card) {
+        return new TaskBoardCursor(card.getPriorityRank(), card.getDueDate(), card.getId());
+    }
+
+    /**
+     * Encode the cursor for a client
+     */
+    public String encode() {
+        String key = priorityRank + "|" + (dueDate != null ? dueDate : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from a client
+     * @param cursor Encoded cursor (null or empty for the start of the column)
+     * @return Decoded cursor
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static TaskBoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid board cursor");
+            }
+            return new TaskBoardCursor(Integer.parseInt(parts[0]),
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid board cursor");
+        }
+    }
+}
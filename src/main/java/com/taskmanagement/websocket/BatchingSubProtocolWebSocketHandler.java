@@ -0,0 +1,31 @@
+package com.taskmanagement.websocket;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP session handler whose sessions batch queued outbound frames
+ * (see {@link BatchingWebSocketSessionDecorator})
+ */
+public class BatchingSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final int maxBatchBytes;
+    private final BatchingWebSocketSessionDecorator.SendListener sendListener;
+
+    public BatchingSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                               SubscribableChannel clientOutboundChannel,
+                                               int maxBatchBytes,
+                                               BatchingWebSocketSessionDecorator.SendListener sendListener) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.maxBatchBytes = maxBatchBytes;
+        this.sendListener = sendListener;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return new BatchingWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit(),
+                maxBatchBytes, sendListener);
+    }
+}
@@ -0,0 +1,236 @@
+package com.taskmanagement.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe session decorator that writes buffered outbound messages one frame at a time.
+ *
+ * Behaves like Spring's {@code ConcurrentWebSocketSessionDecorator} (one writer at a time,
+ * other senders queue and return, the session is terminated when a write blocks longer than
+ * the send time limit or the queue grows past the buffer size limit), but when several text
+ * messages are queued it drains them into a single WebSocket frame of up to
+ * {@code maxBatchBytes}. STOMP frames are NUL-terminated, so consecutive frames may share a
+ * WebSocket message and STOMP clients split them again on receipt. A message that arrives
+ * while the socket is idle is written immediately, so batching only kicks in under load.
+ */
+public class BatchingWebSocketSessionDecorator extends WebSocketSessionDecorator {
+
+    /**
+     * Observer of completed and failed writes
+     */
+    public interface SendListener {
+
+        /**
+         * A write to the socket is starting
+         * @param sessionId Session ID
+         */
+        void sendStarted(String sessionId);
+
+        /**
+         * A write to the socket has finished successfully
+         * @param sessionId Session ID
+         * @param messages Number of queued messages written in the frame
+         * @param bytes Frame payload size
+         * @param nanos Time spent writing
+         */
+        void sendCompleted(String sessionId, int messages, int bytes, long nanos);
+
+        /**
+         * Messages handed to the session will never be written: the write failed, or they were
+         * discarded because a session limit was exceeded or the session is closing
+         * @param sessionId Session ID
+         * @param messages Number of messages lost
+         */
+        void sendFailed(String sessionId, int messages);
+    }
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final int maxBatchBytes;
+    private final SendListener listener;
+
+    private final Queue<WebSocketMessage<?>> buffer = new LinkedBlockingQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final Lock flushLock = new ReentrantLock();
+    private final Lock closeLock = new ReentrantLock();
+
+    private volatile long sendStartTime;
+    private volatile boolean limitExceeded;
+    private volatile boolean closeInProgress;
+
+    /**
+     * @param delegate Session to write to
+     * @param sendTimeLimit Maximum time in millis a single write may block
+     * @param bufferSizeLimit Maximum bytes queued while a write is in progress
+     * @param maxBatchBytes Maximum payload of a batched frame; 0 disables batching
+     * @param listener Observer of completed writes
+     */
+    public BatchingWebSocketSessionDecorator(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                             int maxBatchBytes, SendListener listener) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.maxBatchBytes = maxBatchBytes;
+        this.listener = listener;
+    }
+
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    public long getTimeSinceSendStarted() {
+        long start = sendStartTime;
+        return start > 0 ? System.currentTimeMillis() - start : 0;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (shouldNotSend()) {
+            listener.sendFailed(getId(), 1);
+            return;
+        }
+
+        buffer.add(message);
+        bufferSize.addAndGet(message.getPayloadLength());
+
+        do {
+            if (!tryFlushMessageBuffer()) {
+                checkSessionLimits();
+                break;
+            }
+        } while (!buffer.isEmpty() && !shouldNotSend());
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closeLock.lock();
+        try {
+            if (closeInProgress) {
+                return;
+            }
+            if (!CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+                try {
+                    checkSessionLimits();
+                } catch (SessionLimitExceededException ex) {
+                    // Ignore, the session is being closed anyway
+                }
+                if (limitExceeded) {
+                    status = CloseStatus.SESSION_NOT_RELIABLE;
+                }
+            }
+            closeInProgress = true;
+            discardBuffer();
+            super.close(status);
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    private boolean shouldNotSend() {
+        return limitExceeded || closeInProgress;
+    }
+
+    private boolean tryFlushMessageBuffer() throws IOException {
+        if (!flushLock.tryLock()) {
+            return false;
+        }
+        try {
+            while (!buffer.isEmpty() && !shouldNotSend()) {
+                WebSocketMessage<?> first = buffer.poll();
+                int count = 1;
+                int bytes = first.getPayloadLength();
+                WebSocketMessage<?> frame = first;
+
+                if (first instanceof TextMessage text && maxBatchBytes > 0) {
+                    ByteArrayOutputStream batch = null;
+                    while (buffer.peek() instanceof TextMessage next
+                            && bytes + next.getPayloadLength() <= maxBatchBytes) {
+                        buffer.poll();
+                        if (batch == null) {
+                            batch = new ByteArrayOutputStream(Math.min(maxBatchBytes, bytes * 4));
+                            batch.writeBytes(text.asBytes());
+                        }
+                        batch.writeBytes(next.asBytes());
+                        bytes += next.getPayloadLength();
+                        count++;
+                    }
+                    if (batch != null) {
+                        frame = new TextMessage(batch.toByteArray());
+                    }
+                }
+                bufferSize.addAndGet(-bytes);
+
+                listener.sendStarted(getId());
+                sendStartTime = System.currentTimeMillis();
+                long start = System.nanoTime();
+                boolean sent = false;
+                try {
+                    getDelegate().sendMessage(frame);
+                    sent = true;
+                } finally {
+                    sendStartTime = 0;
+                    if (sent) {
+                        listener.sendCompleted(getId(), count, bytes, System.nanoTime() - start);
+                    } else {
+                        listener.sendFailed(getId(), count);
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        return true;
+    }
+
+    private void checkSessionLimits() {
+        if (shouldNotSend() || !closeLock.tryLock()) {
+            return;
+        }
+        try {
+            if (getTimeSinceSendStarted() > sendTimeLimit) {
+                limitExceeded(String.format("Send time %d (ms) for session '%s' exceeded the allowed limit %d",
+                        getTimeSinceSendStarted(), getId(), sendTimeLimit));
+            } else if (getBufferSize() > bufferSizeLimit) {
+                limitExceeded(String.format("Buffer size %d bytes for session '%s' exceeds the allowed limit %d",
+                        getBufferSize(), getId(), bufferSizeLimit));
+            }
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    private void limitExceeded(String reason) {
+        limitExceeded = true;
+        discardBuffer();
+        throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void discardBuffer() {
+        int discarded = 0;
+        while (buffer.poll() != null) {
+            discarded++;
+        }
+        bufferSize.set(0);
+        if (discarded > 0) {
+            listener.sendFailed(getId(), discarded);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getDelegate().toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.dto.ProjectDeltaDTO;
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.event.ProjectChangedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+
+/**
+ * Broadcasts committed task and project changes to their WebSocket topics as typed deltas
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeBroadcastListener {
+
+    private final WebSocketNotificationService webSocketNotificationService;
+
+    /**
+     * Handle a task change once its transaction has committed
+     */
+    @TransactionalEventListener
+    public void handleTaskChanged(TaskChangedEvent event) {
+        webSocketNotificationService.sendTaskDelta(new TaskDeltaDTO(
+                event.getTaskId(),
+                event.getProjectId(),
+                event.getChangeType(),
+                event.getVersion(),
+                event.getChanges()
+        ));
+    }
+
+    /**
+     * Remove archived tasks from their project topics, like deleted ones, once the batch has
+     * committed
+     */
+    @TransactionalEventListener
+    public void handleTasksArchived(TasksArchivedEvent event) {
+        for (TasksArchivedEvent.ArchivedTask task : event.getTasks()) {
+            webSocketNotificationService.sendTaskDelta(new TaskDeltaDTO(
+                    task.getTaskId(),
+                    task.getProjectId(),
+                    TaskChangeType.DELETED,
+                    task.getVersion(),
+                    Map.of()
+            ));
+        }
+    }
+
+    /**
+     * Handle a project change once its transaction has committed
+     */
+    @TransactionalEventListener
+    public void handleProjectChanged(ProjectChangedEvent event) {
+        webSocketNotificationService.sendProjectDelta(new ProjectDeltaDTO(
+                event.getProjectId(),
+                event.getVersion(),
+                event.isDeleted(),
+                event.getChanges()
+        ));
+    }
+}
@@ -0,0 +1,296 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Slow-consumer protection for outbound STOMP traffic.
+ *
+ * Every message headed to a client is counted against its session when it enters the
+ * client outbound channel and released once it has been written to the socket or is known
+ * to be lost (failed write, discarded buffer), so the difference is the session's backlog (queued in the outbound executor or in the
+ * session's send buffer, see {@link BatchingWebSocketSessionDecorator}). A session is slow when its backlog exceeds {@code slow-backlog}
+ * or a single write has been blocked for longer than {@code slow-send-ms}. Slow sessions are
+ * handled according to {@code slow-consumer-policy}:
+ * <ul>
+ *   <li>{@code drop} - downgrade the session: /topic broadcasts are dropped until it catches
+ *       up, while user-queue messages and protocol frames are still delivered</li>
+ *   <li>{@code terminate} - close the session so the client reconnects and resyncs</li>
+ * </ul>
+ * The hard per-session buffer and time limits configured on the transport still apply on top
+ * of this and terminate a session that exceeds them.
+ */
+@Component
+@Slf4j
+public class OutboundBackpressureGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory,
+        RejectedExecutionHandler, BatchingWebSocketSessionDecorator.SendListener {
+
+    public enum Policy { DROP, TERMINATE }
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    private final Counter droppedSlowConsumer;
+    private final Counter droppedRejected;
+    private final Counter sessionsTerminated;
+    private final Timer sendTimer;
+    private final Counter framesSent;
+    private final Counter messagesSent;
+    private final DistributionSummary frameBytes;
+
+    @Value("${app.websocket.outbound.slow-backlog:1000}")
+    private int slowBacklog;
+
+    @Value("${app.websocket.outbound.slow-send-ms:2000}")
+    private long slowSendMs;
+
+    @Value("${app.websocket.outbound.slow-consumer-policy:drop}")
+    private Policy policy;
+
+    public OutboundBackpressureGuard(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.droppedSlowConsumer = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "slow-consumer")
+                .description("Outbound messages dropped for sessions that are not keeping up")
+                .register(meterRegistry);
+        this.droppedRejected = Counter.builder("websocket.outbound.dropped")
+                .tag("reason", "executor-full")
+                .description("Outbound messages dropped because the outbound executor queue was full")
+                .register(meterRegistry);
+        this.sessionsTerminated = Counter.builder("websocket.outbound.sessions.terminated")
+                .description("Sessions closed by the slow-consumer policy")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("websocket.outbound.send")
+                .description("Time spent writing a frame to a WebSocket session")
+                .register(meterRegistry);
+        this.framesSent = Counter.builder("websocket.outbound.frames")
+                .description("WebSocket frames written to sessions")
+                .register(meterRegistry);
+        this.messagesSent = Counter.builder("websocket.outbound.messages")
+                .description("Outbound messages written to sessions, several per frame when batched")
+                .register(meterRegistry);
+        this.frameBytes = DistributionSummary.builder("websocket.outbound.frame.bytes")
+                .baseUnit("bytes")
+                .description("Uncompressed payload size of WebSocket frames written to sessions")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.backlog.total", sessions, OutboundBackpressureGuard::totalBacklog)
+                .description("Outbound messages accepted but not yet written, summed over sessions")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.backlog.max", sessions, OutboundBackpressureGuard::maxBacklog)
+                .description("Largest outbound backlog of a single session")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.sessions.slow", this, OutboundBackpressureGuard::countSlowSessions)
+                .description("Sessions currently classified as slow consumers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish queue depth and active thread gauges for the outbound executor
+     * @param executor Client outbound channel executor
+     */
+    public void monitor(ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.outbound.executor.queued", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Outbound messages waiting for an executor thread")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Outbound executor threads currently sending")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Admit or drop a message entering the client outbound channel
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+
+        if (isSlow(state)) {
+            if (policy == Policy.TERMINATE) {
+                terminate(state);
+                droppedSlowConsumer.increment();
+                return null;
+            }
+            if (isDroppable(message)) {
+                if (state.slow.compareAndSet(false, true)) {
+                    log.warn("WebSocket session {} is a slow consumer (backlog {}), dropping topic broadcasts",
+                            sessionId, state.backlog.get());
+                }
+                droppedSlowConsumer.increment();
+                return null;
+            }
+        } else if (state.slow.compareAndSet(true, false)) {
+            log.info("WebSocket session {} caught up, resuming topic broadcasts", sessionId);
+        }
+
+        state.backlog.incrementAndGet();
+        return message;
+    }
+
+    /**
+     * Discard a message the outbound executor cannot queue, releasing it from the session backlog
+     */
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        droppedRejected.increment();
+        if (task instanceof MessageHandlingRunnable runnable) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(runnable.getMessage().getHeaders());
+            SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+            if (state != null) {
+                state.release(1);
+            }
+        }
+    }
+
+    /**
+     * Wrap the STOMP handler so sessions are tracked from connect to close
+     */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new SessionState(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                // Frames still queued for the session are never written and go with it
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public void sendStarted(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        if (state != null) {
+            state.sendStartedAt = System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public void sendCompleted(String sessionId, int messages, int bytes, long nanos) {
+        sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+        framesSent.increment();
+        messagesSent.increment(messages);
+        frameBytes.record(bytes);
+
+        SessionState state = sessions.get(sessionId);
+        if (state != null) {
+            state.sendStartedAt = 0;
+            state.release(messages);
+        }
+    }
+
+    @Override
+    public void sendFailed(String sessionId, int messages) {
+        SessionState state = sessions.get(sessionId);
+        if (state != null) {
+            state.sendStartedAt = 0;
+            state.release(messages);
+        }
+    }
+
+    /**
+     * Get the number of messages accepted for a session but not yet written
+     * @param sessionId Session ID
+     * @return Backlog size, or 0 if the session is unknown
+     */
+    public int getBacklog(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state != null ? state.backlog.get() : 0;
+    }
+
+    private boolean isSlow(SessionState state) {
+        if (state.backlog.get() > slowBacklog) {
+            return true;
+        }
+        long startedAt = state.sendStartedAt;
+        return startedAt != 0 && System.currentTimeMillis() - startedAt > slowSendMs;
+    }
+
+    private boolean isDroppable(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return false;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && destination.startsWith("/topic/");
+    }
+
+    private void terminate(SessionState state) {
+        if (!state.terminated.compareAndSet(false, true)) {
+            return;
+        }
+        log.warn("Closing WebSocket session {}: slow consumer (backlog {})",
+                state.session.getId(), state.backlog.get());
+        sessionsTerminated.increment();
+        try {
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close slow WebSocket session {}", state.session.getId(), e);
+        }
+    }
+
+    private double countSlowSessions() {
+        return sessions.values().stream().filter(this::isSlow).count();
+    }
+
+    private static double totalBacklog(Map<String, SessionState> sessions) {
+        return sessions.values().stream().mapToInt(state -> state.backlog.get()).sum();
+    }
+
+    private static double maxBacklog(Map<String, SessionState> sessions) {
+        return sessions.values().stream().mapToInt(state -> state.backlog.get()).max().orElse(0);
+    }
+
+    private static class SessionState {
+        private final WebSocketSession session;
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final AtomicBoolean slow = new AtomicBoolean();
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+
+        void release(int messages) {
+            // Heartbeats are written without passing through the outbound channel
+            backlog.updateAndGet(value -> Math.max(0, value - messages));
+        }
+    }
+}
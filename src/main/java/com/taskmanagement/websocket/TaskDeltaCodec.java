@@ -0,0 +1,187 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of task delta batches for high-volume subscribers.
+ *
+ * <pre>
+ * frame  := 'T' formatVersion count:varint delta*
+ * delta  := taskId:zigzag projectId:zigzag changeType:byte version:zigzag fieldCount:varint field*
+ * field  := code:byte [name:string if code = 0] value
+ * value  := 0 (null) | 1 string | 2 long:zigzag | 3 date:zigzag epoch-day | 4 date-time:zigzag epoch-millis (UTC wall clock)
+ * string := length:varint utf-8 bytes
+ * </pre>
+ * Known field names are sent as one-byte codes; null IDs and versions are encoded as -1.
+ * Integers decode as longs.
+ */
+@Component
+public class TaskDeltaCodec {
+
+    private static final byte MAGIC = 'T';
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final List<String> FIELD_CODES = List.of(
+            "", "title", "description", "status", "priority", "dueDate",
+            "assignedToId", "estimatedHours", "actualHours", "completedAt");
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte DATE = 3;
+    private static final byte DATE_TIME = 4;
+
+    /**
+     * Encode a batch of task deltas
+     * @param deltas Deltas in send order
+     * @return Encoded frame
+     */
+    public byte[] encode(List<TaskDeltaDTO> deltas) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * deltas.size() + 8);
+        out.write(MAGIC);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, deltas.size());
+        for (TaskDeltaDTO delta : deltas) {
+            writeNullableLong(out, delta.getTaskId());
+            writeNullableLong(out, delta.getProjectId());
+            out.write(delta.getChangeType().ordinal());
+            writeNullableLong(out, delta.getVersion());
+
+            Map<String, Object> changes = delta.getChanges() != null ? delta.getChanges() : Map.of();
+            writeVarint(out, changes.size());
+            for (Map.Entry<String, Object> field : changes.entrySet()) {
+                int code = FIELD_CODES.indexOf(field.getKey());
+                if (code > 0) {
+                    out.write(code);
+                } else {
+                    out.write(0);
+                    writeString(out, field.getKey());
+                }
+                writeValue(out, field.getValue());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode a frame produced by {@link #encode(List)}
+     * @param frame Encoded frame
+     * @return Decoded deltas
+     */
+    public List<TaskDeltaDTO> decode(byte[] frame) {
+        ByteBuffer in = ByteBuffer.wrap(frame);
+        if (in.get() != MAGIC || in.get() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Not a task delta frame");
+        }
+        int count = (int) readVarint(in);
+        List<TaskDeltaDTO> deltas = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long taskId = readNullableLong(in);
+            Long projectId = readNullableLong(in);
+            TaskChangeType changeType = TaskChangeType.values()[in.get()];
+            Long version = readNullableLong(in);
+
+            int fieldCount = (int) readVarint(in);
+            Map<String, Object> changes = new LinkedHashMap<>();
+            for (int f = 0; f < fieldCount; f++) {
+                int code = in.get();
+                String name = code > 0 ? FIELD_CODES.get(code) : readString(in);
+                changes.put(name, readValue(in));
+            }
+            deltas.add(new TaskDeltaDTO(taskId, projectId, changeType, version, changes));
+        }
+        return deltas;
+    }
+
+    private void writeValue(ByteArrayOutputStream out, Object value) {
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof Number number) {
+            out.write(LONG);
+            writeVarint(out, zigzag(number.longValue()));
+        } else if (value instanceof LocalDate date) {
+            out.write(DATE);
+            writeVarint(out, zigzag(date.toEpochDay()));
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.write(DATE_TIME);
+            writeVarint(out, zigzag(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli()));
+        } else {
+            out.write(STRING);
+            writeString(out, value instanceof Enum<?> e ? e.name() : value.toString());
+        }
+    }
+
+    private Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case NULL -> null;
+            case STRING -> readString(in);
+            case LONG -> unzigzag(readVarint(in));
+            case DATE -> LocalDate.ofEpochDay(unzigzag(readVarint(in)));
+            case DATE_TIME -> LocalDateTime.ofInstant(Instant.ofEpochMilli(unzigzag(readVarint(in))), ZoneOffset.UTC);
+            default -> throw new IllegalArgumentException("Unknown value tag " + tag);
+        };
+    }
+
+    private void writeNullableLong(ByteArrayOutputStream out, Long value) {
+        writeVarint(out, zigzag(value != null ? value : -1));
+    }
+
+    private Long readNullableLong(ByteBuffer in) {
+        long value = unzigzag(readVarint(in));
+        return value == -1 ? null : value;
+    }
+
+    private void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,190 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces high-frequency topic broadcasts into batched frames.
+ *
+ * Updates are buffered per destination and keyed (e.g. by task ID); a newer update for a key
+ * replaces the pending one, or is combined with it when the caller supplies a merge (partial
+ * updates such as deltas), so superseded intermediate states are never sent. Each destination
+ * emits at most one frame per {@code min-interval-ms}, holding every pending update (up to
+ * {@code max-batch-size}) as a JSON array. The first update after a quiet period waits
+ * {@code window-ms} so that a burst lands in a single frame; after a frame the destination
+ * stays in cool-down for {@code min-interval-ms} and later updates go out with the next frame.
+ */
+@Component
+@Slf4j
+public class TopicBroadcastCoalescer {
+
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final Map<String, TopicBuffer> buffers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ws-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter updatesReceived;
+    private final Counter updatesSuperseded;
+    private final Counter framesSent;
+    private final Counter framesSaved;
+
+    @Value("${app.websocket.broadcast.window-ms:50}")
+    private long windowMs;
+
+    @Value("${app.websocket.broadcast.min-interval-ms:250}")
+    private long minIntervalMs;
+
+    @Value("${app.websocket.broadcast.max-batch-size:500}")
+    private int maxBatchSize;
+
+    public TopicBroadcastCoalescer(ClusterMessageRelay clusterMessageRelay, MeterRegistry meterRegistry) {
+        this.clusterMessageRelay = clusterMessageRelay;
+        this.updatesReceived = Counter.builder("websocket.broadcast.updates")
+                .description("Updates submitted for coalesced topic broadcast")
+                .register(meterRegistry);
+        this.updatesSuperseded = Counter.builder("websocket.broadcast.updates.superseded")
+                .description("Buffered updates replaced by or merged into a newer update for the same key before sending")
+                .register(meterRegistry);
+        this.framesSent = Counter.builder("websocket.broadcast.frames")
+                .description("Batched frames sent to topics")
+                .register(meterRegistry);
+        this.framesSaved = Counter.builder("websocket.broadcast.frames.saved")
+                .description("Frames avoided compared to sending one frame per update")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue an update for a destination
+     * @param destination Topic destination
+     * @param key Identity of the updated item; a later update with the same key supersedes this one
+     * @param update Update payload
+     */
+    public void submit(String destination, Object key, Object update) {
+        submit(destination, key, update, batch -> clusterMessageRelay.convertAndSend(destination, batch));
+    }
+
+    /**
+     * Queue an update for a destination whose frames are sent by the caller
+     * @param destination Topic destination
+     * @param key Identity of the updated item; a later update with the same key supersedes this one
+     * @param update Update payload
+     * @param sender Sends one batch; used for every frame of the destination until it goes quiet
+     */
+    public void submit(String destination, Object key, Object update, Consumer<List<Object>> sender) {
+        submit(destination, key, update, (pending, later) -> later, sender);
+    }
+
+    /**
+     * Queue an update for a destination whose frames are sent by the caller, combining it with
+     * the update still pending for the same key
+     * @param destination Topic destination
+     * @param key Identity of the updated item
+     * @param update Update payload
+     * @param merge Combines the pending update (first argument) with this one (second argument)
+     * @param sender Sends one batch; used for every frame of the destination until it goes quiet
+     */
+    public void submit(String destination, Object key, Object update, BinaryOperator<Object> merge,
+                       Consumer<List<Object>> sender) {
+        updatesReceived.increment();
+        while (true) {
+            TopicBuffer buffer = buffers.computeIfAbsent(destination, d -> new TopicBuffer(sender));
+            synchronized (buffer) {
+                if (buffer.retired) {
+                    continue;
+                }
+                Object pending = buffer.pending.remove(key);
+                if (pending != null) {
+                    updatesSuperseded.increment();
+                    update = merge.apply(pending, update);
+                }
+                buffer.pending.put(key, update);
+                buffer.submitted++;
+                if (!buffer.scheduled) {
+                    buffer.scheduled = true;
+                    scheduler.schedule(() -> flush(destination, buffer), windowMs, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Send everything still buffered, then stop the scheduler
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        buffers.forEach(this::flush);
+    }
+
+    private void flush(String destination, TopicBuffer buffer) {
+        List<Object> batch;
+        synchronized (buffer) {
+            batch = new ArrayList<>(Math.min(buffer.pending.size(), maxBatchSize));
+            Iterator<Object> iterator = buffer.pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+
+            int represented = buffer.pending.isEmpty() ? buffer.submitted : batch.size();
+            buffer.submitted -= represented;
+            if (!batch.isEmpty()) {
+                framesSent.increment();
+                framesSaved.increment(represented - 1);
+            }
+
+            // After a frame, the next flush marks the end of the cool-down; a flush with nothing
+            // to send retires the buffer so the next burst starts a fresh window
+            if (!batch.isEmpty() && !scheduler.isShutdown()) {
+                scheduler.schedule(() -> flush(destination, buffer), minIntervalMs, TimeUnit.MILLISECONDS);
+            } else {
+                buffer.scheduled = false;
+                buffer.retired = true;
+                buffers.remove(destination, buffer);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            buffer.sender.accept(batch);
+            log.debug("Sent {} coalesced updates to {}", batch.size(), destination);
+        } catch (Exception e) {
+            log.error("Failed to send coalesced updates to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private static class TopicBuffer {
+        private final Consumer<List<Object>> sender;
+        private final LinkedHashMap<Object, Object> pending = new LinkedHashMap<>();
+        private int submitted;
+        private boolean scheduled;
+        private boolean retired;
+
+        TopicBuffer(Consumer<List<Object>> sender) {
+            this.sender = sender;
+        }
+    }
+}
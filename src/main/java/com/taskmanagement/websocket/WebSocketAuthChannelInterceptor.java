@@ -0,0 +1,119 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.security.UserDetailsServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Authenticates STOMP CONNECT frames carrying a JWT in the Authorization header.
+ * The session principal is named after the user ID so that
+ * {@code convertAndSendToUser(userId, ...)} reaches the user's sessions.
+ * Connections without a token stay anonymous and cannot subscribe to anything.
+ * SUBSCRIBE frames to a project topic ({@code /topic/projects/{id}} and everything below it)
+ * are only accepted from project members, or from admins and managers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtUtils jwtUtils;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ProjectRepository projectRepository;
+
+    private static final Pattern PROJECT_TOPIC = Pattern.compile("^/topic/projects/([^/]*)(/.*)?$");
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+            return message;
+        }
+        if (accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            return message;
+        }
+
+        try {
+            String jwt = header.substring(7);
+            if (jwtUtils.validateJwtToken(jwt)) {
+                UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService
+                        .loadUserByUsername(jwtUtils.getUsernameFromJwtToken(jwt));
+                accessor.setUser(new UsernamePasswordAuthenticationToken(
+                        userDetails.getId().toString(), null, userDetails.getAuthorities()));
+                log.debug("Authenticated WebSocket session {} as user {}", accessor.getSessionId(),
+                        userDetails.getId());
+            }
+        } catch (Exception e) {
+            log.error("Cannot authenticate WebSocket session: {}", e.getMessage());
+        }
+
+        return message;
+    }
+
+    /**
+     * Reject a subscription from an anonymous session, or to a project topic the user is not a member of
+     * @param user the session principal, named after the user ID
+     * @param destination the subscription destination
+     * @throws AccessDeniedException if the subscription is not allowed
+     */
+    void authorizeSubscription(Principal user, String destination) {
+        if (user == null) {
+            throw new AccessDeniedException("Authentication is required to subscribe to " + destination);
+        }
+        if (destination == null) {
+            return;
+        }
+
+        Matcher matcher = PROJECT_TOPIC.matcher(destination);
+        if (!matcher.matches() || isPrivileged(user)) {
+            return;
+        }
+
+        Long userId;
+        Long projectId;
+        try {
+            userId = Long.valueOf(user.getName());
+            projectId = Long.valueOf(matcher.group(1));
+        } catch (NumberFormatException e) {
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+
+        if (!projectRepository.findMemberProjectIds(userId).contains(projectId)) {
+            log.warn("User {} denied subscription to {}", userId, destination);
+            throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+        }
+    }
+
+    private boolean isPrivileged(Principal user) {
+        return user instanceof Authentication authentication && authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")
+                        || authority.getAuthority().equals("ROLE_MANAGER"));
+    }
+}
@@ -7,15 +7,20 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 /**
  * WebSocket event listener for tracking connections
+ * Feeds connect, subscribe and disconnect events into the session registry
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
 
+    private final WebSocketSessionRegistry sessionRegistry;
+
     /**
      * Handle WebSocket connection events
      */
@@ -24,22 +29,55 @@ public class WebSocketEventListener {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
 
         String sessionId = headerAccessor.getSessionId();
-        log.info("WebSocket connection established - Session ID: {}", sessionId);
+        log.info("WebSocket connection established - Session ID: {}, user: {}", sessionId,
+                event.getUser() != null ? event.getUser().getName() : "anonymous");
 
-        // You can extract user information from headers if needed
-        // String username = headerAccessor.getUser().getName();
+        sessionRegistry.registerSession(sessionId, event.getUser());
     }
 
     /**
-     * Handle WebSocket disconnection events
+     * Handle WebSocket subscription events
      */
     @EventListener
-    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+
+        String sessionId = headerAccessor.getSessionId();
+        String subscriptionId = headerAccessor.getSubscriptionId();
+        String destination = headerAccessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        log.debug("Session {} subscribed to {}", sessionId, destination);
+        sessionRegistry.addSubscription(sessionId, subscriptionId, destination);
+    }
+
+    /**
+     * Handle WebSocket unsubscription events
+     */
+    @EventListener
+    public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
 
         String sessionId = headerAccessor.getSessionId();
+        String subscriptionId = headerAccessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        log.debug("Session {} unsubscribed from subscription {}", sessionId, subscriptionId);
+        sessionRegistry.removeSubscription(sessionId, subscriptionId);
+    }
+
+    /**
+     * Handle WebSocket disconnection events
+     */
+    @EventListener
+    public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
         log.info("WebSocket connection closed - Session ID: {}", sessionId);
 
-        // Cleanup logic if needed
+        sessionRegistry.removeSession(sessionId);
     }
 }
@@ -1,36 +1,72 @@
 package com.taskmanagement.websocket;
 
 import com.taskmanagement.dto.NotificationDTO;
+import com.taskmanagement.dto.ProjectDeltaDTO;
+import com.taskmanagement.dto.SavedFilterDeltaDTO;
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import com.taskmanagement.websocket.cluster.EncodedPayload;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service for sending real-time notifications via WebSocket
+ * Messages reach subscribers connected to any node of the cluster
+ * Sends are counted as websocket.notifications.sent by type (frames actually written to
+ * sockets are counted by {@link OutboundBackpressureGuard})
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketNotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessageRelay clusterMessageRelay;
+    private final WebSocketSessionRegistry sessionRegistry;
+    private final MeterRegistry meterRegistry;
+    private final TopicBroadcastCoalescer topicBroadcastCoalescer;
+    private final TaskDeltaCodec taskDeltaCodec;
+
+    /**
+     * Check whether a user can currently receive WebSocket messages on any node
+     * @param userId User ID
+     * @return true if the user has a session on this node or a user subscription elsewhere
+     */
+    public boolean isUserOnline(Long userId) {
+        String user = userId.toString();
+        return sessionRegistry.isUserOnline(user) || clusterMessageRelay.isUserReachable(user);
+    }
 
     /**
      * Send notification to a specific user
+     * Skipped when the user has no WebSocket session; the notification is still stored
+     * and fetched over REST on the next visit
      * @param userId User ID to send notification to
      * @param notification Notification DTO
      */
     public void sendNotificationToUser(Long userId, NotificationDTO notification) {
-        log.info("Sending WebSocket notification to user {}: {}", userId, notification.getTitle());
+        if (!isUserOnline(userId)) {
+            log.debug("User {} is offline, skipping WebSocket notification", userId);
+            meterRegistry.counter("websocket.notifications.skipped").increment();
+            return;
+        }
+
+        log.debug("Sending WebSocket notification to user {}: {}", userId, notification.getTitle());
 
         try {
             // Send to user-specific queue
-            messagingTemplate.convertAndSendToUser(
+            clusterMessageRelay.convertAndSendToUser(
                     userId.toString(),
                     "/queue/notifications",
                     notification
             );
+            countSent("user", 1);
 
             log.debug("Notification sent successfully to user {}", userId);
         } catch (Exception e) {
@@ -47,10 +83,11 @@ public class WebSocketNotificationService {
 
         try {
             // Send to topic for all subscribers
-            messagingTemplate.convertAndSend(
+            clusterMessageRelay.convertAndSend(
                     "/topic/notifications",
                     notification
             );
+            countSent("broadcast", 1);
 
             log.debug("Notification broadcasted successfully");
         } catch (Exception e) {
@@ -59,45 +96,104 @@ public class WebSocketNotificationService {
     }
 
     /**
-     * Send task update notification
-     * @param projectId Project ID
-     * @param taskId Task ID
-     * @param message Update message
+     * Send a task delta to the project task topic
+     * Deltas are coalesced per project topic and delivered as batched frames, with one delta
+     * per task combining every change since the last frame: a JSON array of {@link TaskDeltaDTO} on
+     * /topic/projects/{id}/tasks and, when anyone subscribes to it, the same batch in the
+     * compact {@link TaskDeltaCodec} encoding on /topic/projects/{id}/tasks/binary
+     * @param delta Task delta
      */
-    public void sendTaskUpdate(Long projectId, Long taskId, String message) {
-        log.info("Sending task update for project {} task {}: {}", projectId, taskId, message);
+    public void sendTaskDelta(TaskDeltaDTO delta) {
+        log.debug("Queueing {} delta for project {} task {} (version {})",
+                delta.getChangeType(), delta.getProjectId(), delta.getTaskId(), delta.getVersion());
+
+        String destination = "/topic/projects/" + delta.getProjectId() + "/tasks";
+        topicBroadcastCoalescer.submit(destination, delta.getTaskId(), delta,
+                (pending, later) -> mergeTaskDeltas((TaskDeltaDTO) pending, (TaskDeltaDTO) later),
+                batch -> sendTaskDeltaBatch(destination, batch));
+    }
+
+    /**
+     * Send a project delta to the project topic
+     * @param delta Project delta
+     */
+    public void sendProjectDelta(ProjectDeltaDTO delta) {
+        log.debug("Sending project delta for project {} (version {})", delta.getProjectId(), delta.getVersion());
 
         try {
             // Send to project-specific topic
-            messagingTemplate.convertAndSend(
-                    "/topic/projects/" + projectId + "/tasks",
-                    message
+            clusterMessageRelay.convertAndSend(
+                    "/topic/projects/" + delta.getProjectId(),
+                    delta
             );
+            countSent("project-delta", 1);
 
-            log.debug("Task update sent successfully");
+            log.debug("Project delta sent successfully");
         } catch (Exception e) {
-            log.error("Failed to send task update: {}", e.getMessage());
+            log.error("Failed to send project delta: {}", e.getMessage());
         }
     }
 
     /**
-     * Send project update notification
-     * @param projectId Project ID
-     * @param message Update message
+     * Send a saved filter delta to the filter owner's sessions on this node subscribed to it
+     * @param userId Filter owner
+     * @param delta Saved filter delta
      */
-    public void sendProjectUpdate(Long projectId, String message) {
-        log.info("Sending project update for project {}: {}", projectId, message);
+    public void sendSavedFilterDelta(Long userId, SavedFilterDeltaDTO delta) {
+        log.debug("Sending {} delta for saved filter {} task {}", delta.getType(), delta.getFilterId(),
+                delta.getTaskId());
 
         try {
-            // Send to project-specific topic
-            messagingTemplate.convertAndSend(
-                    "/topic/projects/" + projectId,
-                    message
+            // Every node matches task changes against its own subscriptions, so no relaying
+            clusterMessageRelay.convertAndSendToLocalUser(
+                    userId.toString(),
+                    "/queue/filters/" + delta.getFilterId(),
+                    delta
             );
-
-            log.debug("Project update sent successfully");
+            countSent("filter-delta", 1);
         } catch (Exception e) {
-            log.error("Failed to send project update: {}", e.getMessage());
+            log.error("Failed to send saved filter delta to user {}: {}", userId, e.getMessage());
         }
     }
+
+    /**
+     * Combine two deltas of one task: later field values win, a deletion replaces everything
+     * and a task created within the window is still sent as created (with all its fields)
+     */
+    static TaskDeltaDTO mergeTaskDeltas(TaskDeltaDTO pending, TaskDeltaDTO later) {
+        if (later.getChangeType() == TaskChangeType.DELETED || pending.getChangeType() == TaskChangeType.DELETED) {
+            return later;
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (pending.getChanges() != null) {
+            changes.putAll(pending.getChanges());
+        }
+        if (later.getChanges() != null) {
+            changes.putAll(later.getChanges());
+        }
+        TaskChangeType changeType = pending.getChangeType() == TaskChangeType.CREATED
+                ? TaskChangeType.CREATED : later.getChangeType();
+        Long version = pending.getVersion() == null ? later.getVersion()
+                : later.getVersion() == null ? pending.getVersion() : Math.max(pending.getVersion(), later.getVersion());
+        return new TaskDeltaDTO(later.getTaskId(), later.getProjectId(), changeType, version, changes);
+    }
+
+    /**
+     * Encode a coalesced batch once per format and send it to the subscribers of that format
+     */
+    @SuppressWarnings("unchecked")
+    private void sendTaskDeltaBatch(String destination, List<Object> batch) {
+        clusterMessageRelay.convertAndSend(destination, batch);
+        countSent("task-delta", batch.size());
+
+        String binaryDestination = destination + "/binary";
+        if (clusterMessageRelay.hasSubscribers(binaryDestination)) {
+            byte[] frame = taskDeltaCodec.encode((List<TaskDeltaDTO>) (List<?>) batch);
+            clusterMessageRelay.send(binaryDestination, EncodedPayload.binary(frame));
+        }
+    }
+
+    private void countSent(String type, int count) {
+        meterRegistry.counter("websocket.notifications.sent", "type", type).increment(count);
+    }
 }
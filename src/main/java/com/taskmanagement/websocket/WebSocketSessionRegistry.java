@@ -0,0 +1,211 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the WebSocket sessions held by this node.
+ * Tracks user -> sessions, destination -> subscribed sessions and project -> subscribed
+ * sessions, and publishes session, online-user and subscription gauges.
+ */
+@Component
+@Slf4j
+public class WebSocketSessionRegistry {
+
+    private static final Pattern PROJECT_DESTINATION = Pattern.compile("^/topic/projects/(\\d+)(/.*)?$");
+
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> userSessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> destinationSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> projectSubscribers = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("Open WebSocket sessions on this node")
+                .register(meterRegistry);
+        Gauge.builder("websocket.users.online", userSessions, Map::size)
+                .description("Users with at least one WebSocket session on this node")
+                .register(meterRegistry);
+        Gauge.builder("websocket.destinations.active", destinationSubscribers, Map::size)
+                .description("Destinations with at least one subscriber on this node")
+                .register(meterRegistry);
+        Gauge.builder("websocket.projects.watched", projectSubscribers, Map::size)
+                .description("Projects with at least one subscribed session on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Register a connected session
+     * @param sessionId Session ID
+     * @param user Authenticated user, or null for anonymous sessions
+     */
+    public void registerSession(String sessionId, Principal user) {
+        String userName = user != null ? user.getName() : null;
+        SessionInfo info = sessions.computeIfAbsent(sessionId, id -> new SessionInfo());
+        synchronized (info) {
+            if (info.user == null && userName != null) {
+                info.user = userName;
+                userSessions.computeIfAbsent(userName, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            }
+        }
+    }
+
+    /**
+     * Record a subscription of a session
+     * @param sessionId Session ID
+     * @param subscriptionId Subscription ID
+     * @param destination Subscribed destination
+     */
+    public void addSubscription(String sessionId, String subscriptionId, String destination) {
+        SessionInfo info = sessions.computeIfAbsent(sessionId, id -> new SessionInfo());
+        synchronized (info) {
+            String previous = info.subscriptions.put(subscriptionId, destination);
+            if (previous != null) {
+                unlinkDestination(sessionId, info, previous);
+            }
+            destinationSubscribers.computeIfAbsent(destination, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            Long projectId = projectIdOf(destination);
+            if (projectId != null) {
+                projectSubscribers.computeIfAbsent(projectId, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            }
+        }
+    }
+
+    /**
+     * Remove a subscription of a session
+     * @param sessionId Session ID
+     * @param subscriptionId Subscription ID
+     */
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        SessionInfo info = sessions.get(sessionId);
+        if (info == null) {
+            return;
+        }
+        synchronized (info) {
+            String destination = info.subscriptions.remove(subscriptionId);
+            if (destination != null) {
+                unlinkDestination(sessionId, info, destination);
+            }
+        }
+    }
+
+    /**
+     * Remove a session and all its subscriptions
+     * @param sessionId Session ID
+     */
+    public void removeSession(String sessionId) {
+        SessionInfo info = sessions.remove(sessionId);
+        if (info == null) {
+            return;
+        }
+        synchronized (info) {
+            for (String destination : info.subscriptions.values()) {
+                removeFrom(destinationSubscribers, destination, sessionId);
+                Long projectId = projectIdOf(destination);
+                if (projectId != null) {
+                    removeFrom(projectSubscribers, projectId, sessionId);
+                }
+            }
+            info.subscriptions.clear();
+            if (info.user != null) {
+                removeFrom(userSessions, info.user, sessionId);
+            }
+        }
+    }
+
+    /**
+     * Check whether a user has a session on this node
+     * @param user User name (the user ID for authenticated sessions)
+     * @return true if the user is connected to this node
+     */
+    public boolean isUserOnline(String user) {
+        return userSessions.containsKey(user);
+    }
+
+    /**
+     * Get the IDs of a user's sessions on this node
+     * @param user User name
+     * @return Session IDs
+     */
+    public Set<String> getUserSessions(String user) {
+        return Set.copyOf(userSessions.getOrDefault(user, Set.of()));
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getOnlineUserCount() {
+        return userSessions.size();
+    }
+
+    /**
+     * Get the number of sessions subscribed to a destination
+     * @param destination Destination
+     * @return Subscribed session count
+     */
+    public int getSubscriberCount(String destination) {
+        return destinationSubscribers.getOrDefault(destination, Set.of()).size();
+    }
+
+    /**
+     * Get the number of sessions subscribed to any destination of a project
+     * @param projectId Project ID
+     * @return Subscribed session count
+     */
+    public int getProjectSubscriberCount(Long projectId) {
+        return projectSubscribers.getOrDefault(projectId, Set.of()).size();
+    }
+
+    /**
+     * Get subscriber counts for every destination with subscribers
+     * @return Destination -> subscribed session count, sorted by destination
+     */
+    public Map<String, Integer> getDestinationSubscriberCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        destinationSubscribers.forEach((destination, subscribers) -> counts.put(destination, subscribers.size()));
+        return counts;
+    }
+
+    private void unlinkDestination(String sessionId, SessionInfo info, String destination) {
+        // The session may still hold another subscription to the same destination
+        if (info.subscriptions.containsValue(destination)) {
+            return;
+        }
+        removeFrom(destinationSubscribers, destination, sessionId);
+        Long projectId = projectIdOf(destination);
+        if (projectId != null && info.subscriptions.values().stream().noneMatch(d -> projectId.equals(projectIdOf(d)))) {
+            removeFrom(projectSubscribers, projectId, sessionId);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> index, K key, String sessionId) {
+        index.computeIfPresent(key, (k, members) -> {
+            members.remove(sessionId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private static Long projectIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = PROJECT_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private static class SessionInfo {
+        private String user;
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+    }
+}
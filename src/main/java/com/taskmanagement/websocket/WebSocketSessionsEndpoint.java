@@ -0,0 +1,30 @@
+package com.taskmanagement.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing this node's WebSocket sessions and per-destination subscriber counts
+ * GET /actuator/websocket
+ */
+@Component
+@Endpoint(id = "websocket")
+@RequiredArgsConstructor
+public class WebSocketSessionsEndpoint {
+
+    private final WebSocketSessionRegistry sessionRegistry;
+
+    @ReadOperation
+    public Map<String, Object> sessions() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessions", sessionRegistry.getSessionCount());
+        result.put("onlineUsers", sessionRegistry.getOnlineUserCount());
+        result.put("destinations", sessionRegistry.getDestinationSubscriberCounts());
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskmanagement.websocket.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Cross-node pub/sub transport used to relay WebSocket messages between application instances.
+ * A node subscribes to a channel only while it hosts a subscriber for it, so a published
+ * message reaches only the nodes that can deliver it.
+ */
+public interface ClusterBus {
+
+    /**
+     * Publish a message to every node subscribed to a channel
+     * @param channel Channel name
+     * @param message Serialized message
+     */
+    void publish(String channel, String message);
+
+    /**
+     * Subscribe this node to a channel (no-op if already subscribed)
+     * @param channel Channel name
+     * @param handler Handler invoked for every message received on the channel
+     */
+    void subscribe(String channel, Consumer<String> handler);
+
+    /**
+     * Unsubscribe this node from a channel (no-op if not subscribed)
+     * @param channel Channel name
+     */
+    void unsubscribe(String channel);
+
+    /**
+     * Check whether any node (including this one) is subscribed to a channel
+     * @param channel Channel name
+     * @return true if a published message would be delivered somewhere
+     */
+    boolean hasSubscribers(String channel);
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.websocket.cluster;
+
+import java.security.Principal;
+
+/**
+ * Naming of cluster bus channels: one channel per topic destination and one per user
+ */
+public final class ClusterChannels {
+
+    public static final String TOPIC_PREFIX = "/topic/";
+    public static final String USER_PREFIX = "/user/";
+
+    private static final String CHANNEL_PREFIX = "ws:";
+
+    private ClusterChannels() {
+    }
+
+    public static String forTopic(String destination) {
+        return CHANNEL_PREFIX + "topic:" + destination;
+    }
+
+    public static String forUser(String user) {
+        return CHANNEL_PREFIX + "user:" + user;
+    }
+
+    /**
+     * Resolve the channel a client subscription needs this node to listen on
+     * @param destination Subscribed destination
+     * @param user Subscribing user (may be null)
+     * @return Channel name, or null if the destination is not relayed
+     */
+    public static String forSubscription(String destination, Principal user) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            return forTopic(destination);
+        }
+        if (destination.startsWith(USER_PREFIX) && user != null) {
+            return forUser(user.getName());
+        }
+        return null;
+    }
+}
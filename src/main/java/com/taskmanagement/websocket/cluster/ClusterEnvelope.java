@@ -0,0 +1,33 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message relayed between nodes: a STOMP destination plus its already serialized payload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterEnvelope {
+
+    /**
+     * ID of the node that produced the message (it has already delivered locally)
+     */
+    private String origin;
+
+    private String destination;
+
+    /**
+     * Target user for user destinations, null for topics
+     */
+    private String user;
+
+    private String contentType;
+
+    /**
+     * Payload as sent to clients: text as-is, binary payloads base64 encoded
+     */
+    private String body;
+}
@@ -0,0 +1,166 @@
+package com.taskmanagement.websocket.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Sends WebSocket messages to subscribers on every node.
+ * Messages are delivered to local subscribers directly and published once on the cluster
+ * bus; the bus only forwards them to nodes whose routing table holds the channel.
+ * Payloads are serialized once on the sending node; the same bytes go to every local
+ * session and are relayed verbatim, so receiving nodes never re-encode them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterMessageRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.websocket.cluster.node-id:#{T(java.util.UUID).randomUUID().toString()}}")
+    private String nodeId;
+
+    /**
+     * Send a message to a topic on all nodes
+     * @param destination Topic destination
+     * @param payload Message payload, serialized as JSON
+     */
+    public void convertAndSend(String destination, Object payload) {
+        send(destination, toJson(payload));
+    }
+
+    /**
+     * Send an already encoded message to a topic on all nodes
+     * @param destination Topic destination
+     * @param payload Encoded payload
+     */
+    public void send(String destination, EncodedPayload payload) {
+        messagingTemplate.send(destination, payload.toMessage());
+        if (destination.startsWith(ClusterChannels.TOPIC_PREFIX)) {
+            publish(ClusterChannels.forTopic(destination), destination, null, payload);
+        }
+    }
+
+    /**
+     * Send a message to a user's destination on all nodes
+     * @param user Target user name
+     * @param destination User destination (e.g. /queue/notifications)
+     * @param payload Message payload, serialized as JSON
+     */
+    public void convertAndSendToUser(String user, String destination, Object payload) {
+        EncodedPayload encoded = toJson(payload);
+        messagingTemplate.send(userDestination(user, destination), encoded.toMessage());
+        publish(ClusterChannels.forUser(user), destination, user, encoded);
+    }
+
+    /**
+     * Send a message to a user's destination on this node only, for messages each node
+     * produces for its own subscribers
+     * @param user Target user name
+     * @param destination User destination (e.g. /queue/filters/1)
+     * @param payload Message payload, serialized as JSON
+     */
+    public void convertAndSendToLocalUser(String user, String destination, Object payload) {
+        messagingTemplate.send(userDestination(user, destination), toJson(payload).toMessage());
+    }
+
+    /**
+     * Deliver a message relayed from another node to local subscribers
+     * @param message Serialized envelope
+     */
+    public void deliver(String message) {
+        try {
+            ClusterEnvelope envelope = objectMapper.readValue(message, ClusterEnvelope.class);
+            if (nodeId.equals(envelope.getOrigin())) {
+                return;
+            }
+            EncodedPayload payload = decode(envelope);
+            if (envelope.getUser() != null) {
+                messagingTemplate.send(userDestination(envelope.getUser(), envelope.getDestination()),
+                        payload.toMessage());
+            } else {
+                messagingTemplate.send(envelope.getDestination(), payload.toMessage());
+            }
+        } catch (Exception e) {
+            log.error("Failed to deliver relayed WebSocket message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a topic has a subscriber on any node
+     * @param destination Topic destination
+     * @return true if a message sent to the destination would reach someone
+     */
+    public boolean hasSubscribers(String destination) {
+        try {
+            return clusterBus.hasSubscribers(ClusterChannels.forTopic(destination));
+        } catch (Exception e) {
+            log.error("Failed to check subscribers of {}: {}", destination, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Check whether a user has a session subscribed to a user destination on any node
+     * @param user User name
+     * @return true if user messages can currently be delivered
+     */
+    public boolean isUserReachable(String user) {
+        try {
+            return clusterBus.hasSubscribers(ClusterChannels.forUser(user));
+        } catch (Exception e) {
+            log.error("Failed to check presence of user {}: {}", user, e.getMessage());
+            return true;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void publish(String channel, String destination, String user, EncodedPayload payload) {
+        try {
+            String body = payload.isText()
+                    ? new String(payload.getBytes(), StandardCharsets.UTF_8)
+                    : Base64.getEncoder().encodeToString(payload.getBytes());
+            ClusterEnvelope envelope = new ClusterEnvelope(nodeId, destination, user,
+                    payload.getContentType().toString(), body);
+            clusterBus.publish(channel, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.error("Failed to relay WebSocket message for {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private EncodedPayload decode(ClusterEnvelope envelope) {
+        MimeType contentType = MimeType.valueOf(envelope.getContentType());
+        byte[] bytes = MimeTypeUtils.APPLICATION_OCTET_STREAM.isCompatibleWith(contentType)
+                ? Base64.getDecoder().decode(envelope.getBody())
+                : envelope.getBody().getBytes(StandardCharsets.UTF_8);
+        return new EncodedPayload(contentType, bytes);
+    }
+
+    private EncodedPayload toJson(Object payload) {
+        try {
+            return EncodedPayload.json(objectMapper.writeValueAsBytes(payload));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to serialize WebSocket payload", e);
+        }
+    }
+
+    private String userDestination(String user, String destination) {
+        String prefix = messagingTemplate.getUserDestinationPrefix();
+        String path = destination.startsWith("/") ? destination : "/" + destination;
+        return prefix + user.replace("/", "%2F") + path;
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local routing table.
+ * Reference-counts the local subscriptions behind each cluster channel and keeps this node
+ * subscribed on the cluster bus exactly while at least one local session needs the channel.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterRoutingTable {
+
+    private final ClusterBus clusterBus;
+    private final ClusterMessageRelay clusterMessageRelay;
+
+    /**
+     * Local subscription count per channel
+     */
+    private final Map<String, Integer> channelRefs = new ConcurrentHashMap<>();
+
+    /**
+     * Channel per subscription ID, per session
+     */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String channel = ClusterChannels.forSubscription(accessor.getDestination(), event.getUser());
+        if (channel == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), channel);
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(channel);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String channel = subscriptions.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            release(channel);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * Check whether this node hosts a subscriber for a channel
+     * @param channel Channel name
+     * @return true if at least one local subscription needs the channel
+     */
+    public boolean hasLocalSubscribers(String channel) {
+        return channelRefs.containsKey(channel);
+    }
+
+    private void acquire(String channel) {
+        channelRefs.compute(channel, (key, count) -> {
+            if (count == null) {
+                clusterBus.subscribe(key, clusterMessageRelay::deliver);
+                log.debug("Node now routes channel {}", key);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void release(String channel) {
+        channelRefs.computeIfPresent(channel, (key, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            clusterBus.unsubscribe(key);
+            log.debug("Node no longer routes channel {}", key);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * A message payload serialized once, ready to be shared by every subscriber session and
+ * relayed to other nodes without being decoded and re-encoded.
+ * Binary payloads use {@code application/octet-stream} so STOMP sends them as binary
+ * WebSocket frames; SockJS transports only carry text and should subscribe to JSON topics.
+ */
+@Value
+public class EncodedPayload {
+
+    MimeType contentType;
+    byte[] bytes;
+
+    public static EncodedPayload json(byte[] bytes) {
+        return new EncodedPayload(MimeTypeUtils.APPLICATION_JSON, bytes);
+    }
+
+    public static EncodedPayload binary(byte[] bytes) {
+        return new EncodedPayload(MimeTypeUtils.APPLICATION_OCTET_STREAM, bytes);
+    }
+
+    /**
+     * Whether the payload is text and can be relayed without base64 encoding
+     */
+    public boolean isText() {
+        return !MimeTypeUtils.APPLICATION_OCTET_STREAM.isCompatibleWith(contentType);
+    }
+
+    /**
+     * Build a broker message carrying the payload; the destination is set on send
+     */
+    public Message<byte[]> toMessage() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(bytes, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cluster bus backed by an {@link InMemoryPubSub}, for single-node deployments and tests
+ */
+@RequiredArgsConstructor
+public class InMemoryClusterBus implements ClusterBus {
+
+    private final InMemoryPubSub pubSub;
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, String message) {
+        pubSub.publish(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> handler) {
+        handlers.computeIfAbsent(channel, key -> {
+            pubSub.subscribe(key, handler);
+            return handler;
+        });
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        Consumer<String> handler = handlers.remove(channel);
+        if (handler != null) {
+            pubSub.unsubscribe(channel, handler);
+        }
+    }
+
+    @Override
+    public boolean hasSubscribers(String channel) {
+        return pubSub.getSubscriberCount(channel) > 0;
+    }
+}
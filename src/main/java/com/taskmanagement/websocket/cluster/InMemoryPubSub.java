@@ -0,0 +1,57 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM stand-in for a Redis pub/sub server.
+ * A single instance serves a single node by default; sharing one instance between
+ * several application contexts lets them relay to each other as if Redis were present.
+ */
+@Slf4j
+public class InMemoryPubSub {
+
+    private final Map<String, Set<Consumer<String>>> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Deliver a message to every subscriber of a channel
+     * @param channel Channel name
+     * @param message Message body
+     * @return Number of subscribers that received the message
+     */
+    public int publish(String channel, String message) {
+        Set<Consumer<String>> subscribers = channels.getOrDefault(channel, Set.of());
+        for (Consumer<String> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("Subscriber on channel {} failed: {}", channel, e.getMessage());
+            }
+        }
+        return subscribers.size();
+    }
+
+    public void subscribe(String channel, Consumer<String> subscriber) {
+        channels.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    public void unsubscribe(String channel, Consumer<String> subscriber) {
+        channels.computeIfPresent(channel, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * Get the number of subscribers of a channel
+     * @param channel Channel name
+     * @return Subscriber count
+     */
+    public int getSubscriberCount(String channel) {
+        return channels.getOrDefault(channel, Set.of()).size();
+    }
+}
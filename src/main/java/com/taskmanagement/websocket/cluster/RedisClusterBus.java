@@ -0,0 +1,67 @@
+package com.taskmanagement.websocket.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cluster bus backed by Redis pub/sub
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RedisClusterBus implements ClusterBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> handler) {
+        listeners.computeIfAbsent(channel, key -> {
+            MessageListener listener = (message, pattern) ->
+                    handler.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            listenerContainer.addMessageListener(listener, new ChannelTopic(key));
+            log.debug("Subscribed to Redis channel {}", key);
+            return listener;
+        });
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+        MessageListener listener = listeners.remove(channel);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener, new ChannelTopic(channel));
+            log.debug("Unsubscribed from Redis channel {}", channel);
+        }
+    }
+
+    @Override
+    public boolean hasSubscribers(String channel) {
+        if (listeners.containsKey(channel)) {
+            return true;
+        }
+        // PUBSUB NUMSUB replies with [channel, count]
+        Object reply = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                "PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), channel.getBytes(StandardCharsets.UTF_8)));
+        if (reply instanceof List<?> values && values.size() == 2 && values.get(1) instanceof Number count) {
+            return count.longValue() > 0;
+        }
+        // Unknown reply shape: assume someone may be listening
+        return true;
+    }
+}
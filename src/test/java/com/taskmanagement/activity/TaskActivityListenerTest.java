@@ -0,0 +1,81 @@
+package com.taskmanagement.activity;
+
+import com.taskmanagement.entity.TaskActivity;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.event.TaskChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskActivityListenerTest {
+
+    @Test
+    void testUpdateGivesOneEntryPerChangedField() {
+        Map<String, Object> before = state("Write docs", "TODO", null);
+        Map<String, Object> after = state("Write docs", "IN_PROGRESS", 7L);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", "IN_PROGRESS");
+        changes.put("assignedToId", 7L);
+
+        List<TaskActivity> entries = TaskActivityListener.toEntries(
+                new TaskChangedEvent(1L, 2L, TaskChangeType.UPDATED, 3L, changes, before, after),
+                template(TaskChangeType.UPDATED));
+
+        assertEquals(2, entries.size());
+        assertEquals("status", entries.get(0).getField());
+        assertEquals("TODO", entries.get(0).getOldValue());
+        assertEquals("IN_PROGRESS", entries.get(0).getNewValue());
+        assertEquals("assignedToId", entries.get(1).getField());
+        assertNull(entries.get(1).getOldValue());
+        assertEquals("7", entries.get(1).getNewValue());
+        assertTrue(entries.stream().allMatch(e -> e.getActorId() == 9L && e.getTaskId() == 1L));
+    }
+
+    @Test
+    void testCreateAndDeleteGiveOneEntryWithTheTitle() {
+        Map<String, Object> state = state("Write docs", "TODO", null);
+
+        List<TaskActivity> created = TaskActivityListener.toEntries(
+                new TaskChangedEvent(1L, 2L, TaskChangeType.CREATED, 0L, state, null, state),
+                template(TaskChangeType.CREATED));
+        List<TaskActivity> deleted = TaskActivityListener.toEntries(
+                new TaskChangedEvent(1L, 2L, TaskChangeType.DELETED, 0L, Map.of(), state, null),
+                template(TaskChangeType.DELETED));
+
+        assertEquals(1, created.size());
+        assertNull(created.get(0).getField());
+        assertEquals("Write docs", created.get(0).getNewValue());
+        assertEquals(1, deleted.size());
+        assertEquals("Write docs", deleted.get(0).getOldValue());
+        assertNull(deleted.get(0).getNewValue());
+    }
+
+    @Test
+    void testLongValuesAreTruncated() {
+        String description = "x".repeat(TaskActivity.MAX_VALUE_LENGTH + 10);
+
+        List<TaskActivity> entries = TaskActivityListener.toEntries(
+                new TaskChangedEvent(1L, 2L, TaskChangeType.UPDATED, 3L, Map.of("description", description),
+                        Map.of(), Map.of("description", description)),
+                template(TaskChangeType.UPDATED));
+
+        assertEquals(TaskActivity.MAX_VALUE_LENGTH, entries.get(0).getNewValue().length());
+    }
+
+    private Map<String, Object> state(String title, String status, Long assignedToId) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("title", title);
+        state.put("status", status);
+        state.put("assignedToId", assignedToId);
+        return state;
+    }
+
+    private TaskActivity template(TaskChangeType action) {
+        return new TaskActivity(null, null, 1L, 2L, 9L, "alice", action, null, null, null, LocalDateTime.now());
+    }
+}
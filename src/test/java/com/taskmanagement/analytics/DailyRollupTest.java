@@ -0,0 +1,92 @@
+package com.taskmanagement.analytics;
+
+import com.taskmanagement.entity.ProjectDailyDuration;
+import com.taskmanagement.entity.TaskDurationMetric;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.TaskStatusTransition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyRollupTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 6, 3, 12, 0);
+
+    @Test
+    void testTransitionsAreCountedByKind() {
+        DailyRollup rollup = new DailyRollup();
+        rollup.add(transition(null, TaskStatus.TODO, null, null));
+        rollup.add(transition(null, TaskStatus.TODO, null, null));
+        rollup.add(transition(TaskStatus.TODO, TaskStatus.IN_PROGRESS, null, null));
+        rollup.add(transition(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, 600L, 120L));
+        rollup.add(transition(TaskStatus.COMPLETED, TaskStatus.IN_REVIEW, null, null));
+        rollup.add(transition(TaskStatus.TODO, TaskStatus.CANCELLED, null, null));
+        rollup.add(transition(TaskStatus.CANCELLED, null, null, null));
+
+        assertEquals(2, rollup.getCreated());
+        assertEquals(1, rollup.getCompleted());
+        assertEquals(1, rollup.getReopened());
+        assertEquals(1, rollup.getCancelled());
+        assertEquals(1, rollup.getDeleted());
+        // +2 created, -1 completed, +1 reopened, -1 cancelled; deleting a cancelled task changes nothing
+        assertEquals(1, rollup.getOpenDelta());
+        assertEquals(1, rollup.getDurations(TaskDurationMetric.LEAD_TIME).size());
+        assertEquals(1, rollup.getDurations(TaskDurationMetric.CYCLE_TIME).size());
+    }
+
+    @Test
+    void testStoredRowsAddUpLikeTransitions() {
+        DailyRollup fromTransitions = new DailyRollup();
+        fromTransitions.add(transition(null, TaskStatus.TODO, null, null));
+        fromTransitions.add(transition(TaskStatus.TODO, TaskStatus.COMPLETED, 90L, null));
+
+        LocalDate day = NOON.toLocalDate();
+        DailyRollup fromRows = new DailyRollup();
+        fromRows.add(fromTransitions.toStats(7L, day));
+        for (ProjectDailyDuration duration : fromTransitions.toDurations(7L, day)) {
+            fromRows.add(duration);
+        }
+
+        assertEquals(fromTransitions.getCreated(), fromRows.getCreated());
+        assertEquals(fromTransitions.getCompleted(), fromRows.getCompleted());
+        assertEquals(fromTransitions.getOpenDelta(), fromRows.getOpenDelta());
+        assertEquals(fromTransitions.getDurations(TaskDurationMetric.LEAD_TIME),
+                fromRows.getDurations(TaskDurationMetric.LEAD_TIME));
+        assertTrue(fromRows.getDurations(TaskDurationMetric.CYCLE_TIME).isEmpty());
+    }
+
+    @Test
+    void testBucketsAreWithinTenPercent() {
+        for (long minutes : new long[]{5, 47, 60, 480, 1440, 10_000, 525_600}) {
+            double estimate = DurationHistogram.minutesOf(DurationHistogram.bucketOf(minutes));
+            assertEquals(minutes, estimate, minutes * 0.1, "minutes " + minutes);
+        }
+        assertEquals(0, DurationHistogram.bucketOf(0));
+        assertEquals(0, DurationHistogram.bucketOf(-5));
+    }
+
+    @Test
+    void testPercentilesUseNearestRank() {
+        SortedMap<Integer, Long> buckets = new TreeMap<>();
+        assertNull(DurationHistogram.percentile(buckets, 50));
+
+        // 17 tasks of an hour, 2 of a day and 1 of a week
+        buckets.merge(DurationHistogram.bucketOf(60), 17L, Long::sum);
+        buckets.merge(DurationHistogram.bucketOf(1440), 2L, Long::sum);
+        buckets.merge(DurationHistogram.bucketOf(10_080), 1L, Long::sum);
+
+        assertEquals(60, DurationHistogram.percentile(buckets, 50), 6);
+        assertEquals(60, DurationHistogram.percentile(buckets, 85), 6);
+        assertEquals(1440, DurationHistogram.percentile(buckets, 95), 144);
+        assertEquals(10_080, DurationHistogram.percentile(buckets, 100), 1008);
+    }
+
+    private TaskStatusTransition transition(TaskStatus from, TaskStatus to, Long leadTime, Long cycleTime) {
+        return new TaskStatusTransition(null, 1L, 7L, from, to, NOON, leadTime, cycleTime);
+    }
+}
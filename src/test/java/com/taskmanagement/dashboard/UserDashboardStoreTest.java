@@ -0,0 +1,93 @@
+package com.taskmanagement.dashboard;
+
+import com.taskmanagement.dto.UserDashboardDTO;
+import com.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserDashboardStoreTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 6, 3, 9, 0);
+    private static final LocalDateTime NEXT_MONDAY = LocalDateTime.of(2024, 6, 10, 0, 0);
+
+    private final UserDashboardStore store = new UserDashboardStore();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "cacheSize", 2);
+    }
+
+    @Test
+    void testTaskMovesUpdateCountsAndDueDates() {
+        store.putIfUnchanged(1L, new UserDashboard(0, 0), store.stamp(1L));
+
+        store.addTasks(1L, TaskStatus.TODO, MONDAY.plusDays(2), 1);
+        store.addTasks(1L, TaskStatus.TODO, MONDAY.minusDays(1), 1);
+        store.addTasks(1L, TaskStatus.IN_PROGRESS, null, 1);
+
+        UserDashboardDTO dashboard = store.get(1L).toDTO(MONDAY, NEXT_MONDAY);
+        assertEquals(2, dashboard.getAssignedTasksByStatus().get(TaskStatus.TODO));
+        assertEquals(3, dashboard.getOpenAssignedTasks());
+        assertEquals(1, dashboard.getOverdueTasks());
+        assertEquals(1, dashboard.getDueThisWeekTasks());
+
+        // Completing the overdue task removes it from the due date counts
+        store.addTasks(1L, TaskStatus.TODO, MONDAY.minusDays(1), -1);
+        store.addTasks(1L, TaskStatus.COMPLETED, MONDAY.minusDays(1), 1);
+
+        dashboard = store.get(1L).toDTO(MONDAY, NEXT_MONDAY);
+        assertEquals(1, dashboard.getAssignedTasksByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(2, dashboard.getOpenAssignedTasks());
+        assertEquals(0, dashboard.getOverdueTasks());
+    }
+
+    @Test
+    void testDueDatesBecomeOverdueAsTimePasses() {
+        UserDashboard dashboard = new UserDashboard(0, 0);
+        dashboard.addTasks(TaskStatus.TODO, MONDAY.plusDays(2), 1);
+
+        assertEquals(0, dashboard.toDTO(MONDAY, NEXT_MONDAY).getOverdueTasks());
+        assertEquals(1, dashboard.toDTO(MONDAY.plusDays(3), NEXT_MONDAY).getOverdueTasks());
+        assertEquals(0, dashboard.toDTO(MONDAY.plusDays(3), NEXT_MONDAY).getDueThisWeekTasks());
+    }
+
+    @Test
+    void testLoadRacingAnUpdateIsNotStored() {
+        long stamp = store.stamp(1L);
+        store.addUnreadNotifications(1L, 1);
+
+        assertFalse(store.putIfUnchanged(1L, new UserDashboard(0, 0), stamp));
+        assertNull(store.get(1L));
+        assertTrue(store.putIfUnchanged(1L, new UserDashboard(1, 0), store.stamp(1L)));
+    }
+
+    @Test
+    void testLoadWhileAChangeCommitsIsNotStored() {
+        store.hold(1L);
+        // Loaded after the commit, before the change is applied in place: already counts it
+        long stamp = store.stamp(1L);
+        assertFalse(store.putIfUnchanged(1L, new UserDashboard(1, 0), stamp));
+
+        store.addUnreadNotifications(1L, 1);
+        store.release(1L);
+        assertNull(store.get(1L));
+        assertTrue(store.putIfUnchanged(1L, new UserDashboard(1, 0), store.stamp(1L)));
+    }
+
+    @Test
+    void testLeastRecentlyUsedDashboardIsDropped() {
+        store.putIfUnchanged(1L, new UserDashboard(0, 0), store.stamp(1L));
+        store.putIfUnchanged(2L, new UserDashboard(0, 0), store.stamp(2L));
+        store.get(1L);
+        store.putIfUnchanged(3L, new UserDashboard(0, 0), store.stamp(3L));
+
+        assertNotNull(store.get(1L));
+        assertNull(store.get(2L));
+        assertEquals(2, store.size());
+    }
+}
@@ -0,0 +1,183 @@
+package com.taskmanagement.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing between in-memory H2 databases standing in for the primary and two replicas; each
+ * one knows its own name and reports the lag stored in its node table
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica-1");
+        replica2 = database("replica-2");
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+
+        routing = new ReadWriteRoutingDataSource(primary, replicas, "SELECT lag_ms FROM node",
+                1000, 60_000, 0, new InMemoryRecentWriters(), new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routing.close();
+        for (DataSource dataSource : List.of(primary, replica1, replica2)) {
+            new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void testReadOnlyTransactionsAreBalancedOverReplicas() {
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"),
+                List.of(readOnlyNode(), readOnlyNode(), readOnlyNode(), readOnlyNode()));
+        assertEquals("primary", readWrite.execute(status -> node()));
+        // No transaction: primary
+        assertEquals("primary", node());
+    }
+
+    @Test
+    void testLaggingAndFailingReplicasAreSkipped() {
+        new JdbcTemplate(replica1).update("UPDATE node SET lag_ms = 5000");
+        routing.checkReplicas();
+        assertEquals(List.of("replica-2", "replica-2"), List.of(readOnlyNode(), readOnlyNode()));
+
+        new JdbcTemplate(replica2).execute("DROP TABLE node");
+        routing.checkReplicas();
+        assertEquals("primary", readOnlyNode());
+
+        // Caught up again
+        new JdbcTemplate(replica1).update("UPDATE node SET lag_ms = 0");
+        routing.checkReplicas();
+        assertEquals("replica-1", readOnlyNode());
+    }
+
+    @Test
+    void testUserReadsTheirOwnWritesFromPrimary() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET lag_ms = 0"));
+        assertEquals("primary", readOnlyNode());
+
+        // Other users still read from replicas
+        authenticate("bob");
+        assertTrue(readOnlyNode().startsWith("replica-"));
+
+        // A rolled back transaction wrote nothing
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET lag_ms = 0");
+            status.setRollbackOnly();
+        });
+        assertTrue(readOnlyNode().startsWith("replica-"));
+    }
+
+    @Test
+    void testPrimaryReadsHint() {
+        assertTrue(ReadWriteRoutingDataSource.beginPrimaryReads());
+        try {
+            assertFalse(ReadWriteRoutingDataSource.beginPrimaryReads());
+            assertEquals("primary", readOnlyNode());
+        } finally {
+            ReadWriteRoutingDataSource.endPrimaryReads();
+        }
+        assertTrue(readOnlyNode().startsWith("replica-"));
+    }
+
+    @Test
+    void testWriteOnOneNodeKeepsReadsOnPrimaryOnAnother() {
+        RecentWriters shared = new InMemoryRecentWriters();
+        ReadWriteRoutingDataSource nodeA = new ReadWriteRoutingDataSource(primary, Map.of("replica-1", replica1),
+                "SELECT lag_ms FROM node", 1000, 60_000, 0, shared, new SimpleMeterRegistry());
+        ReadWriteRoutingDataSource nodeB = new ReadWriteRoutingDataSource(primary, Map.of("replica-1", replica1),
+                "SELECT lag_ms FROM node", 1000, 60_000, 0, shared, new SimpleMeterRegistry());
+        nodeA.afterPropertiesSet();
+        nodeB.afterPropertiesSet();
+        DataSource dataSourceA = new LazyConnectionDataSourceProxy(nodeA);
+        DataSource dataSourceB = new LazyConnectionDataSourceProxy(nodeB);
+        TransactionTemplate readOnlyB = new TransactionTemplate(new DataSourceTransactionManager(dataSourceB));
+        readOnlyB.setReadOnly(true);
+
+        authenticate("alice");
+        new TransactionTemplate(new DataSourceTransactionManager(dataSourceA)).executeWithoutResult(status ->
+                new JdbcTemplate(dataSourceA).update("UPDATE node SET lag_ms = 0"));
+        assertEquals("primary", readOnlyB.execute(status ->
+                new JdbcTemplate(dataSourceB).queryForObject("SELECT name FROM node", String.class)));
+    }
+
+    @Test
+    void testReadYourWritesWindowExpires() throws InterruptedException {
+        routing.close();
+        routing = new ReadWriteRoutingDataSource(primary, Map.of("replica-1", replica1), "SELECT lag_ms FROM node",
+                1000, 50, 0, new InMemoryRecentWriters(), new SimpleMeterRegistry());
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET lag_ms = 0"));
+        assertEquals("primary", readOnlyNode());
+
+        Thread.sleep(100);
+        assertEquals("replica-1", readOnlyNode());
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), lag_ms BIGINT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,174 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Notification;
+import com.taskmanagement.entity.NotificationType;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.NotificationRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.NotificationService;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.statementCount;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * User dashboard endpoint: loaded once with aggregate queries, then served from memory and
+ * kept current by task, notification and project writes
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User assignee;
+    private Project project;
+    private Task overdueTask;
+    private Task laterTask;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("dashboard-owner"));
+        assignee = userRepository.save(newUser("dashboard-assignee"));
+        project = projectService.createProject("Dashboard Project", null, owner, null, null);
+
+        overdueTask = taskService.createTask("Overdue", null, project.getId(), owner, TaskPriority.HIGH,
+                LocalDate.now().minusDays(2));
+        laterTask = taskService.createTask("Later", null, project.getId(), owner, TaskPriority.LOW,
+                LocalDate.now().plusMonths(2));
+        taskService.assignTask(overdueTask.getId(), assignee.getId(), owner);
+        taskService.assignTask(laterTask.getId(), assignee.getId(), owner);
+
+        notificationService.createNotification(assignee, "Assigned", "Two tasks for you", NotificationType.TASK_ASSIGNED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll(List.of(owner, assignee));
+    }
+
+    @Test
+    void dashboard_IsLoadedOnceThenServedFromMemory() throws Exception {
+        dashboard(assignee)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignedTasksByStatus.IN_PROGRESS").value(2))
+                .andExpect(jsonPath("$.openAssignedTasks").value(2))
+                .andExpect(jsonPath("$.overdueTasks").value(1))
+                .andExpect(jsonPath("$.unreadNotifications").value(1))
+                .andExpect(jsonPath("$.ownedProjects").value(0))
+                // Unread notifications, owned projects, assigned task counts
+                .andExpect(statementCount(3));
+
+        dashboard(assignee)
+                .andExpect(status().isOk())
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void dashboard_FollowsWritesWithoutReloading() throws Exception {
+        dashboard(assignee).andExpect(status().isOk());
+        dashboard(owner).andExpect(jsonPath("$.ownedProjects").value(1));
+
+        taskService.updateTaskStatus(overdueTask.getId(), TaskStatus.COMPLETED, assignee);
+        Notification notification = notificationRepository.findByUserAndIsReadFalse(assignee).get(0);
+        notificationService.markAsRead(notification.getId(), assignee);
+
+        dashboard(assignee)
+                .andExpect(jsonPath("$.assignedTasksByStatus.IN_PROGRESS").value(1))
+                .andExpect(jsonPath("$.assignedTasksByStatus.COMPLETED").value(1))
+                .andExpect(jsonPath("$.overdueTasks").value(0))
+                .andExpect(jsonPath("$.unreadNotifications").value(0))
+                .andExpect(statementCount(0));
+
+        taskService.assignTask(laterTask.getId(), owner.getId(), owner);
+        projectService.createProject("Second Dashboard Project", null, owner, null, null);
+
+        dashboard(assignee)
+                .andExpect(jsonPath("$.openAssignedTasks").value(0));
+        dashboard(owner)
+                .andExpect(jsonPath("$.openAssignedTasks").value(1))
+                .andExpect(jsonPath("$.ownedProjects").value(2))
+                .andExpect(statementCount(0));
+    }
+
+    @Test
+    void deletingAProject_DropsItsTasksFromAssigneeDashboards() throws Exception {
+        dashboard(assignee).andExpect(jsonPath("$.openAssignedTasks").value(2));
+
+        projectService.deleteProject(project.getId());
+
+        dashboard(assignee)
+                .andExpect(jsonPath("$.openAssignedTasks").value(0))
+                .andExpect(jsonPath("$.overdueTasks").value(0));
+        dashboard(owner)
+                .andExpect(jsonPath("$.ownedProjects").value(0));
+    }
+
+    private ResultActions dashboard(User currentUser) throws Exception {
+        return mockMvc.perform(get("/api/dashboard").with(user(UserDetailsImpl.build(currentUser))));
+    }
+
+    private User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setFullName(username);
+        return user;
+    }
+}
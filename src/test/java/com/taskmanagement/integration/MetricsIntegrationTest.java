@@ -0,0 +1,132 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Hot-path metrics: service method and repository timers and the Prometheus scrape endpoint
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("metrics-owner");
+        owner.setEmail("metrics-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Metrics Owner");
+        owner = userRepository.save(owner);
+
+        project = new Project();
+        project.setName("Metrics Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void serviceAndRepositoryCallsAreTimed() {
+        // The registry is shared with every test in the context, so compare against a baseline
+        long created = timerCount("service.invocations",
+                "service", "TaskServiceImpl", "method", "createTask", "outcome", "success");
+        long failedAssignments = timerCount("service.invocations",
+                "service", "TaskServiceImpl", "method", "assignTask", "outcome", "error");
+        long saves = timerCount("spring.data.repository.invocations",
+                "repository", "TaskRepository", "method", "save");
+
+        taskService.createTask("Timed task", null, project.getId(), owner, TaskPriority.MEDIUM, null);
+        assertThrows(RuntimeException.class, () -> taskService.assignTask(-1L, owner.getId(), owner));
+
+        assertEquals(created + 1, timerCount("service.invocations",
+                "service", "TaskServiceImpl", "method", "createTask", "outcome", "success"));
+        assertEquals(failedAssignments + 1, timerCount("service.invocations",
+                "service", "TaskServiceImpl", "method", "assignTask", "outcome", "error"));
+        assertTrue(timerCount("spring.data.repository.invocations",
+                "repository", "TaskRepository", "method", "save") > saves);
+    }
+
+    @Test
+    void prometheusEndpointIsRestrictedToAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(user("metrics-user")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(user("metrics-user")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheusEndpointIsExposed() throws Exception {
+        taskService.getTaskById(-1L);
+
+        mockMvc.perform(get("/actuator/prometheus").with(user("scraper").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")))
+                .andExpect(content().string(containsString("email_queue_depth")));
+    }
+
+    private long timerCount(String name, String... tags) {
+        Timer timer = meterRegistry.find(name).tags(tags).timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
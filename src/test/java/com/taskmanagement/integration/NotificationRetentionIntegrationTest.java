@@ -0,0 +1,109 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Notification;
+import com.taskmanagement.entity.NotificationType;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.notification.NotificationPartitionManager;
+import com.taskmanagement.repository.NotificationRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.statementCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Notification retention: notifications older than the retention period are hidden from
+ * reads at once and removed by the retention run, which drops the affected dashboards
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NotificationRetentionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationPartitionManager partitionManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User recipient;
+    private Notification recent;
+    private Notification expired;
+
+    @BeforeEach
+    void setUp() {
+        recipient = new User();
+        recipient.setUsername("retention-recipient");
+        recipient.setEmail("retention-recipient@example.com");
+        recipient.setPassword("password");
+        recipient.setFullName("Retention Recipient");
+        recipient = userRepository.save(recipient);
+
+        recent = notificationService.createNotification(recipient, "Recent", "Still relevant",
+                NotificationType.TASK_ASSIGNED);
+        expired = notificationService.createNotification(recipient, "Old", "Long forgotten",
+                NotificationType.TASK_ASSIGNED);
+        // Creation time is set on insert; move one notification to before the retention period
+        jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE id = ?",
+                partitionManager.getRetentionHorizon().minusDays(1), expired.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        userRepository.delete(recipient);
+    }
+
+    @Test
+    void expiredNotifications_AreHiddenBeforeTheRetentionRun() {
+        assertEquals(1, notificationService.getUnreadNotificationCount(recipient));
+        assertEquals(List.of(recent.getId()), notificationService.getUnreadNotifications(recipient).stream()
+                .map(Notification::getId).toList());
+        assertEquals(1, notificationService.getUserNotifications(recipient, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void retention_RemovesExpiredNotificationsAndReloadsDashboard() throws Exception {
+        mockMvc.perform(get("/api/dashboard").with(user(UserDetailsImpl.build(recipient))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadNotifications").value(1));
+
+        partitionManager.applyRetention();
+
+        assertEquals(List.of(recent.getId()), notificationRepository.findAll().stream()
+                .map(Notification::getId).toList());
+        // The stored dashboard was dropped and is loaded again
+        mockMvc.perform(get("/api/dashboard").with(user(UserDetailsImpl.build(recipient))))
+                .andExpect(jsonPath("$.unreadNotifications").value(1))
+                .andExpect(statementCount(3));
+    }
+}
@@ -0,0 +1,183 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.analytics.AnalyticsRollupJob;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectDailyDurationRepository;
+import com.taskmanagement.repository.ProjectDailyStatsRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskStatusTransitionRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Project analytics: status transitions are logged with each change and give the same charts
+ * whether they are added up live or read back from the daily rollups
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectAnalyticsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private AnalyticsRollupJob rollupJob;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private TaskStatusTransitionRepository transitionRepository;
+
+    @Autowired
+    private ProjectDailyStatsRepository dailyStatsRepository;
+
+    @Autowired
+    private ProjectDailyDurationRepository dailyDurationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Project project;
+    private Task started;
+    private Task direct;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("analytics-owner");
+        owner.setEmail("analytics-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Analytics Owner");
+        owner = userRepository.save(owner);
+        project = projectService.createProject("Analytics Project", null, owner, null, null);
+
+        started = taskService.createTask("Started", null, project.getId(), owner, TaskPriority.HIGH, null);
+        direct = taskService.createTask("Direct", null, project.getId(), owner, TaskPriority.LOW, null);
+        taskService.createTask("Open", null, project.getId(), owner, TaskPriority.MEDIUM, null);
+
+        taskService.updateTaskStatus(started.getId(), TaskStatus.IN_PROGRESS, owner);
+        taskService.updateTaskStatus(started.getId(), TaskStatus.COMPLETED, owner);
+        taskService.updateTaskStatus(direct.getId(), TaskStatus.COMPLETED, owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailyDurationRepository.deleteAll();
+        dailyStatsRepository.deleteAll();
+        transitionRepository.deleteAll();
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void updateTaskStatus_SetsAndClearsCompletedAt() {
+        assertNotNull(taskRepository.findById(direct.getId()).orElseThrow().getCompletedAt());
+
+        taskService.updateTaskStatus(direct.getId(), TaskStatus.IN_PROGRESS, owner);
+        assertNull(taskRepository.findById(direct.getId()).orElseThrow().getCompletedAt());
+    }
+
+    @Test
+    @WithMockUser
+    void charts_AreTheSameLiveAndFromRollups() throws Exception {
+        LocalDate today = LocalDate.now();
+        String burndown = "/api/projects/{id}/analytics/burndown?from=" + today.minusDays(1);
+        String throughput = "/api/projects/{id}/analytics/throughput?from=" + today;
+        String cycleTime = "/api/projects/{id}/analytics/cycle-time";
+
+        String liveBurndown = mockMvc.perform(get(burndown, project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].remaining").value(0))
+                .andExpect(jsonPath("$.days[1].remaining").value(1))
+                .andExpect(jsonPath("$.days[1].created").value(3))
+                .andExpect(jsonPath("$.days[1].completed").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String liveThroughput = mockMvc.perform(get(throughput, project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks.length()").value(1))
+                .andExpect(jsonPath("$.weeks[0].created").value(3))
+                .andExpect(jsonPath("$.weeks[0].completed").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String liveCycleTime = mockMvc.perform(get(cycleTime, project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.leadTime.count").value(2))
+                .andExpect(jsonPath("$.cycleTime.count").value(1))
+                .andExpect(jsonPath("$.leadTime.p50Hours").isNumber())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(rollupJob.rollUpThrough(today) >= 1);
+        assertEquals(today, dailyStatsRepository.findLatestDay());
+
+        mockMvc.perform(get(burndown, project.getId())).andExpect(content().json(liveBurndown, true));
+        mockMvc.perform(get(throughput, project.getId())).andExpect(content().json(liveThroughput, true));
+        mockMvc.perform(get(cycleTime, project.getId())).andExpect(content().json(liveCycleTime, true));
+
+        // Rerunning a rolled-up day replaces it rather than adding to it
+        dailyStatsRepository.deleteAll();
+        rollupJob.rollUpThrough(today);
+        mockMvc.perform(get(burndown, project.getId())).andExpect(content().json(liveBurndown, true));
+    }
+
+    @Test
+    @WithMockUser
+    void deletingProject_DropsItsAnalytics() throws Exception {
+        rollupJob.rollUpThrough(LocalDate.now());
+
+        projectService.deleteProject(project.getId());
+
+        assertTrue(transitionRepository.findAll().stream().noneMatch(t -> t.getProjectId().equals(project.getId())));
+        assertTrue(dailyStatsRepository.findAll().stream().noneMatch(s -> s.getProjectId().equals(project.getId())));
+        mockMvc.perform(get("/api/projects/{id}/analytics/burndown", project.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void invalidRange_IsRejected() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/analytics/burndown", project.getId())
+                        .param("from", LocalDate.now().minusYears(5).toString()))
+                .andExpect(status().isBadRequest());
+    }
+}
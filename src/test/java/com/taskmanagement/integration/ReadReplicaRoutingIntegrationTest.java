@@ -0,0 +1,233 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.ResourceVersionService;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replica routing as wired by DataSourceRoutingConfig: separate in-memory H2 databases stand
+ * in for the primary and two replicas. The replicas are copies of the primary in which the
+ * task title names the replica, so each read shows where it was served from.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "app.datasource.replica-urls=" + ReadReplicaRoutingIntegrationTest.REPLICA_1_URL + ","
+                + ReadReplicaRoutingIntegrationTest.REPLICA_2_URL,
+        "app.datasource.replica-lag-query=SELECT 0",
+        "app.datasource.replica-check-interval-ms=0",
+        "app.datasource.read-your-writes-store=in-memory"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:wiring-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_1_URL = "jdbc:h2:mem:wiring-replica-1;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_2_URL = "jdbc:h2:mem:wiring-replica-2;DB_CLOSE_DELAY=-1";
+
+    private static final String TITLE = "Routed task";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate primary = database(PRIMARY_URL);
+    private final List<JdbcTemplate> replicas = List.of(database(REPLICA_1_URL), database(REPLICA_2_URL));
+
+    private User owner;
+    private Task task;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = new User();
+        owner.setUsername("routing-owner");
+        owner.setEmail("routing-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Routing Owner");
+        owner = userRepository.save(owner);
+        Project project = projectService.createProject("Routing Project", null, owner, null, null);
+        task = taskService.createTask(TITLE, null, project.getId(), owner, TaskPriority.MEDIUM, null);
+
+        // Replicate the primary, then mark each copy
+        Path script = Files.createTempFile("primary", ".sql");
+        try {
+            primary.execute("SCRIPT TO '" + script + "'");
+            for (int i = 0; i < replicas.size(); i++) {
+                JdbcTemplate replica = replicas.get(i);
+                replica.execute("DROP ALL OBJECTS");
+                replica.execute("RUNSCRIPT FROM '" + script + "'");
+                replica.update("UPDATE tasks SET title = ? WHERE id = ?", "replica-" + (i + 1), task.getId());
+            }
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void wiring_UsesLazyProxyJpaTransactionsAndReleasesConnectionsAfterEachTransaction() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        assertInstanceOf(JpaTransactionManager.class, transactionManager);
+        assertEquals(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION,
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                        .getSessionFactoryOptions().getPhysicalConnectionHandlingMode());
+    }
+
+    @Test
+    void readOnlyServiceCalls_AreBalancedOverReplicas_AndWritesGoToPrimary() {
+        Set<String> servedBy = new HashSet<>();
+        servedBy.add(taskService.getTaskById(task.getId()).orElseThrow().getTitle());
+        servedBy.add(taskService.getTaskById(task.getId()).orElseThrow().getTitle());
+        assertEquals(Set.of("replica-1", "replica-2"), servedBy);
+
+        taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS, owner);
+
+        assertEquals("IN_PROGRESS", statusIn(primary));
+        for (JdbcTemplate replica : replicas) {
+            assertEquals("TODO", statusIn(replica));
+        }
+    }
+
+    @Test
+    void sessionSpanningTransactions_RoutesEachTransactionOnItsOwn() {
+        // As open-in-view does: one session for several transactions
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            String before = readOnly.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT title FROM tasks WHERE id = ?", String.class, task.getId()));
+            assertTrue(before.startsWith("replica-"));
+
+            // The session gave the replica connection back, so the write reaches the primary
+            taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS, owner);
+            assertEquals("IN_PROGRESS", statusIn(primary));
+
+            String after = readOnly.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT title FROM tasks WHERE id = ?", String.class, task.getId()));
+            assertTrue(after.startsWith("replica-"));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    @Test
+    void versionLookups_ReadFromPrimary_AndPinTheRestOfTheRequest() throws Exception {
+        // The test context binds a mock request to this thread; the calls below run outside one
+        RequestContextHolder.resetRequestAttributes();
+
+        double primaryReads = reads("primary");
+        double replicaReads = reads("replica");
+        resourceVersionService.getTaskVersion(task.getId()).orElseThrow();
+        assertEquals(primaryReads + 1, reads("primary"));
+        assertEquals(replicaReads, reads("replica"));
+        assertTrue(taskService.getTaskById(task.getId()).orElseThrow().getTitle().startsWith("replica-"));
+
+        // The body matches the version behind the ETag
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).with(user("reader")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value(TITLE));
+
+        // Reads after the request are not pinned
+        assertTrue(taskService.getTaskById(task.getId()).orElseThrow().getTitle().startsWith("replica-"));
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.reads").tag("target", target).counter().count();
+    }
+
+    private String statusIn(JdbcTemplate database) {
+        return database.queryForObject("SELECT status FROM tasks WHERE id = ?", String.class, task.getId());
+    }
+
+    private static JdbcTemplate database(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.metrics.SqlStatementStats;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.*;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budget: pins the statements executed by endpoints and a service call, and
+ * checks that a lazy load per row is reported as a repeated statement
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private final List<Project> projects = new ArrayList<>();
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("budget-owner");
+        owner.setEmail("budget-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Budget Owner");
+        owner = userRepository.save(owner);
+
+        for (int i = 0; i < 3; i++) {
+            Project project = new Project();
+            project.setName("Budget Project " + i);
+            project.setOwner(owner);
+            projects.add(projectRepository.save(project));
+            tasks.add(taskService.createTask("Task " + i, null, project.getId(), owner, TaskPriority.MEDIUM, null));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    @WithMockUser
+    void getProjectById_StaysWithinItsStatementBudget() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}", projects.get(0).getId()))
+                .andExpect(status().isOk())
+                // Project and task versions, project, owner, task counts
+                .andExpect(statementCount(5));
+
+        assertTrue(meterRegistry.get("http.sql.statements")
+                .tags("method", "GET", "uri", "/api/projects/{id}")
+                .summary().count() >= 1);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllProjects_CountsTasksWithoutLoadingThem() throws Exception {
+        mockMvc.perform(get("/api/projects"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(projects.size()))
+                .andExpect(jsonPath("$.content[*].taskCount", everyItem(is(1))))
+                .andExpect(jsonPath("$.content[*].taskCountsByStatus.TODO", everyItem(is(1))))
+                // Collection versions, one page query with owners, one grouped count for the page
+                .andExpect(statementCount(4));
+    }
+
+    @Test
+    void getTaskById_ExecutesOneStatement() throws Throwable {
+        assertStatementCount(1, () -> taskService.getTaskById(tasks.get(0).getId()));
+    }
+
+    @Test
+    void lazyLoadPerRow_IsReportedAsRepeatedStatement() throws Throwable {
+        SqlStatementStats stats = countStatements(() -> transactionTemplate.executeWithoutResult(status ->
+                taskRepository.findAll().forEach(task -> task.getProject().getName())));
+
+        assertEquals(1 + projects.size(), stats.getCount());
+        assertEquals(1, stats.getRepeatedStatements(projects.size()).size());
+    }
+}
@@ -0,0 +1,194 @@
+package com.taskmanagement.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.activity.TaskActivityWriter;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskActivity;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskActivityRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.statementCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task activity log: field-level entries written in batches after commit, paged newest first,
+ * and spooled entries replayed into the table
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskActivityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskActivityWriter writer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskActivityRepository taskActivityRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.activity.spool-dir}")
+    private String spoolDir;
+
+    private User owner;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("activity-owner");
+        owner.setEmail("activity-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Activity Owner");
+        owner = userRepository.save(owner);
+
+        UserDetailsImpl details = UserDetailsImpl.build(owner);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+
+        project = projectService.createProject("Activity Project", null, owner, null, null);
+        task = taskService.createTask("Audit me", null, project.getId(), owner, TaskPriority.MEDIUM, null);
+        taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS, owner);
+        taskService.updateTaskStatus(task.getId(), TaskStatus.COMPLETED, owner);
+        taskService.createTask("Other", null, project.getId(), owner, TaskPriority.LOW, null);
+        writer.flush();
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskActivityRepository.deleteAll();
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    @WithMockUser
+    void taskActivity_IsPagedNewestFirst() throws Exception {
+        String first = mockMvc.perform(get("/api/tasks/{id}/activity", task.getId()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[0].action").value("UPDATED"))
+                .andExpect(jsonPath("$.entries[0].actorId").value(owner.getId()))
+                .andExpect(jsonPath("$.entries[0].actorUsername").value("activity-owner"))
+                .andExpect(jsonPath("$.nextCursor").isNumber())
+                .andExpect(statementCount(1))
+                .andReturn().getResponse().getContentAsString();
+        long cursor = objectMapper.readTree(first).get("nextCursor").asLong();
+
+        // Created, to IN_PROGRESS, then status and completedAt on completion
+        mockMvc.perform(get("/api/tasks/{id}/activity", task.getId())
+                        .param("before", String.valueOf(cursor)).param("size", "2"))
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[0].field").value("status"))
+                .andExpect(jsonPath("$.entries[0].oldValue").value("TODO"))
+                .andExpect(jsonPath("$.entries[0].newValue").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.entries[1].action").value("CREATED"))
+                .andExpect(jsonPath("$.entries[1].newValue").value("Audit me"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/projects/{id}/activity", project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(5))
+                .andExpect(jsonPath("$.entries[0].newValue").value("Other"));
+    }
+
+    @Test
+    void spooledEntries_AreReplayedOnFlush() throws Exception {
+        TaskActivity entry = new TaskActivity(null, null, task.getId(), project.getId(), owner.getId(), "activity-owner",
+                TaskChangeType.UPDATED, "title", "Audit me", "Audited", LocalDateTime.now());
+        Path dir = Files.createDirectories(Paths.get(spoolDir));
+        Path file = dir.resolve("activity-0-000001.jsonl");
+        Files.write(file, List.of(objectMapper.writeValueAsString(entry)));
+
+        writer.flush();
+
+        assertFalse(Files.exists(file));
+        assertTrue(taskActivityRepository.findAll().stream()
+                .anyMatch(a -> "Audited".equals(a.getNewValue()) && a.getTaskId().equals(task.getId())));
+    }
+
+    @Test
+    @WithMockUser
+    void replayingASpoolFileAgain_AddsNothingAndKeepsOccurrenceOrder() throws Exception {
+        // Occurred before the task was completed, but is written after everything else
+        TaskActivity entry = new TaskActivity(null, "spooled-entry-1", task.getId(), project.getId(), owner.getId(),
+                "activity-owner", TaskChangeType.UPDATED, "title", "Audit me", "Audited",
+                taskActivityRepository.findAll().stream()
+                        .filter(a -> a.getTaskId().equals(task.getId()) && a.getAction() == TaskChangeType.CREATED)
+                        .findFirst().orElseThrow().getOccurredAt().plusNanos(1000));
+        Path dir = Files.createDirectories(Paths.get(spoolDir));
+        String line = objectMapper.writeValueAsString(entry);
+        Files.write(dir.resolve("activity-0-000002.jsonl"), List.of(line));
+        writer.flush();
+        // As if deleting the file had failed after the insert committed
+        Files.write(dir.resolve("activity-0-000003.jsonl"), List.of(line));
+        writer.flush();
+
+        assertEquals(1, taskActivityRepository.findAll().stream()
+                .filter(a -> "spooled-entry-1".equals(a.getEntryKey())).count());
+        mockMvc.perform(get("/api/tasks/{id}/activity", task.getId()))
+                .andExpect(jsonPath("$.entries.length()").value(5))
+                .andExpect(jsonPath("$.entries[3].newValue").value("Audited"))
+                .andExpect(jsonPath("$.entries[4].action").value("CREATED"));
+    }
+}
@@ -0,0 +1,283 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.archive.TaskArchiver;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.SavedFilterRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.TaskSearchIndexer;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.ProjectService;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task archive: closed tasks move to the archive in batches, stay readable by ID and are
+ * listed, filtered and searched only when archived tasks are asked for; live subscribers
+ * see them go like deleted tasks
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskArchivalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private TaskSearchIndexer taskSearchIndexer;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SavedFilterRepository savedFilterRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("brokerChannel")
+    private AbstractSubscribableChannel brokerChannel;
+
+    private User owner;
+    private Project project;
+    private Task open;
+    private Task completed;
+    private Task cancelled;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        owner = new User();
+        owner.setUsername("archive-owner");
+        owner.setEmail("archive-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Archive Owner");
+        owner = userRepository.save(owner);
+
+        project = projectService.createProject("Archive Project", null, owner, null, null);
+        open = taskService.createTask("Open invoice export", null, project.getId(), owner, TaskPriority.HIGH, null);
+        completed = taskService.createTask("Finished invoice import", "Legacy ledger format",
+                project.getId(), owner, TaskPriority.MEDIUM, null);
+        cancelled = taskService.createTask("Dropped invoice email", null, project.getId(), owner, TaskPriority.LOW, null);
+        taskService.updateTaskStatus(completed.getId(), TaskStatus.COMPLETED, owner);
+        taskService.updateTaskStatus(cancelled.getId(), TaskStatus.CANCELLED, owner);
+
+        // The initial search index load runs asynchronously after startup
+        for (int i = 0; i < 100 && !taskSearchIndexer.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(taskSearchIndexer.isReady());
+    }
+
+    @AfterEach
+    void tearDown() {
+        savedFilterRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void archive_MovesOnlyTasksClosedBeforeTheCutoff() {
+        assertEquals(0, taskArchiver.archiveClosedBefore(LocalDateTime.now().minusDays(1)));
+
+        assertEquals(2, taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1)));
+
+        assertTrue(taskRepository.existsById(open.getId()));
+        assertFalse(taskRepository.existsById(completed.getId()));
+        assertFalse(taskRepository.existsById(cancelled.getId()));
+        assertEquals(2, archivedTaskRepository.count());
+        assertEquals(TaskStatus.COMPLETED,
+                archivedTaskRepository.findById(completed.getId()).orElseThrow().getStatus());
+
+        // Nothing left to archive on the next run
+        assertEquals(0, taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1)));
+    }
+
+    @Test
+    void archive_RemovesTasksFromProjectTopicAndSavedFilters() throws Exception {
+        SavedFilter filter = new SavedFilter();
+        filter.setOwnerId(owner.getId());
+        filter.setName("Done");
+        filter.setProjectId(project.getId());
+        filter.setStatuses(Set.of(TaskStatus.COMPLETED));
+        Long filterId = savedFilterRepository.save(filter).getId();
+
+        String taskTopic = "/topic/projects/" + project.getId() + "/tasks";
+        String filterQueue = "/user/" + owner.getId() + "/queue/filters/" + filterId;
+        BlockingQueue<String> topicFrames = new LinkedBlockingQueue<>();
+        BlockingQueue<String> filterFrames = new LinkedBlockingQueue<>();
+        ChannelInterceptor interceptor = new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                if (taskTopic.equals(destination)) {
+                    topicFrames.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                } else if (filterQueue.equals(destination)) {
+                    filterFrames.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                }
+                return message;
+            }
+        };
+        brokerChannel.addInterceptor(interceptor);
+        try {
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId("archive-session");
+            subscribe.setSubscriptionId("sub-0");
+            subscribe.setDestination("/user/queue/filters/" + filterId);
+            eventPublisher.publishEvent(new SessionSubscribeEvent(this,
+                    MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()),
+                    () -> owner.getId().toString()));
+
+            taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1));
+
+            String leave = filterFrames.poll(10, TimeUnit.SECONDS);
+            assertNotNull(leave, "The saved filter subscriber should see the archived task leave");
+            assertTrue(leave.contains("\"type\":\"LEAVE\"") && leave.contains("\"taskId\":" + completed.getId()), leave);
+
+            String deleted = "\"taskId\":" + completed.getId() + ",\"projectId\":" + project.getId()
+                    + ",\"changeType\":\"DELETED\"";
+            long deadline = System.currentTimeMillis() + 10_000;
+            String frame;
+            do {
+                frame = topicFrames.poll(100, TimeUnit.MILLISECONDS);
+            } while ((frame == null || !frame.contains(deleted)) && System.currentTimeMillis() < deadline);
+            assertNotNull(frame, "The project topic should receive a DELETED delta for the archived task");
+            assertTrue(frame.contains(deleted), frame);
+        } finally {
+            brokerChannel.removeInterceptor(interceptor);
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void archivedTask_IsStillReadableById() throws Exception {
+        taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1));
+
+        mockMvc.perform(get("/api/tasks/{id}", completed.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Finished invoice import"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.projectName").value("Archive Project"));
+    }
+
+    @Test
+    @WithMockUser
+    void listsAndFilters_IncludeArchivedTasksOnlyWhenAsked() throws Exception {
+        taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1));
+
+        mockMvc.perform(get("/api/tasks/project/{projectId}", project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(open.getId()));
+
+        mockMvc.perform(get("/api/tasks/project/{projectId}", project.getId()).param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/tasks/filter").param("projectId", String.valueOf(project.getId()))
+                        .param("includeArchived", "true").param("sort", "priority,asc").param("size", "2")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].priority", containsInAnyOrder("HIGH", "LOW")))
+                .andExpect(jsonPath("$.content[0].priority").value("HIGH"));
+
+        mockMvc.perform(get("/api/tasks/filter").param("projectId", String.valueOf(project.getId()))
+                        .param("includeArchived", "true").param("page", "200").param("size", "10")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void search_FindsArchivedTasksOnlyWhenAsked() throws Exception {
+        taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "invoice")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task.id").value(open.getId()));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "invoice ledger").param("includeArchived", "true")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task.id").value(completed.getId()))
+                .andExpect(jsonPath("$[0].score").value(0.0));
+    }
+
+    @Test
+    void deletingProject_RemovesItsArchivedTasks() {
+        taskArchiver.archiveClosedBefore(LocalDateTime.now().plusMinutes(1));
+
+        projectService.deleteProject(project.getId());
+
+        assertEquals(0, archivedTaskRepository.count());
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskmanagement.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.statementCount;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Project board endpoint: all columns from one query, cursors per column, and a cached board
+ * that is rebuilt once a task of the project changes
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class TaskBoardIntegrationTest {
+
+    private static final LocalDate JUNE = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Project project;
+    private final Map<String, Long> taskIds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setUsername("board-owner");
+        owner.setEmail("board-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Board Owner");
+        owner = userRepository.save(owner);
+
+        project = new Project();
+        project.setName("Board Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+
+        create("Low", TaskPriority.LOW, JUNE);
+        create("High, no due date", TaskPriority.HIGH, null);
+        create("High, due later", TaskPriority.HIGH, JUNE.plusDays(10));
+        create("High, due first", TaskPriority.HIGH, JUNE.plusDays(1));
+        create("Critical", TaskPriority.CRITICAL, JUNE.plusDays(30));
+        create("In progress", TaskPriority.MEDIUM, null);
+        taskService.updateTaskStatus(taskIds.get("In progress"), TaskStatus.IN_PROGRESS, owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.delete(project);
+        userRepository.delete(owner);
+    }
+
+    @Test
+    void board_ReturnsEveryColumnFromOneQuery() throws Exception {
+        String board = mockMvc.perform(get("/api/projects/{id}/board", project.getId()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[*].status",
+                        contains("TODO", "IN_PROGRESS", "IN_REVIEW", "COMPLETED", "CANCELLED")))
+                .andExpect(jsonPath("$.columns[0].total").value(5))
+                .andExpect(jsonPath("$.columns[0].cards[*].title", contains("Critical", "High, due first")))
+                .andExpect(jsonPath("$.columns[1].total").value(1))
+                .andExpect(jsonPath("$.columns[1].nextCursor", nullValue()))
+                .andExpect(jsonPath("$.columns[2].total").value(0))
+                // Project task version and the windowed board query
+                .andExpect(statementCount(3))
+                .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(board, "$.columns[0].nextCursor");
+        mockMvc.perform(get("/api/projects/{id}/board/TODO", project.getId())
+                        .param("cursor", cursor)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards[*].title", contains("High, due later", "High, no due date")))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        mockMvc.perform(get("/api/projects/{id}/board/TODO", project.getId())
+                        .param("cursor", cursor)
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cards[*].title", contains("High, due later", "High, no due date", "Low")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void board_IsCachedUntilATaskOfTheProjectChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/projects/{id}/board", project.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/projects/{id}/board", project.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/projects/{id}/board", project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                // Only the project task version; the board comes from the cache
+                .andExpect(statementCount(2));
+
+        taskService.updateTaskStatus(taskIds.get("Critical"), TaskStatus.IN_REVIEW, owner);
+
+        mockMvc.perform(get("/api/projects/{id}/board", project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.columns[0].total").value(4))
+                .andExpect(jsonPath("$.columns[2].cards[*].title", contains("Critical")))
+                .andExpect(statementCount(3));
+    }
+
+    @Test
+    void board_RejectsUnknownProjectAndInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/board", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/projects/{id}/board/TODO", project.getId()).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void create(String title, TaskPriority priority, LocalDate dueDate) {
+        Task task = taskService.createTask(title, null, project.getId(), owner, priority, dueDate);
+        taskIds.put(title, task.getId());
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Concurrency test for task updates
+ * Hammers a single task from many threads with a mix of status, assignee and detail
+ * updates and checks that every write is applied exactly once.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskConcurrencyIntegrationTest {
+
+    private static final int THREADS = 64;
+    private static final int CONDITIONAL_PUTS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User assignee1;
+    private User assignee2;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("conc-owner"));
+        assignee1 = userRepository.save(newUser("conc-assignee1"));
+        assignee2 = userRepository.save(newUser("conc-assignee2"));
+
+        project = new Project();
+        project.setName("Concurrency Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll(List.of(owner, assignee1, assignee2));
+    }
+
+    @Test
+    void concurrentUpdatesOnOneTask_AreAllApplied() throws Exception {
+        Task task = taskService.createTask("Contended task", "initial", project.getId(),
+                owner, TaskPriority.MEDIUM, null);
+        Long taskId = task.getId();
+        long initialVersion = task.getVersion();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            final int n = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                switch (n % 4) {
+                    case 0 -> taskService.updateTask(taskId, null, "description " + n, null, null, owner, null);
+                    case 1 -> taskService.updateTaskStatus(taskId,
+                            n % 8 == 1 ? TaskStatus.IN_REVIEW : TaskStatus.IN_PROGRESS, owner);
+                    case 2 -> taskService.assignTask(taskId,
+                            n % 8 == 2 ? assignee1.getId() : assignee2.getId(), owner);
+                    default -> taskService.updateTask(taskId, "Title " + n, null, TaskPriority.HIGH, null, owner, null);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Task result = taskRepository.findById(taskId).orElseThrow();
+
+        // Every write bumps the version exactly once, so no update was lost or applied twice
+        assertEquals(initialVersion + THREADS, result.getVersion());
+        assertEquals(THREADS + 1, taskChangeRepository.findAll().stream()
+                .filter(change -> change.getTaskId().equals(taskId))
+                .count());
+        assertTrue(result.getDescription().startsWith("description "));
+        assertTrue(result.getTitle().startsWith("Title "));
+        assertEquals(TaskPriority.HIGH, result.getPriority());
+        assertNotEquals(TaskStatus.TODO, result.getStatus());
+    }
+
+    @Test
+    void concurrentPutsWithTheSameETag_OnlyOneIsApplied() throws Exception {
+        Task task = taskService.createTask("Contended task", "initial", project.getId(),
+                owner, TaskPriority.MEDIUM, null);
+        Long taskId = task.getId();
+        String eTag = mockMvc.perform(get("/api/tasks/{id}", taskId).with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONDITIONAL_PUTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CONDITIONAL_PUTS; i++) {
+            final int n = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return mockMvc.perform(put("/api/tasks/{id}", taskId)
+                                .param("title", "Edit " + n)
+                                .header(HttpHeaders.IF_MATCH, eTag)
+                                .with(user(UserDetailsImpl.build(owner))))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        Integer winner = null;
+        for (int i = 0; i < CONDITIONAL_PUTS; i++) {
+            int status = futures.get(i).get(60, TimeUnit.SECONDS);
+            statuses.add(status);
+            if (status == 200) {
+                winner = i;
+            }
+        }
+        executor.shutdown();
+
+        // Every PUT carried the same ETag, so only the first write may land; the rest see 412
+        assertEquals(1, statuses.stream().filter(status -> status == 200).count(), statuses.toString());
+        assertEquals(CONDITIONAL_PUTS - 1, statuses.stream().filter(status -> status == 412).count(),
+                statuses.toString());
+        Task result = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(task.getVersion() + 1, result.getVersion());
+        assertEquals("Edit " + winner, result.getTitle());
+
+        // The stale ETag keeps failing once the winner has committed
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                        .param("title", "Late edit")
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setFullName(username);
+        return user;
+    }
+}
@@ -0,0 +1,197 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.taskmanagement.metrics.SqlStatementAssertions.statementCount;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task filter endpoint: criteria combine with AND, and a page is one query plus a count;
+ * users other than admins and managers only see their projects' and their own tasks
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskFilterIntegrationTest {
+
+    private static final LocalDateTime JUNE = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User assignee;
+    private User stranger;
+    private Project project;
+    private Project otherProject;
+    private Project strangerProject;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(newUser("filter-owner"));
+        assignee = userRepository.save(newUser("filter-assignee"));
+        project = projectRepository.save(newProject("Filter Project"));
+        otherProject = projectRepository.save(newProject("Other Filter Project"));
+        stranger = userRepository.save(newUser("filter-stranger"));
+        strangerProject = newProject("Stranger Filter Project");
+        strangerProject.setOwner(stranger);
+        strangerProject = projectRepository.save(strangerProject);
+
+        save("Fix login redirect", project, TaskStatus.TODO, TaskPriority.HIGH, assignee, JUNE.plusDays(1));
+        save("Login audit", project, TaskStatus.IN_PROGRESS, TaskPriority.CRITICAL, null, JUNE.plusDays(20));
+        save("Update docs", project, TaskStatus.COMPLETED, TaskPriority.HIGH, assignee, JUNE.plusDays(2));
+        save("Fix login timeout", otherProject, TaskStatus.TODO, TaskPriority.HIGH, assignee, JUNE.plusDays(3));
+        Task strangerTask = new Task("Stranger login", null, strangerProject, stranger);
+        strangerTask.setPriority(TaskPriority.LOW);
+        taskRepository.save(strangerTask);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll(List.of(project, otherProject, strangerProject));
+        userRepository.deleteAll(List.of(owner, assignee, stranger));
+    }
+
+    @Test
+    void filter_CombinesCriteria() throws Exception {
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("projectId", project.getId().toString())
+                        .param("status", "TODO", "IN_PROGRESS")
+                        .param("priority", "HIGH", "CRITICAL")
+                        .param("q", "LOGIN")
+                        .param("sort", "dueDate,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].title", contains("Fix login redirect", "Login audit")))
+                // Collection versions and the page; the count is skipped for a partial first page
+                .andExpect(statementCount(3));
+
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("assigneeId", assignee.getId().toString())
+                        .param("dueFrom", "2024-06-02T12:00:00")
+                        .param("dueTo", "2024-06-30T00:00:00")
+                        .param("sort", "dueDate,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains("Update docs", "Fix login timeout")));
+
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("projectId", project.getId().toString())
+                        .param("unassigned", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains("Login audit")));
+    }
+
+    @Test
+    void filter_CountsAllMatchesWhenThePageIsFull() throws Exception {
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("priority", "HIGH")
+                        .param("size", "2")
+                        .param("sort", "title,asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[*].title", contains("Fix login redirect", "Fix login timeout")))
+                // Collection versions, the page and the count
+                .andExpect(statementCount(4));
+    }
+
+    @Test
+    void filter_RejectsInvalidCriteria() throws Exception {
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("sort", "createdBy.password,asc"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER"))
+                        .param("dueFrom", "2024-07-01T00:00:00")
+                        .param("dueTo", "2024-06-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void filter_LimitsOtherUsersToTheirProjectsAndTasks() throws Exception {
+        mockMvc.perform(get("/api/tasks/filter").with(as(owner, "ROLE_MANAGER")).param("q", "login"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", containsInAnyOrder(
+                        "Fix login redirect", "Login audit", "Fix login timeout", "Stranger login")));
+
+        // Member of both projects through assigned tasks, including their unassigned tasks
+        mockMvc.perform(get("/api/tasks/filter").with(as(assignee, "ROLE_USER")).param("q", "login"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", containsInAnyOrder(
+                        "Fix login redirect", "Login audit", "Fix login timeout")));
+
+        mockMvc.perform(get("/api/tasks/filter").with(as(stranger, "ROLE_USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", contains("Stranger login")));
+
+        mockMvc.perform(get("/api/tasks/filter").with(as(assignee, "ROLE_USER"))
+                        .param("projectId", strangerProject.getId().toString()))
+                .andExpect(status().isForbidden());
+    }
+
+    private static RequestPostProcessor as(User user, String role) {
+        return user(new UserDetailsImpl(user.getId(), user.getUsername(), user.getEmail(), user.getFullName(),
+                user.getPassword(), List.of(new SimpleGrantedAuthority(role))));
+    }
+
+    private void save(String title, Project taskProject, TaskStatus status, TaskPriority priority,
+                      User taskAssignee, LocalDateTime dueDate) {
+        Task task = new Task(title, null, taskProject, owner);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setAssignedTo(taskAssignee);
+        task.setDueDate(dueDate);
+        taskRepository.save(task);
+    }
+
+    private Project newProject(String name) {
+        Project newProject = new Project();
+        newProject.setName(name);
+        newProject.setOwner(owner);
+        return newProject;
+    }
+
+    private User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setFullName(username);
+        return user;
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.search.TaskSearchIndex;
+import com.taskmanagement.search.TaskSearchIndexer;
+import com.taskmanagement.security.UserDetailsImpl;
+import com.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task search: committed task changes reach the index, and results are limited to the
+ * projects the caller belongs to
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskSearchIndexer taskSearchIndexer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User outsider;
+    private Project project;
+    private final List<Task> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        owner = userRepository.save(newUser("search-owner"));
+        outsider = userRepository.save(newUser("search-outsider"));
+
+        project = new Project();
+        project.setName("Search Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+
+        tasks.add(taskService.createTask("Fix checkout latency", "Payment page is slow",
+                project.getId(), owner, TaskPriority.HIGH, null));
+        tasks.add(taskService.createTask("Write release notes", "Mention the checkout fix",
+                project.getId(), owner, TaskPriority.LOW, null));
+
+        // The initial load runs asynchronously after startup
+        for (int i = 0; i < 100 && !taskSearchIndexer.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(taskSearchIndexer.isReady());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tasks.forEach(task -> taskSearchIndex.remove(task.getId()));
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll(List.of(owner, outsider));
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirstForProjectMembers() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", "checkout")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].task.id").value(tasks.get(0).getId()))
+                .andExpect(jsonPath("$[1].task.id").value(tasks.get(1).getId()));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "chekout paym")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task.title").value("Fix checkout latency"));
+    }
+
+    @Test
+    void search_ReflectsUpdatesAndDeletes() throws Exception {
+        taskService.updateTask(tasks.get(1).getId(), "Write changelog", null, null, null, owner, null);
+        taskService.deleteTask(tasks.get(0).getId(), owner);
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "checkout")
+                        .with(user(UserDetailsImpl.build(owner))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].task.title").value("Write changelog"));
+    }
+
+    @Test
+    void search_HidesProjectsOfOtherUsers() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", "checkout")
+                        .with(user(UserDetailsImpl.build(outsider))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "checkout")
+                        .param("projectId", project.getId().toString())
+                        .with(user(UserDetailsImpl.build(outsider))))
+                .andExpect(status().isForbidden());
+    }
+
+    private User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        user.setFullName(username);
+        return user;
+    }
+}
@@ -0,0 +1,309 @@
+package com.taskmanagement.integration;
+
+import com.taskmanagement.TaskManagementApplication;
+import com.taskmanagement.entity.Project;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.entity.TaskStatus;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.event.SavedFilterDeletedEvent;
+import com.taskmanagement.event.TaskChangedEvent;
+import com.taskmanagement.event.TasksArchivedEvent;
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.repository.SavedFilterRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.savedfilter.SavedFilterIndex;
+import com.taskmanagement.search.TaskSearchHit;
+import com.taskmanagement.search.TaskSearchIndex;
+import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.websocket.cluster.ClusterChannels;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import com.taskmanagement.websocket.cluster.ClusterRoutingTable;
+import com.taskmanagement.websocket.cluster.InMemoryPubSub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cluster WebSocket Tests
+ * Runs two application instances in one JVM, connected through a shared in-memory
+ * stand-in for Redis pub/sub, and checks that messages produced on one node reach
+ * subscribers on the other and are routed only to nodes hosting a subscriber, and that
+ * saved filter subscriptions and search indexes see task changes made on any node.
+ */
+class WebSocketClusterIntegrationTest {
+
+    private static InMemoryPubSub pubSub;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        pubSub = new InMemoryPubSub();
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void topicMessageFromNodeA_ReachesSubscriberOnNodeB() throws Exception {
+        User owner = new User();
+        owner.setUsername("cluster-owner");
+        owner.setEmail("cluster-owner@example.com");
+        owner.setPassword("password");
+        owner.setFullName("Cluster Owner");
+        owner = nodeB.getBean(UserRepository.class).save(owner);
+        Project project = new Project();
+        project.setName("Cluster Project");
+        project.setOwner(owner);
+        project = nodeB.getBean(ProjectRepository.class).save(project);
+
+        String destination = "/topic/projects/" + project.getId();
+        String channel = ClusterChannels.forTopic(destination);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization",
+                "Bearer " + nodeB.getBean(JwtUtils.class).generateTokenFromUsername(owner.getUsername()));
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port(nodeB) + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                        })
+                .get(10, TimeUnit.SECONDS);
+
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(payload);
+            }
+        });
+        awaitTrue(() -> pubSub.getSubscriberCount(channel) == 1);
+
+        // Only node B hosts a subscriber, so only node B listens on the channel
+        assertTrue(nodeB.getBean(ClusterRoutingTable.class).hasLocalSubscribers(channel));
+        assertFalse(nodeA.getBean(ClusterRoutingTable.class).hasLocalSubscribers(channel));
+        assertEquals(0, pubSub.getSubscriberCount(ClusterChannels.forTopic("/topic/projects/" + (project.getId() + 1))));
+
+        nodeA.getBean(ClusterMessageRelay.class).convertAndSend(destination, Map.of("message", "Task updated"));
+
+        Object payload = received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(payload, "Subscriber on node B should receive the message sent on node A");
+        assertEquals("Task updated", ((Map<?, ?>) payload).get("message"));
+
+        session.disconnect();
+        stompClient.stop();
+        awaitTrue(() -> pubSub.getSubscriberCount(channel) == 0);
+    }
+
+    @Test
+    void userMessageFromNodeA_IsRoutedToNodeHostingTheUser() throws Exception {
+        String channel = ClusterChannels.forUser("42");
+        BlockingQueue<String> brokerDestinations = new LinkedBlockingQueue<>();
+        nodeB.getBean("brokerChannel", AbstractSubscribableChannel.class).addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+                String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                if (destination != null && destination.startsWith("/user/42/")) {
+                    brokerDestinations.add(destination);
+                }
+                return message;
+            }
+        });
+
+        Principal user = () -> "42";
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId("session-42");
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination("/user/queue/notifications");
+        nodeB.publishEvent(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()), user));
+
+        assertEquals(1, pubSub.getSubscriberCount(channel));
+
+        nodeA.getBean(ClusterMessageRelay.class)
+                .convertAndSendToUser("42", "/queue/notifications", Map.of("title", "Task Assigned"));
+
+        assertEquals("/user/42/queue/notifications", brokerDestinations.poll(10, TimeUnit.SECONDS));
+
+        StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        disconnect.setSessionId("session-42");
+        nodeB.publishEvent(new SessionDisconnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()),
+                "session-42", CloseStatus.NORMAL, user));
+
+        assertEquals(0, pubSub.getSubscriberCount(channel));
+    }
+
+    @Test
+    void taskChangeOnNodeA_ReachesSavedFilterSubscriberOnNodeB() throws Exception {
+        SavedFilter filter = new SavedFilter();
+        filter.setOwnerId(43L);
+        filter.setName("In progress, due this decade");
+        filter.setProjectId(9L);
+        filter.setStatuses(Set.of(TaskStatus.IN_PROGRESS));
+        filter.setDueTo(LocalDateTime.of(2030, 1, 1, 0, 0));
+        Long filterId = nodeB.getBean(SavedFilterRepository.class).save(filter).getId();
+
+        String destination = "/user/43/queue/filters/" + filterId;
+        BlockingQueue<String> deltas = new LinkedBlockingQueue<>();
+        nodeB.getBean("brokerChannel", AbstractSubscribableChannel.class).addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+                if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    deltas.add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+                }
+                return message;
+            }
+        });
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId("session-43");
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination("/user/queue/filters/" + filterId);
+        nodeB.publishEvent(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()), () -> "43"));
+        assertEquals(1, nodeB.getBean(SavedFilterIndex.class).size());
+        assertEquals(0, nodeA.getBean(SavedFilterIndex.class).size());
+
+        // The change is only seen by node A, which holds no subscription to the filter
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TaskChangedEvent(5L, 9L, TaskChangeType.UPDATED, 3L,
+                Map.of("status", "IN_PROGRESS"), taskFields("TODO"), taskFields("IN_PROGRESS"))));
+
+        String delta = deltas.poll(10, TimeUnit.SECONDS);
+        assertNotNull(delta, "Node B should match the change made on node A against its subscription");
+        assertTrue(delta.contains("\"type\":\"ENTER\""), delta);
+        assertTrue(delta.contains("\"taskId\":5"), delta);
+
+        inTransaction(nodeA, () -> nodeA.publishEvent(new SavedFilterDeletedEvent(filterId)));
+        awaitTrue(() -> nodeB.getBean(SavedFilterIndex.class).size() == 0);
+    }
+
+    @Test
+    void taskChangesOnNodeA_ReachSearchIndexOnNodeB() throws Exception {
+        TaskSearchIndex indexB = nodeB.getBean(TaskSearchIndex.class);
+
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TaskChangedEvent(801L, 80L, TaskChangeType.CREATED, 0L,
+                Map.of("title", "Quarterly ledger export", "description", "For finance"), null, null)));
+        awaitTrue(() -> searchB(indexB, "ledger").equals(List.of(801L)));
+
+        Map<String, Object> renamed = new HashMap<>(taskFields("TODO"));
+        renamed.put("title", "Quarterly budget export");
+        renamed.put("description", "For finance");
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TaskChangedEvent(801L, 80L, TaskChangeType.UPDATED, 1L,
+                Map.of("title", "Quarterly budget export"), null, renamed)));
+        awaitTrue(() -> searchB(indexB, "budget").equals(List.of(801L)));
+        assertEquals(List.of(), searchB(indexB, "ledger"));
+
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TaskChangedEvent(802L, 80L, TaskChangeType.CREATED, 0L,
+                Map.of("title", "Budget review"), null, null)));
+        awaitTrue(() -> searchB(indexB, "budget").size() == 2);
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TasksArchivedEvent(
+                List.of(new TasksArchivedEvent.ArchivedTask(802L, 80L, 1L, Map.of())), Set.of())));
+        awaitTrue(() -> searchB(indexB, "budget").equals(List.of(801L)));
+
+        inTransaction(nodeA, () -> nodeA.publishEvent(new TaskChangedEvent(801L, 80L, TaskChangeType.DELETED, 2L,
+                Map.of(), taskFields("TODO"), null)));
+        awaitTrue(() -> searchB(indexB, "budget").isEmpty());
+    }
+
+    private static List<Long> searchB(TaskSearchIndex index, String query) {
+        return index.search(query, projectId -> projectId == 80L, 10).stream()
+                .map(TaskSearchHit::getTaskId)
+                .toList();
+    }
+
+    private static Map<String, Object> taskFields(String status) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("title", "Ship it");
+        fields.put("status", status);
+        fields.put("priority", "HIGH");
+        fields.put("dueDate", LocalDateTime.of(2029, 6, 1, 12, 0));
+        fields.put("assignedToId", 43L);
+        return fields;
+    }
+
+    private static void inTransaction(ConfigurableApplicationContext node, Runnable action) {
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> action.run());
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory().registerSingleton("inMemoryPubSub", pubSub))
+                .run("--server.port=0",
+                        "--app.websocket.cluster.node-id=" + nodeId,
+                        "--spring.datasource.url=jdbc:h2:mem:" + nodeId);
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within 10 seconds");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledDebugTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private SampledDebugTurboFilter filter;
+    private Logger serviceLogger;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        serviceLogger = context.getLogger("com.taskmanagement.service.impl.TaskServiceImpl");
+
+        filter = new SampledDebugTurboFilter();
+        filter.setLoggers("com.taskmanagement.service, com.taskmanagement.websocket");
+        filter.setSampleRate(10);
+        filter.start();
+    }
+
+    @Test
+    void testDebugEventsFromSampledLoggersAreThinnedOut() {
+        int accepted = 0;
+        for (int i = 0; i < 10_000; i++) {
+            FilterReply reply = filter.decide(null, serviceLogger, Level.DEBUG, "Fetching task {}", null, null);
+            assertNotEquals(FilterReply.NEUTRAL, reply);
+            if (reply == FilterReply.ACCEPT) {
+                accepted++;
+            }
+        }
+        // 1 in 10 on average
+        assertTrue(accepted > 700 && accepted < 1300, "accepted " + accepted);
+    }
+
+    @Test
+    void testOtherEventsAreLeftToTheLoggerLevel() {
+        Logger other = context.getLogger("org.hibernate.SQL");
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, other, Level.DEBUG, "select", null, null));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.INFO, "Task created", null, null));
+        // isDebugEnabled() probes carry no message
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.DEBUG, null, null, null));
+
+        // A logger explicitly set to DEBUG logs everything
+        serviceLogger.setLevel(Level.DEBUG);
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, serviceLogger, Level.DEBUG, "Fetching", null, null));
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanagement.metrics;
+
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test helpers that pin the number of SQL statements a block of code or an endpoint executes,
+ * so that a new lazy load or N+1 shows up as a failing test instead of in production
+ *
+ * <pre>
+ * assertStatementCount(2, () -> taskService.getTaskById(id));
+ * mockMvc.perform(get("/api/projects/1")).andExpect(statementCount(3));
+ * </pre>
+ *
+ * The MockMvc matchers read the headers written by {@link SqlStatementBudgetFilter}, which the
+ * test profile enables.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Run a block of code and collect the SQL statements it executes on the calling thread
+     */
+    public static SqlStatementStats countStatements(Executable action) throws Throwable {
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            action.execute();
+        } finally {
+            SqlStatementStats.stop();
+        }
+        return stats;
+    }
+
+    public static void assertStatementCount(int expected, Executable action) throws Throwable {
+        SqlStatementStats stats = countStatements(action);
+        assertEquals(expected, stats.getCount(), () -> "SQL statements executed: " + stats.getRepeatedStatements(1));
+    }
+
+    public static void assertMaxStatementCount(int max, Executable action) throws Throwable {
+        SqlStatementStats stats = countStatements(action);
+        assertTrue(stats.getCount() <= max, () -> "Expected at most " + max + " SQL statements but got "
+                + stats.getCount() + ": " + stats.getRepeatedStatements(1));
+    }
+
+    public static ResultMatcher statementCount(int expected) {
+        return result -> assertEquals(String.valueOf(expected),
+                result.getResponse().getHeader(SqlStatementBudgetFilter.COUNT_HEADER),
+                "SQL statements executed by " + result.getRequest().getRequestURI());
+    }
+
+    public static ResultMatcher maxStatementCount(int max) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementBudgetFilter.COUNT_HEADER);
+            assertNotNull(header, "No " + SqlStatementBudgetFilter.COUNT_HEADER + " header");
+            assertTrue(Integer.parseInt(header) <= max, "Expected at most " + max + " SQL statements for "
+                    + result.getRequest().getRequestURI() + " but got " + header);
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskmanagement.notification;
+
+import com.taskmanagement.repository.NotificationRepository;
+import com.taskmanagement.scheduling.ClusterJobLock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Converts a plain notifications table on a real PostgreSQL, with two nodes starting and
+ * running maintenance at the same time. Skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationPartitionConversionTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+    private static ExecutorService nodes;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createPlainTable() {
+        nodes = Executors.newFixedThreadPool(2);
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        // As created by Hibernate before partitioning
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE notifications (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "user_id BIGINT NOT NULL REFERENCES users (id), title VARCHAR(200) NOT NULL, "
+                + "is_read BOOLEAN NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO users (id) VALUES (1)");
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDateTime createdAt : List.of(now.minusMonths(14), now.minusMonths(1), now)) {
+            jdbcTemplate.update("INSERT INTO notifications (user_id, title, is_read, created_at) VALUES (1, 'n', false, ?)",
+                    createdAt);
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodes != null) {
+            nodes.shutdownNow();
+        }
+    }
+
+    @Test
+    void twoNodesConvertAndMaintainTheTableOnce() throws Exception {
+        NotificationPartitionManager nodeA = manager();
+        NotificationPartitionManager nodeB = manager();
+
+        both(() -> {
+            nodeA.init();
+            return null;
+        }, () -> {
+            nodeB.init();
+            return null;
+        });
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass('notifications')", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + NotificationPartitionManager.DEFAULT_PARTITION, Integer.class));
+        String expired = NotificationPartitionManager.partitionName(YearMonth.now().minusMonths(14));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, expired));
+
+        // New rows continue after the copied IDs
+        Long id = jdbcTemplate.queryForObject("INSERT INTO notifications (user_id, title, is_read, created_at) "
+                + "VALUES (1, 'new', false, now()) RETURNING id", Long.class);
+        assertEquals(4L, id);
+
+        both(() -> {
+            nodeA.maintain();
+            return null;
+        }, () -> {
+            nodeB.maintain();
+            return null;
+        });
+
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, expired));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications", Integer.class));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+                NotificationPartitionManager.partitionName(YearMonth.now().plusMonths(3))));
+    }
+
+    private static NotificationPartitionManager manager() {
+        NotificationPartitionManager manager = new NotificationPartitionManager(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource())),
+                Mockito.mock(NotificationRepository.class), Mockito.mock(ApplicationEventPublisher.class),
+                new ClusterJobLock(jdbcTemplate));
+        ReflectionTestUtils.setField(manager, "retentionMonths", 12);
+        ReflectionTestUtils.setField(manager, "premakeMonths", 3);
+        return manager;
+    }
+
+    private static void both(Callable<Void> first, Callable<Void> second) throws Exception {
+        Future<Void> a = nodes.submit(first);
+        Future<Void> b = nodes.submit(second);
+        a.get();
+        b.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationPartitionManagerTest {
+
+    @Test
+    void testPartitionsCoverOneMonth() {
+        assertEquals("notifications_p202612", NotificationPartitionManager.partitionName(YearMonth.of(2026, 12)));
+        assertEquals("CREATE TABLE IF NOT EXISTS notifications_p202612 PARTITION OF notifications "
+                        + "FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')",
+                NotificationPartitionManager.createPartitionSql(YearMonth.of(2026, 12)));
+    }
+
+    @Test
+    void testMonthIsReadBackFromPartitionName() {
+        assertEquals(YearMonth.of(2024, 2), NotificationPartitionManager.monthOf("notifications_p202402"));
+        assertNull(NotificationPartitionManager.monthOf(NotificationPartitionManager.DEFAULT_PARTITION));
+        assertNull(NotificationPartitionManager.monthOf("notifications_pending"));
+        assertNull(NotificationPartitionManager.monthOf("task_activities"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.taskmanagement.performance;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.taskmanagement.logging.SampledDebugTurboFilter;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Logging Overhead Benchmark
+ * Compares request latency under the default synchronous console logging (levels from
+ * application.properties: application, SQL and security at DEBUG) with the prod profile
+ * (asynchronous appender, INFO levels, 1-in-100 sampled debug for services).
+ *
+ * Not part of the regular test run; execute with:
+ * mvn test -Dtest=LoggingOverheadBenchmark [-Dbenchmark.threads=8] [-Dbenchmark.requests=20000]
+ *
+ * Each simulated request does a little CPU work and emits the log calls of a typical task
+ * read: controller and service messages, three SQL statements and a security decision. The
+ * console is stood in for by a file written with the console pattern and an immediate flush
+ * per event, as ConsoleAppender does.
+ */
+class LoggingOverheadBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} - %logger{36} - %level - %msg%n";
+    private static final String SQL = """
+            select
+                t1_0.id,
+                t1_0.actual_hours,
+                t1_0.assigned_to,
+                t1_0.completed_at,
+                t1_0.created_at,
+                t1_0.created_by,
+                t1_0.description,
+                t1_0.due_date,
+                t1_0.project_id,
+                t1_0.status,
+                t1_0.title,
+                t1_0.version
+            from
+                tasks t1_0
+            where
+                t1_0.id=?""";
+
+    private final byte[] work = new byte[4096];
+
+    @Test
+    void requestLatencyWithSyncAndAsyncLogging() throws Exception {
+        System.out.printf("%n%d threads, %,d requests each%n", THREADS, REQUESTS);
+        System.out.printf("%-38s %10s %10s %10s %12s%n", "configuration", "p50 us", "p99 us", "p99.9 us", "requests/s");
+
+        Result none = run("no logging", false, Level.OFF, false);
+        Result sync = run("sync console, current levels", false, Level.DEBUG, false);
+        Result syncInfo = run("sync console, prod levels", false, Level.INFO, true);
+        Result async = run("async console, prod levels (prod)", true, Level.INFO, true);
+
+        for (Result result : List.of(none, sync, syncInfo, async)) {
+            System.out.printf("%-38s %10.1f %10.1f %10.1f %,12.0f%n", result.name,
+                    result.p50 / 1000.0, result.p99 / 1000.0, result.p999 / 1000.0, result.throughput);
+        }
+
+        assertTrue(async.p99 < sync.p99);
+    }
+
+    private Result run(String name, boolean async, Level level, boolean sampled) throws Exception {
+        Path file = Files.createTempFile("logging-benchmark", ".log");
+        LoggerContext context = new LoggerContext();
+        try (FileOutputStream out = new FileOutputStream(file.toFile())) {
+            configure(context, out, async, level, sampled);
+            Logger controller = context.getLogger("com.taskmanagement.controller.TaskController");
+            Logger service = context.getLogger("com.taskmanagement.service.impl.TaskServiceImpl");
+            Logger sql = context.getLogger("org.hibernate.SQL");
+            Logger security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+
+            // Warm up, then measure
+            runRequests(controller, service, sql, security, REQUESTS / 10);
+            long start = System.nanoTime();
+            long[] latencies = runRequests(controller, service, sql, security, REQUESTS);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new Result(name, percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), latencies.length / (elapsed / 1e9));
+        } finally {
+            context.stop();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void configure(LoggerContext context, FileOutputStream out, boolean async, Level level,
+                           boolean sampled) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> console = new OutputStreamAppender<>();
+        console.setContext(context);
+        console.setName("CONSOLE");
+        console.setEncoder(encoder);
+        console.setOutputStream(out);
+        console.start();
+
+        Appender<ILoggingEvent> appender = console;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_CONSOLE");
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(console);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        if (sampled) {
+            SampledDebugTurboFilter filter = new SampledDebugTurboFilter();
+            filter.setContext(context);
+            filter.setLoggers("com.taskmanagement.service,com.taskmanagement.websocket");
+            filter.setSampleRate(100);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(level == Level.OFF ? Level.OFF : Level.INFO);
+        root.addAppender(appender);
+        context.getLogger("com.taskmanagement").setLevel(level);
+        context.getLogger("org.hibernate.SQL").setLevel(level);
+        context.getLogger("org.springframework.security").setLevel(level);
+    }
+
+    private long[] runRequests(Logger controller, Logger service, Logger sql, Logger security,
+                               int requestsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[requestsPerThread];
+                for (int i = 0; i < requestsPerThread; i++) {
+                    long start = System.nanoTime();
+                    request(controller, service, sql, security, i);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[THREADS * requestsPerThread];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * requestsPerThread, requestsPerThread);
+        }
+        executor.shutdown();
+        return all;
+    }
+
+    private void request(Logger controller, Logger service, Logger sql, Logger security, long taskId) {
+        security.debug("Secured GET /api/tasks/{}", taskId);
+        controller.debug("Fetching task by ID: {}", taskId);
+        sql.debug(SQL);
+        service.debug("Found task {} in project {}", taskId, taskId % 50);
+        sql.debug(SQL);
+        sql.debug(SQL);
+
+        // Stand-in for the request's own work (serialization and the like)
+        CRC32 crc = new CRC32();
+        work[(int) (taskId % work.length)]++;
+        crc.update(work);
+        if (crc.getValue() == 42) {
+            service.info("Checksum collision for task {}", taskId);
+        }
+    }
+
+    private long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private record Result(String name, long p50, long p99, long p999, double throughput) {
+    }
+}
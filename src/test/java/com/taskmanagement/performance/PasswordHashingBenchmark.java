@@ -0,0 +1,167 @@
+package com.taskmanagement.performance;
+
+import com.taskmanagement.exception.ServiceUnavailableException;
+import com.taskmanagement.security.BoundedPasswordEncoder;
+import com.taskmanagement.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Password Hashing Benchmark
+ * Mixed workload on request threads: a login storm (BCrypt checks, cost 10) next to ordinary
+ * API requests (a little CPU work each, one every 5 ms per API thread). Compares hashing
+ * inline on the request threads with hashing on the bounded {@link PasswordHashingExecutor}
+ * (one thread per core), reporting login throughput and API request latency.
+ *
+ * Not part of the regular test run; execute with:
+ * mvn test -Dtest=PasswordHashingBenchmark [-Dbenchmark.login-threads=32] [-Dbenchmark.api-threads=8]
+ */
+class PasswordHashingBenchmark {
+
+    private static final int LOGIN_THREADS = Integer.getInteger("benchmark.login-threads", 32);
+    private static final int API_THREADS = Integer.getInteger("benchmark.api-threads", 8);
+    private static final long DURATION_MS = Long.getLong("benchmark.duration-ms", 5_000);
+    private static final int STRENGTH = 10;
+    private static final long API_INTERVAL_NANOS = 5_000_000;
+
+    private final String hash = new BCryptPasswordEncoder(STRENGTH).encode("secret");
+
+    @Test
+    void apiLatencyDuringLoginStorm() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%n%d cores, %d login threads, %d API threads, %d ms per run%n",
+                cores, LOGIN_THREADS, API_THREADS, DURATION_MS);
+        System.out.printf("%-26s %10s %10s %12s %12s %12s%n",
+                "configuration", "logins/s", "shed/s", "API p50 ms", "API p99 ms", "API req/s");
+
+        // Warm up, then measure
+        run("warm-up", null);
+        Result baseline = run("API only", null);
+        Result inline = run("inline BCrypt", new BCryptPasswordEncoder(STRENGTH));
+
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(executor, "threads", cores);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 100);
+        ReflectionTestUtils.setField(executor, "timeoutMs", 5_000L);
+        executor.start();
+        Result bounded;
+        try {
+            bounded = run("bounded executor", new BoundedPasswordEncoder(STRENGTH, executor));
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Result result : List.of(baseline, inline, bounded)) {
+            System.out.printf("%-26s %10.1f %10.1f %12.2f %12.2f %,12.0f%n", result.name,
+                    result.loginsPerSecond, result.shedPerSecond,
+                    result.apiP50 / 1e6, result.apiP99 / 1e6, result.apiPerSecond);
+        }
+
+        assertTrue(bounded.apiP99 < inline.apiP99);
+    }
+
+    private Result run(String name, PasswordEncoder encoder) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong logins = new AtomicLong();
+        AtomicLong shed = new AtomicLong();
+        ConcurrentLinkedQueue<long[]> apiLatencies = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+
+        if (encoder != null) {
+            for (int i = 0; i < LOGIN_THREADS; i++) {
+                threads.add(new Thread(() -> {
+                    while (running.get()) {
+                        try {
+                            encoder.matches("secret", hash);
+                            logins.incrementAndGet();
+                        } catch (ServiceUnavailableException e) {
+                            // A real client would back off; retry after a short pause
+                            shed.incrementAndGet();
+                            sleep(10);
+                        }
+                    }
+                }, "login-" + i));
+            }
+        }
+        for (int i = 0; i < API_THREADS; i++) {
+            threads.add(new Thread(() -> {
+                long[] latencies = new long[1 << 20];
+                int count = 0;
+                byte[] body = new byte[16 * 1024];
+                // Open loop: requests are due at a fixed rate and latency counts from the due
+                // time, so time spent waiting for a CPU before a request starts is included
+                long due = System.nanoTime();
+                while (running.get() && count < latencies.length) {
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                    }
+                    apiRequest(body, count);
+                    latencies[count++] = System.nanoTime() - due;
+                    due += API_INTERVAL_NANOS;
+                }
+                long[] recorded = new long[count];
+                System.arraycopy(latencies, 0, recorded, 0, count);
+                apiLatencies.add(recorded);
+            }, "api-" + i));
+        }
+
+        threads.forEach(Thread::start);
+        Thread.sleep(DURATION_MS);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] all = apiLatencies.stream().flatMapToLong(java.util.Arrays::stream).sorted().toArray();
+        double seconds = DURATION_MS / 1000.0;
+        return new Result(name, logins.get() / seconds, shed.get() / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), all.length / seconds);
+    }
+
+    /**
+     * Stand-in for an ordinary API request's CPU work (serialization and the like)
+     */
+    private void apiRequest(byte[] body, int n) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < 400; i++) {
+            body[(n + i) % body.length]++;
+            crc.update(body);
+        }
+        if (crc.getValue() == 42) {
+            System.out.print("");
+        }
+    }
+
+    private static void sleep(long millis) {
+        sleep(millis, 0);
+    }
+
+    private static void sleep(long millis, int nanos) {
+        try {
+            Thread.sleep(millis, nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private record Result(String name, double loginsPerSecond, double shedPerSecond,
+                          long apiP50, long apiP99, double apiPerSecond) {
+    }
+}
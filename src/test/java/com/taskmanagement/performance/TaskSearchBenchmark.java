@@ -0,0 +1,151 @@
+package com.taskmanagement.performance;
+
+import com.taskmanagement.search.TaskSearchHit;
+import com.taskmanagement.search.TaskSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.LongPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Task Search Benchmark
+ * Builds the search index over synthetic tasks and measures query latency by query type.
+ *
+ * Not part of the regular test run; execute with:
+ * mvn test -Dtest=TaskSearchBenchmark [-Dbenchmark.tasks=1000000] [-Dbenchmark.queries=500]
+ *
+ * Titles have 4 and descriptions 12 words drawn from a Zipf-distributed vocabulary of
+ * 20,000 random words, so a few words occur in most tasks and most words in few. Tasks are
+ * spread over 1,000 projects; member-scoped queries see 20 of them.
+ */
+class TaskSearchBenchmark {
+
+    private static final int TASKS = Integer.getInteger("benchmark.tasks", 1_000_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 500);
+    private static final int VOCABULARY = 20_000;
+    private static final int PROJECTS = 1_000;
+    private static final int LIMIT = 20;
+
+    private final Random random = new Random(42);
+    private final String[] words = new String[VOCABULARY];
+    private final double[] cumulative = new double[VOCABULARY];
+
+    @Test
+    void queryLatencyAtScale() {
+        buildVocabulary();
+        TaskSearchIndex index = new TaskSearchIndex();
+
+        System.gc();
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        for (long taskId = 1; taskId <= TASKS; taskId++) {
+            index.index(taskId, taskId % PROJECTS, 0, text(4), text(12));
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        System.gc();
+        long heapMegabytes = (usedHeap() - heapBefore) / (1024 * 1024);
+
+        System.out.printf("%n%,d tasks, %,d terms, built in %,d ms, ~%,d MB heap%n",
+                index.size(), index.termCount(), buildMillis, heapMegabytes);
+        System.out.printf("%-34s %10s %10s %10s%n", "query", "p50 us", "p99 us", "avg hits");
+
+        Set<Long> memberProjects = new HashSet<>();
+        while (memberProjects.size() < 20) {
+            memberProjects.add((long) random.nextInt(PROJECTS));
+        }
+        LongPredicate all = id -> true;
+        // As TaskSearchServiceImpl builds it
+        long[] memberProjectIds = memberProjects.stream().mapToLong(Long::longValue).sorted().toArray();
+        LongPredicate member = id -> Arrays.binarySearch(memberProjectIds, id) >= 0;
+
+        List<Result> results = new ArrayList<>();
+        results.add(run(index, "common term", all, i -> words[i % 10]));
+        results.add(run(index, "mid-frequency term", all, i -> words[100 + i % 1000]));
+        results.add(run(index, "two terms", all, i -> words[i % 50] + " " + words[200 + i % 1000]));
+        results.add(run(index, "prefix (4 chars)", all, i -> words[100 + i % 1000].substring(0, 4)));
+        results.add(run(index, "typo (one letter dropped)", all, i -> typo(words[100 + i % 1000])));
+        results.add(run(index, "common term, 20 member projects", member, i -> words[i % 10]));
+        results.add(run(index, "two terms, 20 member projects", member,
+                i -> words[i % 50] + " " + words[200 + i % 1000]));
+
+        for (Result result : results) {
+            System.out.printf("%-34s %10.1f %10.1f %10.1f%n", result.name,
+                    result.p50 / 1000.0, result.p99 / 1000.0, result.averageHits);
+            assertTrue(result.averageHits > 0, result.name);
+        }
+    }
+
+    private Result run(TaskSearchIndex index, String name, LongPredicate projectFilter, IntFunction<String> query) {
+        // Warm up, then measure
+        for (int i = 0; i < QUERIES / 5; i++) {
+            index.search(query.apply(i), projectFilter, LIMIT);
+        }
+        long[] latencies = new long[QUERIES];
+        long hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String text = query.apply(i);
+            long start = System.nanoTime();
+            List<TaskSearchHit> result = index.search(text, projectFilter, LIMIT);
+            latencies[i] = System.nanoTime() - start;
+            hits += result.size();
+        }
+        Arrays.sort(latencies);
+        return new Result(name, percentile(latencies, 0.50), percentile(latencies, 0.99), (double) hits / QUERIES);
+    }
+
+    private void buildVocabulary() {
+        Set<String> distinct = new HashSet<>();
+        while (distinct.size() < VOCABULARY) {
+            StringBuilder word = new StringBuilder();
+            int length = 5 + random.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            if (distinct.add(word.toString())) {
+                words[distinct.size() - 1] = word.toString();
+            }
+        }
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    private String text(int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append(words[Math.min(VOCABULARY - 1, rank < 0 ? -rank - 1 : rank)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String typo(String word) {
+        int position = word.length() / 2;
+        return word.substring(0, position) + word.substring(position + 1);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    private record Result(String name, long p50, long p99, double averageHits) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.taskmanagement.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WebSocket Egress Benchmark
+ * Measures bytes on the wire per task notification and the CPU cost of fanning notifications
+ * out to many STOMP sessions, with and without frame batching and permessage-deflate.
+ *
+ * Not part of the regular test run; execute with:
+ * mvn test -Dtest=WebSocketEgressBenchmark [-Dbenchmark.sessions=10000] [-Dbenchmark.notifications=200]
+ *
+ * Sessions write into in-memory sinks, so the numbers cover serialization, STOMP encoding,
+ * batching and compression but not the network stack. Wire bytes include the WebSocket frame
+ * header. A deflate context costs ~256 KB of native memory per session (context takeover, as
+ * negotiated by the container), so compression is measured on a sample of sessions and its CPU
+ * cost scaled to the full session count.
+ */
+class WebSocketEgressBenchmark {
+
+    private static final int SESSIONS = Integer.getInteger("benchmark.sessions", 10_000);
+    private static final int NOTIFICATIONS = Integer.getInteger("benchmark.notifications", 200);
+    private static final int COMPRESSED_SAMPLE = Math.min(SESSIONS, 200);
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void egressPerNotification() throws Exception {
+        List<byte[]> payloads = new ArrayList<>(NOTIFICATIONS);
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            // Serialized once per notification and shared by all sessions
+            payloads.add(objectMapper.writeValueAsBytes(List.of(delta(i))));
+        }
+
+        System.out.printf("%n%,d sessions, %,d notifications each%n", SESSIONS, NOTIFICATIONS);
+        System.out.printf("%-34s %14s %14s %16s%n", "scenario", "wire B/notif", "frames/notif", "CPU us/notif");
+
+        Result plain = run(payloads, 1, false);
+        Result batched = run(payloads, 10, false);
+        Result deflated = run(payloads, 1, true);
+        Result batchedDeflated = run(payloads, 10, true);
+
+        print("json, 1 message per frame", plain);
+        print("json, 10 messages per frame", batched);
+        print("json + deflate, 1 per frame", deflated);
+        print("json + deflate, 10 per frame", batchedDeflated);
+
+        assertTrue(batched.wireBytesPerNotification <= plain.wireBytesPerNotification);
+        assertTrue(deflated.wireBytesPerNotification < plain.wireBytesPerNotification);
+    }
+
+    /**
+     * Fan every notification out to every session; with batching, each group of
+     * {@code perFrame} notifications is concatenated into one frame, as the session decorator
+     * does when they queue up behind a busy socket
+     */
+    private Result run(List<byte[]> payloads, int perFrame, boolean deflate) {
+        List<SinkSession> sinks = new ArrayList<>(SESSIONS);
+        for (int s = 0; s < SESSIONS; s++) {
+            sinks.add(new SinkSession(deflate && s < COMPRESSED_SAMPLE));
+        }
+
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(64 * 1024);
+        for (int first = 0; first < payloads.size(); first += perFrame) {
+            int last = Math.min(first + perFrame, payloads.size());
+            for (int s = 0; s < SESSIONS; s++) {
+                batch.reset();
+                for (int n = first; n < last; n++) {
+                    batch.writeBytes(stompFrame(s, n, payloads.get(n)));
+                }
+                sinks.get(s).write(batch.toByteArray());
+            }
+        }
+        long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+
+        long wireBytes = 0;
+        long frames = 0;
+        long deflateNanos = 0;
+        int measured = deflate ? COMPRESSED_SAMPLE : SESSIONS;
+        for (int s = 0; s < measured; s++) {
+            wireBytes += sinks.get(s).wireBytes;
+            frames += sinks.get(s).frames;
+            deflateNanos += sinks.get(s).deflateNanos;
+            sinks.get(s).close();
+        }
+        // Only the sample paid for compression; add its cost for the remaining sessions
+        long totalCpu = cpuNanos + (deflate ? deflateNanos * (SESSIONS - measured) / measured : 0);
+
+        double notifications = (double) measured * payloads.size();
+        return new Result(wireBytes / notifications, frames / notifications,
+                totalCpu / 1000.0 / payloads.size());
+    }
+
+    private byte[] stompFrame(int session, int notification, byte[] payload) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/projects/1/tasks");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId(session + "-" + notification);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return stompEncoder.encode(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    private TaskDeltaDTO delta(int i) {
+        return new TaskDeltaDTO(1000L + i % 50, 1L, TaskChangeType.UPDATED, (long) i,
+                Map.of("status", i % 2 == 0 ? "IN_PROGRESS" : "IN_REVIEW", "assignedToId", 42L));
+    }
+
+    private void print(String scenario, Result result) {
+        System.out.printf("%-34s %14.1f %14.2f %16.1f%n", scenario,
+                result.wireBytesPerNotification, result.framesPerNotification, result.cpuMicrosPerNotification);
+    }
+
+    private record Result(double wireBytesPerNotification, double framesPerNotification,
+                          double cpuMicrosPerNotification) {
+    }
+
+    /**
+     * In-memory socket: counts frames and wire bytes, optionally deflating each message with a
+     * per-session context
+     */
+    private static class SinkSession {
+
+        private final Deflater deflater;
+        private final byte[] deflateBuffer = new byte[64 * 1024];
+        private long frames;
+        private long wireBytes;
+        private long deflateNanos;
+
+        SinkSession(boolean deflate) {
+            this.deflater = deflate ? new Deflater(Deflater.DEFAULT_COMPRESSION, true) : null;
+        }
+
+        void write(byte[] payload) {
+            int length = payload.length;
+            if (deflater != null) {
+                long start = System.nanoTime();
+                length = deflate(payload);
+                deflateNanos += System.nanoTime() - start;
+            }
+            frames++;
+            wireBytes += length + (length < 126 ? 2 : length < 65_536 ? 4 : 10);
+        }
+
+        private int deflate(byte[] payload) {
+            deflater.setInput(payload);
+            int length = 0;
+            int n;
+            while ((n = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, Deflater.SYNC_FLUSH)) > 0) {
+                length += n;
+            }
+            // permessage-deflate strips the 4 byte sync flush trailer
+            return length - 4;
+        }
+
+        void close() {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+}
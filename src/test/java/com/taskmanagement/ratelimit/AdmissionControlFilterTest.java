@@ -0,0 +1,166 @@
+package com.taskmanagement.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.security.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlFilterTest {
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AdmissionControlFilter(new InMemoryRateLimiter(), jwtUtils, meterRegistry,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "authCapacity", 2L);
+        ReflectionTestUtils.setField(filter, "authRefillPerSecond", 0.001);
+        ReflectionTestUtils.setField(filter, "authMaxConcurrent", 1);
+        ReflectionTestUtils.setField(filter, "writeCapacity", 1L);
+        ReflectionTestUtils.setField(filter, "writeRefillPerSecond", 0.001);
+        ReflectionTestUtils.setField(filter, "writeMaxConcurrent", 5);
+        filter.init();
+    }
+
+    @Test
+    void testLoginIsLimitedPerClientIp() throws Exception {
+        assertEquals(200, perform(request("POST", "/api/auth/login", "10.0.0.1")).getStatus());
+        assertEquals(200, perform(request("POST", "/api/auth/login", "10.0.0.1")).getStatus());
+
+        MockHttpServletResponse rejected = perform(request("POST", "/api/auth/login", "10.0.0.1"));
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Too many requests"));
+        assertEquals(1.0, meterRegistry.get("http.admission.rejected")
+                .tags("class", "auth", "status", "429").counter().count());
+
+        assertEquals(200, perform(request("POST", "/api/auth/login", "10.0.0.2")).getStatus());
+    }
+
+    @Test
+    void testLoginIsAlsoLimitedPerUsername() throws Exception {
+        assertEquals(200, perform(login("10.0.0.1", "alice")).getStatus());
+        assertEquals(200, perform(login("10.0.0.2", " Alice ")).getStatus());
+
+        // Fresh IP, but alice's bucket is empty
+        MockHttpServletResponse rejected = perform(login("10.0.0.3", "ALICE"));
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+
+        // Other usernames from the same address are unaffected
+        assertEquals(200, perform(login("10.0.0.3", "bob")).getStatus());
+    }
+
+    @Test
+    void testLoginBodyStillReachesTheController() throws Exception {
+        AtomicReference<String> body = new AtomicReference<>();
+        FilterChain chain = (req, res) -> body.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = login("10.0.0.1", "alice");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertEquals(new String(request.getContentAsByteArray(), StandardCharsets.UTF_8), body.get());
+    }
+
+    @Test
+    void testWritesAreLimitedPerUserAndReadsAreNotLimited() throws Exception {
+        when(jwtUtils.validateJwtToken(anyString())).thenReturn(true);
+        when(jwtUtils.getUsernameFromJwtToken("token-alice")).thenReturn("alice");
+        when(jwtUtils.getUsernameFromJwtToken("token-bob")).thenReturn("bob");
+
+        assertEquals(200, perform(bearer(request("POST", "/api/tasks", "10.0.0.1"), "token-alice")).getStatus());
+        assertEquals(429, perform(bearer(request("PUT", "/api/tasks/1", "10.0.0.1"), "token-alice")).getStatus());
+        // Same IP, different user
+        assertEquals(200, perform(bearer(request("DELETE", "/api/tasks/1", "10.0.0.1"), "token-bob")).getStatus());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(bearer(request("GET", "/api/tasks", "10.0.0.1"), "token-alice")).getStatus());
+        }
+    }
+
+    @Test
+    void testRequestsBeyondTheConcurrencyLimitAreShed() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<MockHttpServletResponse> first = new AtomicReference<>();
+        FilterChain blockingChain = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        Thread inFlight = new Thread(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(request("POST", "/api/auth/signup", "10.0.0.1"), response, blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            first.set(response);
+        });
+        inFlight.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = perform(request("POST", "/api/auth/login", "10.0.0.2"));
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+
+        release.countDown();
+        inFlight.join();
+        assertEquals(200, first.get().getStatus());
+        assertEquals(200, perform(request("POST", "/api/auth/login", "10.0.0.2")).getStatus());
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private MockHttpServletRequest login(String remoteAddr, String username) {
+        MockHttpServletRequest request = request("POST", "/api/auth/login", remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(("{\"username\":\"" + username + "\",\"password\":\"secret\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletRequest bearer(MockHttpServletRequest request, String token) {
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanagement.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimiterTest {
+
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy(3, 2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryRateLimiter rateLimiter = new InMemoryRateLimiter(clock::get);
+
+    @Test
+    void testBurstUpToCapacityThenRejectsUntilRefilled() {
+        for (int i = 2; i >= 0; i--) {
+            RateLimitResult result = rateLimiter.tryConsume("ip:1", POLICY);
+            assertTrue(result.isAllowed());
+            assertEquals(i, result.getRemaining());
+        }
+
+        RateLimitResult rejected = rateLimiter.tryConsume("ip:1", POLICY);
+        assertFalse(rejected.isAllowed());
+        assertEquals(500, rejected.getRetryAfterMillis());
+
+        // Other keys have their own bucket
+        assertTrue(rateLimiter.tryConsume("ip:2", POLICY).isAllowed());
+
+        // Two tokens per second: one is back after half a second
+        clock.addAndGet(500_000_000L);
+        assertTrue(rateLimiter.tryConsume("ip:1", POLICY).isAllowed());
+        assertFalse(rateLimiter.tryConsume("ip:1", POLICY).isAllowed());
+    }
+
+    @Test
+    void testRefillIsCappedAtCapacity() {
+        rateLimiter.tryConsume("ip:1", POLICY);
+        clock.addAndGet(60_000_000_000L);
+
+        assertEquals(2, rateLimiter.tryConsume("ip:1", POLICY).getRemaining());
+    }
+
+    @Test
+    void testSweepDropsOnlyBucketsThatAreFullAgain() {
+        rateLimiter.tryConsume("ip:1", POLICY);
+        clock.addAndGet(1_000_000_000L);
+        rateLimiter.tryConsume("ip:2", POLICY);
+
+        // Full refill takes 1.5 s: ip:1 was last touched 2 s ago, ip:2 1 s ago
+        clock.addAndGet(1_000_000_000L);
+        rateLimiter.sweep(clock.get());
+
+        assertEquals(1, rateLimiter.size());
+    }
+}
@@ -0,0 +1,109 @@
+package com.taskmanagement.repository.filter;
+
+import com.taskmanagement.entity.TaskPriority;
+import com.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskFilterQueryTest {
+
+    @Test
+    void testFiltersOfTheSameShapeCompileToTheSameQuery() {
+        TaskFilter first = new TaskFilter();
+        first.setProjectId(1L);
+        first.setStatuses(EnumSet.of(TaskStatus.TODO));
+        first.setDueTo(LocalDateTime.of(2024, 7, 1, 0, 0));
+
+        TaskFilter second = new TaskFilter();
+        second.setProjectId(2L);
+        second.setStatuses(EnumSet.of(TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED));
+        second.setDueTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        TaskFilterQuery firstQuery = TaskFilterQuery.of(first, Sort.by("dueDate"));
+        TaskFilterQuery secondQuery = TaskFilterQuery.of(second, Sort.by("dueDate"));
+
+        assertEquals(firstQuery.getSelectQuery(), secondQuery.getSelectQuery());
+        assertEquals(firstQuery.getCountQuery(), secondQuery.getCountQuery());
+        assertNotEquals(firstQuery.getParameters(), secondQuery.getParameters());
+    }
+
+    @Test
+    void testEveryCriterionIsBoundAsParameter() {
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(1L);
+        filter.setStatuses(EnumSet.of(TaskStatus.TODO));
+        filter.setPriorities(EnumSet.of(TaskPriority.HIGH, TaskPriority.CRITICAL));
+        filter.setAssigneeId(2L);
+        filter.setCreatedById(3L);
+        filter.setDueFrom(LocalDateTime.of(2024, 1, 1, 0, 0));
+        filter.setDueTo(LocalDateTime.of(2024, 2, 1, 0, 0));
+        filter.setText("  Login ");
+
+        TaskFilterQuery query = TaskFilterQuery.of(filter, Sort.unsorted());
+
+        assertEquals(Map.of("projectId", 1L, "statuses", EnumSet.of(TaskStatus.TODO),
+                "priorities", EnumSet.of(TaskPriority.HIGH, TaskPriority.CRITICAL), "assigneeId", 2L,
+                "createdById", 3L, "dueFrom", filter.getDueFrom(), "dueTo", filter.getDueTo(),
+                "text", "%login%"), query.getParameters());
+        assertFalse(query.getSelectQuery().contains("'%"));
+        assertTrue(query.getSelectQuery().endsWith(" ORDER BY t.id DESC"));
+    }
+
+    @Test
+    void testVisibilityLimitsToProjectsAndOwnTasks() {
+        TaskFilter filter = new TaskFilter();
+        filter.setVisibleToUserId(7L);
+        filter.setVisibleProjectIds(List.of(1L, 2L));
+        TaskFilterQuery query = TaskFilterQuery.of(filter, Sort.unsorted());
+        assertTrue(query.getSelectQuery().contains("(t.project.id IN :visibleProjectIds"
+                + " OR t.createdBy.id = :visibleToUserId OR t.assignedTo.id = :visibleToUserId)"));
+        assertEquals(Map.of("visibleToUserId", 7L, "visibleProjectIds", List.of(1L, 2L)), query.getParameters());
+
+        // No projects: only the user's own tasks
+        filter.setVisibleProjectIds(List.of());
+        query = TaskFilterQuery.of(filter, Sort.unsorted());
+        assertTrue(query.getSelectQuery().contains("WHERE (t.createdBy.id = :visibleToUserId"
+                + " OR t.assignedTo.id = :visibleToUserId)"));
+        assertEquals(Map.of("visibleToUserId", 7L), query.getParameters());
+    }
+
+    @Test
+    void testEmptyFilterHasNoConditions() {
+        TaskFilterQuery query = TaskFilterQuery.of(new TaskFilter(), Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        assertEquals("SELECT COUNT(t) FROM Task t", query.getCountQuery());
+        assertTrue(query.getSelectQuery().endsWith(" ORDER BY t.createdAt DESC, t.id DESC"));
+        assertTrue(query.getParameters().isEmpty());
+    }
+
+    @Test
+    void testUnassignedReplacesAssigneeCondition() {
+        TaskFilter filter = new TaskFilter();
+        filter.setUnassigned(true);
+
+        TaskFilterQuery query = TaskFilterQuery.of(filter, Sort.unsorted());
+
+        assertEquals("SELECT COUNT(t) FROM Task t WHERE t.assignedTo IS NULL", query.getCountQuery());
+    }
+
+    @Test
+    void testLikeWildcardsInTextAreEscaped() {
+        TaskFilter filter = new TaskFilter();
+        filter.setText("100%_done\\");
+
+        assertEquals("%100\\%\\_done\\\\%", TaskFilterQuery.of(filter, Sort.unsorted()).getParameters().get("text"));
+    }
+
+    @Test
+    void testUnknownSortPropertyIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TaskFilterQuery.of(new TaskFilter(), Sort.by("project.owner.password")));
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskmanagement.savedfilter;
+
+import com.taskmanagement.dto.SavedFilterDeltaType;
+import com.taskmanagement.entity.SavedFilter;
+import com.taskmanagement.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedFilterIndexTest {
+
+    private static final Long PROJECT_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    private final SavedFilterIndex index = new SavedFilterIndex();
+
+    @Test
+    void testTaskEntersUpdatesAndLeavesFilter() {
+        index.subscribe("s1/sub-1", 100L, USER_ID, predicate(100L, PROJECT_ID, null, TaskStatus.IN_PROGRESS));
+
+        Map<String, Object> todo = state("TODO", null);
+        Map<String, Object> inProgress = state("IN_PROGRESS", null);
+        Map<String, Object> renamed = state("IN_PROGRESS", null);
+        renamed.put("title", "Renamed");
+
+        assertEquals(List.of(SavedFilterDeltaType.ENTER), types(index.match(PROJECT_ID, todo, inProgress)));
+        assertEquals(List.of(SavedFilterDeltaType.UPDATE), types(index.match(PROJECT_ID, inProgress, renamed)));
+        assertEquals(List.of(SavedFilterDeltaType.LEAVE), types(index.match(PROJECT_ID, renamed, state("COMPLETED", null))));
+        assertEquals(List.of(SavedFilterDeltaType.LEAVE), types(index.match(PROJECT_ID, renamed, null)));
+        assertEquals(List.of(), types(index.match(PROJECT_ID, todo, state("COMPLETED", null))));
+        assertEquals(List.of(), types(index.match(20L, todo, inProgress)));
+    }
+
+    @Test
+    void testAssigneeFilterSeesReassignmentAcrossProjects() {
+        index.subscribe("s1/sub-1", 100L, USER_ID, predicate(100L, null, 7L));
+
+        assertEquals(List.of(SavedFilterDeltaType.ENTER), types(index.match(30L, state("TODO", null), state("TODO", 7L))));
+        assertEquals(List.of(SavedFilterDeltaType.LEAVE), types(index.match(30L, state("TODO", 7L), state("TODO", 8L))));
+        assertEquals(List.of(), types(index.match(30L, state("TODO", 8L), state("TODO", 9L))));
+    }
+
+    @Test
+    void testDueDateRangeIsFromInclusiveToExclusive() {
+        SavedFilter filter = filter(100L, null, null);
+        filter.setDueFrom(LocalDateTime.of(2024, 6, 1, 0, 0));
+        filter.setDueTo(LocalDateTime.of(2024, 7, 1, 0, 0));
+        SavedFilterPredicate predicate = SavedFilterPredicate.of(filter);
+
+        Map<String, Object> state = state("TODO", null);
+        state.put("dueDate", LocalDateTime.of(2024, 6, 1, 0, 0));
+        assertTrue(predicate.matches(PROJECT_ID, state));
+        state.put("dueDate", LocalDateTime.of(2024, 7, 1, 0, 0));
+        assertFalse(predicate.matches(PROJECT_ID, state));
+        state.remove("dueDate");
+        assertFalse(predicate.matches(PROJECT_ID, state));
+    }
+
+    @Test
+    void testFilterStaysUntilItsLastSubscriptionEnds() {
+        SavedFilterPredicate predicate = predicate(100L, PROJECT_ID, null);
+        index.subscribe("s1/sub-1", 100L, USER_ID, predicate);
+        index.subscribe("s2/sub-1", 100L, USER_ID, predicate);
+        index.subscribe("s2/sub-2", 200L, USER_ID, predicate(200L, null, null));
+        assertEquals(2, index.size());
+
+        index.unsubscribe("s1/sub-1");
+        assertEquals(2, index.match(PROJECT_ID, null, state("TODO", null)).size());
+
+        index.unsubscribeSession("s2");
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.match(PROJECT_ID, null, state("TODO", null)));
+    }
+
+    @Test
+    void testRemovedFilterNoLongerMatches() {
+        index.subscribe("s1/sub-1", 100L, USER_ID, predicate(100L, PROJECT_ID, null));
+        index.removeFilter(100L);
+
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.match(PROJECT_ID, null, state("TODO", null)));
+        // The removed filter's subscriptions are gone too
+        index.unsubscribeSession("s1");
+    }
+
+    private static SavedFilterPredicate predicate(Long filterId, Long projectId, Long assigneeId, TaskStatus... statuses) {
+        SavedFilter filter = filter(filterId, projectId, assigneeId);
+        filter.setStatuses(Set.of(statuses));
+        return SavedFilterPredicate.of(filter);
+    }
+
+    private static SavedFilter filter(Long filterId, Long projectId, Long assigneeId) {
+        SavedFilter filter = new SavedFilter();
+        filter.setId(filterId);
+        filter.setOwnerId(USER_ID);
+        filter.setName("Filter " + filterId);
+        filter.setProjectId(projectId);
+        filter.setAssigneeId(assigneeId);
+        return filter;
+    }
+
+    private static Map<String, Object> state(String status, Long assignedToId) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("title", "Task");
+        state.put("status", status);
+        state.put("priority", "MEDIUM");
+        state.put("assignedToId", assignedToId);
+        return state;
+    }
+
+    private static List<SavedFilterDeltaType> types(List<SavedFilterIndex.Match> matches) {
+        return matches.stream().map(SavedFilterIndex.Match::getType).toList();
+    }
+}
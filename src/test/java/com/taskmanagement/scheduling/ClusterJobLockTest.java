@@ -0,0 +1,30 @@
+package com.taskmanagement.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterJobLockTest {
+
+    private final ClusterJobLock lock = new ClusterJobLock(
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:job-lock", "sa", "")));
+
+    @Test
+    void testJobDoesNotRunTwiceAtOnce() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(lock.runExclusively("archive", () -> {
+            runs.incrementAndGet();
+            assertFalse(lock.runExclusively("archive", runs::incrementAndGet));
+            // Other jobs are not held up
+            assertTrue(lock.runExclusively("retention", runs::incrementAndGet));
+        }));
+
+        assertEquals(2, runs.get());
+        assertTrue(lock.runExclusively("archive", runs::incrementAndGet));
+    }
+}
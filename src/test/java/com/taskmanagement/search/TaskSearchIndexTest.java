@@ -0,0 +1,99 @@
+package com.taskmanagement.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    @Test
+    void testAllQueryTermsMustMatchAndTitleMatchesRankFirst() {
+        index.index(1, 10, 0, "Fix login bug", "Users cannot sign in");
+        index.index(2, 10, 0, "Update docs", "Describe the login bug workaround");
+        index.index(3, 10, 0, "Login page redesign", null);
+
+        assertEquals(List.of(1L, 2L), taskIds(index.search("login bug", id -> true, 10)));
+        assertEquals(List.of(), taskIds(index.search("login payment", id -> true, 10)));
+        assertEquals(List.of(), taskIds(index.search("the of", id -> true, 10)));
+    }
+
+    @Test
+    void testPrefixSubstringAndTypoMatches() {
+        index.index(1, 10, 0, "Refactor authentication", null);
+        index.index(2, 10, 0, "Quarterly report", null);
+        index.index(3, 10, 0, "Database migration", null);
+
+        assertEquals(List.of(1L), taskIds(index.search("authen", id -> true, 10)));
+        assertEquals(List.of(2L), taskIds(index.search("port", id -> true, 10)));
+        assertEquals(List.of(3L), taskIds(index.search("migraton", id -> true, 10)));
+    }
+
+    @Test
+    void testExactMatchOutranksPrefixMatch() {
+        index.index(1, 10, 0, "Deploy service", null);
+        index.index(2, 10, 0, "Deployment checklist", null);
+
+        List<TaskSearchHit> hits = index.search("deploy", id -> true, 10);
+
+        assertEquals(List.of(1L, 2L), taskIds(hits));
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void testResultsAreScopedByProjectAndLimited() {
+        for (long taskId = 1; taskId <= 6; taskId++) {
+            index.index(taskId, taskId % 2 == 0 ? 20 : 10, 0, "Release notes " + taskId, null);
+        }
+
+        assertEquals(List.of(6L, 4L, 2L), taskIds(index.search("release", id -> id == 20, 10)));
+        assertEquals(2, index.search("release", id -> true, 2).size());
+    }
+
+    @Test
+    void testUpdatesReplaceTextAndStaleVersionsAreIgnored() {
+        index.index(1, 10, 1, "Write tests", null);
+        assertTrue(index.index(1, 10, 2, "Write documentation", null));
+        assertFalse(index.index(1, 10, 1, "Write tests", null));
+
+        assertEquals(List.of(), taskIds(index.search("tests", id -> true, 10)));
+        assertEquals(List.of(1L), taskIds(index.search("documentation", id -> true, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemovedTasksAndProjectsAreNotFound() {
+        index.index(1, 10, 0, "Alpha task", null);
+        index.index(2, 20, 0, "Alpha task", null);
+        index.index(3, 20, 0, "Alpha task", null);
+
+        assertTrue(index.remove(1));
+        assertEquals(2, index.removeProject(20));
+
+        assertEquals(List.of(), taskIds(index.search("alpha", id -> true, 10)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testCompactionKeepsLiveDocumentsSearchable() {
+        for (long version = 0; version < 2000; version++) {
+            index.index(1, 10, version, "Task revision" + version, null);
+            index.index(2, 10, version, "Stable title", null);
+        }
+
+        assertEquals(List.of(1L), taskIds(index.search("revision1999", id -> true, 10)));
+        assertEquals(List.of(2L), taskIds(index.search("stable", id -> true, 10)));
+        // Only deleted versions used "revision10" and most "revision..." terms: the live one is still found
+        assertEquals(List.of(1L), taskIds(index.search("revision10", id -> true, 10)));
+        assertEquals(List.of(1L), taskIds(index.search("revisio", id -> true, 10)));
+        // Terms only used by compacted versions were dropped with them
+        assertTrue(index.termCount() < 1000);
+    }
+
+    private static List<Long> taskIds(List<TaskSearchHit> hits) {
+        return hits.stream().map(TaskSearchHit::getTaskId).toList();
+    }
+}
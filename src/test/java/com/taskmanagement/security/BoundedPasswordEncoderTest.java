@@ -0,0 +1,148 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testHashesOnTheHashingThreads() {
+        executor = executor(1, 10, 5_000);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, executor);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertFalse(encoder.matches("secret", "not-a-bcrypt-hash"));
+        assertEquals(3, meterRegistry.get("password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void testWorkFactorChangeRequestsUpgradeInBothDirections() {
+        executor = executor(1, 10, 5_000);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, executor);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void testLoginRehashesPasswordWithChangedWorkFactor() {
+        executor = executor(1, 10, 5_000);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, executor);
+        UserDetailsImpl user = new UserDetailsImpl(1L, "alice", "alice@example.com", "Alice",
+                new BCryptPasswordEncoder(4).encode("secret"), Set.of());
+        when(userDetailsService.loadUserByUsername("alice")).thenReturn(user);
+        when(userDetailsService.updatePassword(eq(user), any())).thenReturn(user);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        provider.authenticate(new UsernamePasswordAuthenticationToken("alice", "secret"));
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userDetailsService).updatePassword(eq(user), rehashed.capture());
+        assertTrue(rehashed.getValue().startsWith("$2a$05$"));
+        assertTrue(encoder.matches("secret", rehashed.getValue()));
+    }
+
+    @Test
+    void testWorkBeyondTheQueueIsRejected() throws Exception {
+        executor = executor(1, 1, 5_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Occupy the only thread, then the only queue slot
+        Thread running = new Thread(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        running.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = new Thread(() -> executor.execute(() -> null));
+        queued.start();
+        waitForQueueDepth(1);
+
+        assertThrows(ServiceUnavailableException.class, () -> executor.execute(() -> "rejected"));
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "queue-full").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    @Test
+    void testWorkNotDoneWithinTheTimeoutIsRejected() {
+        executor = executor(1, 10, 50);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThrows(ServiceUnavailableException.class, () -> executor.execute(() -> {
+            await(release);
+            return null;
+        }));
+        release.countDown();
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count());
+    }
+
+    private PasswordHashingExecutor executor(int threads, int queueCapacity, long timeoutMs) {
+        PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        ReflectionTestUtils.setField(hashingExecutor, "threads", threads);
+        ReflectionTestUtils.setField(hashingExecutor, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hashingExecutor, "timeoutMs", timeoutMs);
+        hashingExecutor.start();
+        return hashingExecutor;
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
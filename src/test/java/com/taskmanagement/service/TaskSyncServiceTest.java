@@ -0,0 +1,182 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.datasource.OpenTransactionProbe;
+import com.taskmanagement.dto.TaskChangesDTO;
+import com.taskmanagement.dto.TaskDTO;
+import com.taskmanagement.entity.*;
+import com.taskmanagement.mapper.TaskMapper;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.impl.TaskSyncServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    @Mock
+    private TaskChangeRepository taskChangeRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskMapper taskMapper;
+
+    @Mock
+    private OpenTransactionProbe openTransactionProbe;
+
+    @InjectMocks
+    private TaskSyncServiceImpl taskSyncService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskSyncService, "commitGraceMs", 5000L);
+        ReflectionTestUtils.setField(taskSyncService, "maxPageSize", 500);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+    }
+
+    private TaskChange change(long id, long taskId, TaskChangeType type, LocalDateTime changedAt) {
+        TaskChange change = new TaskChange();
+        change.setId(id);
+        change.setTaskId(taskId);
+        change.setProjectId(1L);
+        change.setChangeType(type);
+        change.setChangedAt(changedAt);
+        return change;
+    }
+
+    @Test
+    void testGetChangesSince_StopsAtRecentGap() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime recent = LocalDateTime.now();
+        // ID 3 is missing and ID 4 is recent: a transaction holding ID 3 may still commit
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.CREATED, old),
+                change(2, 11, TaskChangeType.CREATED, old),
+                change(4, 12, TaskChangeType.CREATED, recent));
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(2L), eq(1L), any()))
+                .thenReturn(window.subList(0, 2));
+        when(taskRepository.findWithAssociationsByIdIn(anyCollection())).thenReturn(List.of(new Task(), new Task()));
+        when(taskMapper.toDTO(any(Task.class))).thenReturn(new TaskDTO());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 100);
+
+        assertEquals(2L, result.getCursor());
+        assertFalse(result.isHasMore());
+        assertEquals(2, result.getTasks().size());
+    }
+
+    @Test
+    void testGetChangesSince_SkipsSettledGap() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.CREATED, old),
+                change(3, 11, TaskChangeType.CREATED, old));
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(3L), eq(1L), any())).thenReturn(window);
+        when(taskRepository.findWithAssociationsByIdIn(anyCollection())).thenReturn(List.of());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 100);
+
+        assertEquals(3L, result.getCursor());
+    }
+
+    @Test
+    void testGetChangesSince_StopsAtGapWhileOlderWriterIsOpen() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        // The entry after the gap is old, but a long transaction holding ID 2 may still commit
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.CREATED, old),
+                change(3, 11, TaskChangeType.CREATED, old));
+        when(openTransactionProbe.isSupported()).thenReturn(true);
+        when(openTransactionProbe.hasWritersStartedBeforeNow()).thenReturn(true);
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(1L), eq(1L), any()))
+                .thenReturn(window.subList(0, 1));
+        when(taskRepository.findWithAssociationsByIdIn(anyCollection())).thenReturn(List.of());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 100);
+
+        assertEquals(1L, result.getCursor());
+    }
+
+    @Test
+    void testGetChangesSince_SkipsRecentGapWhenNoOlderWriterIsOpen() {
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.CREATED, LocalDateTime.now()),
+                change(3, 11, TaskChangeType.CREATED, LocalDateTime.now()));
+        when(openTransactionProbe.isSupported()).thenReturn(true);
+        when(openTransactionProbe.hasWritersStartedBeforeNow()).thenReturn(false);
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(3L), eq(1L), any())).thenReturn(window);
+        when(taskRepository.findWithAssociationsByIdIn(anyCollection())).thenReturn(List.of());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 100);
+
+        assertEquals(3L, result.getCursor());
+    }
+
+    @Test
+    void testGetChangesSince_DeleteSupersedesUpdate() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.UPDATED, old),
+                change(2, 10, TaskChangeType.DELETED, old));
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(2L), eq(1L), any())).thenReturn(window);
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 100);
+
+        assertTrue(result.getTasks().isEmpty());
+        assertEquals(1, result.getDeleted().size());
+        assertEquals(10L, result.getDeleted().get(0).getTaskId());
+        verify(taskRepository, never()).findWithAssociationsByIdIn(anyCollection());
+    }
+
+    @Test
+    void testGetChangesSince_PagesWithinWatermark() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        List<TaskChange> window = List.of(
+                change(1, 10, TaskChangeType.CREATED, old),
+                change(2, 11, TaskChangeType.CREATED, old),
+                change(3, 12, TaskChangeType.CREATED, old));
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(window);
+        when(taskChangeRepository.findVisibleChanges(eq(0L), eq(3L), eq(1L), any())).thenReturn(window);
+        when(taskRepository.findWithAssociationsByIdIn(anyCollection())).thenReturn(List.of());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 0, 2);
+
+        assertEquals(2L, result.getCursor());
+        assertTrue(result.isHasMore());
+    }
+
+    @Test
+    void testGetChangesSince_NothingNew() {
+        when(taskChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(7L), any())).thenReturn(List.of());
+
+        TaskChangesDTO result = taskSyncService.getChangesSince(user, 7, 100);
+
+        assertEquals(7L, result.getCursor());
+        assertFalse(result.isHasMore());
+        verify(taskChangeRepository, never()).findVisibleChanges(anyLong(), anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanagement.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingWebSocketSessionDecoratorTest {
+
+    @Mock
+    private WebSocketSession session;
+
+    @Mock
+    private BatchingWebSocketSessionDecorator.SendListener listener;
+
+    private final List<WebSocketMessage<?>> written = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = Executors.newSingleThreadExecutor();
+        lenient().when(session.getId()).thenReturn("session-1");
+        lenient().doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            if (written.isEmpty()) {
+                firstWriteStarted.countDown();
+                releaseFirstWrite.await(5, TimeUnit.SECONDS);
+            }
+            written.add(message);
+            return null;
+        }).when(session).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstWrite.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testFramesQueuedBehindABusySocketAreWrittenAsOneMessage() throws Exception {
+        BatchingWebSocketSessionDecorator decorator = decorator(1024);
+
+        Future<?> first = sendWhileBlocked(decorator);
+        decorator.sendMessage(stompFrame("second"));
+        decorator.sendMessage(stompFrame("third"));
+        decorator.sendMessage(new BinaryMessage(ByteBuffer.wrap(new byte[] {1, 2})));
+        decorator.sendMessage(stompFrame("fourth"));
+        assertEquals(0, written.size());
+
+        releaseFirstWrite.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(4, written.size());
+        assertEquals("MESSAGE\n\nfirst\0", ((TextMessage) written.get(0)).getPayload());
+        assertEquals("MESSAGE\n\nsecond\0MESSAGE\n\nthird\0", ((TextMessage) written.get(1)).getPayload());
+        assertInstanceOf(BinaryMessage.class, written.get(2));
+        assertEquals("MESSAGE\n\nfourth\0", ((TextMessage) written.get(3)).getPayload());
+        verify(listener).sendCompleted(eq("session-1"), eq(2), anyInt(), anyLong());
+        assertEquals(0, decorator.getBufferSize());
+    }
+
+    @Test
+    void testBatchesRespectTheSizeLimit() throws Exception {
+        BatchingWebSocketSessionDecorator decorator = decorator(40);
+
+        Future<?> first = sendWhileBlocked(decorator);
+        for (int i = 0; i < 4; i++) {
+            decorator.sendMessage(stompFrame("message-" + i));
+        }
+        releaseFirstWrite.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        // Each frame is 19 bytes, so two fit in one 40 byte batch
+        assertEquals(3, written.size());
+        assertTrue(written.stream().allMatch(message -> message.getPayloadLength() <= 40));
+    }
+
+    @Test
+    void testBufferOverflowTerminatesSession() throws Exception {
+        BatchingWebSocketSessionDecorator decorator =
+                new BatchingWebSocketSessionDecorator(session, 10_000, 30, 1024, listener);
+
+        sendWhileBlocked(decorator);
+        decorator.sendMessage(stompFrame("second"));
+
+        assertThrows(SessionLimitExceededException.class, () -> decorator.sendMessage(stompFrame("third")));
+        assertEquals(0, decorator.getBufferSize());
+        verify(listener).sendFailed("session-1", 2);
+    }
+
+    @Test
+    void testFramesQueuedAtCloseAreReportedAsLost() throws Exception {
+        BatchingWebSocketSessionDecorator decorator = decorator(1024);
+
+        sendWhileBlocked(decorator);
+        decorator.sendMessage(stompFrame("second"));
+        decorator.sendMessage(stompFrame("third"));
+        decorator.close(CloseStatus.GOING_AWAY);
+        decorator.sendMessage(stompFrame("fourth"));
+
+        verify(listener).sendFailed("session-1", 2);
+        verify(listener).sendFailed("session-1", 1);
+        assertEquals(0, decorator.getBufferSize());
+    }
+
+    private BatchingWebSocketSessionDecorator decorator(int maxBatchBytes) {
+        return new BatchingWebSocketSessionDecorator(session, 10_000, 64 * 1024, maxBatchBytes, listener);
+    }
+
+    /**
+     * Send a first frame from another thread and wait until its write is blocked on the socket
+     */
+    private Future<?> sendWhileBlocked(BatchingWebSocketSessionDecorator decorator) throws Exception {
+        Future<?> future = executor.submit(() -> {
+            decorator.sendMessage(stompFrame("first"));
+            return null;
+        });
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private TextMessage stompFrame(String body) {
+        return new TextMessage("MESSAGE\n\n" + body + "\0");
+    }
+}
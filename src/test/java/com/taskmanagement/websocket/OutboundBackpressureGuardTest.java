@@ -0,0 +1,131 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboundBackpressureGuardTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundBackpressureGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new OutboundBackpressureGuard(meterRegistry);
+        ReflectionTestUtils.setField(guard, "slowBacklog", 3);
+        ReflectionTestUtils.setField(guard, "slowSendMs", 60_000L);
+        ReflectionTestUtils.setField(guard, "policy", OutboundBackpressureGuard.Policy.DROP);
+        when(session.getId()).thenReturn(SESSION_ID);
+    }
+
+    @Test
+    void testSlowSessionDropsTopicBroadcastsButKeepsUserMessages() throws Exception {
+        connect();
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+        }
+        assertEquals(4, guard.getBacklog(SESSION_ID));
+
+        // Backlog is over the threshold: broadcasts are dropped, user messages still go out
+        assertNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+        assertNotNull(guard.preSend(message("/user/queue/notifications"), null));
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.dropped")
+                .tag("reason", "slow-consumer").counter().count());
+        assertEquals(5.0, meterRegistry.get("websocket.outbound.backlog.max").gauge().value());
+
+        // Writes drain the backlog (here one batched frame of five messages) and broadcasts resume
+        guard.sendStarted(SESSION_ID);
+        guard.sendCompleted(SESSION_ID, 5, 500, 1_000_000);
+        assertEquals(0, guard.getBacklog(SESSION_ID));
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.frames").counter().count());
+        assertEquals(5.0, meterRegistry.get("websocket.outbound.messages").counter().count());
+        assertNotNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+        verify(session, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void testTerminatePolicyClosesSlowSessionOnce() throws Exception {
+        ReflectionTestUtils.setField(guard, "policy", OutboundBackpressureGuard.Policy.TERMINATE);
+        connect();
+
+        for (int i = 0; i < 4; i++) {
+            guard.preSend(message("/topic/projects/1/tasks"), null);
+        }
+        assertNull(guard.preSend(message("/user/queue/notifications"), null));
+        assertNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.sessions.terminated").counter().count());
+    }
+
+    @Test
+    void testFailedSendIsReleasedFromTheBacklog() throws Exception {
+        connect();
+        doThrow(new IOException("Broken pipe")).when(session).sendMessage(any());
+        BatchingWebSocketSessionDecorator decorated =
+                new BatchingWebSocketSessionDecorator(session, 10_000, 64 * 1024, 1024, guard);
+
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+        }
+        assertThrows(IOException.class, () -> decorated.sendMessage(new TextMessage("MESSAGE\n\nfirst\0")));
+
+        // The failed write no longer counts against the session, nor holds it in a blocked send
+        assertEquals(3, guard.getBacklog(SESSION_ID));
+        assertEquals(0.0, meterRegistry.get("websocket.outbound.frames").counter().count());
+        ReflectionTestUtils.setField(guard, "slowSendMs", 0L);
+        Thread.sleep(5);
+        assertNotNull(guard.preSend(message("/topic/projects/1/tasks"), null));
+    }
+
+    @Test
+    void testClosedSessionIsForgotten() throws Exception {
+        connect();
+        guard.preSend(message("/topic/projects/1/tasks"), null);
+
+        guard.decorate(handler).afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertEquals(0, guard.getBacklog(SESSION_ID));
+        assertEquals(0.0, meterRegistry.get("websocket.outbound.backlog.total").gauge().value());
+    }
+
+    private void connect() throws Exception {
+        guard.decorate(handler).afterConnectionEstablished(session);
+        verify(handler).afterConnectionEstablished(session);
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanagement.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDeltaCodecTest {
+
+    private final TaskDeltaCodec codec = new TaskDeltaCodec();
+
+    @Test
+    void testRoundTripPreservesDeltas() {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("title", "Ship release ✓");
+        changes.put("status", "IN_PROGRESS");
+        changes.put("assignedToId", 42L);
+        changes.put("estimatedHours", 8);
+        changes.put("dueDate", LocalDate.of(2024, 3, 1));
+        changes.put("completedAt", LocalDateTime.of(2024, 3, 2, 10, 15, 30));
+        changes.put("description", null);
+        changes.put("customField", "kept by name");
+
+        List<TaskDeltaDTO> deltas = List.of(
+                new TaskDeltaDTO(7L, 3L, TaskChangeType.UPDATED, 12L, changes),
+                new TaskDeltaDTO(8L, 3L, TaskChangeType.DELETED, 4L, Map.of()));
+
+        List<TaskDeltaDTO> decoded = codec.decode(codec.encode(deltas));
+
+        assertEquals(2, decoded.size());
+        TaskDeltaDTO first = decoded.get(0);
+        assertEquals(7L, first.getTaskId());
+        assertEquals(3L, first.getProjectId());
+        assertEquals(TaskChangeType.UPDATED, first.getChangeType());
+        assertEquals(12L, first.getVersion());
+        assertEquals(List.copyOf(changes.keySet()), List.copyOf(first.getChanges().keySet()));
+        assertEquals("Ship release ✓", first.getChanges().get("title"));
+        assertEquals(8L, first.getChanges().get("estimatedHours"));
+        assertEquals(LocalDate.of(2024, 3, 1), first.getChanges().get("dueDate"));
+        assertEquals(LocalDateTime.of(2024, 3, 2, 10, 15, 30), first.getChanges().get("completedAt"));
+        assertNull(first.getChanges().get("description"));
+        assertEquals("kept by name", first.getChanges().get("customField"));
+        assertEquals(TaskChangeType.DELETED, decoded.get(1).getChangeType());
+        assertTrue(decoded.get(1).getChanges().isEmpty());
+    }
+
+    @Test
+    void testBinaryFrameIsSmallerThanJson() throws Exception {
+        List<TaskDeltaDTO> deltas = new ArrayList<>();
+        for (long taskId = 1; taskId <= 100; taskId++) {
+            deltas.add(new TaskDeltaDTO(taskId, 1L, TaskChangeType.UPDATED, taskId * 3,
+                    Map.of("status", "IN_REVIEW", "assignedToId", 5L)));
+        }
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        int binary = codec.encode(deltas).length;
+        int json = objectMapper.writeValueAsBytes(deltas).length;
+
+        assertTrue(binary * 3 < json, "binary " + binary + " bytes vs json " + json + " bytes");
+    }
+}
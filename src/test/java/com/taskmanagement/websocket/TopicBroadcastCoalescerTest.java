@@ -0,0 +1,132 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.dto.TaskDeltaDTO;
+import com.taskmanagement.entity.TaskChangeType;
+import com.taskmanagement.websocket.cluster.ClusterMessageRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TopicBroadcastCoalescerTest {
+
+    private static final String TOPIC = "/topic/projects/1/tasks";
+
+    @Mock
+    private ClusterMessageRelay clusterMessageRelay;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TopicBroadcastCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new TopicBroadcastCoalescer(clusterMessageRelay, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 30L);
+        ReflectionTestUtils.setField(coalescer, "minIntervalMs", 100L);
+        ReflectionTestUtils.setField(coalescer, "maxBatchSize", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void testBurstIsCoalescedAndKeepsLatestStatePerTask() {
+        // 1,000 updates over 100 tasks, ten versions each
+        for (int version = 0; version < 10; version++) {
+            for (long taskId = 0; taskId < 100; taskId++) {
+                coalescer.submit(TOPIC, taskId, delta(taskId, version));
+            }
+        }
+
+        List<List<?>> frames = awaitFrames(1);
+        assertEquals(1, frames.size());
+        assertEquals(100, frames.get(0).size());
+        for (Object update : frames.get(0)) {
+            assertEquals(9L, ((TaskDeltaDTO) update).getVersion());
+        }
+
+        assertEquals(1000.0, meterRegistry.get("websocket.broadcast.updates").counter().count());
+        assertEquals(900.0, meterRegistry.get("websocket.broadcast.updates.superseded").counter().count());
+        assertEquals(1.0, meterRegistry.get("websocket.broadcast.frames").counter().count());
+        assertEquals(999.0, meterRegistry.get("websocket.broadcast.frames.saved").counter().count());
+    }
+
+    @Test
+    void testFramesPerTopicAreRateLimited() throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            coalescer.submit(TOPIC, 1L, delta(1L, i));
+            Thread.sleep(15);
+        }
+
+        List<List<?>> frames = awaitFrames(2);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // One frame per 100ms at most: ~300ms of updates cannot produce more than 5 frames
+        assertTrue(frames.size() <= elapsedMs / 100 + 1, "frames: " + frames.size() + " in " + elapsedMs + "ms");
+        TaskDeltaDTO last = (TaskDeltaDTO) frames.get(frames.size() - 1).get(0);
+        assertEquals(19L, last.getVersion());
+    }
+
+    @Test
+    void testLargeBacklogIsSplitByBatchSize() {
+        ReflectionTestUtils.setField(coalescer, "maxBatchSize", 40);
+        for (long taskId = 0; taskId < 100; taskId++) {
+            coalescer.submit(TOPIC, taskId, delta(taskId, 0));
+        }
+
+        List<List<?>> frames = awaitFrames(3);
+        assertEquals(List.of(40, 40, 20), frames.stream().map(List::size).toList());
+    }
+
+    @Test
+    void testTaskDeltasInOneWindowAreMerged() {
+        WebSocketNotificationService notificationService = new WebSocketNotificationService(clusterMessageRelay,
+                mock(WebSocketSessionRegistry.class), meterRegistry, coalescer, mock(TaskDeltaCodec.class));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(1L, 1L, TaskChangeType.UPDATED, 3L, Map.of("status", "DONE")));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(1L, 1L, TaskChangeType.UPDATED, 4L, Map.of("title", "Renamed")));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(2L, 1L, TaskChangeType.CREATED, 0L,
+                Map.of("title", "New", "status", "TODO")));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(2L, 1L, TaskChangeType.UPDATED, 1L, Map.of("status", "DONE")));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(3L, 1L, TaskChangeType.UPDATED, 5L, Map.of("title", "Gone")));
+        notificationService.sendTaskDelta(new TaskDeltaDTO(3L, 1L, TaskChangeType.DELETED, 6L, null));
+
+        List<List<?>> frames = awaitFrames(1);
+        assertEquals(1, frames.size());
+        assertEquals(List.of(
+                new TaskDeltaDTO(1L, 1L, TaskChangeType.UPDATED, 4L, Map.of("status", "DONE", "title", "Renamed")),
+                new TaskDeltaDTO(2L, 1L, TaskChangeType.CREATED, 1L, Map.of("title", "New", "status", "DONE")),
+                new TaskDeltaDTO(3L, 1L, TaskChangeType.DELETED, 6L, null)), frames.get(0));
+    }
+
+    private TaskDeltaDTO delta(long taskId, long version) {
+        return new TaskDeltaDTO(taskId, 1L, TaskChangeType.UPDATED, version, Map.of("title", "v" + version));
+    }
+
+    private List<List<?>> awaitFrames(int expected) {
+        verify(clusterMessageRelay, timeout(3000).atLeast(expected)).convertAndSend(eq(TOPIC), any());
+        // Let any trailing frame flush before reading the final state
+        verify(clusterMessageRelay, after(300).atLeast(expected)).convertAndSend(eq(TOPIC), any());
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(clusterMessageRelay, atLeast(expected)).convertAndSend(eq(TOPIC), captor.capture());
+        return captor.getAllValues().stream().<List<?>>map(value -> (List<?>) value).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanagement.websocket;
+
+import com.taskmanagement.repository.ProjectRepository;
+import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketAuthChannelInterceptorTest {
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private WebSocketAuthChannelInterceptor interceptor;
+
+    @Test
+    void testAnonymousSubscriptionIsRejected() {
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(null, "/topic/notifications"), null));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void testMemberCanSubscribeToProjectTopics() {
+        when(projectRepository.findMemberProjectIds(5L)).thenReturn(List.of(7L));
+
+        Message<?> message = subscribe(user("5", "ROLE_USER"), "/topic/projects/7/tasks");
+        assertSame(message, interceptor.preSend(message, null));
+        assertNotNull(interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/topic/projects/7"), null));
+    }
+
+    @Test
+    void testNonMemberCannotSubscribeToProjectTopics() {
+        when(projectRepository.findMemberProjectIds(5L)).thenReturn(List.of(7L));
+
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/topic/projects/8/tasks"), null));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/topic/projects/8"), null));
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/topic/projects/x/tasks"), null));
+    }
+
+    @Test
+    void testAdminCanSubscribeToAnyProjectTopic() {
+        assertNotNull(interceptor.preSend(subscribe(user("1", "ROLE_ADMIN"), "/topic/projects/8/tasks"), null));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    void testOtherTopicsOnlyRequireAuthentication() {
+        assertNotNull(interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/topic/notifications"), null));
+        assertNotNull(interceptor.preSend(subscribe(user("5", "ROLE_USER"), "/user/queue/notifications"), null));
+        verifyNoInteractions(projectRepository);
+    }
+
+    private static Principal user(String userId, String role) {
+        return new UsernamePasswordAuthenticationToken(userId, null, List.of(new SimpleGrantedAuthority(role)));
+    }
+
+    private static Message<byte[]> subscribe(Principal user, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
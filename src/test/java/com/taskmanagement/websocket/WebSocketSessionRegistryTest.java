@@ -0,0 +1,85 @@
+package com.taskmanagement.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebSocketSessionRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketSessionRegistry registry;
+
+    private final Principal alice = () -> "1";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new WebSocketSessionRegistry(meterRegistry);
+    }
+
+    @Test
+    void testUserIsOnlineUntilLastSessionCloses() {
+        registry.registerSession("s1", alice);
+        registry.registerSession("s2", alice);
+
+        assertTrue(registry.isUserOnline("1"));
+        assertEquals(Set.of("s1", "s2"), registry.getUserSessions("1"));
+        assertEquals(1, registry.getOnlineUserCount());
+
+        registry.removeSession("s1");
+        assertTrue(registry.isUserOnline("1"));
+
+        registry.removeSession("s2");
+        assertFalse(registry.isUserOnline("1"));
+        assertEquals(0, registry.getSessionCount());
+    }
+
+    @Test
+    void testAnonymousSessionIsNotAnOnlineUser() {
+        registry.registerSession("s1", null);
+
+        assertEquals(1, registry.getSessionCount());
+        assertEquals(0, registry.getOnlineUserCount());
+    }
+
+    @Test
+    void testProjectSubscribersTrackAllProjectDestinations() {
+        registry.registerSession("s1", alice);
+        registry.registerSession("s2", null);
+        registry.addSubscription("s1", "sub-0", "/topic/projects/7");
+        registry.addSubscription("s1", "sub-1", "/topic/projects/7/tasks");
+        registry.addSubscription("s2", "sub-0", "/topic/projects/7/tasks");
+
+        assertEquals(2, registry.getProjectSubscriberCount(7L));
+        assertEquals(2, registry.getSubscriberCount("/topic/projects/7/tasks"));
+        assertEquals(Map.of("/topic/projects/7", 1, "/topic/projects/7/tasks", 2),
+                registry.getDestinationSubscriberCounts());
+
+        // s1 still watches the project through its other subscription
+        registry.removeSubscription("s1", "sub-1");
+        assertEquals(2, registry.getProjectSubscriberCount(7L));
+        assertEquals(1, registry.getSubscriberCount("/topic/projects/7/tasks"));
+
+        registry.removeSession("s1");
+        registry.removeSession("s2");
+        assertEquals(0, registry.getProjectSubscriberCount(7L));
+        assertTrue(registry.getDestinationSubscriberCounts().isEmpty());
+    }
+
+    @Test
+    void testGaugesReflectRegistryState() {
+        registry.registerSession("s1", alice);
+        registry.addSubscription("s1", "sub-0", "/topic/projects/3");
+
+        assertEquals(1.0, meterRegistry.get("websocket.sessions").gauge().value());
+        assertEquals(1.0, meterRegistry.get("websocket.users.online").gauge().value());
+        assertEquals(1.0, meterRegistry.get("websocket.destinations.active").gauge().value());
+        assertEquals(1.0, meterRegistry.get("websocket.projects.watched").gauge().value());
+    }
+}